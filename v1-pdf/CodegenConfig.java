@@ -0,0 +1,37 @@
+package com.example.pdfreader.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "codegen")
+public class CodegenConfig {
+
+    /**
+     * 是否根据字段表生成 ODP 消息编解码类
+     */
+    private boolean enabled;
+
+    /**
+     * 可选：导出的字段表 CSV（MESSAGE_ID,FIELD_NUMBER,FIELD_NAME,DATA_TYPE）。
+     * 配置后直接读取该文件，不再解析 PDF
+     */
+    private String fieldsFile;
+
+    /**
+     * 生成代码的输出目录
+     */
+    private String outputDir;
+
+    /**
+     * 生成代码的包名
+     */
+    private String packageName = "com.odp.simulator.client.protocol.codecs";
+
+    /**
+     * 可选：二进制 schema 输出文件，供客户端启动时加载
+     */
+    private String schemaFile;
+}
@@ -2,10 +2,8 @@ package com.example.pdfreader.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.IdClass;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,14 +16,17 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "ODP_BODY_FIELDS")
+@IdClass(OdpBodyFieldId.class)
 public class OdpBodyField {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "odp_body_fields_seq")
-    @SequenceGenerator(name = "odp_body_fields_seq", sequenceName = "ODP_BODY_FIELDS_SEQ", allocationSize = 1)
     @Column(name = "FIELD_NUMBER", precision = 3)
     private Integer fieldNumber;
 
+    @Id
+    @Column(name = "MESSAGE_ID", precision = 3)
+    private Integer messageId;
+
     @Column(name = "FIELD_NAME", length = 80)
     private String fieldName;
 
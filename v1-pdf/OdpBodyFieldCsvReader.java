@@ -0,0 +1,60 @@
+package com.example.pdfreader.generator;
+
+import com.example.pdfreader.entity.OdpBodyField;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 读取导出的 ODP_BODY_FIELDS 字段表
+ *
+ * 文件格式：MESSAGE_ID,FIELD_NUMBER,FIELD_NAME,DATA_TYPE，首行为表头，# 开头为注释
+ */
+@Slf4j
+@Component
+public class OdpBodyFieldCsvReader {
+
+    public List<OdpBodyField> read(String filePath) {
+        List<OdpBodyField> fields = new ArrayList<>();
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(Path.of(filePath), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("Failed to read fields file: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to read fields file: " + filePath, e);
+        }
+
+        boolean isHeaderSkipped = false;
+        for (String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            if (!isHeaderSkipped) {
+                isHeaderSkipped = true;
+                continue;
+            }
+
+            String[] cols = line.split(",", -1);
+            if (cols.length < 4) {
+                log.warn("Skipping malformed line: {}", line);
+                continue;
+            }
+
+            fields.add(OdpBodyField.builder()
+                    .messageId(Integer.parseInt(cols[0].trim()))
+                    .fieldNumber(Integer.parseInt(cols[1].trim()))
+                    .fieldName(cols[2].trim())
+                    .dataType(cols[3].trim())
+                    .build());
+        }
+
+        log.info("Read {} field records from {}", fields.size(), filePath);
+        return fields;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.pdfreader.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * ODP_BODY_FIELDS 的复合主键：字段编号只在所属消息内唯一
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OdpBodyFieldId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Integer messageId;
+
+    private Integer fieldNumber;
+}
\ No newline at end of file
@@ -1,13 +1,14 @@
 package com.example.pdfreader.repository;
 
 import com.example.pdfreader.entity.OdpBodyField;
+import com.example.pdfreader.entity.OdpBodyFieldId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface OdpBodyFieldRepository extends JpaRepository<OdpBodyField, Integer> {
+public interface OdpBodyFieldRepository extends JpaRepository<OdpBodyField, OdpBodyFieldId> {
 
     @Modifying
     @Query("DELETE FROM OdpBodyField")
@@ -0,0 +1,313 @@
+package com.example.pdfreader.generator;
+
+import com.example.pdfreader.config.CodegenConfig;
+import com.example.pdfreader.config.PdfConfig;
+import com.example.pdfreader.entity.OdpBodyField;
+import com.example.pdfreader.generator.OdpFieldTypes.WireType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 根据 ODP_BODY_FIELDS 字段表生成 ODP 消息编解码类
+ *
+ * 每个消息生成一个 XxxCodec 类，包含：
+ * - 各字段的 Bit Position 常量和 Char Array 长度常量
+ * - 由字段表得到的 OdpMessageSchema
+ * - 按 OdpCodecPlan 偏移量直接读写 ByteBuf 的静态方法，无分支、无对象分配
+ *
+ * 另外生成 OdpCodecSchemas，汇总全部消息的 schema 供客户端注册。
+ *
+ * 生成不属于 Maven 构建：生成的类已提交到 v3-simulator。字段表变化后，
+ * 以 codegen.enabled=true 手动运行本程序重新生成，并提交生成结果。
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OdpCodecGenerator {
+
+    private final PdfConfig pdfConfig;
+    private final CodegenConfig codegenConfig;
+
+    public List<Path> generate(List<OdpBodyField> fields) {
+        Map<Integer, List<OdpBodyField>> fieldsByMessage = new TreeMap<>();
+        for (OdpBodyField field : fields) {
+            if (field.getMessageId() == null || field.getFieldNumber() == null) {
+                log.warn("Skipping field without message ID or field number: {}", field.getFieldName());
+                continue;
+            }
+            fieldsByMessage.computeIfAbsent(field.getMessageId(), id -> new ArrayList<>()).add(field);
+        }
+
+        Path outputDir = Path.of(codegenConfig.getOutputDir());
+        List<Path> generated = new ArrayList<>();
+        List<String> codecClasses = new ArrayList<>();
+
+        for (PdfConfig.MessageTable message : pdfConfig.getMessages()) {
+            List<OdpBodyField> messageFields = fieldsByMessage.getOrDefault(message.getId(), new ArrayList<>());
+            messageFields.sort(Comparator.comparing(OdpBodyField::getFieldNumber));
+
+            String className = typeName(message.getName()) + "Codec";
+            String source = generateCodec(message, className, messageFields);
+            generated.add(write(outputDir, className, source));
+            codecClasses.add(className);
+        }
+
+        generated.add(write(outputDir, "OdpCodecSchemas", generateSchemas(codecClasses)));
+        log.info("Generated {} codec sources into {}", generated.size(), outputDir.toAbsolutePath());
+        return generated;
+    }
+
+    private String generateCodec(PdfConfig.MessageTable message, String className, List<OdpBodyField> fields) {
+        List<FieldSpec> specs = new ArrayList<>();
+        for (OdpBodyField field : fields) {
+            specs.add(new FieldSpec(field.getFieldNumber(), field.getFieldName(), field.getDataType()));
+        }
+        boolean hasCharArray = specs.stream().anyMatch(spec -> spec.wireType == WireType.CHAR_ARRAY);
+        boolean hasNumeric = specs.stream().anyMatch(spec -> spec.wireType != WireType.CHAR_ARRAY);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(header(className));
+        sb.append("package ").append(codegenConfig.getPackageName()).append(";\n\n");
+        if (hasCharArray) {
+            sb.append("import com.odp.simulator.client.codec.OdpCharArrays;\n");
+        }
+        if (!specs.isEmpty()) {
+            sb.append("import com.odp.simulator.client.protocol.OdpCodecPlan;\n");
+        }
+        if (hasNumeric) {
+            sb.append("import com.odp.simulator.client.protocol.OdpFieldType;\n");
+        }
+        sb.append("import com.odp.simulator.client.protocol.OdpMessageSchema;\n");
+        sb.append("import com.odp.simulator.client.protocol.OdpMessageType;\n");
+        if (!specs.isEmpty()) {
+            sb.append("import io.netty.buffer.ByteBuf;\n\n");
+        }
+        if (hasCharArray) {
+            sb.append("import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;\n");
+        }
+        if (hasNumeric) {
+            sb.append("import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;\n");
+        }
+        sb.append("\n");
+
+        sb.append("/**\n");
+        sb.append(" * ").append(message.getName()).append(" (").append(message.getId()).append(") codec\n");
+        sb.append(" *\n");
+        if (specs.isEmpty()) {
+            sb.append(" * The message has no body fields.\n");
+        } else {
+            sb.append(" * Static accessors read and write body fields in place at the offsets of a\n");
+            sb.append(" * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index\n");
+            sb.append(" * of the first body byte. Accessors do not check presence, use hasXxx first\n");
+            sb.append(" * for optional fields.\n");
+        }
+        sb.append(" */\n");
+        sb.append("public final class ").append(className).append(" {\n\n");
+
+        String messageType = constantName(message.getName());
+        sb.append("    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.")
+                .append(messageType).append(";\n\n");
+
+        if (!specs.isEmpty()) {
+            sb.append("    // Bit positions in presence map\n");
+            for (FieldSpec spec : specs) {
+                sb.append("    public static final int BP_").append(spec.constant)
+                        .append(" = ").append(spec.bitPosition).append(";\n");
+            }
+            sb.append("\n");
+            if (hasCharArray) {
+                sb.append("    // Char Array lengths\n");
+                for (FieldSpec spec : specs) {
+                    if (spec.wireType == WireType.CHAR_ARRAY) {
+                        sb.append("    public static final int ").append(spec.constant)
+                                .append("_LENGTH = ").append(spec.size).append(";\n");
+                    }
+                }
+                sb.append("\n");
+            }
+        }
+
+        sb.append("    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE");
+        for (FieldSpec spec : specs) {
+            sb.append(",\n            ");
+            if (spec.wireType == WireType.CHAR_ARRAY) {
+                sb.append("charArray(BP_").append(spec.constant).append(", \"").append(spec.name)
+                        .append("\", ").append(spec.constant).append("_LENGTH)");
+            } else {
+                sb.append("field(BP_").append(spec.constant).append(", \"").append(spec.name)
+                        .append("\", OdpFieldType.").append(spec.wireType.name()).append(")");
+            }
+        }
+        sb.append(");\n\n");
+
+        sb.append("    private ").append(className).append("() {\n");
+        sb.append("        // Generated codec\n");
+        sb.append("    }\n");
+
+        for (FieldSpec spec : specs) {
+            sb.append(generateAccessors(spec));
+        }
+
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private String generateAccessors(FieldSpec spec) {
+        String bp = "BP_" + spec.constant;
+        String index = "bodyIndex + plan.offsetOf(" + bp + ")";
+        String property = spec.property;
+        String upper = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n    // ").append(spec.name).append(" (").append(spec.dataType).append(")\n\n");
+
+        sb.append("    public static boolean has").append(upper).append("(OdpCodecPlan plan) {\n");
+        sb.append("        return plan.isPresent(").append(bp).append(");\n");
+        sb.append("    }\n\n");
+
+        if (spec.wireType == WireType.CHAR_ARRAY) {
+            String length = spec.constant + "_LENGTH";
+            sb.append("    public static int get").append(upper)
+                    .append("Index(int bodyIndex, OdpCodecPlan plan) {\n");
+            sb.append("        return ").append(index).append(";\n");
+            sb.append("    }\n\n");
+            sb.append("    public static String get").append(upper)
+                    .append("(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {\n");
+            sb.append("        return OdpCharArrays.get(buffer, ").append(index).append(", ")
+                    .append(length).append(");\n");
+            sb.append("    }\n\n");
+            sb.append("    public static void set").append(upper)
+                    .append("(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {\n");
+            sb.append("        OdpCharArrays.set(buffer, ").append(index).append(", value, ")
+                    .append(length).append(");\n");
+            sb.append("    }\n");
+        } else {
+            WireType type = spec.wireType;
+            sb.append("    public static ").append(type.getJavaType()).append(" get").append(upper)
+                    .append("(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {\n");
+            sb.append("        return buffer.").append(type.getGetter()).append("(").append(index).append(");\n");
+            sb.append("    }\n\n");
+            sb.append("    public static void set").append(upper)
+                    .append("(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, ")
+                    .append(type.getJavaType()).append(" value) {\n");
+            sb.append("        buffer.").append(type.getSetter()).append("(").append(index).append(", ")
+                    .append(type.getSetterCast()).append("value);\n");
+            sb.append("    }\n");
+        }
+        return sb.toString();
+    }
+
+    private String generateSchemas(List<String> codecClasses) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(header("OdpCodecSchemas"));
+        sb.append("package ").append(codegenConfig.getPackageName()).append(";\n\n");
+        sb.append("import com.odp.simulator.client.protocol.OdpMessageSchema;\n\n");
+        sb.append("import java.util.List;\n\n");
+        sb.append("/**\n");
+        sb.append(" * Schemas of all generated codecs\n");
+        sb.append(" */\n");
+        sb.append("public final class OdpCodecSchemas {\n\n");
+        sb.append("    public static final List<OdpMessageSchema> ALL = List.of(");
+        for (int i = 0; i < codecClasses.size(); i++) {
+            sb.append(i == 0 ? "\n            " : ",\n            ");
+            sb.append(codecClasses.get(i)).append(".SCHEMA");
+        }
+        sb.append(");\n\n");
+        sb.append("    private OdpCodecSchemas() {\n");
+        sb.append("        // Generated codec\n");
+        sb.append("    }\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    private String header(String className) {
+        return "// src/main/java/" + codegenConfig.getPackageName().replace('.', '/') + "/" + className + ".java\n"
+                + "// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit\n";
+    }
+
+    private Path write(Path outputDir, String className, String source) {
+        Path file = outputDir.resolve(className + ".java");
+        try {
+            Files.createDirectories(outputDir);
+            Files.writeString(file, source, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("Failed to write {}: {}", file, e.getMessage(), e);
+            throw new RuntimeException("Failed to write " + file, e);
+        }
+        log.debug("Generated {}", file);
+        return file;
+    }
+
+    // ---------------------------------------------------------------------
+    // 命名转换
+    // ---------------------------------------------------------------------
+
+    /**
+     * "Next Expected MsgSeqNum" -> ["Next", "Expected", "Msg", "Seq", "Num"]
+     */
+    static List<String> words(String name) {
+        List<String> words = new ArrayList<>();
+        for (String part : name.split("[^A-Za-z0-9]+")) {
+            if (part.isEmpty()) {
+                continue;
+            }
+            for (String word : part.split("(?<=[a-z])(?=[A-Z])|(?<=[A-Z])(?=[A-Z][a-z])|(?<=[A-Za-z])(?=[0-9])")) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+
+    static String constantName(String name) {
+        return String.join("_", words(name)).toUpperCase(Locale.ROOT);
+    }
+
+    static String typeName(String name) {
+        StringBuilder sb = new StringBuilder();
+        for (String word : words(name)) {
+            sb.append(Character.toUpperCase(word.charAt(0)))
+                    .append(word.substring(1).toLowerCase(Locale.ROOT));
+        }
+        return sb.toString();
+    }
+
+    static String propertyName(String name) {
+        String type = typeName(name);
+        return Character.toLowerCase(type.charAt(0)) + type.substring(1);
+    }
+
+    private static final class FieldSpec {
+        private final int bitPosition;
+        private final String name;
+        private final String dataType;
+        private final String constant;
+        private final String property;
+        private final WireType wireType;
+        private final int size;
+
+        private FieldSpec(int bitPosition, String name, String dataType) {
+            OdpFieldTypes.FieldType type = OdpFieldTypes.parse(dataType, name);
+            this.bitPosition = bitPosition;
+            this.name = name;
+            this.dataType = dataType;
+            this.constant = constantName(name);
+            this.property = propertyName(name);
+            this.wireType = type.getWireType();
+            this.size = type.getSize();
+        }
+    }
+}
\ No newline at end of file
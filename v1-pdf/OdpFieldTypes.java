@@ -0,0 +1,75 @@
+package com.example.pdfreader.generator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 字段表 Data Type 列到 ODP 线路类型的映射
+ *
+ * - UInt8/UInt16/UInt32/UInt64/Int64 按原类型
+ * - Price 为 Int64，Quantity 为 UInt64
+ * - Char Array (n) 为定长 n 字节的 ASCII 字符数组
+ */
+public final class OdpFieldTypes {
+
+    private static final Pattern CHAR_ARRAY_PATTERN =
+            Pattern.compile("(?i)char\\s*(?:array)?\\s*\\(?\\s*(\\d+)\\s*\\)?");
+
+    private OdpFieldTypes() {
+        // Utility class
+    }
+
+    /**
+     * 线路类型，code 为二进制 schema 中的类型编码，与客户端 OdpFieldType 顺序一致
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum WireType {
+        UINT8(0, 1, "int", "getUnsignedByte", "setByte", ""),
+        UINT16(1, 2, "int", "getUnsignedShortLE", "setShortLE", ""),
+        UINT32(2, 4, "long", "getUnsignedIntLE", "setIntLE", "(int) "),
+        UINT64(3, 8, "long", "getLongLE", "setLongLE", ""),
+        INT64(4, 8, "long", "getLongLE", "setLongLE", ""),
+        CHAR_ARRAY(5, -1, "String", null, null, null);
+
+        private final int code;
+        private final int fixedSize;
+        private final String javaType;
+        private final String getter;
+        private final String setter;
+        private final String setterCast;
+    }
+
+    /**
+     * 解析后的字段类型及字段长度
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class FieldType {
+        private final WireType wireType;
+        private final int size;
+    }
+
+    public static FieldType parse(String dataType, String fieldName) {
+        Matcher matcher = CHAR_ARRAY_PATTERN.matcher(dataType.trim());
+        if (matcher.matches()) {
+            return new FieldType(WireType.CHAR_ARRAY, Integer.parseInt(matcher.group(1)));
+        }
+
+        String normalized = dataType.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        WireType wireType = switch (normalized) {
+            case "uint8" -> WireType.UINT8;
+            case "uint16" -> WireType.UINT16;
+            case "uint32" -> WireType.UINT32;
+            case "uint64", "quantity" -> WireType.UINT64;
+            case "int64", "price" -> WireType.INT64;
+            default -> throw new IllegalArgumentException(
+                    "Unsupported data type '" + dataType + "' for field " + fieldName);
+        };
+        return new FieldType(wireType, wireType.getFixedSize());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.example.pdfreader.generator;
+
+import com.example.pdfreader.config.CodegenConfig;
+import com.example.pdfreader.config.PdfConfig;
+import com.example.pdfreader.entity.OdpBodyField;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 将 ODP_BODY_FIELDS 字段表导出为紧凑的二进制 schema 文件，供客户端启动时加载
+ *
+ * 文件格式（大端序）：
+ * - int   magic    0x4F445053 ("ODPS")
+ * - short version  1
+ * - short 消息数量
+ * - 每个消息：short Message ID, byte 字段数量
+ * - 每个字段：byte Bit Position, byte 类型编码, short 字段长度, UTF 字段名
+ *
+ * 类型编码：0=UInt8, 1=UInt16, 2=UInt32, 3=UInt64, 4=Int64, 5=Char Array
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OdpSchemaExporter {
+
+    public static final int MAGIC = 0x4F445053;
+    public static final int VERSION = 1;
+
+    private final PdfConfig pdfConfig;
+    private final CodegenConfig codegenConfig;
+
+    public Path export(List<OdpBodyField> fields) {
+        Map<Integer, List<OdpBodyField>> fieldsByMessage = new TreeMap<>();
+        for (OdpBodyField field : fields) {
+            if (field.getMessageId() == null || field.getFieldNumber() == null) {
+                continue;
+            }
+            fieldsByMessage.computeIfAbsent(field.getMessageId(), id -> new ArrayList<>()).add(field);
+        }
+
+        Path file = Path.of(codegenConfig.getSchemaFile());
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(file)))) {
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeShort(pdfConfig.getMessages().size());
+
+                for (PdfConfig.MessageTable message : pdfConfig.getMessages()) {
+                    List<OdpBodyField> messageFields = fieldsByMessage.getOrDefault(message.getId(), new ArrayList<>());
+                    messageFields.sort(Comparator.comparing(OdpBodyField::getFieldNumber));
+
+                    out.writeShort(message.getId());
+                    out.writeByte(messageFields.size());
+                    for (OdpBodyField field : messageFields) {
+                        OdpFieldTypes.FieldType type = OdpFieldTypes.parse(field.getDataType(), field.getFieldName());
+                        out.writeByte(field.getFieldNumber());
+                        out.writeByte(type.getWireType().getCode());
+                        out.writeShort(type.getSize());
+                        out.writeUTF(field.getFieldName());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.error("Failed to write schema file {}: {}", file, e.getMessage(), e);
+            throw new RuntimeException("Failed to write schema file " + file, e);
+        }
+
+        log.info("Exported schema of {} messages to {}", pdfConfig.getMessages().size(), file.toAbsolutePath());
+        return file;
+    }
+}
\ No newline at end of file
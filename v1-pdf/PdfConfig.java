@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeSet;
 
 @Data
 @Configuration
@@ -16,6 +17,41 @@ public class PdfConfig {
     private String password;
     private String pages;
 
+    /**
+     * 消息字段表配置：每个消息的 Message ID、名称及其字段表所在页
+     */
+    private List<MessageTable> messages = new ArrayList<>();
+
+    @Data
+    public static class MessageTable {
+        private Integer id;
+        private String name;
+        private String pages;
+    }
+
+    /**
+     * 需要解析的全部页码：pages 配置加上所有消息字段表的页码
+     */
+    public List<Integer> getPageNumbers() {
+        TreeSet<Integer> pageNumbers = new TreeSet<>(parsePages(pages));
+        for (MessageTable message : messages) {
+            pageNumbers.addAll(parsePages(message.getPages()));
+        }
+        return new ArrayList<>(pageNumbers);
+    }
+
+    /**
+     * 查找页码所属的消息，未配置时返回 null
+     */
+    public MessageTable getMessageForPage(int pageNumber) {
+        for (MessageTable message : messages) {
+            if (parsePages(message.getPages()).contains(pageNumber)) {
+                return message;
+            }
+        }
+        return null;
+    }
+
     /**
      * 解析页数配置，支持以下格式：
      * - 单页: "5"
@@ -23,7 +59,7 @@ public class PdfConfig {
      * - 范围: "5-7"
      * - 混合: "1,3-5,8"
      */
-    public List<Integer> getPageNumbers() {
+    private static List<Integer> parsePages(String pages) {
         List<Integer> pageNumbers = new ArrayList<>();
         
         if (pages == null || pages.isBlank()) {
@@ -1,25 +1,51 @@
 package com.example.pdfreader.runner;
 
+import com.example.pdfreader.config.CodegenConfig;
+import com.example.pdfreader.entity.OdpBodyField;
+import com.example.pdfreader.generator.OdpBodyFieldCsvReader;
+import com.example.pdfreader.generator.OdpCodecGenerator;
+import com.example.pdfreader.generator.OdpSchemaExporter;
 import com.example.pdfreader.service.PdfTableService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PdfReaderRunner implements CommandLineRunner {
 
     private final PdfTableService pdfTableService;
+    private final CodegenConfig codegenConfig;
+    private final OdpBodyFieldCsvReader odpBodyFieldCsvReader;
+    private final OdpCodecGenerator odpCodecGenerator;
+    private final OdpSchemaExporter odpSchemaExporter;
 
     @Override
     public void run(String... args) {
         log.info("Starting PDF Table Reader...");
         
         try {
-            pdfTableService.processAndSaveTables();
-            log.info("PDF processing completed successfully!");
+            List<OdpBodyField> fields;
+            if (codegenConfig.isEnabled() && codegenConfig.getFieldsFile() != null
+                    && !codegenConfig.getFieldsFile().isBlank()) {
+                fields = odpBodyFieldCsvReader.read(codegenConfig.getFieldsFile());
+            } else {
+                fields = pdfTableService.processAndSaveTables();
+                log.info("PDF processing completed successfully!");
+            }
+
+            if (codegenConfig.isEnabled()) {
+                odpCodecGenerator.generate(fields);
+                log.info("Codec generation completed successfully!");
+
+                if (codegenConfig.getSchemaFile() != null && !codegenConfig.getSchemaFile().isBlank()) {
+                    odpSchemaExporter.export(fields);
+                }
+            }
         } catch (Exception e) {
             log.error("Failed to process PDF: {}", e.getMessage(), e);
         }
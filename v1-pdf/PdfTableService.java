@@ -29,16 +29,17 @@ public class PdfTableService {
     private final OdpBodyFieldRepository odpBodyFieldRepository;
 
     @Transactional
-    public void processAndSaveTables() {
+    public List<OdpBodyField> processAndSaveTables() {
         List<OdpBodyField> allFields = extractTablesFromPdf();
         
         if (allFields.isEmpty()) {
             log.warn("No table data found in the specified pages.");
-            return;
+            return allFields;
         }
 
         printTableToConsole(allFields);
         saveToDatabase(allFields);
+        return allFields;
     }
 
     private List<OdpBodyField> extractTablesFromPdf() {
@@ -89,6 +90,10 @@ public class PdfTableService {
 
         boolean isHeaderSkipped = false;
 
+        // 字段表所属的消息，由页码配置决定
+        PdfConfig.MessageTable message = pdfConfig.getMessageForPage(pageNumber);
+        Integer messageId = message != null ? message.getId() : null;
+
         for (List<RectangularTextContainer> row : rows) {
             if (row.size() < 4) {
                 continue;
@@ -123,6 +128,7 @@ public class PdfTableService {
 
                 OdpBodyField field = OdpBodyField.builder()
                         .fieldNumber(fieldNumber)
+                        .messageId(messageId)
                         .fieldName(truncate(col2, 80))
                         .dataType(truncate(col3, 20))
                         .description(truncate(col4, 1000))
@@ -187,7 +193,16 @@ public class PdfTableService {
             // 可选：清除现有数据
             // odpBodyFieldRepository.deleteAllRecords();
             
-            List<OdpBodyField> savedFields = odpBodyFieldRepository.saveAll(fields);
+            // 主键为 (MESSAGE_ID, FIELD_NUMBER)，缺少任一项的行无法入库
+            List<OdpBodyField> keyedFields = fields.stream()
+                    .filter(field -> field.getMessageId() != null && field.getFieldNumber() != null)
+                    .toList();
+            if (keyedFields.size() < fields.size()) {
+                log.warn("Skipping {} records without a message ID or field number",
+                        fields.size() - keyedFields.size());
+            }
+
+            List<OdpBodyField> savedFields = odpBodyFieldRepository.saveAll(keyedFields);
             log.info("Successfully saved {} records to ODP_BODY_FIELDS table", savedFields.size());
         } catch (Exception e) {
             log.error("Failed to save records to database: {}", e.getMessage(), e);
@@ -1,16 +1,24 @@
 // src/main/java/com/odp/simulator/client/protocol/messages/BaseOdpMessage.java
 package com.odp.simulator.client.protocol.messages;
 
-import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
 import com.odp.simulator.client.protocol.OdpMessage;
 import com.odp.simulator.client.protocol.OdpMessageHeader;
 import com.odp.simulator.client.protocol.OdpMessageType;
 import io.netty.buffer.ByteBuf;
+import io.netty.util.Recycler;
+import io.netty.util.ResourceLeakTracker;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Base class for all ODP messages providing common functionality
  */
@@ -20,21 +28,52 @@ public abstract class BaseOdpMessage implements OdpMessage {
 
     protected OdpMessageHeader header;
 
+    // Pool bookkeeping, only set for messages created by OdpMessagePool
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Recycler.Handle<BaseOdpMessage> recyclerHandle;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ResourceLeakTracker<OdpMessage> leak;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean inUse;
+
+    // Body attached by a LAZY decoder and not decoded yet
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ByteBuf pendingBody;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private FieldPresenceMap pendingPresenceMap;
+
+    // Presence map last returned by presenceMap(long), reused while the shape is unchanged
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private FieldPresenceMap cachedPresenceMap = FieldPresenceMap.EMPTY;
+
     /**
      * Write a fixed-length char array to buffer
      * If value is shorter than length, pad with nulls
      * If value is longer, truncate
      */
-    protected void writeCharArray(ByteBuf buffer, String value, int length) {
-        byte[] bytes = new byte[length];
-        if (value != null && !value.isEmpty()) {
-            byte[] valueBytes = value.getBytes(StandardCharsets.US_ASCII);
-            int copyLength = Math.min(valueBytes.length, length);
-            System.arraycopy(valueBytes, 0, bytes, 0, copyLength);
-            // If value occupies full length, no null terminator needed
-            // If shorter, remaining bytes are already 0 (null)
-        }
-        buffer.writeBytes(bytes);
+    protected void writeCharArray(ByteBuf buffer, CharSequence value, int length) {
+        OdpCharArrays.write(buffer, value, length);
     }
 
     /**
@@ -42,23 +81,7 @@ public abstract class BaseOdpMessage implements OdpMessage {
      * Returns the string value (null-terminated or full length)
      */
     protected String readCharArray(ByteBuf buffer, int length) {
-        byte[] bytes = new byte[length];
-        buffer.readBytes(bytes);
-        
-        // Find null terminator or use full length
-        int strLen = 0;
-        for (int i = 0; i < length; i++) {
-            if (bytes[i] == 0) {
-                break;
-            }
-            strLen++;
-        }
-        
-        if (strLen == 0) {
-            return null; // Empty field
-        }
-        
-        return new String(bytes, 0, strLen, StandardCharsets.US_ASCII);
+        return OdpCharArrays.read(buffer, length);
     }
 
     /**
@@ -121,63 +144,173 @@ public abstract class BaseOdpMessage implements OdpMessage {
      * Check if a specific bit is set in the presence map
      * Bit positions start from 0 (MSB of first byte)
      */
-    protected boolean isFieldPresent(byte[] presenceMap, int bitPosition) {
-        if (presenceMap == null || bitPosition < 0) {
-            return false;
-        }
-        
-        int byteIndex = bitPosition / 8;
-        int bitIndex = 7 - (bitPosition % 8); // MSB first
-        
-        if (byteIndex >= presenceMap.length) {
-            return false;
+    protected boolean isFieldPresent(FieldPresenceMap presenceMap, int bitPosition) {
+        return presenceMap != null && presenceMap.isFieldPresent(bitPosition);
+    }
+
+    /**
+     * Mask of a bit position in the high presence word (positions 0-63)
+     */
+    protected static long presenceBit(int bitPosition) {
+        return Long.MIN_VALUE >>> bitPosition;
+    }
+
+    /**
+     * Check if a char array value would be encoded
+     */
+    protected static boolean hasValue(CharSequence value) {
+        return value != null && value.length() > 0;
+    }
+
+    /**
+     * Presence map for a message with fields only in positions 0-63
+     * The previous map is returned while the message keeps its shape, so
+     * encoding a reused message does not allocate one per send.
+     */
+    protected final FieldPresenceMap presenceMap(long high) {
+        FieldPresenceMap presenceMap = cachedPresenceMap;
+        if (presenceMap.getHigh() != high || presenceMap.getLow() != 0) {
+            presenceMap = FieldPresenceMap.ofWords(high, 0);
+            cachedPresenceMap = presenceMap;
         }
-        
-        return (presenceMap[byteIndex] & (1 << bitIndex)) != 0;
+        return presenceMap;
     }
 
     /**
-     * Set a specific bit in the presence map
-     * Bit positions start from 0 (MSB of first byte)
+     * Get the precompiled codec plan for the current shape of this message
+     */
+    public OdpCodecPlan getCodecPlan() {
+        return OdpCodecPlanCache.getPlan(getMessageType(), getFieldsPresenceMap());
+    }
+
+    /**
+     * Body length is derived from the message schema and presence map
+     */
+    @Override
+    public int calculateBodyLength() {
+        return getCodecPlan().getBodyLength();
+    }
+
+    /**
+     * Check if this message was taken from {@link OdpMessagePool}
+     */
+    public boolean isPooled() {
+        return recyclerHandle != null;
+    }
+
+    /**
+     * Keep the body for decoding on first access
+     * Subclasses that support lazy decoding call {@link #ensureDecoded()} in
+     * every field accessor. The body is released on decode or {@link #release()}.
      */
-    protected void setFieldPresent(byte[] presenceMap, int bitPosition, boolean present) {
-        if (presenceMap == null || bitPosition < 0) {
+    @Override
+    public void attachBody(ByteBuf body, FieldPresenceMap presenceMap) {
+        discardPendingBody();
+        this.pendingBody = body;
+        this.pendingPresenceMap = presenceMap;
+    }
+
+    /**
+     * Decode an attached body if it was not decoded yet
+     */
+    protected final void ensureDecoded() {
+        ByteBuf body = pendingBody;
+        if (body == null) {
             return;
         }
-        
-        int byteIndex = bitPosition / 8;
-        int bitIndex = 7 - (bitPosition % 8); // MSB first
-        
-        if (byteIndex >= presenceMap.length) {
+        FieldPresenceMap presenceMap = pendingPresenceMap;
+        pendingBody = null;
+        pendingPresenceMap = null;
+        try {
+            decodeBody(body, presenceMap);
+        } finally {
+            body.release();
+        }
+    }
+
+    /**
+     * Check if an attached body is still waiting to be decoded
+     */
+    public boolean isBodyPending() {
+        return pendingBody != null;
+    }
+
+    /**
+     * The attached, not yet decoded body without changing its reference count,
+     * or null. Lets consumers such as a journal forward the raw bytes.
+     */
+    public ByteBuf pendingBody() {
+        return pendingBody;
+    }
+
+    /**
+     * Presence map of the attached body, or null if no body is pending
+     */
+    protected FieldPresenceMap pendingPresenceMap() {
+        return pendingPresenceMap;
+    }
+
+    /**
+     * Release an attached body without decoding it
+     */
+    protected final void discardPendingBody() {
+        if (pendingBody != null) {
+            ByteBuf body = pendingBody;
+            pendingBody = null;
+            pendingPresenceMap = null;
+            body.release();
+        }
+    }
+
+    @Override
+    public void release() {
+        discardPendingBody();
+        if (recyclerHandle == null) {
             return;
         }
-        
-        if (present) {
-            presenceMap[byteIndex] |= (1 << bitIndex);
-        } else {
-            presenceMap[byteIndex] &= ~(1 << bitIndex);
+        if (!inUse) {
+            throw new IllegalStateException("Message already released: " + getMessageType());
+        }
+        inUse = false;
+
+        if (header != null) {
+            header.clear();
+        }
+        resetForReuse();
+
+        if (leak != null) {
+            leak.close(this);
+            leak = null;
         }
+        recyclerHandle.recycle(this);
     }
 
     /**
-     * Create a new presence map with all bits cleared
+     * Clear body fields before a pooled message goes back to the pool
+     * The header object is kept and cleared by the pool.
      */
-    protected byte[] createPresenceMap() {
-        return new byte[OdpDataType.FIELDS_PRESENCE_MAP_SIZE];
+    protected void resetForReuse() {
+        // Nothing to clear by default
     }
 
-    @Override
-    public abstract OdpMessageType getMessageType();
+    void attachPool(Recycler.Handle<BaseOdpMessage> handle) {
+        this.recyclerHandle = handle;
+    }
+
+    void onAcquire(ResourceLeakTracker<OdpMessage> leak) {
+        this.inUse = true;
+        this.leak = leak;
+    }
 
     @Override
-    public abstract void encodeBody(ByteBuf buffer);
+    public abstract OdpMessageType getMessageType();
 
     @Override
-    public abstract void decodeBody(ByteBuf buffer, byte[] presenceMap);
+    public abstract void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap);
 
     @Override
-    public abstract byte[] getFieldsPresenceMap();
+    public abstract void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap);
 
     @Override
-    public abstract int calculateBodyLength();
+    public abstract FieldPresenceMap getFieldsPresenceMap();
 }
\ No newline at end of file
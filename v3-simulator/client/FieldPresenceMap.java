@@ -2,33 +2,117 @@
 package com.odp.simulator.client.codec;
 
 import com.odp.simulator.client.protocol.OdpDataType;
+import io.netty.buffer.ByteBuf;
 
 /**
- * Utility class for working with Fields Presence Map
- * 
+ * Immutable value for the Fields Presence Map
+ *
  * The Fields Presence Map is a 12-byte (96-bit) bitmap where each bit
  * represents whether a field is present in the message body.
- * 
- * Bit position 0 is the MSB of the first byte.
+ *
+ * Bit position 0 is the MSB of the first byte. The bitmap is held in two
+ * primitives laid out exactly like the wire bytes read big-endian:
+ * - high: bit positions 0-63 (bytes 0-7), position 0 is the sign bit
+ * - low:  bit positions 64-95 (bytes 8-11), position 64 is the sign bit
+ *
+ * Bit tests are single mask operations and the map is read from and
+ * written to a ByteBuf without an intermediate byte array.
  */
-public class FieldPresenceMap {
+public final class FieldPresenceMap {
 
-    private final byte[] bitmap;
+    /**
+     * Number of bit positions in the map
+     */
+    public static final int MAX_FIELDS = OdpDataType.FIELDS_PRESENCE_MAP_SIZE * 8;
+
+    /**
+     * Map with no fields present
+     */
+    public static final FieldPresenceMap EMPTY = new FieldPresenceMap(0L, 0);
+
+    private final long high;
+    private final int low;
 
-    public FieldPresenceMap() {
-        this.bitmap = new byte[OdpDataType.FIELDS_PRESENCE_MAP_SIZE];
+    private FieldPresenceMap(long high, int low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Create a map from its raw high (positions 0-63) and low (positions 64-95) words
+     * Not an overload of {@link #of(int...)}: of(0, 1) always means bit positions 0 and 1.
+     */
+    public static FieldPresenceMap ofWords(long high, int low) {
+        if (high == 0L && low == 0) {
+            return EMPTY;
+        }
+        return new FieldPresenceMap(high, low);
     }
 
-    public FieldPresenceMap(byte[] bitmap) {
-        if (bitmap == null || bitmap.length != OdpDataType.FIELDS_PRESENCE_MAP_SIZE) {
-            this.bitmap = new byte[OdpDataType.FIELDS_PRESENCE_MAP_SIZE];
-            if (bitmap != null) {
-                System.arraycopy(bitmap, 0, this.bitmap, 0, 
-                        Math.min(bitmap.length, OdpDataType.FIELDS_PRESENCE_MAP_SIZE));
+    /**
+     * Create a map with the given bit positions set
+     */
+    public static FieldPresenceMap of(int... bitPositions) {
+        long high = 0L;
+        int low = 0;
+        for (int bitPosition : bitPositions) {
+            checkBitPosition(bitPosition);
+            if (bitPosition < 64) {
+                high |= Long.MIN_VALUE >>> bitPosition;
+            } else {
+                low |= Integer.MIN_VALUE >>> (bitPosition - 64);
+            }
+        }
+        return ofWords(high, low);
+    }
+
+    /**
+     * Create a map from the 12 raw bitmap bytes
+     */
+    public static FieldPresenceMap fromBytes(byte[] bitmap) {
+        if (bitmap == null) {
+            return EMPTY;
+        }
+        long high = 0L;
+        int low = 0;
+        int length = Math.min(bitmap.length, OdpDataType.FIELDS_PRESENCE_MAP_SIZE);
+        for (int i = 0; i < length; i++) {
+            if (i < 8) {
+                high |= (bitmap[i] & 0xFFL) << (56 - i * 8);
+            } else {
+                low |= (bitmap[i] & 0xFF) << (24 - (i - 8) * 8);
             }
-        } else {
-            this.bitmap = bitmap.clone();
         }
+        return ofWords(high, low);
+    }
+
+    /**
+     * Read the map at the buffer's reader index and advance it by 12 bytes
+     */
+    public static FieldPresenceMap read(ByteBuf buffer) {
+        long high = buffer.readLong();
+        int low = buffer.readInt();
+        return ofWords(high, low);
+    }
+
+    /**
+     * Read the map at an absolute index without moving the reader index
+     */
+    public static FieldPresenceMap get(ByteBuf buffer, int index) {
+        return ofWords(buffer.getLong(index), buffer.getInt(index + 8));
+    }
+
+    /**
+     * Check a bit position against raw high/low words
+     */
+    public static boolean isFieldPresent(long high, int low, int bitPosition) {
+        if (bitPosition < 0 || bitPosition >= MAX_FIELDS) {
+            return false;
+        }
+        if (bitPosition < 64) {
+            return (high & (Long.MIN_VALUE >>> bitPosition)) != 0;
+        }
+        return (low & (Integer.MIN_VALUE >>> (bitPosition - 64))) != 0;
     }
 
     /**
@@ -36,56 +120,139 @@ public class FieldPresenceMap {
      * @param bitPosition Position starting from 0 (MSB of first byte)
      */
     public boolean isFieldPresent(int bitPosition) {
-        if (bitPosition < 0 || bitPosition >= OdpDataType.FIELDS_PRESENCE_MAP_SIZE * 8) {
-            return false;
-        }
-        
-        int byteIndex = bitPosition / 8;
-        int bitIndex = 7 - (bitPosition % 8); // MSB first
-        
-        return (bitmap[byteIndex] & (1 << bitIndex)) != 0;
+        return isFieldPresent(high, low, bitPosition);
     }
 
     /**
-     * Set the presence of a field at the specified bit position
+     * Return a map with the presence of one field changed
      * @param bitPosition Position starting from 0 (MSB of first byte)
      * @param present Whether the field is present
      */
-    public void setFieldPresent(int bitPosition, boolean present) {
-        if (bitPosition < 0 || bitPosition >= OdpDataType.FIELDS_PRESENCE_MAP_SIZE * 8) {
-            return;
-        }
-        
-        int byteIndex = bitPosition / 8;
-        int bitIndex = 7 - (bitPosition % 8); // MSB first
-        
-        if (present) {
-            bitmap[byteIndex] |= (1 << bitIndex);
+    public FieldPresenceMap with(int bitPosition, boolean present) {
+        checkBitPosition(bitPosition);
+        long newHigh = high;
+        int newLow = low;
+        if (bitPosition < 64) {
+            long mask = Long.MIN_VALUE >>> bitPosition;
+            newHigh = present ? high | mask : high & ~mask;
         } else {
-            bitmap[byteIndex] &= ~(1 << bitIndex);
+            int mask = Integer.MIN_VALUE >>> (bitPosition - 64);
+            newLow = present ? low | mask : low & ~mask;
+        }
+        if (newHigh == high && newLow == low) {
+            return this;
         }
+        return ofWords(newHigh, newLow);
     }
 
     /**
-     * Get the raw bitmap bytes
+     * Number of fields present
      */
-    public byte[] getBytes() {
-        return bitmap.clone();
+    public int fieldCount() {
+        return Long.bitCount(high) + Integer.bitCount(low);
+    }
+
+    /**
+     * Find the first present field at or after the given bit position
+     * @return The bit position, or -1 if no further field is present
+     */
+    public int nextPresentField(int fromBitPosition) {
+        if (fromBitPosition < 0) {
+            fromBitPosition = 0;
+        }
+        if (fromBitPosition < 64) {
+            long remaining = high & (-1L >>> fromBitPosition);
+            if (remaining != 0) {
+                return Long.numberOfLeadingZeros(remaining);
+            }
+            fromBitPosition = 64;
+        }
+        if (fromBitPosition < MAX_FIELDS) {
+            int remaining = low & (-1 >>> (fromBitPosition - 64));
+            if (remaining != 0) {
+                return 64 + Integer.numberOfLeadingZeros(remaining);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if no field is present
+     */
+    public boolean isEmpty() {
+        return high == 0L && low == 0;
+    }
+
+    /**
+     * Raw bits for positions 0-63
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Raw bits for positions 64-95
+     */
+    public int getLow() {
+        return low;
+    }
+
+    /**
+     * Write the 12 bitmap bytes at the buffer's writer index
+     */
+    public void write(ByteBuf buffer) {
+        buffer.writeLong(high);
+        buffer.writeInt(low);
     }
 
     /**
-     * Clear all bits
+     * Write the 12 bitmap bytes at an absolute index without moving the writer index
      */
-    public void clear() {
-        for (int i = 0; i < bitmap.length; i++) {
-            bitmap[i] = 0;
+    public void set(ByteBuf buffer, int index) {
+        buffer.setLong(index, high);
+        buffer.setInt(index + 8, low);
+    }
+
+    /**
+     * Get a copy of the raw bitmap bytes
+     */
+    public byte[] getBytes() {
+        byte[] bitmap = new byte[OdpDataType.FIELDS_PRESENCE_MAP_SIZE];
+        for (int i = 0; i < 8; i++) {
+            bitmap[i] = (byte) (high >>> (56 - i * 8));
+        }
+        for (int i = 0; i < 4; i++) {
+            bitmap[8 + i] = (byte) (low >>> (24 - i * 8));
         }
+        return bitmap;
+    }
+
+    private static void checkBitPosition(int bitPosition) {
+        if (bitPosition < 0 || bitPosition >= MAX_FIELDS) {
+            throw new IllegalArgumentException("Bit position out of range: " + bitPosition);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FieldPresenceMap other)) {
+            return false;
+        }
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high) * 31 + low;
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (byte b : bitmap) {
+        for (byte b : getBytes()) {
             sb.append(String.format("%02X ", b));
         }
         return sb.toString().trim();
@@ -0,0 +1,43 @@
+// src/test/java/com/odp/simulator/client/codec/FieldPresenceMapTest.java
+package com.odp.simulator.client.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FieldPresenceMapTest {
+
+    @Test
+    void twoPositionsAreNotReadAsRawWords() {
+        FieldPresenceMap map = FieldPresenceMap.of(0, 1);
+        assertTrue(map.isFieldPresent(0));
+        assertTrue(map.isFieldPresent(1));
+        assertEquals(2, map.fieldCount());
+        assertEquals(0xC000_0000_0000_0000L, map.getHigh());
+        assertEquals(0, map.getLow());
+
+        // Raw words only through ofWords, laid out as the wire bytes
+        FieldPresenceMap words = FieldPresenceMap.ofWords(0, 1);
+        assertTrue(words.isFieldPresent(FieldPresenceMap.MAX_FIELDS - 1));
+        assertEquals(1, words.fieldCount());
+        assertSame(FieldPresenceMap.EMPTY, FieldPresenceMap.ofWords(0, 0));
+    }
+
+    @Test
+    void roundTripsThroughBuffer() {
+        FieldPresenceMap map = FieldPresenceMap.of(0, 63, 64, 95);
+        ByteBuf buffer = Unpooled.buffer();
+        map.write(buffer);
+        assertEquals((byte) 0x80, buffer.getByte(0));
+        assertEquals((byte) 0x01, buffer.getByte(11));
+        assertEquals(map, FieldPresenceMap.get(buffer, 0));
+        assertEquals(map, FieldPresenceMap.read(buffer));
+        assertFalse(buffer.isReadable());
+        buffer.release();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,300 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/GenericOdpMessage.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpFieldDefinition;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageSchemas;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Schema-driven message for types without a hand-written message class
+ *
+ * Fields are addressed by bit position and held in primitive arrays:
+ * numeric fields in a long slot per bit position, char arrays as raw
+ * NUL-padded bytes in a packed storage laid out by the schema. Decoding and
+ * encoding walk the flat field arrays of the shape's {@link OdpCodecPlan},
+ * there is no per-field object allocation.
+ *
+ * The record can be reused for another message with {@link #reset(OdpMessageType)}.
+ * A schema replaced after the reset is picked up when the body is encoded
+ * or decoded, from the schema the shape's plan was compiled with.
+ *
+ * With a LAZY decoder the body is decoded on the first field access,
+ * presence checks are answered from the header without decoding.
+ */
+@Slf4j
+public class GenericOdpMessage extends BaseOdpMessage {
+
+    private OdpMessageType messageType;
+    private OdpMessageSchema schema;
+
+    // Indexed by bit position
+    private final long[] values = new long[FieldPresenceMap.MAX_FIELDS];
+
+    // Packed char array storage, see OdpMessageSchema#getCharArrayOffset
+    private byte[] chars = new byte[0];
+
+    // Presence bits, same layout as FieldPresenceMap
+    private long presenceHigh;
+    private int presenceLow;
+
+    public GenericOdpMessage(OdpMessageType messageType) {
+        reset(messageType);
+    }
+
+    /**
+     * Clear all body fields and switch to a (possibly different) message type
+     * The header is left as is.
+     */
+    public void reset(OdpMessageType messageType) {
+        OdpMessageSchema newSchema = OdpMessageSchemas.getSchema(messageType);
+        if (newSchema == null) {
+            throw new IllegalArgumentException("No schema registered for message type: " + messageType);
+        }
+        discardPendingBody();
+        this.messageType = messageType;
+        this.schema = newSchema;
+        this.presenceHigh = 0L;
+        this.presenceLow = 0;
+        if (chars.length < newSchema.getCharArrayLength()) {
+            chars = new byte[newSchema.getCharArrayLength()];
+        }
+    }
+
+    @Override
+    protected void resetForReuse() {
+        // Picks up a schema replaced while the message was pooled
+        reset(messageType);
+    }
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return messageType;
+    }
+
+    public OdpMessageSchema getSchema() {
+        return schema;
+    }
+
+    @Override
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        ensureDecoded();
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(messageType, presenceMap);
+        adopt(plan.getSchema());
+        int bodyIndex = buffer.writerIndex();
+        buffer.ensureWritable(plan.getBodyLength());
+
+        for (int i = 0; i < plan.getFieldCount(); i++) {
+            int bitPosition = plan.getPresentField(i);
+            int index = bodyIndex + plan.getPresentOffset(i);
+            long value = values[bitPosition];
+            switch (plan.getPresentType(i)) {
+                case UINT8 -> buffer.setByte(index, (int) value);
+                case UINT16 -> buffer.setShortLE(index, (int) value);
+                case UINT32 -> buffer.setIntLE(index, (int) value);
+                case UINT64, INT64 -> buffer.setLongLE(index, value);
+                case CHAR_ARRAY -> buffer.setBytes(index, chars,
+                        schema.getCharArrayOffset(bitPosition), plan.getPresentSize(i));
+            }
+        }
+
+        buffer.writerIndex(bodyIndex + plan.getBodyLength());
+        log.debug("Encoded {} body: {} fields, {} bytes", messageType, plan.getFieldCount(), plan.getBodyLength());
+    }
+
+    @Override
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(messageType, presenceMap);
+        adopt(plan.getSchema());
+        int bodyIndex = buffer.readerIndex();
+
+        for (int i = 0; i < plan.getFieldCount(); i++) {
+            int bitPosition = plan.getPresentField(i);
+            int index = bodyIndex + plan.getPresentOffset(i);
+            switch (plan.getPresentType(i)) {
+                case UINT8 -> values[bitPosition] = buffer.getUnsignedByte(index);
+                case UINT16 -> values[bitPosition] = buffer.getUnsignedShortLE(index);
+                case UINT32 -> values[bitPosition] = buffer.getUnsignedIntLE(index);
+                case UINT64, INT64 -> values[bitPosition] = buffer.getLongLE(index);
+                case CHAR_ARRAY -> buffer.getBytes(index, chars,
+                        schema.getCharArrayOffset(bitPosition), plan.getPresentSize(i));
+            }
+        }
+
+        presenceHigh = presenceMap.getHigh();
+        presenceLow = presenceMap.getLow();
+        buffer.skipBytes(plan.getBodyLength());
+        log.debug("Decoded {} body: {} fields, {} bytes", messageType, plan.getFieldCount(), plan.getBodyLength());
+    }
+
+    @Override
+    public FieldPresenceMap getFieldsPresenceMap() {
+        if (isBodyPending()) {
+            return pendingPresenceMap();
+        }
+        return FieldPresenceMap.ofWords(presenceHigh, presenceLow);
+    }
+
+    // ---------------------------------------------------------------------
+    // Field accessors by bit position
+    // ---------------------------------------------------------------------
+
+    /**
+     * Check if a field is set
+     */
+    public boolean isFieldSet(int bitPosition) {
+        if (isBodyPending()) {
+            return pendingPresenceMap().isFieldPresent(bitPosition);
+        }
+        return FieldPresenceMap.isFieldPresent(presenceHigh, presenceLow, bitPosition);
+    }
+
+    /**
+     * Get a numeric field, UInt64 values above Long.MAX_VALUE are returned as negative
+     */
+    public long getLong(int bitPosition) {
+        ensureDecoded();
+        requireField(bitPosition, false);
+        return values[bitPosition];
+    }
+
+    public int getInt(int bitPosition) {
+        return (int) getLong(bitPosition);
+    }
+
+    /**
+     * Set a numeric field and mark it present
+     */
+    public void setLong(int bitPosition, long value) {
+        ensureDecoded();
+        requireField(bitPosition, false);
+        values[bitPosition] = value;
+        markPresent(bitPosition, true);
+    }
+
+    /**
+     * Get a char array field, or null if it is empty
+     * Allocates a String, use {@link #getCharArrayBytes()} on hot paths
+     */
+    public String getString(int bitPosition) {
+        ensureDecoded();
+        OdpFieldDefinition field = requireField(bitPosition, true);
+        int offset = schema.getCharArrayOffset(bitPosition);
+        int strLen = 0;
+        while (strLen < field.getSize() && chars[offset + strLen] != 0) {
+            strLen++;
+        }
+        if (strLen == 0) {
+            return null;
+        }
+        return new String(chars, offset, strLen, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Set a char array field, padding with NUL bytes and truncating to the field length
+     */
+    public void setString(int bitPosition, CharSequence value) {
+        ensureDecoded();
+        OdpFieldDefinition field = requireField(bitPosition, true);
+        int offset = schema.getCharArrayOffset(bitPosition);
+        int copyLength = value != null ? Math.min(value.length(), field.getSize()) : 0;
+        for (int i = 0; i < copyLength; i++) {
+            chars[offset + i] = (byte) value.charAt(i);
+        }
+        for (int i = copyLength; i < field.getSize(); i++) {
+            chars[offset + i] = 0;
+        }
+        markPresent(bitPosition, true);
+    }
+
+    /**
+     * Raw packed char storage, char array fields start at {@link OdpMessageSchema#getCharArrayOffset(int)}
+     */
+    public byte[] getCharArrayBytes() {
+        ensureDecoded();
+        return chars;
+    }
+
+    /**
+     * Mark a field absent
+     */
+    public void clearField(int bitPosition) {
+        ensureDecoded();
+        if (schema.getField(bitPosition) == null) {
+            throw new IllegalArgumentException("Bit position " + bitPosition + " is not defined for " + messageType);
+        }
+        markPresent(bitPosition, false);
+    }
+
+    /**
+     * Switch to the schema a plan was compiled from, if it was replaced since {@link #reset(OdpMessageType)}
+     * Char arrays move to their offsets in the new packed storage, fields the new schema does not define are dropped.
+     */
+    private void adopt(OdpMessageSchema planSchema) {
+        if (planSchema == schema) {
+            return;
+        }
+        byte[] newChars = new byte[planSchema.getCharArrayLength()];
+        for (int bp = 0; bp < planSchema.getFieldSlots(); bp++) {
+            OdpFieldDefinition field = planSchema.getField(bp);
+            OdpFieldDefinition previous = schema.getField(bp);
+            if (field != null && previous != null && field.getType() == OdpFieldType.CHAR_ARRAY
+                    && previous.getType() == OdpFieldType.CHAR_ARRAY) {
+                System.arraycopy(chars, schema.getCharArrayOffset(bp), newChars, planSchema.getCharArrayOffset(bp),
+                        Math.min(field.getSize(), previous.getSize()));
+            }
+        }
+        FieldPresenceMap defined = planSchema.getDefinedFields();
+        presenceHigh &= defined.getHigh();
+        presenceLow &= defined.getLow();
+        chars = newChars;
+        schema = planSchema;
+    }
+
+    private OdpFieldDefinition requireField(int bitPosition, boolean charArray) {
+        OdpFieldDefinition field = schema.getField(bitPosition);
+        if (field == null) {
+            throw new IllegalArgumentException("Bit position " + bitPosition + " is not defined for " + messageType);
+        }
+        if ((field.getType() == OdpFieldType.CHAR_ARRAY) != charArray) {
+            throw new IllegalArgumentException("Field " + field.getName() + " of " + messageType
+                    + " is " + field.getType());
+        }
+        return field;
+    }
+
+    private void markPresent(int bitPosition, boolean present) {
+        if (bitPosition < 64) {
+            long mask = Long.MIN_VALUE >>> bitPosition;
+            presenceHigh = present ? presenceHigh | mask : presenceHigh & ~mask;
+        } else {
+            int mask = Integer.MIN_VALUE >>> (bitPosition - 64);
+            presenceLow = present ? presenceLow | mask : presenceLow & ~mask;
+        }
+    }
+
+    @Override
+    public String toString() {
+        ensureDecoded();
+        StringBuilder sb = new StringBuilder("GenericOdpMessage(type=").append(messageType);
+        FieldPresenceMap presenceMap = getFieldsPresenceMap();
+        for (int bp = presenceMap.nextPresentField(0); bp >= 0; bp = presenceMap.nextPresentField(bp + 1)) {
+            OdpFieldDefinition field = schema.getField(bp);
+            sb.append(", ").append(field.getName()).append('=');
+            if (field.getType() == OdpFieldType.CHAR_ARRAY) {
+                sb.append(getString(bp));
+            } else {
+                sb.append(values[bp]);
+            }
+        }
+        return sb.append(')').toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/HeartbeatCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+
+/**
+ * Heartbeat (0) codec
+ *
+ * The message has no body fields.
+ */
+public final class HeartbeatCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.HEARTBEAT;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE);
+
+    private HeartbeatCodec() {
+        // Generated codec
+    }
+}
\ No newline at end of file
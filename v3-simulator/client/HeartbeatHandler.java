@@ -4,6 +4,7 @@ package com.odp.simulator.client.handler;
 import com.odp.simulator.client.protocol.OdpMessage;
 import com.odp.simulator.client.protocol.OdpMessageHeader;
 import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
 import com.odp.simulator.client.protocol.messages.HeartbeatMessage;
 import com.odp.simulator.client.session.OdpSession;
 import com.odp.simulator.client.session.OdpSessionManager;
@@ -68,11 +69,18 @@ public class HeartbeatHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
-        if (msg instanceof HeartbeatMessage) {
+        if (msg instanceof HeartbeatMessage heartbeat) {
             log.trace("Heartbeat received");
             OdpSession session = sessionManager.getPrimarySession();
             session.updateLastReceivedTime();
             // Heartbeat doesn't need further processing
+            heartbeat.release();
+        } else if (msg instanceof OdpMessageView view
+                && view.getMessageType() == OdpMessageType.HEARTBEAT) {
+            log.trace("Heartbeat received");
+            OdpSession session = sessionManager.getPrimarySession();
+            session.updateLastReceivedTime();
+            view.release();
         } else {
             // Pass other messages to the next handler
             ctx.fireChannelRead(msg);
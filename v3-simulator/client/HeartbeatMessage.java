@@ -1,7 +1,10 @@
 // src/main/java/com/odp/simulator/client/protocol/messages/HeartbeatMessage.java
 package com.odp.simulator.client.protocol.messages;
 
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
 import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.HeartbeatCodec;
 import io.netty.buffer.ByteBuf;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -21,32 +24,31 @@ import lombok.extern.slf4j.Slf4j;
 @EqualsAndHashCode(callSuper = true)
 public class HeartbeatMessage extends BaseOdpMessage {
 
+    /**
+     * No body fields
+     */
+    public static final OdpMessageSchema SCHEMA = HeartbeatCodec.SCHEMA;
+
     @Override
     public OdpMessageType getMessageType() {
         return OdpMessageType.HEARTBEAT;
     }
 
     @Override
-    public void encodeBody(ByteBuf buffer) {
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
         // No body fields for Heartbeat
         log.trace("Encoding Heartbeat body (empty)");
     }
 
     @Override
-    public void decodeBody(ByteBuf buffer, byte[] presenceMap) {
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
         // No body fields for Heartbeat
         log.trace("Decoding Heartbeat body (empty)");
     }
 
     @Override
-    public byte[] getFieldsPresenceMap() {
+    public FieldPresenceMap getFieldsPresenceMap() {
         // All bits are 0 since there are no fields
-        return createPresenceMap();
-    }
-
-    @Override
-    public int calculateBodyLength() {
-        // No body fields
-        return 0;
+        return FieldPresenceMap.EMPTY;
     }
 }
\ No newline at end of file
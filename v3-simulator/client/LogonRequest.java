@@ -1,8 +1,12 @@
 // src/main/java/com/odp/simulator/client/protocol/messages/LogonRequest.java
 package com.odp.simulator.client.protocol.messages;
 
-import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
 import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.LogonRequestCodec;
 import io.netty.buffer.ByteBuf;
 import lombok.Builder;
 import lombok.Data;
@@ -37,11 +41,18 @@ import lombok.extern.slf4j.Slf4j;
 public class LogonRequest extends BaseOdpMessage {
 
     // Bit positions in presence map
-    private static final int BP_PASSWORD = 0;
-    private static final int BP_HEARTBEAT_INTERVAL = 1;
-    private static final int BP_NEXT_EXPECTED_MSG_SEQ_NUM = 2;
-    private static final int BP_EP_APPL_VERSION_ID = 3;
-    private static final int BP_NEW_PASSWORD = 4;
+    private static final int BP_PASSWORD = LogonRequestCodec.BP_PASSWORD;
+    private static final int BP_HEARTBEAT_INTERVAL = LogonRequestCodec.BP_HEARTBEAT_INTERVAL;
+    private static final int BP_NEXT_EXPECTED_MSG_SEQ_NUM = LogonRequestCodec.BP_NEXT_EXPECTED_MSG_SEQ_NUM;
+    private static final int BP_EP_APPL_VERSION_ID = LogonRequestCodec.BP_EP_APPL_VERSION_ID;
+    private static final int BP_NEW_PASSWORD = LogonRequestCodec.BP_NEW_PASSWORD;
+
+    public static final OdpMessageSchema SCHEMA = LogonRequestCodec.SCHEMA;
+
+    // Presence maps for the two possible message shapes
+    private static final FieldPresenceMap REQUIRED_FIELDS = FieldPresenceMap.of(
+            BP_PASSWORD, BP_HEARTBEAT_INTERVAL, BP_NEXT_EXPECTED_MSG_SEQ_NUM, BP_EP_APPL_VERSION_ID);
+    private static final FieldPresenceMap WITH_NEW_PASSWORD = REQUIRED_FIELDS.with(BP_NEW_PASSWORD, true);
 
     /**
      * Encrypted password (Char Array 450)
@@ -79,86 +90,54 @@ public class LogonRequest extends BaseOdpMessage {
     }
 
     @Override
-    public void encodeBody(ByteBuf buffer) {
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
         log.debug("Encoding LogonRequest body");
-        
-        byte[] presenceMap = getFieldsPresenceMap();
-        
+
+        // Fields are written in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.writerIndex();
+        buffer.ensureWritable(plan.getBodyLength());
+
         // BP 0: Password (Required)
-        if (isFieldPresent(presenceMap, BP_PASSWORD)) {
-            writeCharArray(buffer, password, OdpDataType.PASSWORD_SIZE);
-            log.debug("Encoded password (length: {})", password != null ? password.length() : 0);
+        if (LogonRequestCodec.hasPassword(plan)) {
+            LogonRequestCodec.setPassword(buffer, bodyIndex, plan, password);
         }
 
         // BP 1: Heartbeat Interval (Required)
-        if (isFieldPresent(presenceMap, BP_HEARTBEAT_INTERVAL)) {
-            writeUInt32LE(buffer, heartbeatInterval);
-            log.debug("Encoded heartbeatInterval: {}", heartbeatInterval);
+        if (LogonRequestCodec.hasHeartbeatInterval(plan)) {
+            LogonRequestCodec.setHeartbeatInterval(buffer, bodyIndex, plan, heartbeatInterval);
         }
 
         // BP 2: Next Expected MsgSeqNum (Required)
-        if (isFieldPresent(presenceMap, BP_NEXT_EXPECTED_MSG_SEQ_NUM)) {
-            writeUInt64LE(buffer, nextExpectedMsgSeqNum);
-            log.debug("Encoded nextExpectedMsgSeqNum: {}", nextExpectedMsgSeqNum);
+        if (LogonRequestCodec.hasNextExpectedMsgSeqNum(plan)) {
+            LogonRequestCodec.setNextExpectedMsgSeqNum(buffer, bodyIndex, plan, nextExpectedMsgSeqNum);
         }
 
         // BP 3: EP Appl Version ID (Required)
-        if (isFieldPresent(presenceMap, BP_EP_APPL_VERSION_ID)) {
-            writeCharArray(buffer, epApplVersionId, OdpDataType.EP_APPL_VERSION_ID_SIZE);
-            log.debug("Encoded epApplVersionId: {}", epApplVersionId);
+        if (LogonRequestCodec.hasEpApplVersionId(plan)) {
+            LogonRequestCodec.setEpApplVersionId(buffer, bodyIndex, plan, epApplVersionId);
         }
 
         // BP 4: New Password (Optional)
-        if (isFieldPresent(presenceMap, BP_NEW_PASSWORD)) {
-            writeCharArray(buffer, newPassword, OdpDataType.PASSWORD_SIZE);
-            log.debug("Encoded newPassword");
+        if (LogonRequestCodec.hasNewPassword(plan)) {
+            LogonRequestCodec.setNewPassword(buffer, bodyIndex, plan, newPassword);
         }
+
+        buffer.writerIndex(bodyIndex + plan.getBodyLength());
+        log.debug("Encoded heartbeatInterval: {}, nextExpectedMsgSeqNum: {}, epApplVersionId: {}",
+                heartbeatInterval, nextExpectedMsgSeqNum, epApplVersionId);
     }
 
     @Override
-    public void decodeBody(ByteBuf buffer, byte[] presenceMap) {
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
         // Logon Request is an inbound message from client
         // Client typically doesn't decode its own request
         log.warn("LogonRequest.decodeBody() called - this is typically a client message");
     }
 
     @Override
-    public byte[] getFieldsPresenceMap() {
-        byte[] presenceMap = createPresenceMap();
-        
-        // Required fields
-        setFieldPresent(presenceMap, BP_PASSWORD, true);
-        setFieldPresent(presenceMap, BP_HEARTBEAT_INTERVAL, true);
-        setFieldPresent(presenceMap, BP_NEXT_EXPECTED_MSG_SEQ_NUM, true);
-        setFieldPresent(presenceMap, BP_EP_APPL_VERSION_ID, true);
-        
-        // Optional field
-        setFieldPresent(presenceMap, BP_NEW_PASSWORD, newPassword != null && !newPassword.isEmpty());
-        
-        return presenceMap;
-    }
-
-    @Override
-    public int calculateBodyLength() {
-        int length = 0;
-        
-        // Password (Char Array 450)
-        length += OdpDataType.PASSWORD_SIZE;
-        
-        // Heartbeat Interval (UInt32)
-        length += 4;
-        
-        // Next Expected MsgSeqNum (UInt64)
-        length += 8;
-        
-        // EP Appl Version ID (Char Array 24)
-        length += OdpDataType.EP_APPL_VERSION_ID_SIZE;
-        
-        // New Password (Optional)
-        if (newPassword != null && !newPassword.isEmpty()) {
-            length += OdpDataType.PASSWORD_SIZE;
-        }
-        
-        return length;
+    public FieldPresenceMap getFieldsPresenceMap() {
+        // Required fields, plus the optional new password
+        return newPassword != null && !newPassword.isEmpty() ? WITH_NEW_PASSWORD : REQUIRED_FIELDS;
     }
 }
\ No newline at end of file
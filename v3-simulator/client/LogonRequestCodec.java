@@ -0,0 +1,131 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/LogonRequestCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Logon Request (5) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class LogonRequestCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.LOGON_REQUEST;
+
+    // Bit positions in presence map
+    public static final int BP_PASSWORD = 0;
+    public static final int BP_HEARTBEAT_INTERVAL = 1;
+    public static final int BP_NEXT_EXPECTED_MSG_SEQ_NUM = 2;
+    public static final int BP_EP_APPL_VERSION_ID = 3;
+    public static final int BP_NEW_PASSWORD = 4;
+
+    // Char Array lengths
+    public static final int PASSWORD_LENGTH = 450;
+    public static final int EP_APPL_VERSION_ID_LENGTH = 24;
+    public static final int NEW_PASSWORD_LENGTH = 450;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            charArray(BP_PASSWORD, "Password", PASSWORD_LENGTH),
+            field(BP_HEARTBEAT_INTERVAL, "Heartbeat Interval", OdpFieldType.UINT32),
+            field(BP_NEXT_EXPECTED_MSG_SEQ_NUM, "Next Expected MsgSeqNum", OdpFieldType.UINT64),
+            charArray(BP_EP_APPL_VERSION_ID, "EP Appl Version ID", EP_APPL_VERSION_ID_LENGTH),
+            charArray(BP_NEW_PASSWORD, "New Password", NEW_PASSWORD_LENGTH));
+
+    private LogonRequestCodec() {
+        // Generated codec
+    }
+
+    // Password (Char Array (450))
+
+    public static boolean hasPassword(OdpCodecPlan plan) {
+        return plan.isPresent(BP_PASSWORD);
+    }
+
+    public static int getPasswordIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_PASSWORD);
+    }
+
+    public static String getPassword(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_PASSWORD), PASSWORD_LENGTH);
+    }
+
+    public static void setPassword(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_PASSWORD), value, PASSWORD_LENGTH);
+    }
+
+    // Heartbeat Interval (UInt32)
+
+    public static boolean hasHeartbeatInterval(OdpCodecPlan plan) {
+        return plan.isPresent(BP_HEARTBEAT_INTERVAL);
+    }
+
+    public static long getHeartbeatInterval(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedIntLE(bodyIndex + plan.offsetOf(BP_HEARTBEAT_INTERVAL));
+    }
+
+    public static void setHeartbeatInterval(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setIntLE(bodyIndex + plan.offsetOf(BP_HEARTBEAT_INTERVAL), (int) value);
+    }
+
+    // Next Expected MsgSeqNum (UInt64)
+
+    public static boolean hasNextExpectedMsgSeqNum(OdpCodecPlan plan) {
+        return plan.isPresent(BP_NEXT_EXPECTED_MSG_SEQ_NUM);
+    }
+
+    public static long getNextExpectedMsgSeqNum(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_NEXT_EXPECTED_MSG_SEQ_NUM));
+    }
+
+    public static void setNextExpectedMsgSeqNum(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_NEXT_EXPECTED_MSG_SEQ_NUM), value);
+    }
+
+    // EP Appl Version ID (Char Array (24))
+
+    public static boolean hasEpApplVersionId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_EP_APPL_VERSION_ID);
+    }
+
+    public static int getEpApplVersionIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_EP_APPL_VERSION_ID);
+    }
+
+    public static String getEpApplVersionId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_EP_APPL_VERSION_ID), EP_APPL_VERSION_ID_LENGTH);
+    }
+
+    public static void setEpApplVersionId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_EP_APPL_VERSION_ID), value, EP_APPL_VERSION_ID_LENGTH);
+    }
+
+    // New Password (Char Array (450))
+
+    public static boolean hasNewPassword(OdpCodecPlan plan) {
+        return plan.isPresent(BP_NEW_PASSWORD);
+    }
+
+    public static int getNewPasswordIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_NEW_PASSWORD);
+    }
+
+    public static String getNewPassword(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_NEW_PASSWORD), NEW_PASSWORD_LENGTH);
+    }
+
+    public static void setNewPassword(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_NEW_PASSWORD), value, NEW_PASSWORD_LENGTH);
+    }
+}
\ No newline at end of file
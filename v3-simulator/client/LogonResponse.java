@@ -1,8 +1,12 @@
 // src/main/java/com/odp/simulator/client/protocol/messages/LogonResponse.java
 package com.odp.simulator.client.protocol.messages;
 
-import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
 import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.LogonResponseCodec;
 import io.netty.buffer.ByteBuf;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -25,10 +29,17 @@ import lombok.extern.slf4j.Slf4j;
 public class LogonResponse extends BaseOdpMessage {
 
     // Bit positions in presence map
-    private static final int BP_NEXT_EXPECTED_MSG_SEQ_NUM = 0;
-    private static final int BP_SESSION_STATUS = 1;
-    private static final int BP_TEST_MESSAGE_INDICATOR = 2;
-    private static final int BP_LOGON_TEXT = 3;
+    private static final int BP_NEXT_EXPECTED_MSG_SEQ_NUM = LogonResponseCodec.BP_NEXT_EXPECTED_MSG_SEQ_NUM;
+    private static final int BP_SESSION_STATUS = LogonResponseCodec.BP_SESSION_STATUS;
+    private static final int BP_TEST_MESSAGE_INDICATOR = LogonResponseCodec.BP_TEST_MESSAGE_INDICATOR;
+    private static final int BP_LOGON_TEXT = LogonResponseCodec.BP_LOGON_TEXT;
+
+    public static final OdpMessageSchema SCHEMA = LogonResponseCodec.SCHEMA;
+
+    // Presence maps for the two possible message shapes
+    private static final FieldPresenceMap REQUIRED_FIELDS = FieldPresenceMap.of(
+            BP_NEXT_EXPECTED_MSG_SEQ_NUM, BP_SESSION_STATUS, BP_TEST_MESSAGE_INDICATOR);
+    private static final FieldPresenceMap WITH_LOGON_TEXT = REQUIRED_FIELDS.with(BP_LOGON_TEXT, true);
 
     // Session Status values
     public static final int STATUS_SESSION_ACTIVE = 0;
@@ -77,72 +88,47 @@ public class LogonResponse extends BaseOdpMessage {
     }
 
     @Override
-    public void encodeBody(ByteBuf buffer) {
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
         // Logon Response is an outbound message from gateway
         log.warn("LogonResponse.encodeBody() called - this is typically a gateway message");
     }
 
     @Override
-    public void decodeBody(ByteBuf buffer, byte[] presenceMap) {
-        log.debug("Decoding LogonResponse body, presenceMap: {}", bytesToHex(presenceMap));
-        
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        log.debug("Decoding LogonResponse body, presenceMap: {}", presenceMap);
+
+        // Fields are read in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.readerIndex();
+
         // BP 0: Next Expected MsgSeqNum (Required)
-        if (isFieldPresent(presenceMap, BP_NEXT_EXPECTED_MSG_SEQ_NUM)) {
-            this.nextExpectedMsgSeqNum = readUInt64LE(buffer);
-            log.debug("Decoded nextExpectedMsgSeqNum: {}", nextExpectedMsgSeqNum);
+        if (LogonResponseCodec.hasNextExpectedMsgSeqNum(plan)) {
+            this.nextExpectedMsgSeqNum = LogonResponseCodec.getNextExpectedMsgSeqNum(buffer, bodyIndex, plan);
         }
 
         // BP 1: Session Status (Required)
-        if (isFieldPresent(presenceMap, BP_SESSION_STATUS)) {
-            this.sessionStatus = readUInt8(buffer);
-            log.debug("Decoded sessionStatus: {} ({})", sessionStatus, getSessionStatusDescription());
+        if (LogonResponseCodec.hasSessionStatus(plan)) {
+            this.sessionStatus = LogonResponseCodec.getSessionStatus(buffer, bodyIndex, plan);
         }
 
         // BP 2: Test Message Indicator (Required)
-        if (isFieldPresent(presenceMap, BP_TEST_MESSAGE_INDICATOR)) {
-            this.testMessageIndicator = readUInt8(buffer);
-            log.debug("Decoded testMessageIndicator: {} ({})", 
-                    testMessageIndicator, isTestMode() ? "Test Mode" : "Production Mode");
+        if (LogonResponseCodec.hasTestMessageIndicator(plan)) {
+            this.testMessageIndicator = LogonResponseCodec.getTestMessageIndicator(buffer, bodyIndex, plan);
         }
 
         // BP 3: Logon Text (Optional)
-        if (isFieldPresent(presenceMap, BP_LOGON_TEXT)) {
-            this.logonText = readCharArray(buffer, OdpDataType.LOGON_TEXT_SIZE);
-            log.debug("Decoded logonText: {}", logonText);
+        if (LogonResponseCodec.hasLogonText(plan)) {
+            this.logonText = LogonResponseCodec.getLogonText(buffer, bodyIndex, plan);
         }
-    }
 
-    @Override
-    public byte[] getFieldsPresenceMap() {
-        byte[] presenceMap = createPresenceMap();
-        
-        setFieldPresent(presenceMap, BP_NEXT_EXPECTED_MSG_SEQ_NUM, true);
-        setFieldPresent(presenceMap, BP_SESSION_STATUS, true);
-        setFieldPresent(presenceMap, BP_TEST_MESSAGE_INDICATOR, true);
-        setFieldPresent(presenceMap, BP_LOGON_TEXT, logonText != null && !logonText.isEmpty());
-        
-        return presenceMap;
+        buffer.skipBytes(plan.getBodyLength());
+        log.debug("Decoded nextExpectedMsgSeqNum: {}, sessionStatus: {}, testMessageIndicator: {}, logonText: {}",
+                nextExpectedMsgSeqNum, sessionStatus, testMessageIndicator, logonText);
     }
 
     @Override
-    public int calculateBodyLength() {
-        int length = 0;
-        
-        // Next Expected MsgSeqNum (UInt64)
-        length += 8;
-        
-        // Session Status (UInt8)
-        length += 1;
-        
-        // Test Message Indicator (UInt8)
-        length += 1;
-        
-        // Logon Text (Optional)
-        if (logonText != null && !logonText.isEmpty()) {
-            length += OdpDataType.LOGON_TEXT_SIZE;
-        }
-        
-        return length;
+    public FieldPresenceMap getFieldsPresenceMap() {
+        return logonText != null && !logonText.isEmpty() ? WITH_LOGON_TEXT : REQUIRED_FIELDS;
     }
 
     /**
@@ -180,13 +166,4 @@ public class LogonResponse extends BaseOdpMessage {
             default -> "Unknown status: " + sessionStatus;
         };
     }
-
-    private String bytesToHex(byte[] bytes) {
-        if (bytes == null) return "null";
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02X ", b));
-        }
-        return sb.toString().trim();
-    }
 }
\ No newline at end of file
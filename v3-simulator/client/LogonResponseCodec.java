@@ -0,0 +1,105 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/LogonResponseCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Logon Response (6) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class LogonResponseCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.LOGON_RESPONSE;
+
+    // Bit positions in presence map
+    public static final int BP_NEXT_EXPECTED_MSG_SEQ_NUM = 0;
+    public static final int BP_SESSION_STATUS = 1;
+    public static final int BP_TEST_MESSAGE_INDICATOR = 2;
+    public static final int BP_LOGON_TEXT = 3;
+
+    // Char Array lengths
+    public static final int LOGON_TEXT_LENGTH = 85;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            field(BP_NEXT_EXPECTED_MSG_SEQ_NUM, "Next Expected MsgSeqNum", OdpFieldType.UINT64),
+            field(BP_SESSION_STATUS, "Session Status", OdpFieldType.UINT8),
+            field(BP_TEST_MESSAGE_INDICATOR, "Test Message Indicator", OdpFieldType.UINT8),
+            charArray(BP_LOGON_TEXT, "Logon Text", LOGON_TEXT_LENGTH));
+
+    private LogonResponseCodec() {
+        // Generated codec
+    }
+
+    // Next Expected MsgSeqNum (UInt64)
+
+    public static boolean hasNextExpectedMsgSeqNum(OdpCodecPlan plan) {
+        return plan.isPresent(BP_NEXT_EXPECTED_MSG_SEQ_NUM);
+    }
+
+    public static long getNextExpectedMsgSeqNum(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_NEXT_EXPECTED_MSG_SEQ_NUM));
+    }
+
+    public static void setNextExpectedMsgSeqNum(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_NEXT_EXPECTED_MSG_SEQ_NUM), value);
+    }
+
+    // Session Status (UInt8)
+
+    public static boolean hasSessionStatus(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SESSION_STATUS);
+    }
+
+    public static int getSessionStatus(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_SESSION_STATUS));
+    }
+
+    public static void setSessionStatus(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_SESSION_STATUS), value);
+    }
+
+    // Test Message Indicator (UInt8)
+
+    public static boolean hasTestMessageIndicator(OdpCodecPlan plan) {
+        return plan.isPresent(BP_TEST_MESSAGE_INDICATOR);
+    }
+
+    public static int getTestMessageIndicator(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_TEST_MESSAGE_INDICATOR));
+    }
+
+    public static void setTestMessageIndicator(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_TEST_MESSAGE_INDICATOR), value);
+    }
+
+    // Logon Text (Char Array (85))
+
+    public static boolean hasLogonText(OdpCodecPlan plan) {
+        return plan.isPresent(BP_LOGON_TEXT);
+    }
+
+    public static int getLogonTextIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_LOGON_TEXT);
+    }
+
+    public static String getLogonText(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_LOGON_TEXT), LOGON_TEXT_LENGTH);
+    }
+
+    public static void setLogonText(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_LOGON_TEXT), value, LOGON_TEXT_LENGTH);
+    }
+}
\ No newline at end of file
@@ -48,7 +48,11 @@ public class LogonResponseHandler implements OdpMessageHandler {
             session.transitionTo(OdpSessionState.ACTIVE);
             session.setLogonTime(Instant.now());
             session.setTestMode(response.isTestMode());
-            session.setExpectedIncomingSeqNum(response.getNextExpectedMsgSeqNum());
+            // The gateway's next expected number refers to our outgoing messages,
+            // anything below it was already received and must not be reused
+            if (response.getNextExpectedMsgSeqNum() > session.getCurrentOutgoingSeqNum()) {
+                session.resetOutgoingSeqNum(response.getNextExpectedMsgSeqNum());
+            }
 
             log.info("Session active - Mode: {}, Next Expected SeqNum: {}", 
                     response.isTestMode() ? "Test" : "Production",
@@ -0,0 +1,73 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/LogoutCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Logout (7) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class LogoutCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.LOGOUT;
+
+    // Bit positions in presence map
+    public static final int BP_SESSION_STATUS = 0;
+    public static final int BP_LOGOUT_TEXT = 1;
+
+    // Char Array lengths
+    public static final int LOGOUT_TEXT_LENGTH = 85;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            field(BP_SESSION_STATUS, "Session Status", OdpFieldType.UINT8),
+            charArray(BP_LOGOUT_TEXT, "Logout Text", LOGOUT_TEXT_LENGTH));
+
+    private LogoutCodec() {
+        // Generated codec
+    }
+
+    // Session Status (UInt8)
+
+    public static boolean hasSessionStatus(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SESSION_STATUS);
+    }
+
+    public static int getSessionStatus(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_SESSION_STATUS));
+    }
+
+    public static void setSessionStatus(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_SESSION_STATUS), value);
+    }
+
+    // Logout Text (Char Array (85))
+
+    public static boolean hasLogoutText(OdpCodecPlan plan) {
+        return plan.isPresent(BP_LOGOUT_TEXT);
+    }
+
+    public static int getLogoutTextIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_LOGOUT_TEXT);
+    }
+
+    public static String getLogoutText(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_LOGOUT_TEXT), LOGOUT_TEXT_LENGTH);
+    }
+
+    public static void setLogoutText(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_LOGOUT_TEXT), value, LOGOUT_TEXT_LENGTH);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/LookupRequestCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+
+/**
+ * Lookup Request (9) codec
+ *
+ * The message has no body fields.
+ */
+public final class LookupRequestCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.LOOKUP_REQUEST;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE);
+
+    private LookupRequestCodec() {
+        // Generated codec
+    }
+}
\ No newline at end of file
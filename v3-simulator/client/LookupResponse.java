@@ -1,8 +1,13 @@
 // src/main/java/com/odp/simulator/client/protocol/messages/LookupResponse.java
 package com.odp.simulator.client.protocol.messages;
 
-import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
 import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.LookupResponseCodec;
 import io.netty.buffer.ByteBuf;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -29,12 +34,20 @@ import lombok.extern.slf4j.Slf4j;
 public class LookupResponse extends BaseOdpMessage {
 
     // Bit positions in presence map
-    private static final int BP_LOOKUP_STATUS = 0;
-    private static final int BP_LOOKUP_REJECT_REASON = 1;
-    private static final int BP_IP_ADDRESS_1 = 2;
-    private static final int BP_PORT_NUMBER_1 = 3;
-    private static final int BP_IP_ADDRESS_2 = 4;
-    private static final int BP_PORT_NUMBER_2 = 5;
+    private static final int BP_LOOKUP_STATUS = LookupResponseCodec.BP_LOOKUP_STATUS;
+    private static final int BP_LOOKUP_REJECT_REASON = LookupResponseCodec.BP_LOOKUP_REJECT_REASON;
+    private static final int BP_IP_ADDRESS_1 = LookupResponseCodec.BP_IP_ADDRESS_1;
+    private static final int BP_PORT_NUMBER_1 = LookupResponseCodec.BP_PORT_NUMBER_1;
+    private static final int BP_IP_ADDRESS_2 = LookupResponseCodec.BP_IP_ADDRESS_2;
+    private static final int BP_PORT_NUMBER_2 = LookupResponseCodec.BP_PORT_NUMBER_2;
+
+    public static final OdpMessageSchema SCHEMA = LookupResponseCodec.SCHEMA;
+
+    // Presence maps for the possible message shapes
+    private static final FieldPresenceMap STATUS_ONLY = FieldPresenceMap.of(BP_LOOKUP_STATUS);
+    private static final FieldPresenceMap REJECTED_FIELDS = STATUS_ONLY.with(BP_LOOKUP_REJECT_REASON, true);
+    private static final FieldPresenceMap ACCEPTED_PORTS = FieldPresenceMap.of(
+            BP_LOOKUP_STATUS, BP_PORT_NUMBER_1, BP_PORT_NUMBER_2);
 
     // Lookup Status values
     public static final int STATUS_ACCEPTED = 0;
@@ -88,85 +101,67 @@ public class LookupResponse extends BaseOdpMessage {
     }
 
     @Override
-    public void encodeBody(ByteBuf buffer) {
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
         // Lookup Response is an outbound message from gateway
         // Client typically doesn't encode this message
         log.warn("LookupResponse.encodeBody() called - this is typically a gateway message");
     }
 
     @Override
-    public void decodeBody(ByteBuf buffer, byte[] presenceMap) {
-        log.debug("Decoding LookupResponse body, presenceMap: {}", bytesToHex(presenceMap));
-        
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        log.debug("Decoding LookupResponse body, presenceMap: {}", presenceMap);
+
+        // Fields are read in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.readerIndex();
+
         // BP 0: Lookup Status (Required)
-        if (isFieldPresent(presenceMap, BP_LOOKUP_STATUS)) {
-            this.lookupStatus = readUInt8(buffer);
-            log.debug("Decoded lookupStatus: {}", lookupStatus);
+        if (LookupResponseCodec.hasLookupStatus(plan)) {
+            this.lookupStatus = LookupResponseCodec.getLookupStatus(buffer, bodyIndex, plan);
         }
 
         // BP 1: Lookup Reject Reason
-        if (isFieldPresent(presenceMap, BP_LOOKUP_REJECT_REASON)) {
-            this.lookupRejectReason = readUInt16LE(buffer);
-            log.debug("Decoded lookupRejectReason: {}", lookupRejectReason);
+        if (LookupResponseCodec.hasLookupRejectReason(plan)) {
+            this.lookupRejectReason = LookupResponseCodec.getLookupRejectReason(buffer, bodyIndex, plan);
         }
 
         // BP 2: IP Address 1 (Primary)
-        if (isFieldPresent(presenceMap, BP_IP_ADDRESS_1)) {
-            this.ipAddress1 = readCharArray(buffer, OdpDataType.IP_ADDRESS_SIZE);
-            log.debug("Decoded ipAddress1: {}", ipAddress1);
+        if (LookupResponseCodec.hasIpAddress1(plan)) {
+            this.ipAddress1 = OdpCharArrays.getInterned(buffer,
+                    LookupResponseCodec.getIpAddress1Index(bodyIndex, plan), LookupResponseCodec.IP_ADDRESS_1_LENGTH);
         }
 
         // BP 3: Port Number 1
-        if (isFieldPresent(presenceMap, BP_PORT_NUMBER_1)) {
-            this.portNumber1 = readUInt16LE(buffer);
-            log.debug("Decoded portNumber1: {}", portNumber1);
+        if (LookupResponseCodec.hasPortNumber1(plan)) {
+            this.portNumber1 = LookupResponseCodec.getPortNumber1(buffer, bodyIndex, plan);
         }
 
         // BP 4: IP Address 2 (Secondary)
-        if (isFieldPresent(presenceMap, BP_IP_ADDRESS_2)) {
-            this.ipAddress2 = readCharArray(buffer, OdpDataType.IP_ADDRESS_SIZE);
-            log.debug("Decoded ipAddress2: {}", ipAddress2);
+        if (LookupResponseCodec.hasIpAddress2(plan)) {
+            this.ipAddress2 = OdpCharArrays.getInterned(buffer,
+                    LookupResponseCodec.getIpAddress2Index(bodyIndex, plan), LookupResponseCodec.IP_ADDRESS_2_LENGTH);
         }
 
         // BP 5: Port Number 2
-        if (isFieldPresent(presenceMap, BP_PORT_NUMBER_2)) {
-            this.portNumber2 = readUInt16LE(buffer);
-            log.debug("Decoded portNumber2: {}", portNumber2);
+        if (LookupResponseCodec.hasPortNumber2(plan)) {
+            this.portNumber2 = LookupResponseCodec.getPortNumber2(buffer, bodyIndex, plan);
         }
-    }
 
-    @Override
-    public byte[] getFieldsPresenceMap() {
-        byte[] presenceMap = createPresenceMap();
-        
-        setFieldPresent(presenceMap, BP_LOOKUP_STATUS, true);
-        
-        if (lookupStatus == STATUS_REJECTED) {
-            setFieldPresent(presenceMap, BP_LOOKUP_REJECT_REASON, true);
-        } else if (lookupStatus == STATUS_ACCEPTED) {
-            setFieldPresent(presenceMap, BP_IP_ADDRESS_1, ipAddress1 != null);
-            setFieldPresent(presenceMap, BP_PORT_NUMBER_1, true);
-            setFieldPresent(presenceMap, BP_IP_ADDRESS_2, ipAddress2 != null);
-            setFieldPresent(presenceMap, BP_PORT_NUMBER_2, true);
-        }
-        
-        return presenceMap;
+        buffer.skipBytes(plan.getBodyLength());
+        log.debug("Decoded lookupStatus: {}, lookupRejectReason: {}, primary: {}:{}, secondary: {}:{}",
+                lookupStatus, lookupRejectReason, ipAddress1, portNumber1, ipAddress2, portNumber2);
     }
 
     @Override
-    public int calculateBodyLength() {
-        int length = 1; // Lookup Status (UInt8)
-        
+    public FieldPresenceMap getFieldsPresenceMap() {
         if (lookupStatus == STATUS_REJECTED) {
-            length += 2; // Lookup Reject Reason (UInt16)
+            return REJECTED_FIELDS;
         } else if (lookupStatus == STATUS_ACCEPTED) {
-            length += OdpDataType.IP_ADDRESS_SIZE; // IP Address 1
-            length += 2; // Port Number 1 (UInt16)
-            length += OdpDataType.IP_ADDRESS_SIZE; // IP Address 2
-            length += 2; // Port Number 2 (UInt16)
+            return ACCEPTED_PORTS
+                    .with(BP_IP_ADDRESS_1, ipAddress1 != null)
+                    .with(BP_IP_ADDRESS_2, ipAddress2 != null);
         }
-        
-        return length;
+        return STATUS_ONLY;
     }
 
     /**
@@ -186,13 +181,4 @@ public class LookupResponse extends BaseOdpMessage {
             default -> "Unknown reject reason: " + lookupRejectReason;
         };
     }
-
-    private String bytesToHex(byte[] bytes) {
-        if (bytes == null) return "null";
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02X ", b));
-        }
-        return sb.toString().trim();
-    }
 }
\ No newline at end of file
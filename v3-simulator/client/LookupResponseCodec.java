@@ -0,0 +1,142 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/LookupResponseCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Lookup Response (10) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class LookupResponseCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.LOOKUP_RESPONSE;
+
+    // Bit positions in presence map
+    public static final int BP_LOOKUP_STATUS = 0;
+    public static final int BP_LOOKUP_REJECT_REASON = 1;
+    public static final int BP_IP_ADDRESS_1 = 2;
+    public static final int BP_PORT_NUMBER_1 = 3;
+    public static final int BP_IP_ADDRESS_2 = 4;
+    public static final int BP_PORT_NUMBER_2 = 5;
+
+    // Char Array lengths
+    public static final int IP_ADDRESS_1_LENGTH = 15;
+    public static final int IP_ADDRESS_2_LENGTH = 15;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            field(BP_LOOKUP_STATUS, "Lookup Status", OdpFieldType.UINT8),
+            field(BP_LOOKUP_REJECT_REASON, "Lookup Reject Reason", OdpFieldType.UINT16),
+            charArray(BP_IP_ADDRESS_1, "IP Address 1", IP_ADDRESS_1_LENGTH),
+            field(BP_PORT_NUMBER_1, "Port Number 1", OdpFieldType.UINT16),
+            charArray(BP_IP_ADDRESS_2, "IP Address 2", IP_ADDRESS_2_LENGTH),
+            field(BP_PORT_NUMBER_2, "Port Number 2", OdpFieldType.UINT16));
+
+    private LookupResponseCodec() {
+        // Generated codec
+    }
+
+    // Lookup Status (UInt8)
+
+    public static boolean hasLookupStatus(OdpCodecPlan plan) {
+        return plan.isPresent(BP_LOOKUP_STATUS);
+    }
+
+    public static int getLookupStatus(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_LOOKUP_STATUS));
+    }
+
+    public static void setLookupStatus(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_LOOKUP_STATUS), value);
+    }
+
+    // Lookup Reject Reason (UInt16)
+
+    public static boolean hasLookupRejectReason(OdpCodecPlan plan) {
+        return plan.isPresent(BP_LOOKUP_REJECT_REASON);
+    }
+
+    public static int getLookupRejectReason(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedShortLE(bodyIndex + plan.offsetOf(BP_LOOKUP_REJECT_REASON));
+    }
+
+    public static void setLookupRejectReason(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setShortLE(bodyIndex + plan.offsetOf(BP_LOOKUP_REJECT_REASON), value);
+    }
+
+    // IP Address 1 (Char Array (15))
+
+    public static boolean hasIpAddress1(OdpCodecPlan plan) {
+        return plan.isPresent(BP_IP_ADDRESS_1);
+    }
+
+    public static int getIpAddress1Index(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_IP_ADDRESS_1);
+    }
+
+    public static String getIpAddress1(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_IP_ADDRESS_1), IP_ADDRESS_1_LENGTH);
+    }
+
+    public static void setIpAddress1(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_IP_ADDRESS_1), value, IP_ADDRESS_1_LENGTH);
+    }
+
+    // Port Number 1 (UInt16)
+
+    public static boolean hasPortNumber1(OdpCodecPlan plan) {
+        return plan.isPresent(BP_PORT_NUMBER_1);
+    }
+
+    public static int getPortNumber1(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedShortLE(bodyIndex + plan.offsetOf(BP_PORT_NUMBER_1));
+    }
+
+    public static void setPortNumber1(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setShortLE(bodyIndex + plan.offsetOf(BP_PORT_NUMBER_1), value);
+    }
+
+    // IP Address 2 (Char Array (15))
+
+    public static boolean hasIpAddress2(OdpCodecPlan plan) {
+        return plan.isPresent(BP_IP_ADDRESS_2);
+    }
+
+    public static int getIpAddress2Index(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_IP_ADDRESS_2);
+    }
+
+    public static String getIpAddress2(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_IP_ADDRESS_2), IP_ADDRESS_2_LENGTH);
+    }
+
+    public static void setIpAddress2(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_IP_ADDRESS_2), value, IP_ADDRESS_2_LENGTH);
+    }
+
+    // Port Number 2 (UInt16)
+
+    public static boolean hasPortNumber2(OdpCodecPlan plan) {
+        return plan.isPresent(BP_PORT_NUMBER_2);
+    }
+
+    public static int getPortNumber2(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedShortLE(bodyIndex + plan.offsetOf(BP_PORT_NUMBER_2));
+    }
+
+    public static void setPortNumber2(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setShortLE(bodyIndex + plan.offsetOf(BP_PORT_NUMBER_2), value);
+    }
+}
\ No newline at end of file
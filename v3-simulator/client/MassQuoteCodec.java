@@ -0,0 +1,126 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/MassQuoteCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Mass Quote (51) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class MassQuoteCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.MASS_QUOTE;
+
+    // Bit positions in presence map
+    public static final int BP_QUOTE_ID = 0;
+    public static final int BP_SUBMITTING_BROKER_ID = 1;
+    public static final int BP_BROKER_LOCATION_ID = 2;
+    public static final int BP_TRANSACT_TIME = 3;
+    public static final int BP_NO_QUOTE_ENTRIES = 4;
+
+    // Char Array lengths
+    public static final int SUBMITTING_BROKER_ID_LENGTH = 12;
+    public static final int BROKER_LOCATION_ID_LENGTH = 11;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            field(BP_QUOTE_ID, "Quote ID", OdpFieldType.UINT64),
+            charArray(BP_SUBMITTING_BROKER_ID, "Submitting Broker ID", SUBMITTING_BROKER_ID_LENGTH),
+            charArray(BP_BROKER_LOCATION_ID, "Broker Location ID", BROKER_LOCATION_ID_LENGTH),
+            field(BP_TRANSACT_TIME, "Transact Time", OdpFieldType.UINT64),
+            field(BP_NO_QUOTE_ENTRIES, "No Quote Entries", OdpFieldType.UINT16));
+
+    private MassQuoteCodec() {
+        // Generated codec
+    }
+
+    // Quote ID (UInt64)
+
+    public static boolean hasQuoteId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_QUOTE_ID);
+    }
+
+    public static long getQuoteId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_QUOTE_ID));
+    }
+
+    public static void setQuoteId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_QUOTE_ID), value);
+    }
+
+    // Submitting Broker ID (Char Array (12))
+
+    public static boolean hasSubmittingBrokerId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SUBMITTING_BROKER_ID);
+    }
+
+    public static int getSubmittingBrokerIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_SUBMITTING_BROKER_ID);
+    }
+
+    public static String getSubmittingBrokerId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_SUBMITTING_BROKER_ID), SUBMITTING_BROKER_ID_LENGTH);
+    }
+
+    public static void setSubmittingBrokerId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_SUBMITTING_BROKER_ID), value, SUBMITTING_BROKER_ID_LENGTH);
+    }
+
+    // Broker Location ID (Char Array (11))
+
+    public static boolean hasBrokerLocationId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_BROKER_LOCATION_ID);
+    }
+
+    public static int getBrokerLocationIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_BROKER_LOCATION_ID);
+    }
+
+    public static String getBrokerLocationId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_BROKER_LOCATION_ID), BROKER_LOCATION_ID_LENGTH);
+    }
+
+    public static void setBrokerLocationId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_BROKER_LOCATION_ID), value, BROKER_LOCATION_ID_LENGTH);
+    }
+
+    // Transact Time (UInt64)
+
+    public static boolean hasTransactTime(OdpCodecPlan plan) {
+        return plan.isPresent(BP_TRANSACT_TIME);
+    }
+
+    public static long getTransactTime(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_TRANSACT_TIME));
+    }
+
+    public static void setTransactTime(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_TRANSACT_TIME), value);
+    }
+
+    // No Quote Entries (UInt16)
+
+    public static boolean hasNoQuoteEntries(OdpCodecPlan plan) {
+        return plan.isPresent(BP_NO_QUOTE_ENTRIES);
+    }
+
+    public static int getNoQuoteEntries(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedShortLE(bodyIndex + plan.offsetOf(BP_NO_QUOTE_ENTRIES));
+    }
+
+    public static void setNoQuoteEntries(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setShortLE(bodyIndex + plan.offsetOf(BP_NO_QUOTE_ENTRIES), value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,251 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/NewOrderSingle.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.NewOrderSingleCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * New Order Single (21)
+ *
+ * The client sends this message to submit a new order.
+ *
+ * Field Bit Positions:
+ * - BP 0: ClOrdID (Required)
+ * - BP 1: Submitting Broker ID (Required)
+ * - BP 2: Security ID (Required)
+ * - BP 3: Security ID Source (Required)
+ * - BP 4: Security Exchange (Optional)
+ * - BP 5: Broker Location ID (Required)
+ * - BP 6: Transact Time (Required)
+ * - BP 7: Side (Required)
+ * - BP 8: Order Type (Required)
+ * - BP 9: Price (Optional) - Not sent for market orders
+ * - BP 10: Order Quantity (Required)
+ * - BP 11: Time In Force (Required)
+ * - BP 12: Order Capacity (Required)
+ * - BP 13: Text (Optional)
+ *
+ * Char array fields take any CharSequence, so an instance taken from
+ * {@link OdpMessagePool} and filled with reused values (e.g. interned
+ * {@link io.netty.util.AsciiString}s) is encoded without allocation.
+ */
+@Slf4j
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class NewOrderSingle extends BaseOdpMessage {
+
+    public static final OdpMessageSchema SCHEMA = NewOrderSingleCodec.SCHEMA;
+
+    // Fields present on every order
+    private static final long REQUIRED_FIELDS = presenceBit(NewOrderSingleCodec.BP_CL_ORD_ID)
+            | presenceBit(NewOrderSingleCodec.BP_SUBMITTING_BROKER_ID)
+            | presenceBit(NewOrderSingleCodec.BP_SECURITY_ID)
+            | presenceBit(NewOrderSingleCodec.BP_SECURITY_ID_SOURCE)
+            | presenceBit(NewOrderSingleCodec.BP_BROKER_LOCATION_ID)
+            | presenceBit(NewOrderSingleCodec.BP_TRANSACT_TIME)
+            | presenceBit(NewOrderSingleCodec.BP_SIDE)
+            | presenceBit(NewOrderSingleCodec.BP_ORDER_TYPE)
+            | presenceBit(NewOrderSingleCodec.BP_ORDER_QUANTITY)
+            | presenceBit(NewOrderSingleCodec.BP_TIME_IN_FORCE)
+            | presenceBit(NewOrderSingleCodec.BP_ORDER_CAPACITY);
+
+    // Side values
+    public static final int SIDE_BUY = 1;
+    public static final int SIDE_SELL = 2;
+
+    // Order Type values
+    public static final int ORDER_TYPE_MARKET = 1;
+    public static final int ORDER_TYPE_LIMIT = 2;
+
+    // Time In Force values
+    public static final int TIME_IN_FORCE_DAY = 0;
+    public static final int TIME_IN_FORCE_IOC = 3;
+    public static final int TIME_IN_FORCE_FOK = 4;
+
+    // Order Capacity values
+    public static final int ORDER_CAPACITY_AGENCY = 1;
+    public static final int ORDER_CAPACITY_PRINCIPAL = 2;
+
+    // Security ID Source values
+    public static final int SECURITY_ID_SOURCE_EXCHANGE_SYMBOL = 8;
+
+    /**
+     * Prices are sent as Int64 with 8 implied decimal places
+     */
+    public static final long PRICE_MULTIPLIER = 100_000_000L;
+
+    /**
+     * Client order ID (Char Array 21), unique per order
+     */
+    private CharSequence clOrdId;
+
+    /**
+     * Submitting Broker ID (Char Array 12)
+     */
+    private CharSequence submittingBrokerId;
+
+    /**
+     * Security ID (Char Array 21)
+     */
+    private CharSequence securityId;
+
+    /**
+     * Security ID Source (UInt8)
+     */
+    private int securityIdSource = SECURITY_ID_SOURCE_EXCHANGE_SYMBOL;
+
+    /**
+     * Security Exchange (Char Array 5) - Optional
+     */
+    private CharSequence securityExchange;
+
+    /**
+     * Broker Location ID (Char Array 11)
+     */
+    private CharSequence brokerLocationId;
+
+    /**
+     * Transact Time (UInt64), nanoseconds since epoch in UTC
+     */
+    private long transactTime;
+
+    /**
+     * Side (UInt8)
+     */
+    private int side;
+
+    /**
+     * Order Type (UInt8)
+     */
+    private int orderType = ORDER_TYPE_LIMIT;
+
+    /**
+     * Price (Int64) scaled by {@link #PRICE_MULTIPLIER}, not sent for market orders
+     */
+    private long price;
+
+    /**
+     * Order Quantity (UInt64)
+     */
+    private long orderQuantity;
+
+    /**
+     * Time In Force (UInt8)
+     */
+    private int timeInForce = TIME_IN_FORCE_DAY;
+
+    /**
+     * Order Capacity (UInt8)
+     */
+    private int orderCapacity = ORDER_CAPACITY_AGENCY;
+
+    /**
+     * Free text (Char Array 40) - Optional
+     */
+    private CharSequence text;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.NEW_ORDER_SINGLE;
+    }
+
+    @Override
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Fields are written in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.writerIndex();
+        buffer.ensureWritable(plan.getBodyLength());
+
+        if (NewOrderSingleCodec.hasClOrdId(plan)) {
+            NewOrderSingleCodec.setClOrdId(buffer, bodyIndex, plan, clOrdId);
+        }
+        if (NewOrderSingleCodec.hasSubmittingBrokerId(plan)) {
+            NewOrderSingleCodec.setSubmittingBrokerId(buffer, bodyIndex, plan, submittingBrokerId);
+        }
+        if (NewOrderSingleCodec.hasSecurityId(plan)) {
+            NewOrderSingleCodec.setSecurityId(buffer, bodyIndex, plan, securityId);
+        }
+        if (NewOrderSingleCodec.hasSecurityIdSource(plan)) {
+            NewOrderSingleCodec.setSecurityIdSource(buffer, bodyIndex, plan, securityIdSource);
+        }
+        if (NewOrderSingleCodec.hasSecurityExchange(plan)) {
+            NewOrderSingleCodec.setSecurityExchange(buffer, bodyIndex, plan, securityExchange);
+        }
+        if (NewOrderSingleCodec.hasBrokerLocationId(plan)) {
+            NewOrderSingleCodec.setBrokerLocationId(buffer, bodyIndex, plan, brokerLocationId);
+        }
+        if (NewOrderSingleCodec.hasTransactTime(plan)) {
+            NewOrderSingleCodec.setTransactTime(buffer, bodyIndex, plan, transactTime);
+        }
+        if (NewOrderSingleCodec.hasSide(plan)) {
+            NewOrderSingleCodec.setSide(buffer, bodyIndex, plan, side);
+        }
+        if (NewOrderSingleCodec.hasOrderType(plan)) {
+            NewOrderSingleCodec.setOrderType(buffer, bodyIndex, plan, orderType);
+        }
+        if (NewOrderSingleCodec.hasPrice(plan)) {
+            NewOrderSingleCodec.setPrice(buffer, bodyIndex, plan, price);
+        }
+        if (NewOrderSingleCodec.hasOrderQuantity(plan)) {
+            NewOrderSingleCodec.setOrderQuantity(buffer, bodyIndex, plan, orderQuantity);
+        }
+        if (NewOrderSingleCodec.hasTimeInForce(plan)) {
+            NewOrderSingleCodec.setTimeInForce(buffer, bodyIndex, plan, timeInForce);
+        }
+        if (NewOrderSingleCodec.hasOrderCapacity(plan)) {
+            NewOrderSingleCodec.setOrderCapacity(buffer, bodyIndex, plan, orderCapacity);
+        }
+        if (NewOrderSingleCodec.hasText(plan)) {
+            NewOrderSingleCodec.setText(buffer, bodyIndex, plan, text);
+        }
+
+        buffer.writerIndex(bodyIndex + plan.getBodyLength());
+    }
+
+    @Override
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // New Order Single is an inbound message from client
+        log.warn("NewOrderSingle.decodeBody() called - this is typically a client message");
+    }
+
+    @Override
+    public FieldPresenceMap getFieldsPresenceMap() {
+        long high = REQUIRED_FIELDS;
+        if (hasValue(securityExchange)) {
+            high |= presenceBit(NewOrderSingleCodec.BP_SECURITY_EXCHANGE);
+        }
+        if (orderType != ORDER_TYPE_MARKET) {
+            high |= presenceBit(NewOrderSingleCodec.BP_PRICE);
+        }
+        if (hasValue(text)) {
+            high |= presenceBit(NewOrderSingleCodec.BP_TEXT);
+        }
+        return presenceMap(high);
+    }
+
+    @Override
+    protected void resetForReuse() {
+        clOrdId = null;
+        submittingBrokerId = null;
+        securityId = null;
+        securityIdSource = SECURITY_ID_SOURCE_EXCHANGE_SYMBOL;
+        securityExchange = null;
+        brokerLocationId = null;
+        transactTime = 0;
+        side = 0;
+        orderType = ORDER_TYPE_LIMIT;
+        price = 0;
+        orderQuantity = 0;
+        timeInForce = TIME_IN_FORCE_DAY;
+        orderCapacity = ORDER_CAPACITY_AGENCY;
+        text = null;
+    }
+}
\ No newline at end of file
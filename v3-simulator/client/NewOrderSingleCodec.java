@@ -0,0 +1,290 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/NewOrderSingleCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * New Order Single (21) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class NewOrderSingleCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.NEW_ORDER_SINGLE;
+
+    // Bit positions in presence map
+    public static final int BP_CL_ORD_ID = 0;
+    public static final int BP_SUBMITTING_BROKER_ID = 1;
+    public static final int BP_SECURITY_ID = 2;
+    public static final int BP_SECURITY_ID_SOURCE = 3;
+    public static final int BP_SECURITY_EXCHANGE = 4;
+    public static final int BP_BROKER_LOCATION_ID = 5;
+    public static final int BP_TRANSACT_TIME = 6;
+    public static final int BP_SIDE = 7;
+    public static final int BP_ORDER_TYPE = 8;
+    public static final int BP_PRICE = 9;
+    public static final int BP_ORDER_QUANTITY = 10;
+    public static final int BP_TIME_IN_FORCE = 11;
+    public static final int BP_ORDER_CAPACITY = 12;
+    public static final int BP_TEXT = 13;
+
+    // Char Array lengths
+    public static final int CL_ORD_ID_LENGTH = 21;
+    public static final int SUBMITTING_BROKER_ID_LENGTH = 12;
+    public static final int SECURITY_ID_LENGTH = 21;
+    public static final int SECURITY_EXCHANGE_LENGTH = 5;
+    public static final int BROKER_LOCATION_ID_LENGTH = 11;
+    public static final int TEXT_LENGTH = 40;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            charArray(BP_CL_ORD_ID, "ClOrdID", CL_ORD_ID_LENGTH),
+            charArray(BP_SUBMITTING_BROKER_ID, "Submitting Broker ID", SUBMITTING_BROKER_ID_LENGTH),
+            charArray(BP_SECURITY_ID, "Security ID", SECURITY_ID_LENGTH),
+            field(BP_SECURITY_ID_SOURCE, "Security ID Source", OdpFieldType.UINT8),
+            charArray(BP_SECURITY_EXCHANGE, "Security Exchange", SECURITY_EXCHANGE_LENGTH),
+            charArray(BP_BROKER_LOCATION_ID, "Broker Location ID", BROKER_LOCATION_ID_LENGTH),
+            field(BP_TRANSACT_TIME, "Transact Time", OdpFieldType.UINT64),
+            field(BP_SIDE, "Side", OdpFieldType.UINT8),
+            field(BP_ORDER_TYPE, "Order Type", OdpFieldType.UINT8),
+            field(BP_PRICE, "Price", OdpFieldType.INT64),
+            field(BP_ORDER_QUANTITY, "Order Quantity", OdpFieldType.UINT64),
+            field(BP_TIME_IN_FORCE, "Time In Force", OdpFieldType.UINT8),
+            field(BP_ORDER_CAPACITY, "Order Capacity", OdpFieldType.UINT8),
+            charArray(BP_TEXT, "Text", TEXT_LENGTH));
+
+    private NewOrderSingleCodec() {
+        // Generated codec
+    }
+
+    // ClOrdID (Char Array (21))
+
+    public static boolean hasClOrdId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_CL_ORD_ID);
+    }
+
+    public static int getClOrdIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_CL_ORD_ID);
+    }
+
+    public static String getClOrdId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_CL_ORD_ID), CL_ORD_ID_LENGTH);
+    }
+
+    public static void setClOrdId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_CL_ORD_ID), value, CL_ORD_ID_LENGTH);
+    }
+
+    // Submitting Broker ID (Char Array (12))
+
+    public static boolean hasSubmittingBrokerId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SUBMITTING_BROKER_ID);
+    }
+
+    public static int getSubmittingBrokerIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_SUBMITTING_BROKER_ID);
+    }
+
+    public static String getSubmittingBrokerId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_SUBMITTING_BROKER_ID), SUBMITTING_BROKER_ID_LENGTH);
+    }
+
+    public static void setSubmittingBrokerId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_SUBMITTING_BROKER_ID), value, SUBMITTING_BROKER_ID_LENGTH);
+    }
+
+    // Security ID (Char Array (21))
+
+    public static boolean hasSecurityId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SECURITY_ID);
+    }
+
+    public static int getSecurityIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_SECURITY_ID);
+    }
+
+    public static String getSecurityId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_SECURITY_ID), SECURITY_ID_LENGTH);
+    }
+
+    public static void setSecurityId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_SECURITY_ID), value, SECURITY_ID_LENGTH);
+    }
+
+    // Security ID Source (UInt8)
+
+    public static boolean hasSecurityIdSource(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SECURITY_ID_SOURCE);
+    }
+
+    public static int getSecurityIdSource(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_SECURITY_ID_SOURCE));
+    }
+
+    public static void setSecurityIdSource(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_SECURITY_ID_SOURCE), value);
+    }
+
+    // Security Exchange (Char Array (5))
+
+    public static boolean hasSecurityExchange(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SECURITY_EXCHANGE);
+    }
+
+    public static int getSecurityExchangeIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_SECURITY_EXCHANGE);
+    }
+
+    public static String getSecurityExchange(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_SECURITY_EXCHANGE), SECURITY_EXCHANGE_LENGTH);
+    }
+
+    public static void setSecurityExchange(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_SECURITY_EXCHANGE), value, SECURITY_EXCHANGE_LENGTH);
+    }
+
+    // Broker Location ID (Char Array (11))
+
+    public static boolean hasBrokerLocationId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_BROKER_LOCATION_ID);
+    }
+
+    public static int getBrokerLocationIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_BROKER_LOCATION_ID);
+    }
+
+    public static String getBrokerLocationId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_BROKER_LOCATION_ID), BROKER_LOCATION_ID_LENGTH);
+    }
+
+    public static void setBrokerLocationId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_BROKER_LOCATION_ID), value, BROKER_LOCATION_ID_LENGTH);
+    }
+
+    // Transact Time (UInt64)
+
+    public static boolean hasTransactTime(OdpCodecPlan plan) {
+        return plan.isPresent(BP_TRANSACT_TIME);
+    }
+
+    public static long getTransactTime(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_TRANSACT_TIME));
+    }
+
+    public static void setTransactTime(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_TRANSACT_TIME), value);
+    }
+
+    // Side (UInt8)
+
+    public static boolean hasSide(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SIDE);
+    }
+
+    public static int getSide(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_SIDE));
+    }
+
+    public static void setSide(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_SIDE), value);
+    }
+
+    // Order Type (UInt8)
+
+    public static boolean hasOrderType(OdpCodecPlan plan) {
+        return plan.isPresent(BP_ORDER_TYPE);
+    }
+
+    public static int getOrderType(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_ORDER_TYPE));
+    }
+
+    public static void setOrderType(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_ORDER_TYPE), value);
+    }
+
+    // Price (Price)
+
+    public static boolean hasPrice(OdpCodecPlan plan) {
+        return plan.isPresent(BP_PRICE);
+    }
+
+    public static long getPrice(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_PRICE));
+    }
+
+    public static void setPrice(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_PRICE), value);
+    }
+
+    // Order Quantity (Quantity)
+
+    public static boolean hasOrderQuantity(OdpCodecPlan plan) {
+        return plan.isPresent(BP_ORDER_QUANTITY);
+    }
+
+    public static long getOrderQuantity(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_ORDER_QUANTITY));
+    }
+
+    public static void setOrderQuantity(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_ORDER_QUANTITY), value);
+    }
+
+    // Time In Force (UInt8)
+
+    public static boolean hasTimeInForce(OdpCodecPlan plan) {
+        return plan.isPresent(BP_TIME_IN_FORCE);
+    }
+
+    public static int getTimeInForce(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_TIME_IN_FORCE));
+    }
+
+    public static void setTimeInForce(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_TIME_IN_FORCE), value);
+    }
+
+    // Order Capacity (UInt8)
+
+    public static boolean hasOrderCapacity(OdpCodecPlan plan) {
+        return plan.isPresent(BP_ORDER_CAPACITY);
+    }
+
+    public static int getOrderCapacity(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_ORDER_CAPACITY));
+    }
+
+    public static void setOrderCapacity(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_ORDER_CAPACITY), value);
+    }
+
+    // Text (Char Array (40))
+
+    public static boolean hasText(OdpCodecPlan plan) {
+        return plan.isPresent(BP_TEXT);
+    }
+
+    public static int getTextIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_TEXT);
+    }
+
+    public static String getText(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_TEXT), TEXT_LENGTH);
+    }
+
+    public static void setText(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_TEXT), value, TEXT_LENGTH);
+    }
+}
\ No newline at end of file
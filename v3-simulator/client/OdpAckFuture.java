@@ -0,0 +1,111 @@
+// src/main/java/com/odp/simulator/client/service/OdpAckFuture.java
+package com.odp.simulator.client.service;
+
+import com.odp.simulator.client.client.OdpTimeoutWheel;
+import com.odp.simulator.client.session.OdpSendFuture;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Gateway acknowledgement of one order, amend or cancel request
+ *
+ * Completes with the order's status once the gateway accepted or rejected
+ * the request, or exceptionally if the request could not be written or no
+ * answer arrived within the acknowledgement budget. The future is its own
+ * {@link OdpTimeoutWheel} task and its own write listener, so tracking a
+ * request allocates nothing beyond the future.
+ *
+ * A late answer after a timeout still updates the order, see
+ * {@link OdpOrderService#getOrderState(String)}. A request that could not be
+ * written, was rejected by the throttle or superseded by a newer amend is
+ * rolled back in the {@link OdpOrderBook} before the future fails.
+ */
+public final class OdpAckFuture extends CompletableFuture<OrderStatus>
+        implements OdpTimeoutWheel.Task, ChannelFutureListener {
+
+    private final long deadlineNanos;
+    private final long timeoutNanos;
+    private volatile OdpSendFuture sendFuture;
+
+    // Book tracking the request, told if it is never sent
+    private volatile OdpOrderBook book;
+    private volatile int slot;
+    private volatile boolean replace;
+
+    OdpAckFuture(long timeoutNanos) {
+        this.timeoutNanos = timeoutNanos;
+        this.deadlineNanos = System.nanoTime() + timeoutNanos;
+    }
+
+    /**
+     * Write completion of the request, with its MsgSeqNum, null until sent
+     */
+    public OdpSendFuture getSendFuture() {
+        return sendFuture;
+    }
+
+    /**
+     * Record the book entry of the request, before it is sent
+     * @param replace Whether the request is an amend or cancel rather than a new order
+     */
+    void track(OdpOrderBook book, int slot, boolean replace) {
+        this.slot = slot;
+        this.replace = replace;
+        this.book = book;
+    }
+
+    int slot() {
+        return slot;
+    }
+
+    boolean isReplace() {
+        return replace;
+    }
+
+    void attach(OdpSendFuture sendFuture) {
+        this.sendFuture = sendFuture;
+        sendFuture.addListener(this);
+    }
+
+    @Override
+    public void operationComplete(ChannelFuture future) {
+        if (!future.isSuccess()) {
+            OdpOrderBook trackingBook = book;
+            if (trackingBook != null) {
+                trackingBook.onSendFailed(this, future.cause());
+            }
+            completeExceptionally(future.cause());
+        }
+    }
+
+    @Override
+    public long deadlineNanos() {
+        return deadlineNanos;
+    }
+
+    @Override
+    public void expire() {
+        completeExceptionally(new AckTimeoutException(timeoutNanos));
+    }
+
+    /**
+     * Timeout without a stack trace, a burst of timeouts stays cheap on the wheel thread
+     */
+    public static final class AckTimeoutException extends TimeoutException {
+
+        private static final long serialVersionUID = 1L;
+
+        AckTimeoutException(long timeoutNanos) {
+            super("No acknowledgement within " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
\ No newline at end of file
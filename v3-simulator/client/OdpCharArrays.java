@@ -0,0 +1,281 @@
+// src/main/java/com/odp/simulator/client/codec/OdpCharArrays.java
+package com.odp.simulator.client.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.AsciiString;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Access to fixed-length, NUL-padded ASCII char arrays
+ *
+ * Used by the generated codecs, the message classes and the frame codecs.
+ * Reads and writes go straight to the buffer without an intermediate byte array.
+ *
+ * Values that repeat on every message, such as Comp IDs, can be interned as
+ * {@link AsciiString} instances. Reads of an interned value are matched
+ * against the buffer bytes in place and return the shared instance (or its
+ * cached String) instead of allocating a new one.
+ */
+public final class OdpCharArrays {
+
+    /**
+     * Maximum number of interned values, the table is kept at most half full
+     */
+    public static final int MAX_INTERNED = 64;
+
+    private static final int TABLE_SIZE = MAX_INTERNED * 2;
+
+    // Copy-on-write, readers see either the old or the new table
+    private static volatile InternTable internTable = new InternTable(TABLE_SIZE);
+
+    private OdpCharArrays() {
+        // Utility class
+    }
+
+    /**
+     * Length of the value stored at index, up to the first NUL byte
+     */
+    public static int length(ByteBuf buffer, int index, int length) {
+        int strLen = 0;
+        while (strLen < length && buffer.getByte(index + strLen) != 0) {
+            strLen++;
+        }
+        return strLen;
+    }
+
+    /**
+     * Read a char array at an absolute index
+     * Returns null for an empty field
+     */
+    public static String get(ByteBuf buffer, int index, int length) {
+        int strLen = length(buffer, index, length);
+        if (strLen == 0) {
+            return null;
+        }
+        return buffer.toString(index, strLen, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Read a char array at the reader index and advance it by the field length
+     * Returns null for an empty field
+     */
+    public static String read(ByteBuf buffer, int length) {
+        String value = get(buffer, buffer.readerIndex(), length);
+        buffer.skipBytes(length);
+        return value;
+    }
+
+    /**
+     * Read a char array at an absolute index as an ASCII value
+     * Returns the interned instance if there is one, null for an empty field
+     */
+    public static AsciiString getAscii(ByteBuf buffer, int index, int length) {
+        int strLen = length(buffer, index, length);
+        if (strLen == 0) {
+            return null;
+        }
+        AsciiString interned = lookup(buffer, index, strLen);
+        if (interned != null) {
+            return interned;
+        }
+        byte[] bytes = new byte[strLen];
+        buffer.getBytes(index, bytes);
+        return new AsciiString(bytes, false);
+    }
+
+    /**
+     * Read a char array at an absolute index, interning the value
+     *
+     * Known values are returned without allocation. Unknown values are
+     * interned while the table has room, after that they are read as a
+     * plain String. Use only for fields with a small set of distinct values.
+     * Returns null for an empty field
+     */
+    public static String getInterned(ByteBuf buffer, int index, int length) {
+        int strLen = length(buffer, index, length);
+        if (strLen == 0) {
+            return null;
+        }
+        AsciiString interned = lookup(buffer, index, strLen);
+        if (interned == null) {
+            byte[] bytes = new byte[strLen];
+            buffer.getBytes(index, bytes);
+            interned = intern(new AsciiString(bytes, false));
+        }
+        return interned.toString();
+    }
+
+    /**
+     * Read an interned char array at the reader index and advance it by the field length
+     */
+    public static String readInterned(ByteBuf buffer, int length) {
+        String value = getInterned(buffer, buffer.readerIndex(), length);
+        buffer.skipBytes(length);
+        return value;
+    }
+
+    /**
+     * Write a char array at an absolute index, padding the remainder with NUL bytes
+     * Values longer than the field are truncated
+     */
+    public static void set(ByteBuf buffer, int index, CharSequence value, int length) {
+        int copyLength = value != null ? Math.min(value.length(), length) : 0;
+        if (value instanceof AsciiString ascii) {
+            buffer.setBytes(index, ascii.array(), ascii.arrayOffset(), copyLength);
+        } else {
+            for (int i = 0; i < copyLength; i++) {
+                buffer.setByte(index + i, value.charAt(i));
+            }
+        }
+        if (copyLength < length) {
+            buffer.setZero(index + copyLength, length - copyLength);
+        }
+    }
+
+    /**
+     * Write a char array at the writer index and advance it by the field length
+     */
+    public static void write(ByteBuf buffer, CharSequence value, int length) {
+        buffer.ensureWritable(length);
+        int index = buffer.writerIndex();
+        set(buffer, index, value, length);
+        buffer.writerIndex(index + length);
+    }
+
+    /**
+     * Intern a value and return the shared instance
+     * Once {@link #MAX_INTERNED} values are held, new values are returned uninterned
+     */
+    public static AsciiString intern(CharSequence value) {
+        AsciiString ascii = AsciiString.of(value);
+        AsciiString existing = lookup(ascii);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (OdpCharArrays.class) {
+            InternTable table = internTable;
+            existing = lookup(ascii);
+            if (existing != null) {
+                return existing;
+            }
+            if (table.size >= MAX_INTERNED) {
+                return ascii;
+            }
+            if (!ascii.isEntireArrayUsed()) {
+                // Don't pin a larger backing array
+                ascii = new AsciiString(ascii.toByteArray(), false);
+            }
+            InternTable copy = table.copy();
+            copy.insert(ascii, hash(ascii));
+            internTable = copy;
+            return ascii;
+        }
+    }
+
+    /**
+     * Number of interned values
+     */
+    public static int internedCount() {
+        return internTable.size;
+    }
+
+    private static AsciiString lookup(ByteBuf buffer, int index, int strLen) {
+        InternTable table = internTable;
+        if (table.size == 0) {
+            return null;
+        }
+        int hash = hash(buffer, index, strLen);
+        int mask = table.values.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            AsciiString candidate = table.values[slot];
+            if (candidate == null) {
+                return null;
+            }
+            if (table.hashes[slot] == hash && contentEquals(candidate, buffer, index, strLen)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static AsciiString lookup(AsciiString value) {
+        InternTable table = internTable;
+        int hash = hash(value);
+        int mask = table.values.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            AsciiString candidate = table.values[slot];
+            if (candidate == null) {
+                return null;
+            }
+            if (table.hashes[slot] == hash && candidate.contentEquals(value)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static boolean contentEquals(AsciiString value, ByteBuf buffer, int index, int strLen) {
+        if (value.length() != strLen) {
+            return false;
+        }
+        byte[] array = value.array();
+        int offset = value.arrayOffset();
+        for (int i = 0; i < strLen; i++) {
+            if (array[offset + i] != buffer.getByte(index + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a, computed the same way over buffer bytes and interned values
+    private static int hash(ByteBuf buffer, int index, int strLen) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < strLen; i++) {
+            hash = (hash ^ (buffer.getByte(index + i) & 0xFF)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(AsciiString value) {
+        byte[] array = value.array();
+        int offset = value.arrayOffset();
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ (array[offset + i] & 0xFF)) * 0x01000193;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Open-addressing table of interned values with their hashes
+     */
+    private static final class InternTable {
+        final int[] hashes;
+        final AsciiString[] values;
+        int size;
+
+        InternTable(int capacity) {
+            this.hashes = new int[capacity];
+            this.values = new AsciiString[capacity];
+        }
+
+        InternTable copy() {
+            InternTable copy = new InternTable(values.length);
+            System.arraycopy(hashes, 0, copy.hashes, 0, hashes.length);
+            System.arraycopy(values, 0, copy.values, 0, values.length);
+            copy.size = size;
+            return copy;
+        }
+
+        void insert(AsciiString value, int hash) {
+            int mask = values.length - 1;
+            int slot = hash & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            hashes[slot] = hash;
+            values[slot] = value;
+            size++;
+        }
+    }
+}
\ No newline at end of file
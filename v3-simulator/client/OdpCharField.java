@@ -0,0 +1,77 @@
+// src/main/java/com/odp/simulator/client/codec/OdpCharField.java
+package com.odp.simulator.client.codec;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reusable holder of one decoded char array field
+ *
+ * A message keeps one per field whose values differ from message to
+ * message, such as a ClOrdID, and decoding copies the field's bytes into it
+ * without allocating. It reads as a CharSequence over those bytes that
+ * changes when a pooled message is reused; call toString() to keep a value.
+ * Fields with a small set of values are better read with
+ * {@link OdpCharArrays#getInterned}.
+ */
+public final class OdpCharField implements CharSequence {
+
+    private final byte[] bytes;
+    private int length;
+
+    public OdpCharField(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    /**
+     * Copy the field stored at an absolute index, up to the first NUL byte
+     */
+    public void read(ByteBuf buffer, int index) {
+        length = OdpCharArrays.length(buffer, index, bytes.length);
+        buffer.getBytes(index, bytes, 0, length);
+    }
+
+    public void clear() {
+        length = 0;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " of length " + length);
+        }
+        return (char) (bytes[index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof OdpCharField other
+                && Arrays.equals(bytes, 0, length, other.bytes, 0, other.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash;
+    }
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.odp.simulator.client.handler;
 
 import com.odp.simulator.client.protocol.OdpMessage;
 import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
 import com.odp.simulator.client.session.OdpSession;
 import com.odp.simulator.client.session.OdpSessionManager;
 import com.odp.simulator.client.session.OdpSessionState;
@@ -18,6 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * Main handler for ODP client
  * 
  * Routes incoming messages to appropriate handlers based on message type.
+ * Messages arrive in sequence order, see {@link OdpInboundSequencingHandler}.
  * 
  * This handler is shared across connections and delegates to specific
  * message handlers registered in the handler map.
@@ -61,6 +63,15 @@ public class OdpClientHandler extends ChannelInboundHandlerAdapter {
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof OdpMessageView view) {
+            try {
+                routeView(view);
+            } finally {
+                view.release();
+            }
+            return;
+        }
+
         if (!(msg instanceof OdpMessage message)) {
             log.warn("Received unexpected message type: {}", msg.getClass().getSimpleName());
             return;
@@ -72,13 +83,39 @@ public class OdpClientHandler extends ChannelInboundHandlerAdapter {
 
         OdpSession session = sessionManager.getPrimarySession();
         session.updateLastReceivedTime();
-        session.incrementExpectedIncomingSeqNum();
 
         // Find and invoke the appropriate handler
+        OdpMessageHandler handler = handlers.get(messageType);
+        try {
+            if (handler != null) {
+                handler.handle(message);
+            } else {
+                log.warn("No handler registered for message type: {}", messageType);
+            }
+        } catch (Exception e) {
+            log.error("Error handling message type {}: {}", messageType, e.getMessage(), e);
+        } finally {
+            // Pooled messages go back to the pool, handlers must not keep them
+            message.release();
+        }
+    }
+
+    /**
+     * Route a flyweight message, only the header is read here
+     */
+    private void routeView(OdpMessageView view) {
+        OdpMessageType messageType = view.getMessageType();
+        if (log.isDebugEnabled()) {
+            log.debug("Received message: type={}, seqNum={}", messageType, view.getMsgSeqNum());
+        }
+
+        OdpSession session = sessionManager.getPrimarySession();
+        session.updateLastReceivedTime();
+
         OdpMessageHandler handler = handlers.get(messageType);
         if (handler != null) {
             try {
-                handler.handle(message);
+                handler.handleView(view);
             } catch (Exception e) {
                 log.error("Error handling message type {}: {}", messageType, e.getMessage(), e);
             }
@@ -33,7 +33,8 @@ import org.springframework.stereotype.Component;
  *    by the Order ID or Client Order ID in the message.
  * 
  * 5. Async Processing: Order responses are processed asynchronously.
- *    CompletableFuture or callbacks can be used to notify callers.
+ *    Requests return an OdpAckFuture; an OrderListener registered with
+ *    OdpOrderService is called back with a reused view of each updated order.
  */
 @Slf4j
 @Component
@@ -1,6 +1,10 @@
 // src/main/java/com/odp/simulator/client/config/OdpClientProperties.java
 package com.odp.simulator.client.config;
 
+import com.odp.simulator.client.codec.OdpDecodeMode;
+import com.odp.simulator.client.codec.OdpEncodeMode;
+import com.odp.simulator.client.service.OrderListenerDispatch;
+import com.odp.simulator.client.session.OdpThrottleMode;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -45,6 +49,36 @@ public class OdpClientProperties {
      */
     private TradingConfig trading = new TradingConfig();
 
+    /**
+     * Message codec configuration
+     */
+    private CodecConfig codec = new CodecConfig();
+
+    /**
+     * Outbound message journal configuration
+     */
+    private JournalConfig journal = new JournalConfig();
+
+    /**
+     * Persistent sequence number configuration
+     */
+    private SequenceStoreConfig sequenceStore = new SequenceStoreConfig();
+
+    /**
+     * Order entry configuration
+     */
+    private OrderConfig order = new OrderConfig();
+
+    /**
+     * Timeout wheel shared by all requests waiting on the gateway
+     */
+    private TimeoutWheelConfig timeoutWheel = new TimeoutWheelConfig();
+
+    /**
+     * Outbound rate limit from the gateway's throttle entitlement
+     */
+    private ThrottleConfig throttle = new ThrottleConfig();
+
     @Data
     public static class LookupConfig {
         private EndpointConfig primarySitePrimary;
@@ -59,6 +93,185 @@ public class OdpClientProperties {
     public static class TradingConfig {
         private int connectTimeoutMs = 30000;
         private int readTimeoutMs = 60000;
+
+        /**
+         * Capacity of the outbound sequencer ring, a power of two
+         */
+        private int outboundRingSize = 8192;
+
+        /**
+         * Messages held while waiting for a resend to fill a gap, a power of two
+         */
+        private int inboundReorderCapacity = 1024;
+
+        /**
+         * Time a requested resend has to arrive before it is requested again
+         */
+        private long inboundResendTimeoutMs = 5000;
+    }
+
+    @Data
+    public static class CodecConfig {
+        /**
+         * Decoding strategy for the trading connection
+         */
+        private OdpDecodeMode decodeMode = OdpDecodeMode.EAGER;
+
+        /**
+         * Thread on which outbound messages are encoded for the trading connection
+         */
+        private OdpEncodeMode encodeMode = OdpEncodeMode.EVENT_LOOP;
+
+        /**
+         * Optional binary message schema exported by the PDF field table reader,
+         * replaces the built-in schemas of the generated codecs
+         */
+        private String schemaFile;
+    }
+
+    @Data
+    public static class JournalConfig {
+        /**
+         * Journal outbound order and quote frames so gateway resend requests can be served
+         */
+        private boolean enabled = true;
+
+        /**
+         * Directory of the journal segment files, named after the Comp ID
+         */
+        private String directory = "journal";
+
+        /**
+         * Size of each memory-mapped journal segment, the last two segments are kept
+         */
+        private int capacityBytes = 256 * 1024 * 1024;
+    }
+
+    @Data
+    public static class SequenceStoreConfig {
+        /**
+         * Persist sequence numbers so logon after a restart resumes where the session stopped
+         */
+        private boolean enabled = true;
+
+        /**
+         * Directory of the sequence files, one file per Comp ID
+         */
+        private String directory = "journal";
+    }
+
+    @Data
+    public static class OrderConfig {
+        /**
+         * Submitting Broker ID sent on every order request
+         */
+        private String submittingBrokerId;
+
+        /**
+         * Broker Location ID sent on every order request
+         */
+        private String brokerLocationId;
+
+        /**
+         * Security Exchange sent on order requests, empty leaves it out
+         */
+        private String securityExchange;
+
+        /**
+         * Orders the order store holds before it grows (doubles)
+         */
+        private int storeCapacity = 65536;
+
+        /**
+         * Filled, cancelled and rejected orders kept for lookup, older ones are removed and their slots reused
+         */
+        private int retainedTerminalOrders = 65536;
+
+        /**
+         * Time the gateway has to accept or reject an order, amend or cancel
+         */
+        private long ackTimeoutMs = 5000;
+
+        /**
+         * Thread order listeners are called on
+         */
+        private OrderListenerDispatch listenerDispatch = OrderListenerDispatch.DECODE_THREAD;
+
+        /**
+         * Durable order event log and snapshots
+         */
+        private OrderEventLogConfig eventLog = new OrderEventLogConfig();
+    }
+
+    @Data
+    public static class OrderEventLogConfig {
+        /**
+         * Log order events so order state survives a restart
+         */
+        private boolean enabled = true;
+
+        /**
+         * Directory of the event log and its snapshot
+         */
+        private String directory = "journal";
+
+        /**
+         * Size of each of the two memory-mapped log segments, a snapshot is taken when one is full
+         */
+        private int capacityBytes = 64 * 1024 * 1024;
+
+        /**
+         * Events after which a snapshot is taken and the log restarts
+         */
+        private long snapshotIntervalEvents = 500_000;
+    }
+
+    @Data
+    public static class TimeoutWheelConfig {
+        /**
+         * Wheel resolution, timeouts fire up to one tick late
+         */
+        private long tickMs = 10;
+
+        /**
+         * Buckets per revolution, a power of two
+         */
+        private int wheelSize = 512;
+    }
+
+    @Data
+    public static class ThrottleConfig {
+        /**
+         * Hold order and quote messages to the entitled rate
+         */
+        private boolean enabled = true;
+
+        /**
+         * Queue or reject messages above the rate
+         */
+        private OdpThrottleMode mode = OdpThrottleMode.QUEUE;
+
+        /**
+         * Longest a queued message may wait, messages due later are rejected
+         */
+        private long maxQueueDelayMs = 1000;
+
+        /**
+         * Messages that may go back to back after an idle period, 1 paces evenly
+         */
+        private int burst = 1;
+
+        /**
+         * Send a Throttle Entitlement Request after logon
+         */
+        private boolean requestOnLogon = true;
+
+        /**
+         * Rate applied until the gateway sends an entitlement, 0 leaves messages unthrottled
+         */
+        private int initialMessages = 0;
+
+        private long initialIntervalMs = 1000;
     }
 
     @Data
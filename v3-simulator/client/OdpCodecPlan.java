@@ -0,0 +1,144 @@
+// src/main/java/com/odp/simulator/client/protocol/OdpCodecPlan.java
+package com.odp.simulator.client.protocol;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Precompiled encode/decode plan for one message shape
+ *
+ * A shape is a message type plus the set of present fields. The plan holds
+ * the body offset of every present field and the total body length, so an
+ * encoder can size its buffer exactly and a decoder can jump straight to
+ * any field without walking the presence map.
+ *
+ * Plans are immutable and shared, obtain them from {@link OdpCodecPlanCache}.
+ */
+public final class OdpCodecPlan {
+
+    /**
+     * Offset returned for fields that are not present
+     */
+    public static final int ABSENT = -1;
+
+    @Getter
+    private final OdpMessageSchema schema;
+
+    @Getter
+    private final FieldPresenceMap presenceMap;
+
+    // Indexed by bit position, ABSENT where the field is not present
+    private final int[] offsets;
+
+    // Present bit positions in wire order
+    private final int[] presentFields;
+
+    // Offset, type and size of the present fields in wire order,
+    // so generic codecs walk flat arrays instead of the schema
+    private final int[] presentOffsets;
+    private final OdpFieldType[] presentTypes;
+    private final int[] presentSizes;
+
+    @Getter
+    private final int bodyLength;
+
+    OdpCodecPlan(OdpMessageSchema schema, FieldPresenceMap presenceMap) {
+        this.schema = schema;
+        this.presenceMap = presenceMap;
+        this.offsets = new int[schema.getFieldSlots()];
+        this.presentFields = new int[presenceMap.fieldCount()];
+        this.presentOffsets = new int[presentFields.length];
+        this.presentTypes = new OdpFieldType[presentFields.length];
+        this.presentSizes = new int[presentFields.length];
+
+        Arrays.fill(offsets, ABSENT);
+        int offset = 0;
+        int index = 0;
+        for (int bp = presenceMap.nextPresentField(0); bp >= 0; bp = presenceMap.nextPresentField(bp + 1)) {
+            OdpFieldDefinition field = schema.getField(bp);
+            if (field == null) {
+                throw new IllegalArgumentException("Bit position " + bp + " is not defined for "
+                        + schema.getMessageType());
+            }
+            offsets[bp] = offset;
+            presentFields[index] = bp;
+            presentOffsets[index] = offset;
+            presentTypes[index] = field.getType();
+            presentSizes[index] = field.getSize();
+            index++;
+            offset += field.getSize();
+        }
+        this.bodyLength = offset;
+    }
+
+    public OdpMessageType getMessageType() {
+        return schema.getMessageType();
+    }
+
+    /**
+     * Body offset of a field, or {@link #ABSENT} if it is not present
+     */
+    public int offsetOf(int bitPosition) {
+        if (bitPosition < 0 || bitPosition >= offsets.length) {
+            return ABSENT;
+        }
+        return offsets[bitPosition];
+    }
+
+    /**
+     * Check if a field is present in this shape
+     */
+    public boolean isPresent(int bitPosition) {
+        return offsetOf(bitPosition) != ABSENT;
+    }
+
+    /**
+     * Number of present fields
+     */
+    public int getFieldCount() {
+        return presentFields.length;
+    }
+
+    /**
+     * Bit position of the n-th present field in wire order
+     */
+    public int getPresentField(int index) {
+        return presentFields[index];
+    }
+
+    /**
+     * Body offset of the n-th present field in wire order
+     */
+    public int getPresentOffset(int index) {
+        return presentOffsets[index];
+    }
+
+    /**
+     * Wire type of the n-th present field in wire order
+     */
+    public OdpFieldType getPresentType(int index) {
+        return presentTypes[index];
+    }
+
+    /**
+     * Size in bytes of the n-th present field in wire order
+     */
+    public int getPresentSize(int index) {
+        return presentSizes[index];
+    }
+
+    /**
+     * Check if this plan describes the given presence bits
+     */
+    boolean matches(long high, int low) {
+        return presenceMap.getHigh() == high && presenceMap.getLow() == low;
+    }
+
+    @Override
+    public String toString() {
+        return "OdpCodecPlan(type=" + getMessageType() + ", presenceMap=" + presenceMap
+                + ", fields=" + presentFields.length + ", bodyLength=" + bodyLength + ")";
+    }
+}
\ No newline at end of file
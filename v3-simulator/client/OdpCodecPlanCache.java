@@ -0,0 +1,98 @@
+// src/main/java/com/odp/simulator/client/protocol/OdpCodecPlanCache.java
+package com.odp.simulator.client.protocol;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache of {@link OdpCodecPlan}s keyed by (message type, presence map)
+ *
+ * Each message type has only a handful of shapes in practice, so plans are
+ * kept in a small copy-on-write array per type and found by a linear scan
+ * over two primitive compares. Lookups never lock and never allocate once
+ * the shape has been seen.
+ */
+@Slf4j
+public final class OdpCodecPlanCache {
+
+    /**
+     * Upper bound of cached shapes per type, protects against hostile or
+     * corrupt presence maps filling the cache
+     */
+    private static final int MAX_SHAPES_PER_TYPE = 64;
+
+    private static final AtomicReferenceArray<OdpCodecPlan[]> PLANS =
+            new AtomicReferenceArray<>(OdpMessageType.values().length);
+
+    private OdpCodecPlanCache() {
+        // Utility class
+    }
+
+    /**
+     * Get the plan for a message type and presence map
+     * @throws IllegalArgumentException if the type has no schema or the map
+     *         contains a field the schema does not define
+     */
+    public static OdpCodecPlan getPlan(OdpMessageType messageType, FieldPresenceMap presenceMap) {
+        return getPlan(messageType, presenceMap.getHigh(), presenceMap.getLow());
+    }
+
+    /**
+     * Get the plan for a message type and raw presence bits
+     */
+    public static OdpCodecPlan getPlan(OdpMessageType messageType, long high, int low) {
+        OdpCodecPlan[] plans = PLANS.get(messageType.ordinal());
+        if (plans != null) {
+            for (OdpCodecPlan plan : plans) {
+                if (plan.matches(high, low)) {
+                    return plan;
+                }
+            }
+        }
+        return compile(messageType, high, low);
+    }
+
+    /**
+     * Drop all cached plans of a type, used when its schema is replaced
+     */
+    public static void invalidate(OdpMessageType messageType) {
+        PLANS.set(messageType.ordinal(), null);
+    }
+
+    private static OdpCodecPlan compile(OdpMessageType messageType, long high, int low) {
+        OdpMessageSchema schema = OdpMessageSchemas.getSchema(messageType);
+        if (schema == null) {
+            throw new IllegalArgumentException("No schema registered for message type: " + messageType);
+        }
+
+        OdpCodecPlan plan = new OdpCodecPlan(schema, FieldPresenceMap.ofWords(high, low));
+        int index = messageType.ordinal();
+
+        while (true) {
+            OdpCodecPlan[] current = PLANS.get(index);
+            if (current != null) {
+                for (OdpCodecPlan existing : current) {
+                    if (existing.matches(high, low)) {
+                        return existing;
+                    }
+                }
+                if (current.length >= MAX_SHAPES_PER_TYPE) {
+                    log.warn("Plan cache full for {}, not caching shape {}", messageType, plan.getPresenceMap());
+                    return plan;
+                }
+            }
+
+            OdpCodecPlan[] updated = current == null
+                    ? new OdpCodecPlan[1]
+                    : Arrays.copyOf(current, current.length + 1);
+            updated[updated.length - 1] = plan;
+            if (PLANS.compareAndSet(index, current, updated)) {
+                log.debug("Compiled {}", plan);
+                return plan;
+            }
+        }
+    }
+}
\ No newline at end of file
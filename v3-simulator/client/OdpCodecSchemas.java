@@ -0,0 +1,42 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/OdpCodecSchemas.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+
+import java.util.List;
+
+/**
+ * Schemas of all generated codecs
+ */
+public final class OdpCodecSchemas {
+
+    public static final List<OdpMessageSchema> ALL = List.of(
+            HeartbeatCodec.SCHEMA,
+            TestRequestCodec.SCHEMA,
+            ResendRequestCodec.SCHEMA,
+            RejectCodec.SCHEMA,
+            SequenceResetCodec.SCHEMA,
+            LogonRequestCodec.SCHEMA,
+            LogonResponseCodec.SCHEMA,
+            LogoutCodec.SCHEMA,
+            BusinessMessageRejectCodec.SCHEMA,
+            LookupRequestCodec.SCHEMA,
+            LookupResponseCodec.SCHEMA,
+            ThrottleEntitlementRequestCodec.SCHEMA,
+            ThrottleEntitlementResponseCodec.SCHEMA,
+            NewOrderSingleCodec.SCHEMA,
+            OrderAmendRequestCodec.SCHEMA,
+            OrderCancelRequestCodec.SCHEMA,
+            OrderRejectedCodec.SCHEMA,
+            OrderAmendRejectedCodec.SCHEMA,
+            OrderCancelRejectedCodec.SCHEMA,
+            OrderAcceptedCodec.SCHEMA,
+            MassQuoteCodec.SCHEMA,
+            SingleQuoteCodec.SCHEMA,
+            QuoteRequestCodec.SCHEMA);
+
+    private OdpCodecSchemas() {
+        // Generated codec
+    }
+}
\ No newline at end of file
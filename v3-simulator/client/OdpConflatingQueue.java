@@ -0,0 +1,368 @@
+// src/main/java/com/odp/simulator/client/session/OdpConflatingQueue.java
+package com.odp.simulator.client.session;
+
+import com.odp.simulator.client.codec.OdpEncodedFrame;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.NewOrderSingleCodec;
+import com.odp.simulator.client.protocol.codecs.OrderAmendRequestCodec;
+import com.odp.simulator.client.protocol.codecs.OrderCancelRequestCodec;
+import com.odp.simulator.client.protocol.messages.NewOrderSingle;
+import com.odp.simulator.client.protocol.messages.OrderAmendRequest;
+import com.odp.simulator.client.protocol.messages.OrderCancelRequest;
+import io.netty.buffer.ByteBuf;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+
+/**
+ * FIFO of throttled messages that conflates amends of the same order
+ *
+ * An Order Amend Request queued while an earlier, unsent amend with the
+ * same Orig ClOrdID is still waiting replaces that amend in place: it takes
+ * over its position and the older amend is dropped, its send future failing
+ * with {@link SupersededException}. Only the latest price and quantity reach
+ * the gateway and no throttle budget is spent on stale amends.
+ *
+ * The sequencer keeps one queue per {@link OdpOutboundLane}. A queued New
+ * Order Single anchors its order: {@link #holdsOrder} tells the sequencer
+ * that an amend or cancel of it must queue behind it rather than overtake
+ * it from a higher lane, and requests queued that way anchor the order too.
+ *
+ * Entries live in parallel arrays forming a ring that doubles when full.
+ * Orders are found through an open-addressing index from a hash of the
+ * ClOrdID an entry refers to to its queue position, verified against the ID
+ * bytes copied with the entry, so a lookup allocates nothing. Messages
+ * encoded on the caller's thread are read from their frame.
+ *
+ * Not thread-safe, owned by the sequencer's event loop.
+ */
+public final class OdpConflatingQueue {
+
+    // Entry kinds, a bit set
+    private static final byte ANCHOR = 1;   // later requests for the order queue behind it
+    private static final byte AMEND = 2;    // replaced by a later amend of the order
+
+    private static final int ID_LENGTH = OrderAmendRequestCodec.ORIG_CL_ORD_ID_LENGTH;
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    // Ring of entries, position p is at index p & mask
+    private Object[] messages;
+    private OdpSendFuture[] futures;
+    private long[] keys;               // 0 for entries that are not indexed
+    private byte[] kinds;
+    private byte[] ids;                // ID_LENGTH bytes per entry
+    private int mask;
+    private long head;
+    private long tail;
+
+    // Open-addressing multimap from key to position, 0 keys are empty,
+    // twice the ring's size so it is never more than half full
+    private long[] indexKeys;
+    private long[] indexPositions;
+    private int indexMask;
+
+    private final byte[] probe = new byte[ID_LENGTH];
+
+    public OdpConflatingQueue(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 8) * 2 - 1);
+        this.messages = new Object[capacity];
+        this.futures = new OdpSendFuture[capacity];
+        this.keys = new long[capacity];
+        this.kinds = new byte[capacity];
+        this.ids = new byte[capacity * ID_LENGTH];
+        this.mask = capacity - 1;
+        this.indexKeys = new long[capacity * 2];
+        this.indexPositions = new long[capacity * 2];
+        this.indexMask = capacity * 2 - 1;
+    }
+
+    /**
+     * Append a message, or let an amend replace a queued amend of the same order
+     * @return Whether a queued amend was superseded
+     */
+    public boolean add(Object message, OdpSendFuture future) {
+        if (tail - head == messages.length) {
+            grow();
+        }
+        int index = (int) tail & mask;
+        int offset = index * ID_LENGTH;
+        OdpMessageType messageType = messageType(message);
+        long key = copyId(message, messageType, ids, offset);
+        byte kind = 0;
+        if (key != 0) {
+            if (messageType == OdpMessageType.NEW_ORDER_SINGLE) {
+                kind = ANCHOR;
+            } else {
+                if (messageType == OdpMessageType.ORDER_AMEND_REQUEST) {
+                    long position = find(key, ids, offset, AMEND);
+                    if (position >= 0) {
+                        int queued = (int) position & mask;
+                        OdpOutboundSequencer.discard(messages[queued]);
+                        futures[queued].tryFailure(new SupersededException());
+                        messages[queued] = message;
+                        futures[queued] = future;
+                        return true;
+                    }
+                    kind = AMEND;
+                }
+                if (find(key, ids, offset, ANCHOR) >= 0) {
+                    kind |= ANCHOR;
+                }
+            }
+            if (kind != 0) {
+                indexPut(key, tail);
+            }
+        }
+        messages[index] = message;
+        futures[index] = future;
+        keys[index] = kind != 0 ? key : 0;
+        kinds[index] = kind;
+        tail++;
+        return false;
+    }
+
+    /**
+     * Whether an amend or cancel refers to an order whose New Order Single,
+     * or an earlier request queued behind it, is still in this queue
+     */
+    public boolean holdsOrder(Object request) {
+        OdpMessageType messageType = messageType(request);
+        if (messageType != OdpMessageType.ORDER_AMEND_REQUEST
+                && messageType != OdpMessageType.ORDER_CANCEL_REQUEST) {
+            return false;
+        }
+        long key = copyId(request, messageType, probe, 0);
+        return key != 0 && find(key, probe, 0, ANCHOR) >= 0;
+    }
+
+    public boolean isEmpty() {
+        return head == tail;
+    }
+
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    public Object headMessage() {
+        return messages[(int) head & mask];
+    }
+
+    public OdpSendFuture headFuture() {
+        return futures[(int) head & mask];
+    }
+
+    /**
+     * Drop the head entry, once it has been sent or failed
+     */
+    public void removeHead() {
+        int index = (int) head & mask;
+        if (keys[index] != 0) {
+            indexRemove(keys[index], head);
+        }
+        messages[index] = null;
+        futures[index] = null;
+        head++;
+    }
+
+    /**
+     * Type of an outbound message, or null for a plain frame buffer
+     */
+    static OdpMessageType messageType(Object message) {
+        if (message instanceof OdpEncodedFrame encoded) {
+            return encoded.getMessageType();
+        }
+        if (message instanceof OdpMessage odpMessage) {
+            return odpMessage.getMessageType();
+        }
+        return null;
+    }
+
+    /**
+     * Copy the ClOrdID a message refers to: its own for a New Order Single,
+     * the Orig ClOrdID for an amend or cancel
+     * @return Hash of the ID, or 0 if the message carries none
+     */
+    private static long copyId(Object message, OdpMessageType messageType, byte[] to, int offset) {
+        if (messageType == null) {
+            return 0;
+        }
+        if (message instanceof OdpEncodedFrame encoded) {
+            ByteBuf frame = encoded.content();
+            int start = frame.readerIndex();
+            int presenceIndex = start + OdpDataType.FIELDS_PRESENCE_MAP_OFFSET;
+            OdpCodecPlan plan = OdpCodecPlanCache.getPlan(messageType,
+                    frame.getLong(presenceIndex), frame.getInt(presenceIndex + 8));
+            int bodyIndex = start + OdpDataType.BODY_OFFSET;
+            int idIndex;
+            switch (messageType) {
+                case NEW_ORDER_SINGLE -> {
+                    if (!NewOrderSingleCodec.hasClOrdId(plan)) {
+                        return 0;
+                    }
+                    idIndex = NewOrderSingleCodec.getClOrdIdIndex(bodyIndex, plan);
+                }
+                case ORDER_AMEND_REQUEST -> {
+                    if (!OrderAmendRequestCodec.hasOrigClOrdId(plan)) {
+                        return 0;
+                    }
+                    idIndex = OrderAmendRequestCodec.getOrigClOrdIdIndex(bodyIndex, plan);
+                }
+                case ORDER_CANCEL_REQUEST -> {
+                    if (!OrderCancelRequestCodec.hasOrigClOrdId(plan)) {
+                        return 0;
+                    }
+                    idIndex = OrderCancelRequestCodec.getOrigClOrdIdIndex(bodyIndex, plan);
+                }
+                default -> {
+                    return 0;
+                }
+            }
+            frame.getBytes(idIndex, to, offset, ID_LENGTH);
+        } else {
+            CharSequence id;
+            if (message instanceof NewOrderSingle order) {
+                id = order.getClOrdId();
+            } else if (message instanceof OrderAmendRequest amend) {
+                id = amend.getOrigClOrdId();
+            } else if (message instanceof OrderCancelRequest cancel) {
+                id = cancel.getOrigClOrdId();
+            } else {
+                return 0;
+            }
+            if (id == null || id.length() == 0) {
+                return 0;
+            }
+            int length = Math.min(id.length(), ID_LENGTH);
+            for (int i = 0; i < length; i++) {
+                to[offset + i] = (byte) id.charAt(i);
+            }
+            Arrays.fill(to, offset + length, offset + ID_LENGTH, (byte) 0);
+        }
+        // FNV-1a up to the first NUL, never 0 (the empty key)
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < ID_LENGTH && to[offset + i] != 0; i++) {
+            hash = (hash ^ (to[offset + i] & 0xFF)) * FNV_PRIME;
+        }
+        return hash != 0 ? hash : 1;
+    }
+
+    /**
+     * Position of a queued entry of the kind with the given ID, or -1
+     */
+    private long find(long key, byte[] id, int offset, byte kind) {
+        for (int i = home(key); indexKeys[i] != 0; i = (i + 1) & indexMask) {
+            if (indexKeys[i] == key) {
+                int index = (int) indexPositions[i] & mask;
+                if ((kinds[index] & kind) != 0
+                        && Arrays.equals(ids, index * ID_LENGTH, (index + 1) * ID_LENGTH,
+                                id, offset, offset + ID_LENGTH)) {
+                    return indexPositions[i];
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int home(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        return (int) key & indexMask;
+    }
+
+    private void indexPut(long key, long position) {
+        int i = home(key);
+        while (indexKeys[i] != 0) {
+            i = (i + 1) & indexMask;
+        }
+        indexKeys[i] = key;
+        indexPositions[i] = position;
+    }
+
+    private void indexRemove(long key, long position) {
+        int hole = home(key);
+        while (indexKeys[hole] != key || indexPositions[hole] != position) {
+            if (indexKeys[hole] == 0) {
+                return;
+            }
+            hole = (hole + 1) & indexMask;
+        }
+        // Backward-shift deletion
+        int i = hole;
+        while (true) {
+            i = (i + 1) & indexMask;
+            long next = indexKeys[i];
+            if (next == 0) {
+                break;
+            }
+            int home = home(next);
+            boolean stays = hole <= i ? hole < home && home <= i : hole < home || home <= i;
+            if (!stays) {
+                indexKeys[hole] = next;
+                indexPositions[hole] = indexPositions[i];
+                hole = i;
+            }
+        }
+        indexKeys[hole] = 0;
+    }
+
+    /**
+     * Double the ring; positions stay valid, the index is rebuilt at the new size
+     */
+    private void grow() {
+        int capacity = messages.length * 2;
+        int newMask = capacity - 1;
+        Object[] newMessages = new Object[capacity];
+        OdpSendFuture[] newFutures = new OdpSendFuture[capacity];
+        long[] newKeys = new long[capacity];
+        byte[] newKinds = new byte[capacity];
+        byte[] newIds = new byte[capacity * ID_LENGTH];
+        for (long position = head; position < tail; position++) {
+            int from = (int) position & mask;
+            int to = (int) position & newMask;
+            newMessages[to] = messages[from];
+            newFutures[to] = futures[from];
+            newKeys[to] = keys[from];
+            newKinds[to] = kinds[from];
+            System.arraycopy(ids, from * ID_LENGTH, newIds, to * ID_LENGTH, ID_LENGTH);
+        }
+        messages = newMessages;
+        futures = newFutures;
+        keys = newKeys;
+        kinds = newKinds;
+        ids = newIds;
+        mask = newMask;
+
+        indexKeys = new long[capacity * 2];
+        indexPositions = new long[capacity * 2];
+        indexMask = capacity * 2 - 1;
+        for (long position = head; position < tail; position++) {
+            long key = keys[(int) position & mask];
+            if (key != 0) {
+                indexPut(key, position);
+            }
+        }
+    }
+
+    /**
+     * The amend was replaced by a newer amend of the same order before it was sent
+     */
+    public static final class SupersededException extends CancellationException {
+
+        private static final long serialVersionUID = 1L;
+
+        SupersededException() {
+            super("Superseded by a newer amend of the same order");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+// src/test/java/com/odp/simulator/client/session/OdpConflatingQueueTest.java
+package com.odp.simulator.client.session;
+
+import com.odp.simulator.client.protocol.messages.NewOrderSingle;
+import com.odp.simulator.client.protocol.messages.OrderAmendRequest;
+import com.odp.simulator.client.protocol.messages.OrderCancelRequest;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OdpConflatingQueueTest {
+
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+
+    @AfterEach
+    void close() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void amendReplacesQueuedAmendOfSameOrder() {
+        OdpConflatingQueue queue = new OdpConflatingQueue(8);
+        OrderAmendRequest first = amend("A1", "O1");
+        OdpSendFuture firstFuture = future();
+        OrderAmendRequest other = amend("B1", "O2");
+        OrderAmendRequest second = amend("A2", "O1");
+        OdpSendFuture secondFuture = future();
+
+        assertFalse(queue.add(first, firstFuture));
+        assertFalse(queue.add(other, future()));
+        assertTrue(queue.add(second, secondFuture));
+
+        // The newer amend takes the older one's place, ahead of the other order's amend
+        assertEquals(2, queue.size());
+        assertSame(second, queue.headMessage());
+        assertSame(secondFuture, queue.headFuture());
+        assertInstanceOf(OdpConflatingQueue.SupersededException.class, firstFuture.cause());
+        queue.removeHead();
+        assertSame(other, queue.headMessage());
+
+        // Once sent, an amend is no longer replaced
+        assertFalse(queue.add(amend("A3", "O1"), future()));
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void newOrdersAndCancelsAreNeverConflated() {
+        OdpConflatingQueue queue = new OdpConflatingQueue(8);
+        assertFalse(queue.add(newOrder("O1"), future()));
+        assertFalse(queue.add(newOrder("O1"), future()));
+        assertFalse(queue.add(cancel("C1", "O1"), future()));
+        assertFalse(queue.add(cancel("C2", "O1"), future()));
+        assertEquals(4, queue.size());
+    }
+
+    @Test
+    void cancelWaitsBehindQueuedOrder() {
+        OdpConflatingQueue queue = new OdpConflatingQueue(8);
+        OrderCancelRequest cancel = cancel("C1", "O1");
+        assertFalse(queue.holdsOrder(cancel));
+
+        // A cancel may overtake amends and new orders, but not the order it cancels
+        queue.add(newOrder("O1"), future());
+        assertTrue(queue.holdsOrder(cancel));
+        assertFalse(queue.holdsOrder(cancel("C2", "O2")));
+
+        // An amend queued behind the new order holds the order after the new order was sent
+        queue.add(amend("A1", "O1"), future());
+        queue.removeHead();
+        assertTrue(queue.holdsOrder(cancel));
+        queue.removeHead();
+        assertFalse(queue.holdsOrder(cancel));
+
+        // An amend of an order that is not queued holds nothing
+        queue.add(amend("A2", "O1"), future());
+        assertFalse(queue.holdsOrder(cancel));
+    }
+
+    @Test
+    void conflatesAcrossGrowth() {
+        OdpConflatingQueue queue = new OdpConflatingQueue(8);
+        int orders = 100;
+        OdpSendFuture[] firstRound = new OdpSendFuture[orders];
+        for (int i = 0; i < orders; i++) {
+            firstRound[i] = future();
+            queue.add(amend("A" + i, "O" + i), firstRound[i]);
+        }
+        for (int i = 0; i < orders; i++) {
+            assertTrue(queue.add(amend("B" + i, "O" + i), future()));
+            assertInstanceOf(OdpConflatingQueue.SupersededException.class, firstRound[i].cause());
+        }
+        assertEquals(orders, queue.size());
+        for (int i = 0; i < orders; i++) {
+            assertEquals("B" + i, ((OrderAmendRequest) queue.headMessage()).getClOrdId().toString());
+            queue.removeHead();
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    private OdpSendFuture future() {
+        return new OdpSendFuture(channel);
+    }
+
+    private static NewOrderSingle newOrder(String clOrdId) {
+        NewOrderSingle order = new NewOrderSingle();
+        order.setClOrdId(clOrdId);
+        return order;
+    }
+
+    private static OrderAmendRequest amend(String clOrdId, String origClOrdId) {
+        OrderAmendRequest amend = new OrderAmendRequest();
+        amend.setClOrdId(clOrdId);
+        amend.setOrigClOrdId(origClOrdId);
+        return amend;
+    }
+
+    private static OrderCancelRequest cancel(String clOrdId, String origClOrdId) {
+        OrderCancelRequest cancel = new OrderCancelRequest();
+        cancel.setClOrdId(clOrdId);
+        cancel.setOrigClOrdId(origClOrdId);
+        return cancel;
+    }
+}
\ No newline at end of file
@@ -38,4 +38,13 @@ public final class OdpDataType {
     // Total header size
     public static final int HEADER_SIZE = LENGTH_SIZE + MESSAGE_ID_SIZE + MSG_SEQ_NUM_SIZE 
             + COMP_ID_SIZE + MESSAGE_FLAGS_SIZE + FIELDS_PRESENCE_MAP_SIZE;
+
+    // Header field offsets (relative to the start of the frame)
+    public static final int LENGTH_OFFSET = 0;
+    public static final int MESSAGE_ID_OFFSET = LENGTH_OFFSET + LENGTH_SIZE;
+    public static final int MSG_SEQ_NUM_OFFSET = MESSAGE_ID_OFFSET + MESSAGE_ID_SIZE;
+    public static final int COMP_ID_OFFSET = MSG_SEQ_NUM_OFFSET + MSG_SEQ_NUM_SIZE;
+    public static final int MESSAGE_FLAGS_OFFSET = COMP_ID_OFFSET + COMP_ID_SIZE;
+    public static final int FIELDS_PRESENCE_MAP_OFFSET = MESSAGE_FLAGS_OFFSET + MESSAGE_FLAGS_SIZE;
+    public static final int BODY_OFFSET = FIELDS_PRESENCE_MAP_OFFSET + FIELDS_PRESENCE_MAP_SIZE;
 }
\ No newline at end of file
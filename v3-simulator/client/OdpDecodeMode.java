@@ -0,0 +1,37 @@
+// src/main/java/com/odp/simulator/client/codec/OdpDecodeMode.java
+package com.odp.simulator.client.codec;
+
+/**
+ * Decoding strategy used by {@link OdpMessageDecoder}
+ */
+public enum OdpDecodeMode {
+
+    /**
+     * Decode every frame into a header and message object.
+     * All body fields are materialised before the message leaves the decoder.
+     */
+    EAGER,
+
+    /**
+     * Emit a reusable {@link com.odp.simulator.client.protocol.OdpMessageView}
+     * over a retained slice of the frame. Header and body fields are read
+     * on demand at fixed offsets, nothing is allocated per message.
+     */
+    FLYWEIGHT,
+
+    /**
+     * Decode like {@link #EAGER} into message and header objects taken from
+     * per-thread pools. Consumers must call
+     * {@link com.odp.simulator.client.protocol.OdpMessage#release()} when done.
+     * Session setup messages (lookup, logon) are never pooled.
+     */
+    POOLED,
+
+    /**
+     * Parse only the header and attach a retained slice of the body to the
+     * message, body fields are decoded on first access. Consumers must call
+     * {@link com.odp.simulator.client.protocol.OdpMessage#release()} when done.
+     * Session setup messages (lookup, logon) are decoded eagerly.
+     */
+    LAZY
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+// src/main/java/com/odp/simulator/client/codec/OdpEncodeMode.java
+package com.odp.simulator.client.codec;
+
+/**
+ * Thread on which outbound messages are encoded
+ */
+public enum OdpEncodeMode {
+
+    /**
+     * Pass message objects to the channel, {@link OdpMessageEncoder} encodes
+     * them on the event loop.
+     */
+    EVENT_LOOP,
+
+    /**
+     * Encode on the sending thread into a pooled buffer and hand the finished
+     * {@link OdpEncodedFrame} to the channel. The sequence number is stamped
+     * on the event loop, which only does sequencing and I/O.
+     */
+    CALLER_THREAD
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+// src/main/java/com/odp/simulator/client/codec/OdpEncodedFrame.java
+package com.odp.simulator.client.codec;
+
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+
+/**
+ * A frame encoded outside the event loop, waiting for its sequence number
+ *
+ * The frame is complete except for MsgSeqNum, which is stamped at its fixed
+ * header offset on the event loop just before the bytes are written, by the
+ * session's outbound sequencer or, for frames written straight to the
+ * channel, by the sequencing handler. Stamping in channel order keeps sequence numbers
+ * gap-free and ascending on the wire even when several threads send.
+ *
+ * Owns one reference to the frame buffer.
+ */
+public final class OdpEncodedFrame extends DefaultByteBufHolder {
+
+    private final OdpMessageType messageType;
+
+    public OdpEncodedFrame(ByteBuf frame, OdpMessageType messageType) {
+        super(frame);
+        this.messageType = messageType;
+    }
+
+    public OdpMessageType getMessageType() {
+        return messageType;
+    }
+
+    /**
+     * Write the sequence number into the frame header
+     */
+    public void stampMsgSeqNum(long msgSeqNum) {
+        ByteBuf frame = content();
+        OdpFrameEncoder.stampMsgSeqNum(frame, frame.readerIndex(), msgSeqNum);
+    }
+
+    @Override
+    public OdpEncodedFrame replace(ByteBuf content) {
+        return new OdpEncodedFrame(content, messageType);
+    }
+
+    @Override
+    public String toString() {
+        return "OdpEncodedFrame(type=" + messageType + ", length=" + content().readableBytes() + ")";
+    }
+}
\ No newline at end of file
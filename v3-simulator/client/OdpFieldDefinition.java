@@ -0,0 +1,47 @@
+// src/main/java/com/odp/simulator/client/protocol/OdpFieldDefinition.java
+package com.odp.simulator.client.protocol;
+
+import lombok.Getter;
+
+/**
+ * Definition of one body field: its bit position in the presence map,
+ * its wire type and its size in bytes
+ */
+@Getter
+public final class OdpFieldDefinition {
+
+    private final int bitPosition;
+    private final String name;
+    private final OdpFieldType type;
+    private final int size;
+
+    private OdpFieldDefinition(int bitPosition, String name, OdpFieldType type, int size) {
+        this.bitPosition = bitPosition;
+        this.name = name;
+        this.type = type;
+        this.size = size;
+    }
+
+    /**
+     * Define a fixed-size numeric field
+     */
+    public static OdpFieldDefinition field(int bitPosition, String name, OdpFieldType type) {
+        if (!type.isFixedSize()) {
+            throw new IllegalArgumentException("Field " + name + " of type " + type + " needs a length");
+        }
+        return new OdpFieldDefinition(bitPosition, name, type, type.getFixedSize());
+    }
+
+    /**
+     * Define a fixed-length char array field
+     */
+    public static OdpFieldDefinition charArray(int bitPosition, String name, int length) {
+        return new OdpFieldDefinition(bitPosition, name, OdpFieldType.CHAR_ARRAY, length);
+    }
+
+    @Override
+    public String toString() {
+        return "BP " + bitPosition + ": " + name + " (" + type
+                + (type == OdpFieldType.CHAR_ARRAY ? " " + size : "") + ")";
+    }
+}
\ No newline at end of file
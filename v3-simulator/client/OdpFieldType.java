@@ -0,0 +1,37 @@
+// src/main/java/com/odp/simulator/client/protocol/OdpFieldType.java
+package com.odp.simulator.client.protocol;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Wire types of ODP body fields as defined in Section 10 Data Dictionary
+ * Note: Multi-byte integers use Little Endian encoding
+ *
+ * The declaration order is the type code used by the binary schema file,
+ * see {@link OdpSchemaLoader}. Append new types at the end only.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OdpFieldType {
+
+    UINT8(1),
+    UINT16(2),
+    UINT32(4),
+    UINT64(8),
+    INT64(8),
+
+    /**
+     * Fixed-length char array, the length is given by the field definition
+     */
+    CHAR_ARRAY(-1);
+
+    /**
+     * Size in bytes, or -1 if the size depends on the field definition
+     */
+    private final int fixedSize;
+
+    public boolean isFixedSize() {
+        return fixedSize > 0;
+    }
+}
\ No newline at end of file
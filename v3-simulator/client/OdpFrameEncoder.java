@@ -0,0 +1,159 @@
+// src/main/java/com/odp/simulator/client/codec/OdpFrameEncoder.java
+package com.odp.simulator.client.codec;
+
+import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageHeader;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes complete ODP frames (header + body) into buffers of exact size
+ *
+ * The session-constant header bytes (Comp ID, flags) are copied from a cached
+ * template and only length, message ID, sequence number and presence map are
+ * patched in.
+ *
+ * An instance is not thread-safe. {@link OdpMessageEncoder} owns one per
+ * channel, and callers that encode on their own thread keep one per thread.
+ */
+@Slf4j
+public final class OdpFrameEncoder {
+
+    // Header bytes that stay the same for every message of the session (Comp ID, flags)
+    private final byte[] headerTemplate = new byte[OdpDataType.HEADER_SIZE];
+    private String templateCompId;
+    private byte templateFlags;
+    private boolean templateValid;
+
+    // Body length computed while sizing the buffer, reused by encode()
+    private OdpMessage sizedMessage;
+    private int sizedBodyLength;
+
+    /**
+     * Encoded size of the message including the header
+     */
+    public int frameLength(OdpMessage msg) {
+        return OdpDataType.HEADER_SIZE + bodyLength(msg);
+    }
+
+    /**
+     * Encode the message into a new direct buffer of exactly its frame length
+     */
+    public ByteBuf encode(ByteBufAllocator alloc, OdpMessage msg) {
+        int frameLength = frameLength(msg);
+        ByteBuf out = alloc.directBuffer(frameLength, frameLength);
+        try {
+            encode(msg, out);
+            return out;
+        } catch (RuntimeException e) {
+            out.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Encode the message at the buffer's writer index
+     */
+    public void encode(OdpMessage msg, ByteBuf out) {
+        OdpMessageHeader header = msg.getHeader();
+        FieldPresenceMap presenceMap = msg.getFieldsPresenceMap();
+        int bodyLength = bodyLength(msg);
+        int totalLength = OdpDataType.HEADER_SIZE + bodyLength;
+        sizedMessage = null;
+
+        // Update header with calculated length
+        header.setLength(totalLength);
+        header.setFieldsPresenceMap(presenceMap);
+
+        // Encode header
+        encodeHeader(out, header, presenceMap);
+
+        // Encode body
+        int bodyStartIndex = out.writerIndex();
+        msg.encodeBody(out, presenceMap);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Encoded message: type={}, seqNum={}, totalLength={}, actualBodyLength={}",
+                    msg.getMessageType(), header.getMsgSeqNum(), totalLength,
+                    out.writerIndex() - bodyStartIndex);
+        }
+
+        // Log the encoded bytes for debugging
+        if (log.isTraceEnabled()) {
+            log.trace("Encoded bytes: {}", ByteBufUtil.hexDump(out));
+        }
+    }
+
+    /**
+     * Overwrite the sequence number of an encoded frame starting at frameIndex
+     */
+    public static void stampMsgSeqNum(ByteBuf frame, int frameIndex, long msgSeqNum) {
+        frame.setLongLE(frameIndex + OdpDataType.MSG_SEQ_NUM_OFFSET, msgSeqNum);
+    }
+
+    private int bodyLength(OdpMessage msg) {
+        if (msg != sizedMessage) {
+            sizedBodyLength = msg.calculateBodyLength();
+            sizedMessage = msg;
+        }
+        return sizedBodyLength;
+    }
+
+    private void encodeHeader(ByteBuf buffer, OdpMessageHeader header, FieldPresenceMap presenceMap) {
+        int index = buffer.writerIndex();
+        buffer.ensureWritable(OdpDataType.HEADER_SIZE);
+
+        // Comp ID (Char Array 11) and Message Flags (UInt8) from the session template
+        buffer.setBytes(index, headerTemplate(header));
+        if (header.getMessageFlags() != templateFlags) {
+            buffer.setByte(index + OdpDataType.MESSAGE_FLAGS_OFFSET, header.getMessageFlags());
+        }
+
+        // Length (UInt16 Little Endian)
+        buffer.setShortLE(index + OdpDataType.LENGTH_OFFSET, header.getLength());
+
+        // Message ID (UInt16 Little Endian)
+        buffer.setShortLE(index + OdpDataType.MESSAGE_ID_OFFSET, header.getMessageId());
+
+        // MsgSeqNum (UInt64 Little Endian)
+        stampMsgSeqNum(buffer, index, header.getMsgSeqNum());
+
+        // Fields Presence Map (Bitmap 12)
+        if (presenceMap == null) {
+            presenceMap = FieldPresenceMap.EMPTY;
+        }
+        presenceMap.set(buffer, index + OdpDataType.FIELDS_PRESENCE_MAP_OFFSET);
+
+        buffer.writerIndex(index + OdpDataType.HEADER_SIZE);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Encoded header: length={}, msgId={}, seqNum={}, compId={}, flags=0x{}, presenceMap={}",
+                    header.getLength(), header.getMessageId(), header.getMsgSeqNum(),
+                    header.getCompId(), String.format("%02X", header.getMessageFlags()),
+                    presenceMap);
+        }
+    }
+
+    /**
+     * Get the header template for the message's Comp ID, rebuilding it if the Comp ID changed
+     * Comp IDs are interned per session, so the identity check normally hits
+     */
+    private byte[] headerTemplate(OdpMessageHeader header) {
+        String compId = header.getCompId();
+        if (templateValid && (compId == templateCompId
+                || (compId != null && compId.equals(templateCompId)))) {
+            return headerTemplate;
+        }
+        ByteBuf template = Unpooled.wrappedBuffer(headerTemplate);
+        OdpCharArrays.set(template, OdpDataType.COMP_ID_OFFSET, compId, OdpDataType.COMP_ID_SIZE);
+        template.setByte(OdpDataType.MESSAGE_FLAGS_OFFSET, header.getMessageFlags());
+        templateCompId = compId;
+        templateFlags = header.getMessageFlags();
+        templateValid = true;
+        return headerTemplate;
+    }
+}
\ No newline at end of file
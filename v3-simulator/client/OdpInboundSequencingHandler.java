@@ -0,0 +1,400 @@
+// src/main/java/com/odp/simulator/client/handler/OdpInboundSequencingHandler.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageHeader;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
+import com.odp.simulator.client.protocol.codecs.ResendRequestCodec;
+import com.odp.simulator.client.protocol.codecs.SequenceResetCodec;
+import com.odp.simulator.client.protocol.messages.GenericOdpMessage;
+import com.odp.simulator.client.session.OdpSeqNumWindow;
+import com.odp.simulator.client.session.OdpSession;
+import com.odp.simulator.client.session.OdpSessionManager;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inbound handler that delivers gateway messages strictly in MsgSeqNum order
+ *
+ * Placed right after the decoder. A message with the expected sequence number
+ * is passed on and advances the session's expected number. A message ahead of
+ * it is held in a bounded reorder buffer indexed by sequence number, and one
+ * Resend Request is sent for the whole missing run. Once the run is filled
+ * the buffered messages are passed on in order. Duplicates are dropped.
+ *
+ * A message beyond the reorder window is dropped, and one open-ended Resend
+ * Request covers it and everything after it until the resend catches up. If
+ * a requested run has not arrived when the resend timeout expires, it is
+ * requested again.
+ *
+ * A Logon Response resets the sequencing state and is passed on at once,
+ * ahead of any gap check. The gateway recovers the messages before it from
+ * the Next Expected MsgSeqNum of our Logon Request, so no Resend Request is
+ * sent for them; they are tracked like a requested run and requested again
+ * only if they do not arrive in time. A Logon Response below the expected
+ * number means the gateway restarted its numbering, expected follows it.
+ *
+ * A Sequence Reset flagged PossResend or PossDup is a gap fill and is
+ * sequenced like any other message. Once it is delivered in order it moves
+ * the expected number forward to its New Seq No, so a gap fill that arrives
+ * early never skips the messages before it without requesting them. An
+ * unflagged Sequence Reset resets the numbering: its New Seq No is applied
+ * at once, whatever its own MsgSeqNum.
+ *
+ * Every message below the expected number was already delivered, so replays
+ * flagged PossDup or PossResend are dropped in O(1) by that one comparison
+ * and never reach the message handlers. Replays ahead of it, of messages held
+ * in the reorder buffer or of a logon passed on early, are dropped against a
+ * sliding bitset of the sequence numbers received.
+ *
+ * Not shared, one instance per channel.
+ */
+@Slf4j
+public class OdpInboundSequencingHandler extends ChannelInboundHandlerAdapter {
+
+    // Reorder buffer entry of a message already passed on out of order, only its number is consumed
+    private static final Object PASSED_ON = new Object();
+
+    private final OdpSessionManager sessionManager;
+    private final int mask;
+    private final long resendTimeoutMs;
+
+    // Reorder buffer, slot (seq & mask) holds the message with that sequence number
+    private final Object[] buffered;
+    private final long[] bufferedSeqNums;
+    private int bufferedCount;
+
+    // Sequence numbers received, covers the reorder window behind the highest one
+    private final OdpSeqNumWindow received;
+
+    // Highest sequence number already covered by a Resend Request, below expected once the gap is filled
+    private long requestedThrough;
+    // Set while an open-ended Resend Request covers everything from the gap on
+    private boolean requestedOpenEnded;
+    private ScheduledFuture<?> resendTimeout;
+
+    private long duplicateCount;
+
+    /**
+     * @param capacity Messages the reorder buffer holds, a power of two
+     * @param resendTimeoutMs Time a requested run has to arrive before it is requested again
+     */
+    public OdpInboundSequencingHandler(OdpSessionManager sessionManager, int capacity, long resendTimeoutMs) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        if (resendTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Resend timeout must be positive: " + resendTimeoutMs);
+        }
+        this.sessionManager = sessionManager;
+        this.mask = capacity - 1;
+        this.resendTimeoutMs = resendTimeoutMs;
+        this.buffered = new Object[capacity];
+        this.bufferedSeqNums = new long[capacity];
+        this.received = new OdpSeqNumWindow(Math.max(64, capacity << 1));
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        long msgSeqNum = msgSeqNum(msg);
+        if (msgSeqNum <= 0) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+
+        OdpSession session = sessionManager.getPrimarySession();
+        long expected = session.getExpectedIncomingSeqNum();
+
+        OdpMessageType messageType = messageType(msg);
+        if (messageType == OdpMessageType.LOGON_RESPONSE || messageType == OdpMessageType.LOGON_REQUEST) {
+            onLogon(ctx, session, msg, msgSeqNum, expected);
+        } else if (messageType == OdpMessageType.SEQUENCE_RESET && !isPossDupOrResend(msg) && newSeqNo(msg) > 0) {
+            onReset(ctx, session, msg, expected);
+        } else if (msgSeqNum == expected) {
+            deliver(ctx, session, msg);
+            deliverBuffered(ctx, session);
+        } else if (msgSeqNum < expected) {
+            duplicateCount++;
+            if (isPossDupOrResend(msg)) {
+                log.debug("Dropping replayed message {}, expected {}", msgSeqNum, expected);
+            } else {
+                log.warn("Dropping message {} below expected {} without PossDup flag", msgSeqNum, expected);
+            }
+            release(msg);
+        } else {
+            onGap(ctx, session, msg, msgSeqNum, expected);
+        }
+    }
+
+    /**
+     * Number of sequence numbers held in the reorder buffer waiting for a gap to fill
+     */
+    public int getBufferedCount() {
+        return bufferedCount;
+    }
+
+    /**
+     * Number of duplicate messages dropped
+     */
+    public long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    private void onGap(ChannelHandlerContext ctx, OdpSession session, Object msg, long msgSeqNum, long expected) {
+        if (msgSeqNum - expected > mask) {
+            // Beyond the reorder window, one open-ended request covers it and every later message
+            log.warn("Message {} is beyond the reorder window (expected {}), dropped", msgSeqNum, expected);
+            release(msg);
+            if (!requestedOpenEnded) {
+                sendResendRequest(ctx, session, Math.max(expected, requestedThrough + 1), 0L);
+                requestedOpenEnded = true;
+            }
+            requestedThrough = Math.max(requestedThrough, msgSeqNum);
+            return;
+        }
+
+        if (!received.markSeen(msgSeqNum)) {
+            duplicateCount++;
+            if (log.isDebugEnabled()) {
+                log.debug("Dropping replayed message {}, already received", msgSeqNum);
+            }
+            release(msg);
+            return;
+        }
+        int slot = (int) msgSeqNum & mask;
+        buffered[slot] = msg;
+        bufferedSeqNums[slot] = msgSeqNum;
+        bufferedCount++;
+
+        long requestFrom = Math.max(expected, requestedThrough + 1);
+        if (requestFrom < msgSeqNum && !requestedOpenEnded) {
+            sendResendRequest(ctx, session, requestFrom, msgSeqNum - 1);
+        }
+        requestedThrough = Math.max(requestedThrough, msgSeqNum);
+    }
+
+    private void onLogon(ChannelHandlerContext ctx, OdpSession session, Object msg, long msgSeqNum, long expected) {
+        resetGap();
+        if (msgSeqNum < expected) {
+            log.warn("Logon at {} below expected {}, the gateway restarted its sequence numbers", msgSeqNum, expected);
+            session.setExpectedIncomingSeqNum(msgSeqNum + 1);
+        } else if (msgSeqNum == expected) {
+            session.incrementExpectedIncomingSeqNum();
+        } else {
+            // The gateway resends expected..msgSeqNum-1 itself, ask again only if they never arrive
+            log.info("Logon at {} ahead of expected {}, awaiting recovery of the messages before it",
+                    msgSeqNum, expected);
+            if (msgSeqNum - expected <= mask) {
+                received.markSeen(msgSeqNum);
+                int slot = (int) msgSeqNum & mask;
+                buffered[slot] = PASSED_ON;
+                bufferedSeqNums[slot] = msgSeqNum;
+                bufferedCount++;
+            }
+            requestedThrough = msgSeqNum;
+            scheduleResendTimeout(ctx);
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    private void onReset(ChannelHandlerContext ctx, OdpSession session, Object msg, long expected) {
+        long newSeqNum = newSeqNo(msg);
+        if (newSeqNum < expected) {
+            log.warn("Sequence reset to {} below expected {}, dropped", newSeqNum, expected);
+            release(msg);
+            return;
+        }
+        log.info("Sequence reset from {} to {}", expected, newSeqNum);
+        discardBufferedBelow(newSeqNum);
+        session.setExpectedIncomingSeqNum(newSeqNum);
+        closeGapIfFilled(session);
+        ctx.fireChannelRead(msg);
+        deliverBuffered(ctx, session);
+    }
+
+    private void deliver(ChannelHandlerContext ctx, OdpSession session, Object msg) {
+        long msgSeqNum = msgSeqNum(msg);
+        received.markSeen(msgSeqNum);
+        if (messageType(msg) != OdpMessageType.SEQUENCE_RESET) {
+            session.incrementExpectedIncomingSeqNum();
+        } else {
+            long newSeqNum = newSeqNo(msg);
+            if (newSeqNum > msgSeqNum) {
+                log.info("Sequence reset from {} to {}", msgSeqNum, newSeqNum);
+                discardBufferedBelow(newSeqNum);
+                session.setExpectedIncomingSeqNum(newSeqNum);
+            } else {
+                log.warn("Sequence reset {} without a New Seq No ahead of it ({}), treated as one message",
+                        msgSeqNum, newSeqNum);
+                session.setExpectedIncomingSeqNum(msgSeqNum + 1);
+            }
+        }
+        closeGapIfFilled(session);
+        ctx.fireChannelRead(msg);
+    }
+
+    private void deliverBuffered(ChannelHandlerContext ctx, OdpSession session) {
+        while (bufferedCount > 0) {
+            long expected = session.getExpectedIncomingSeqNum();
+            int slot = (int) expected & mask;
+            if (bufferedSeqNums[slot] != expected) {
+                return;
+            }
+            Object msg = buffered[slot];
+            buffered[slot] = null;
+            bufferedSeqNums[slot] = 0L;
+            bufferedCount--;
+            if (msg == PASSED_ON) {
+                session.incrementExpectedIncomingSeqNum();
+                closeGapIfFilled(session);
+            } else {
+                deliver(ctx, session, msg);
+            }
+        }
+    }
+
+    private void discardBufferedBelow(long msgSeqNum) {
+        for (int slot = 0; slot < buffered.length && bufferedCount > 0; slot++) {
+            if (bufferedSeqNums[slot] != 0L && bufferedSeqNums[slot] < msgSeqNum) {
+                release(buffered[slot]);
+                buffered[slot] = null;
+                bufferedSeqNums[slot] = 0L;
+                bufferedCount--;
+            }
+        }
+    }
+
+    /**
+     * Request a resend, an End Sequence of 0 requests everything from fromSeqNum on
+     */
+    private void sendResendRequest(ChannelHandlerContext ctx, OdpSession session, long fromSeqNum, long toSeqNum) {
+        GenericOdpMessage request = new GenericOdpMessage(OdpMessageType.RESEND_REQUEST);
+        request.setLong(ResendRequestCodec.BP_START_SEQUENCE, fromSeqNum);
+        request.setLong(ResendRequestCodec.BP_END_SEQUENCE, toSeqNum);
+        request.setHeader(OdpMessageHeader.builder()
+                .messageId(OdpMessageType.RESEND_REQUEST.getMessageId())
+                .msgSeqNum(session.getNextOutgoingSeqNum())
+                .compId(session.getCompId())
+                .build());
+
+        log.info("Gap detected, requesting resend of {}-{}", fromSeqNum, toSeqNum == 0 ? "latest" : toSeqNum);
+        ctx.channel().writeAndFlush(request);
+        session.updateLastSentTime();
+        scheduleResendTimeout(ctx);
+    }
+
+    private void scheduleResendTimeout(ChannelHandlerContext ctx) {
+        if (resendTimeout == null) {
+            resendTimeout = ctx.executor().schedule(() -> onResendTimeout(ctx), resendTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void onResendTimeout(ChannelHandlerContext ctx) {
+        resendTimeout = null;
+        OdpSession session = sessionManager.getPrimarySession();
+        long expected = session.getExpectedIncomingSeqNum();
+        if (expected > requestedThrough || !ctx.channel().isActive()) {
+            return;
+        }
+        log.warn("Resend of {}-{} not complete after {} ms, requesting again",
+                expected, requestedThrough, resendTimeoutMs);
+        sendResendRequest(ctx, session, expected, requestedOpenEnded ? 0L : requestedThrough);
+    }
+
+    private void closeGapIfFilled(OdpSession session) {
+        if (requestedThrough > 0 && session.getExpectedIncomingSeqNum() > requestedThrough) {
+            log.info("Gap filled through {}", requestedThrough);
+            closeGap();
+        }
+    }
+
+    /**
+     * Forget the outstanding requests
+     */
+    private void closeGap() {
+        if (resendTimeout != null) {
+            resendTimeout.cancel(false);
+            resendTimeout = null;
+        }
+        requestedThrough = 0L;
+        requestedOpenEnded = false;
+    }
+
+    /**
+     * Forget the outstanding requests and the numbers received, release the reorder buffer
+     */
+    private void resetGap() {
+        closeGap();
+        received.clear();
+        for (int slot = 0; slot < buffered.length && bufferedCount > 0; slot++) {
+            if (buffered[slot] != null) {
+                release(buffered[slot]);
+                buffered[slot] = null;
+                bufferedSeqNums[slot] = 0L;
+                bufferedCount--;
+            }
+        }
+    }
+
+    private static long msgSeqNum(Object msg) {
+        if (msg instanceof OdpMessageView view) {
+            return view.getMsgSeqNum();
+        }
+        if (msg instanceof OdpMessage message && message.getHeader() != null) {
+            return message.getHeader().getMsgSeqNum();
+        }
+        return 0L;
+    }
+
+    private static boolean isPossDupOrResend(Object msg) {
+        if (msg instanceof OdpMessageView view) {
+            return view.isPossDup() || view.isPossResend();
+        }
+        if (msg instanceof OdpMessage message && message.getHeader() != null) {
+            return message.getHeader().isPossDup() || message.getHeader().isPossResend();
+        }
+        return false;
+    }
+
+    private static OdpMessageType messageType(Object msg) {
+        if (msg instanceof OdpMessageView view) {
+            return view.getMessageType();
+        }
+        return msg instanceof OdpMessage message ? message.getMessageType() : null;
+    }
+
+    private static long newSeqNo(Object msg) {
+        if (msg instanceof OdpMessageView view) {
+            OdpCodecPlan plan = view.getCodecPlan();
+            return plan != null && SequenceResetCodec.hasNewSeqNo(plan)
+                    ? SequenceResetCodec.getNewSeqNo(view.frame(), view.bodyIndex(), plan) : 0L;
+        }
+        if (msg instanceof GenericOdpMessage message && message.isFieldSet(SequenceResetCodec.BP_NEW_SEQ_NO)) {
+            return message.getLong(SequenceResetCodec.BP_NEW_SEQ_NO);
+        }
+        return 0L;
+    }
+
+    private static void release(Object msg) {
+        if (msg instanceof OdpMessageView view) {
+            view.release();
+        } else if (msg instanceof OdpMessage message) {
+            message.release();
+        } else {
+            ReferenceCountUtil.release(msg);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        resetGap();
+        super.channelInactive(ctx);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,261 @@
+// src/test/java/com/odp/simulator/client/handler/OdpInboundSequencingHandlerTest.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.config.OdpClientProperties;
+import com.odp.simulator.client.protocol.OdpMessageHeader;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.ResendRequestCodec;
+import com.odp.simulator.client.protocol.codecs.SequenceResetCodec;
+import com.odp.simulator.client.protocol.messages.GenericOdpMessage;
+import com.odp.simulator.client.session.OdpSession;
+import com.odp.simulator.client.session.OdpSessionManager;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OdpInboundSequencingHandlerTest {
+
+    private static final int CAPACITY = 8;
+    private static final long RESEND_TIMEOUT_MS = 1000;
+
+    private OdpSession session;
+    private OdpInboundSequencingHandler handler;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        OdpClientProperties properties = new OdpClientProperties();
+        properties.setCompId("C1");
+        // Journal and sequence numbers are not persisted between tests
+        properties.getJournal().setEnabled(false);
+        properties.getSequenceStore().setEnabled(false);
+        OdpSessionManager sessionManager = new OdpSessionManager(properties);
+        session = sessionManager.getPrimarySession();
+        handler = new OdpInboundSequencingHandler(sessionManager, CAPACITY, RESEND_TIMEOUT_MS);
+        channel = new EmbeddedChannel(handler);
+        channel.freezeTime();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void reordersUntilGapIsFilled() {
+        receive(heartbeat(1));
+        receive(heartbeat(4));
+        receive(heartbeat(5));
+
+        // One request for the missing run, the messages after it are held
+        assertEquals(List.of(1L), delivered());
+        assertResendRequest(2, 3);
+        assertNull(channel.readOutbound());
+        assertEquals(2, handler.getBufferedCount());
+
+        receive(heartbeat(3, true));
+        receive(heartbeat(2, true));
+        assertEquals(List.of(2L, 3L, 4L, 5L), delivered());
+        assertEquals(6, session.getExpectedIncomingSeqNum());
+        assertEquals(0, handler.getBufferedCount());
+
+        // Replays of delivered messages are dropped
+        receive(heartbeat(4, true));
+        assertEquals(List.of(), delivered());
+        assertEquals(1, handler.getDuplicateCount());
+    }
+
+    @Test
+    void dropsReplaysAheadOfExpected() {
+        receive(message(OdpMessageType.LOGON_RESPONSE, 3, false));
+        receive(heartbeat(5));
+        assertEquals(List.of(3L), delivered());
+
+        // Replays of the held message and of the logon passed on early
+        receive(heartbeat(5, true));
+        receive(message(OdpMessageType.HEARTBEAT, 3, true));
+        assertEquals(2, handler.getDuplicateCount());
+        assertEquals(2, handler.getBufferedCount());
+
+        receive(heartbeat(1, true));
+        receive(heartbeat(2, true));
+        receive(heartbeat(4, true));
+        assertEquals(List.of(1L, 2L, 4L, 5L), delivered());
+        assertEquals(6, session.getExpectedIncomingSeqNum());
+
+        // A logon restarting the numbering forgets the numbers received
+        receive(message(OdpMessageType.LOGON_RESPONSE, 1, false));
+        receive(heartbeat(3));
+        receive(heartbeat(2));
+        assertEquals(List.of(1L, 2L, 3L), delivered());
+        assertEquals(2, handler.getDuplicateCount());
+    }
+
+    @Test
+    void requestsGapBeyondWindowOnce() {
+        receive(heartbeat(1));
+        for (long msgSeqNum = 20; msgSeqNum < 30; msgSeqNum++) {
+            receive(heartbeat(msgSeqNum));
+        }
+
+        // Dropped, and one open-ended request covers all of them
+        assertEquals(List.of(1L), delivered());
+        assertResendRequest(2, 0);
+        assertNull(channel.readOutbound());
+
+        for (long msgSeqNum = 2; msgSeqNum < 30; msgSeqNum++) {
+            receive(heartbeat(msgSeqNum, true));
+        }
+        assertEquals(28, delivered().size());
+        assertEquals(30, session.getExpectedIncomingSeqNum());
+
+        // The gap is closed, a later gap is requested again
+        receive(heartbeat(32));
+        assertResendRequest(30, 31);
+    }
+
+    @Test
+    void requestsAgainWhenResendNeverArrives() {
+        receive(heartbeat(1));
+        receive(heartbeat(4));
+        assertResendRequest(2, 3);
+
+        channel.advanceTimeBy(RESEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+        assertResendRequest(2, 4);
+
+        // Partly filled, only the rest is requested again
+        receive(heartbeat(2, true));
+        channel.advanceTimeBy(RESEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+        assertResendRequest(3, 4);
+
+        // Filled, the timeout is cancelled
+        receive(heartbeat(3, true));
+        assertEquals(List.of(1L, 2L, 3L, 4L), delivered());
+        channel.advanceTimeBy(RESEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    void logonAheadIsPassedOnAndRecoveredWithoutRequest() {
+        receive(message(OdpMessageType.LOGON_RESPONSE, 4, false));
+        assertEquals(List.of(4L), delivered());
+        assertNull(channel.readOutbound());
+
+        // Messages after the logon wait for the recovery of the ones before it
+        receive(heartbeat(5));
+        assertNull(channel.readOutbound());
+        receive(heartbeat(1, true));
+        receive(heartbeat(2, true));
+        receive(heartbeat(3, true));
+        assertEquals(List.of(1L, 2L, 3L, 5L), delivered());
+        assertEquals(6, session.getExpectedIncomingSeqNum());
+    }
+
+    @Test
+    void logonBeyondWindowIsPassedOnAndRequestedOnTimeout() {
+        receive(message(OdpMessageType.LOGON_RESPONSE, 100, false));
+        assertEquals(List.of(100L), delivered());
+        assertNull(channel.readOutbound());
+
+        channel.advanceTimeBy(RESEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+        assertResendRequest(1, 100);
+    }
+
+    @Test
+    void logonBelowExpectedRestartsNumbering() {
+        session.setExpectedIncomingSeqNum(50);
+        receive(heartbeat(53));
+        assertResendRequest(50, 52);
+
+        receive(message(OdpMessageType.LOGON_RESPONSE, 1, false));
+        assertEquals(List.of(1L), delivered());
+        assertEquals(2, session.getExpectedIncomingSeqNum());
+        assertEquals(0, handler.getBufferedCount());
+
+        // The old request is forgotten
+        channel.advanceTimeBy(RESEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    void resetAppliesAtOnceButGapFillIsSequenced() {
+        receive(heartbeat(1));
+
+        // An early gap fill waits for the messages before it
+        receive(sequenceReset(3, 6, true));
+        assertResendRequest(2, 2);
+        receive(heartbeat(2, true));
+        assertEquals(List.of(1L, 2L, 3L), delivered());
+        assertEquals(6, session.getExpectedIncomingSeqNum());
+
+        // A reset does not, whatever its own number
+        receive(heartbeat(8));
+        assertResendRequest(6, 7);
+        receive(sequenceReset(20, 8, false));
+        assertEquals(List.of(20L, 8L), delivered());
+        assertEquals(9, session.getExpectedIncomingSeqNum());
+        channel.advanceTimeBy(RESEND_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        channel.runScheduledPendingTasks();
+        assertNull(channel.readOutbound());
+    }
+
+    private void receive(GenericOdpMessage message) {
+        channel.writeInbound(message);
+    }
+
+    private List<Long> delivered() {
+        List<Long> seqNums = new ArrayList<>();
+        GenericOdpMessage message;
+        while ((message = channel.readInbound()) != null) {
+            seqNums.add(message.getHeader().getMsgSeqNum());
+        }
+        return seqNums;
+    }
+
+    private void assertResendRequest(long fromSeqNum, long toSeqNum) {
+        GenericOdpMessage request = channel.readOutbound();
+        assertEquals(OdpMessageType.RESEND_REQUEST, request.getMessageType());
+        assertEquals(fromSeqNum, request.getLong(ResendRequestCodec.BP_START_SEQUENCE));
+        assertEquals(toSeqNum, request.getLong(ResendRequestCodec.BP_END_SEQUENCE));
+    }
+
+    private static GenericOdpMessage heartbeat(long msgSeqNum) {
+        return heartbeat(msgSeqNum, false);
+    }
+
+    private static GenericOdpMessage heartbeat(long msgSeqNum, boolean possDup) {
+        return message(OdpMessageType.HEARTBEAT, msgSeqNum, possDup);
+    }
+
+    private static GenericOdpMessage sequenceReset(long msgSeqNum, long newSeqNum, boolean gapFill) {
+        GenericOdpMessage reset = message(OdpMessageType.SEQUENCE_RESET, msgSeqNum, false);
+        reset.setLong(SequenceResetCodec.BP_NEW_SEQ_NO, newSeqNum);
+        reset.getHeader().setPossResend(gapFill);
+        return reset;
+    }
+
+    private static GenericOdpMessage message(OdpMessageType messageType, long msgSeqNum, boolean possDup) {
+        GenericOdpMessage message = new GenericOdpMessage(messageType);
+        OdpMessageHeader header = OdpMessageHeader.builder()
+                .messageId(messageType.getMessageId())
+                .msgSeqNum(msgSeqNum)
+                .compId("GW")
+                .build();
+        header.setPossDup(possDup);
+        message.setHeader(header);
+        return message;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+// src/main/java/com/odp/simulator/client/handler/OdpJournalHandler.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.session.OdpMessageJournal;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outbound handler that journals encoded order and quote frames before they are written
+ *
+ * Sits between the encoder and the socket, so it sees each frame once with
+ * its final sequence number. Only application messages are journaled:
+ * session and administrative messages such as Logon, with its encrypted
+ * password, Heartbeat, Test Request and Resend Request are never replayed,
+ * a resend gap-fills their numbers with a Sequence Reset instead. Frames
+ * already flagged PossResend are resends from the journal itself and are not
+ * journaled again.
+ */
+@RequiredArgsConstructor
+public class OdpJournalHandler extends ChannelOutboundHandlerAdapter {
+
+    private static final byte POSS_RESEND_FLAG = 0x02;
+
+    private final OdpMessageJournal journal;
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ByteBuf frame && frame.readableBytes() >= OdpDataType.HEADER_SIZE && isApplication(frame)
+                && (frame.getByte(frame.readerIndex() + OdpDataType.MESSAGE_FLAGS_OFFSET) & POSS_RESEND_FLAG) == 0) {
+            journal.append(frame);
+        }
+        ctx.write(msg, promise);
+    }
+
+    private static boolean isApplication(ByteBuf frame) {
+        int messageId = frame.getUnsignedShortLE(frame.readerIndex() + OdpDataType.MESSAGE_ID_OFFSET);
+        return OdpMessageType.fromMessageId(messageId).isApplication();
+    }
+}
\ No newline at end of file
@@ -44,6 +44,7 @@ public class OdpLookupClient {
     private final OdpClientProperties properties;
     private final OdpSessionManager sessionManager;
     private final LookupResponseHandler lookupResponseHandler;
+    private final OdpTimeoutWheel timeoutWheel;
 
     /**
      * Perform lookup to get gateway connection info
@@ -152,8 +153,8 @@ public class OdpLookupClient {
             channel.writeAndFlush(request);
             session.updateLastSentTime();
 
-            // Wait for response
-            LookupResponse response = responseFuture.get(
+            // Wait for response, the timeout wheel fails the future if none arrives in time
+            LookupResponse response = timeoutWheel.await(responseFuture,
                     properties.getLookup().getConnectTimeoutMs(), TimeUnit.MILLISECONDS);
             
             return response;
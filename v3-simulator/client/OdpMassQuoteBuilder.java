@@ -0,0 +1,284 @@
+// src/main/java/com/odp/simulator/client/client/OdpMassQuoteBuilder.java
+package com.odp.simulator.client.client;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.codec.OdpEncodedFrame;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.MassQuoteCodec;
+import com.odp.simulator.client.protocol.codecs.SingleQuoteCodec;
+import com.odp.simulator.client.session.OdpSendFuture;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+
+import java.util.Arrays;
+
+/**
+ * Builds Mass Quote frames in place and sends them as one batch
+ *
+ * Quote entries are appended straight into a working buffer taken once
+ * from the pooled allocator and reused for every quote, so adding an entry
+ * allocates nothing. A frame is copied out at its exact length when it is
+ * complete. The frame length is a 16-bit field: once a frame holds as many
+ * entries as fit, the next entry starts a new frame with the next Quote ID.
+ * A quote of a single entry is sent as a Single Quote.
+ *
+ * Each entry is the Security ID, Bid Price, Offer Price, Bid Size and Offer
+ * Size, laid out as in a Single Quote, following No Quote Entries.
+ *
+ * {@link #add} returns the entry's number within the quote. The number
+ * gives the Quote ID and the index within that frame the gateway refers
+ * to, and the send future of the frame that carried the entry.
+ *
+ * Not thread-safe, each quoting thread keeps its own builder.
+ */
+public final class OdpMassQuoteBuilder {
+
+    public static final int ENTRY_LENGTH = SingleQuoteCodec.SECURITY_ID_LENGTH + 4 * Long.BYTES;
+
+    private static final int MAX_FRAME_LENGTH = 0xFFFF;
+
+    private static final OdpCodecPlan MASS_QUOTE_PLAN = OdpCodecPlanCache.getPlan(OdpMessageType.MASS_QUOTE,
+            FieldPresenceMap.of(MassQuoteCodec.BP_QUOTE_ID, MassQuoteCodec.BP_SUBMITTING_BROKER_ID,
+                    MassQuoteCodec.BP_BROKER_LOCATION_ID, MassQuoteCodec.BP_TRANSACT_TIME,
+                    MassQuoteCodec.BP_NO_QUOTE_ENTRIES));
+
+    private static final OdpCodecPlan SINGLE_QUOTE_PLAN = OdpCodecPlanCache.getPlan(OdpMessageType.SINGLE_QUOTE,
+            FieldPresenceMap.of(SingleQuoteCodec.BP_QUOTE_ID, SingleQuoteCodec.BP_SUBMITTING_BROKER_ID,
+                    SingleQuoteCodec.BP_BROKER_LOCATION_ID, SingleQuoteCodec.BP_TRANSACT_TIME,
+                    SingleQuoteCodec.BP_SECURITY_ID, SingleQuoteCodec.BP_BID_PRICE,
+                    SingleQuoteCodec.BP_OFFER_PRICE, SingleQuoteCodec.BP_BID_SIZE,
+                    SingleQuoteCodec.BP_OFFER_SIZE));
+
+    private static final int ENTRIES_INDEX = OdpDataType.HEADER_SIZE + MASS_QUOTE_PLAN.getBodyLength();
+
+    /**
+     * Entries that fit in one Mass Quote frame
+     */
+    public static final int MAX_ENTRIES_PER_FRAME = (MAX_FRAME_LENGTH - ENTRIES_INDEX) / ENTRY_LENGTH;
+
+    private final OdpTradingClient client;
+    private final ByteBufAllocator allocator;
+    private final String compId;
+    private final CharSequence submittingBrokerId;
+    private final CharSequence brokerLocationId;
+    private final int maxEntriesPerFrame;
+
+    // Frame being filled, reused for every frame
+    private final ByteBuf working;
+    private int frameEntries;
+
+    // Completed frames of the current quote, futures once sent
+    private OdpEncodedFrame[] frames = new OdpEncodedFrame[4];
+    private OdpSendFuture[] futures;
+    private int frameCount;
+
+    private long firstQuoteId;
+    private long transactTime;
+    private int entryCount;
+    private boolean building;
+
+    public OdpMassQuoteBuilder(OdpTradingClient client, ByteBufAllocator allocator, String compId,
+                               CharSequence submittingBrokerId, CharSequence brokerLocationId,
+                               int maxEntriesPerFrame) {
+        if (maxEntriesPerFrame < 1 || maxEntriesPerFrame > MAX_ENTRIES_PER_FRAME) {
+            throw new IllegalArgumentException("Entries per frame must be 1 to " + MAX_ENTRIES_PER_FRAME
+                    + ": " + maxEntriesPerFrame);
+        }
+        this.client = client;
+        this.allocator = allocator;
+        this.compId = compId;
+        this.submittingBrokerId = submittingBrokerId;
+        this.brokerLocationId = brokerLocationId;
+        this.maxEntriesPerFrame = maxEntriesPerFrame;
+        int capacity = ENTRIES_INDEX + maxEntriesPerFrame * ENTRY_LENGTH;
+        this.working = allocator.directBuffer(capacity, capacity);
+    }
+
+    /**
+     * Start a quote
+     * @param quoteId Quote ID of the first frame, a split quote uses the following IDs
+     * @throws IllegalStateException if the previous quote was neither sent nor discarded
+     */
+    public OdpMassQuoteBuilder begin(long quoteId) {
+        if (building) {
+            throw new IllegalStateException("Quote " + firstQuoteId + " was not sent");
+        }
+        building = true;
+        firstQuoteId = quoteId;
+        transactTime = System.currentTimeMillis() * 1_000_000L;
+        entryCount = 0;
+        frameCount = 0;
+        futures = null;
+        startFrame();
+        return this;
+    }
+
+    /**
+     * Append a quote entry, prices scaled as order prices
+     * @return Number of the entry within the quote
+     */
+    public int add(CharSequence securityId, long bidPrice, long offerPrice, long bidSize, long offerSize) {
+        if (!building) {
+            throw new IllegalStateException("No quote begun");
+        }
+        if (frameEntries == maxEntriesPerFrame) {
+            completeFrame();
+            startFrame();
+        }
+        int index = ENTRIES_INDEX + frameEntries * ENTRY_LENGTH;
+        OdpCharArrays.set(working, index, securityId, SingleQuoteCodec.SECURITY_ID_LENGTH);
+        index += SingleQuoteCodec.SECURITY_ID_LENGTH;
+        working.setLongLE(index, bidPrice);
+        working.setLongLE(index + Long.BYTES, offerPrice);
+        working.setLongLE(index + 2 * Long.BYTES, bidSize);
+        working.setLongLE(index + 3 * Long.BYTES, offerSize);
+        frameEntries++;
+        return entryCount++;
+    }
+
+    /**
+     * Send the quote's frames as one batch, see {@link OdpTradingClient#sendFrames}
+     * @return One future per frame
+     */
+    public OdpSendFuture[] send() {
+        if (!building) {
+            throw new IllegalStateException("No quote begun");
+        }
+        if (entryCount == 0) {
+            throw new IllegalStateException("Quote " + firstQuoteId + " has no entries");
+        }
+        if (entryCount == 1) {
+            frames[frameCount++] = singleQuote();
+        } else {
+            completeFrame();
+        }
+        building = false;
+        try {
+            futures = client.sendFrames(frames, frameCount);
+        } catch (RuntimeException e) {
+            releaseFrames();
+            throw e;
+        }
+        Arrays.fill(frames, 0, frameCount, null);
+        return futures;
+    }
+
+    /**
+     * Drop the quote being built without sending it
+     */
+    public void discard() {
+        releaseFrames();
+        building = false;
+    }
+
+    /**
+     * Release the working buffer, the builder cannot be used afterwards
+     */
+    public void close() {
+        discard();
+        working.release();
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Quote ID of the frame carrying an entry
+     */
+    public long getQuoteId(int entry) {
+        return firstQuoteId + entry / maxEntriesPerFrame;
+    }
+
+    /**
+     * Index of an entry among the Quote Entries of its frame
+     */
+    public int getEntryIndex(int entry) {
+        return entry % maxEntriesPerFrame;
+    }
+
+    /**
+     * Send future of the frame carrying an entry, null until the quote is sent
+     * It completes with the frame's sequence number.
+     */
+    public OdpSendFuture getFuture(int entry) {
+        return futures != null ? futures[entry / maxEntriesPerFrame] : null;
+    }
+
+    /**
+     * Write the header and body fields of the next frame, sized later
+     */
+    private void startFrame() {
+        long quoteId = firstQuoteId + frameCount;
+        writeHeader(working, OdpMessageType.MASS_QUOTE, MASS_QUOTE_PLAN);
+        int bodyIndex = OdpDataType.BODY_OFFSET;
+        MassQuoteCodec.setQuoteId(working, bodyIndex, MASS_QUOTE_PLAN, quoteId);
+        MassQuoteCodec.setSubmittingBrokerId(working, bodyIndex, MASS_QUOTE_PLAN, submittingBrokerId);
+        MassQuoteCodec.setBrokerLocationId(working, bodyIndex, MASS_QUOTE_PLAN, brokerLocationId);
+        MassQuoteCodec.setTransactTime(working, bodyIndex, MASS_QUOTE_PLAN, transactTime);
+        frameEntries = 0;
+    }
+
+    /**
+     * Copy the working frame out at its exact length
+     */
+    private void completeFrame() {
+        int length = ENTRIES_INDEX + frameEntries * ENTRY_LENGTH;
+        working.setShortLE(OdpDataType.LENGTH_OFFSET, length);
+        MassQuoteCodec.setNoQuoteEntries(working, OdpDataType.BODY_OFFSET, MASS_QUOTE_PLAN, frameEntries);
+        ByteBuf frame = allocator.directBuffer(length, length);
+        frame.writeBytes(working, 0, length);
+        if (frameCount == frames.length) {
+            frames = Arrays.copyOf(frames, frameCount * 2);
+        }
+        frames[frameCount++] = new OdpEncodedFrame(frame, OdpMessageType.MASS_QUOTE);
+    }
+
+    /**
+     * The only entry of the working frame as a Single Quote
+     */
+    private OdpEncodedFrame singleQuote() {
+        int length = OdpDataType.HEADER_SIZE + SINGLE_QUOTE_PLAN.getBodyLength();
+        ByteBuf frame = allocator.directBuffer(length, length);
+        writeHeader(frame, OdpMessageType.SINGLE_QUOTE, SINGLE_QUOTE_PLAN);
+        frame.setShortLE(OdpDataType.LENGTH_OFFSET, length);
+        int bodyIndex = OdpDataType.BODY_OFFSET;
+        SingleQuoteCodec.setQuoteId(frame, bodyIndex, SINGLE_QUOTE_PLAN, firstQuoteId);
+        SingleQuoteCodec.setSubmittingBrokerId(frame, bodyIndex, SINGLE_QUOTE_PLAN, submittingBrokerId);
+        SingleQuoteCodec.setBrokerLocationId(frame, bodyIndex, SINGLE_QUOTE_PLAN, brokerLocationId);
+        SingleQuoteCodec.setTransactTime(frame, bodyIndex, SINGLE_QUOTE_PLAN, transactTime);
+        // Security ID through Offer Size are contiguous in both layouts
+        frame.setBytes(SingleQuoteCodec.getSecurityIdIndex(bodyIndex, SINGLE_QUOTE_PLAN),
+                working, ENTRIES_INDEX, ENTRY_LENGTH);
+        frame.writerIndex(length);
+        return new OdpEncodedFrame(frame, OdpMessageType.SINGLE_QUOTE);
+    }
+
+    /**
+     * Header without length and sequence number, the sequencer stamps the number
+     */
+    private void writeHeader(ByteBuf frame, OdpMessageType messageType, OdpCodecPlan plan) {
+        frame.setShortLE(OdpDataType.MESSAGE_ID_OFFSET, messageType.getMessageId());
+        frame.setLongLE(OdpDataType.MSG_SEQ_NUM_OFFSET, 0);
+        OdpCharArrays.set(frame, OdpDataType.COMP_ID_OFFSET, compId, OdpDataType.COMP_ID_SIZE);
+        frame.setByte(OdpDataType.MESSAGE_FLAGS_OFFSET, 0);
+        plan.getPresenceMap().set(frame, OdpDataType.FIELDS_PRESENCE_MAP_OFFSET);
+    }
+
+    private void releaseFrames() {
+        for (int i = 0; i < frameCount; i++) {
+            if (frames[i] != null) {
+                frames[i].release();
+                frames[i] = null;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+// src/test/java/com/odp/simulator/client/client/OdpMassQuoteBuilderTest.java
+package com.odp.simulator.client.client;
+
+import com.odp.simulator.client.codec.OdpDecodeMode;
+import com.odp.simulator.client.codec.OdpEncodedFrame;
+import com.odp.simulator.client.codec.OdpMessageDecoder;
+import com.odp.simulator.client.config.OdpClientProperties;
+import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
+import com.odp.simulator.client.protocol.codecs.MassQuoteCodec;
+import com.odp.simulator.client.protocol.codecs.SingleQuoteCodec;
+import com.odp.simulator.client.session.OdpOutboundSequencer;
+import com.odp.simulator.client.session.OdpSendFuture;
+import com.odp.simulator.client.session.OdpSessionManager;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OdpMassQuoteBuilderTest {
+
+    private static final int MAX = OdpMassQuoteBuilder.MAX_ENTRIES_PER_FRAME;
+
+    private final CapturingClient client = new CapturingClient();
+
+    @Test
+    void splitsAtMaxEntriesPerFrame() {
+        OdpMassQuoteBuilder builder = builder(MAX);
+        builder.begin(100);
+        for (int entry = 0; entry <= MAX; entry++) {
+            assertEquals(entry, builder.add(String.valueOf(entry), entry, entry + 1, 10, 20));
+        }
+        OdpSendFuture[] futures = builder.send();
+        builder.close();
+
+        assertEquals(2, builder.getFrameCount());
+        assertEquals(2, client.frames.size());
+        // The full frame still fits the 16-bit frame length
+        ByteBuf full = client.frames.get(0);
+        assertTrue(full.readableBytes() <= 0xFFFF);
+        assertEquals(full.readableBytes(), full.getUnsignedShortLE(OdpDataType.LENGTH_OFFSET));
+
+        List<OdpMessageView> views = decode();
+        assertMassQuote(views.get(0), 100, MAX);
+        assertMassQuote(views.get(1), 101, 1);
+
+        // Entries are found by Quote ID and index within their frame
+        for (int entry : new int[] {0, MAX - 1, MAX}) {
+            OdpMessageView view = views.get((int) (builder.getQuoteId(entry) - 100));
+            assertEquals(entry, bidPrice(view, builder.getEntryIndex(entry)));
+            assertSame(futures[(int) (builder.getQuoteId(entry) - 100)], builder.getFuture(entry));
+        }
+        assertEquals(101, builder.getQuoteId(MAX));
+        assertEquals(0, builder.getEntryIndex(MAX));
+        assertEquals(MAX - 1, builder.getEntryIndex(MAX - 1));
+        views.forEach(OdpMessageView::release);
+    }
+
+    @Test
+    void splitsAtConfiguredEntriesAndSendsSingleEntryAsSingleQuote() {
+        OdpMassQuoteBuilder builder = builder(2);
+        builder.begin(7);
+        for (int entry = 0; entry < 5; entry++) {
+            builder.add(String.valueOf(entry), entry, entry + 1, 10, 20);
+        }
+        builder.send();
+        assertEquals(3, builder.getFrameCount());
+        assertEquals(9, builder.getQuoteId(4));
+        assertEquals(0, builder.getEntryIndex(4));
+        assertEquals(1, builder.getEntryIndex(3));
+
+        builder.begin(20);
+        builder.add("700", 5, 6, 10, 20);
+        builder.send();
+        builder.close();
+
+        List<OdpMessageView> views = decode();
+        assertEquals(4, views.size());
+        assertMassQuote(views.get(0), 7, 2);
+        assertMassQuote(views.get(2), 9, 1);
+        assertEquals(4, bidPrice(views.get(2), 0));
+        OdpMessageView single = views.get(3);
+        assertEquals(OdpMessageType.SINGLE_QUOTE, single.getMessageType());
+        assertEquals(20, SingleQuoteCodec.getQuoteId(single.frame(), single.bodyIndex(), single.getCodecPlan()));
+        assertEquals("700", SingleQuoteCodec.getSecurityId(single.frame(), single.bodyIndex(), single.getCodecPlan()));
+        assertEquals(5, SingleQuoteCodec.getBidPrice(single.frame(), single.bodyIndex(), single.getCodecPlan()));
+        views.forEach(OdpMessageView::release);
+    }
+
+    @Test
+    void futureIsNullUntilSent() {
+        OdpMassQuoteBuilder builder = builder(2);
+        builder.begin(1);
+        int entry = builder.add("700", 1, 2, 10, 20);
+        assertNull(builder.getFuture(entry));
+        builder.discard();
+        builder.close();
+        assertFalse(client.frames.iterator().hasNext());
+    }
+
+    private OdpMassQuoteBuilder builder(int maxEntriesPerFrame) {
+        return new OdpMassQuoteBuilder(client, UnpooledByteBufAllocator.DEFAULT, "C1", "B1", "L1",
+                maxEntriesPerFrame);
+    }
+
+    /**
+     * The captured frames decoded in place, in the order sent
+     */
+    private List<OdpMessageView> decode() {
+        EmbeddedChannel decoder = new EmbeddedChannel(new OdpMessageDecoder(OdpDecodeMode.FLYWEIGHT));
+        for (ByteBuf frame : client.frames) {
+            decoder.writeInbound(frame);
+        }
+        List<OdpMessageView> views = new ArrayList<>();
+        OdpMessageView view;
+        while ((view = decoder.readInbound()) != null) {
+            views.add(view);
+        }
+        decoder.finishAndReleaseAll();
+        return views;
+    }
+
+    private static void assertMassQuote(OdpMessageView view, long quoteId, int entries) {
+        assertEquals(OdpMessageType.MASS_QUOTE, view.getMessageType());
+        assertEquals(quoteId, MassQuoteCodec.getQuoteId(view.frame(), view.bodyIndex(), view.getCodecPlan()));
+        assertEquals(entries, MassQuoteCodec.getNoQuoteEntries(view.frame(), view.bodyIndex(), view.getCodecPlan()));
+    }
+
+    /**
+     * Bid Price of a Quote Entry, following the Security ID of the entry
+     */
+    private static long bidPrice(OdpMessageView view, int index) {
+        int entryIndex = view.bodyIndex() + view.getCodecPlan().getBodyLength()
+                + index * OdpMassQuoteBuilder.ENTRY_LENGTH;
+        return view.frame().getLongLE(entryIndex + SingleQuoteCodec.SECURITY_ID_LENGTH);
+    }
+
+    /**
+     * Keeps the frames instead of sending them
+     */
+    private static final class CapturingClient extends OdpTradingClient {
+
+        final List<ByteBuf> frames = new ArrayList<>();
+        private final OdpOutboundSequencer sequencer;
+
+        CapturingClient() {
+            this(properties());
+        }
+
+        private CapturingClient(OdpClientProperties properties) {
+            this(properties, new OdpSessionManager(properties));
+        }
+
+        private CapturingClient(OdpClientProperties properties, OdpSessionManager sessionManager) {
+            super(null, properties, sessionManager, null, null,
+                    null, null, null, null, null, null, null, null);
+            sequencer = new OdpOutboundSequencer(sessionManager.getPrimarySession(), new EmbeddedChannel(), 8);
+        }
+
+        @Override
+        public OdpSendFuture[] sendFrames(OdpEncodedFrame[] encoded, int count) {
+            OdpSendFuture[] futures = new OdpSendFuture[count];
+            for (int i = 0; i < count; i++) {
+                frames.add(encoded[i].content());
+                // Failed at once, only the future's identity matters here
+                futures[i] = sequencer.reject(Unpooled.EMPTY_BUFFER, new IllegalStateException("Not sent"));
+            }
+            return futures;
+        }
+
+        private static OdpClientProperties properties() {
+            OdpClientProperties properties = new OdpClientProperties();
+            properties.setCompId("C1");
+            // Journal and sequence numbers are not persisted between tests
+            properties.getJournal().setEnabled(false);
+            properties.getSequenceStore().setEnabled(false);
+            return properties;
+        }
+    }
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 // src/main/java/com/odp/simulator/client/protocol/OdpMessage.java
 package com.odp.simulator.client.protocol;
 
+import com.odp.simulator.client.codec.FieldPresenceMap;
 import io.netty.buffer.ByteBuf;
 
 /**
@@ -25,23 +26,46 @@ public interface OdpMessage {
 
     /**
      * Encode the message body to ByteBuf
-     * Note: Header encoding is handled by the encoder
+     * Note: Header encoding is handled by the encoder, which passes in
+     * the presence map it wrote to the header
      */
-    void encodeBody(ByteBuf buffer);
+    void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap);
 
     /**
      * Decode the message body from ByteBuf
      * Note: Header decoding is handled by the decoder
      */
-    void decodeBody(ByteBuf buffer, byte[] presenceMap);
+    void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap);
 
     /**
      * Get the fields presence map for this message
      */
-    byte[] getFieldsPresenceMap();
+    FieldPresenceMap getFieldsPresenceMap();
 
     /**
      * Calculate the body length in bytes
      */
     int calculateBodyLength();
+
+    /**
+     * Take ownership of an encoded body and decode it
+     * Messages that support lazy decoding keep the buffer and decode it on
+     * first field access, it is released by {@link #release()}.
+     */
+    default void attachBody(ByteBuf body, FieldPresenceMap presenceMap) {
+        try {
+            decodeBody(body, presenceMap);
+        } finally {
+            body.release();
+        }
+    }
+
+    /**
+     * Release an attached body that was not decoded yet and return a pooled
+     * message and its header to the pool
+     * The message must not be used afterwards. No-op for unpooled, fully decoded messages.
+     */
+    default void release() {
+        // Unpooled messages are left to the garbage collector
+    }
 }
\ No newline at end of file
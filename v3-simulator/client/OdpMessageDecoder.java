@@ -2,12 +2,13 @@
 package com.odp.simulator.client.codec;
 
 import com.odp.simulator.client.protocol.*;
+import com.odp.simulator.client.protocol.messages.OdpMessagePool;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
 import lombok.extern.slf4j.Slf4j;
 
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -16,12 +17,42 @@ import java.util.List;
  * Decodes binary data into OdpMessage objects according to ODP protocol.
  * 
  * Uses length-prefix framing to handle message boundaries.
+ * 
+ * In {@link OdpDecodeMode#FLYWEIGHT} mode the decoder emits a reusable
+ * {@link OdpMessageView} over a retained slice of each frame instead of
+ * building header and message objects. The consumer must release the view.
+ *
+ * In {@link OdpDecodeMode#POOLED} mode messages of poolable types and their
+ * headers are taken from {@link OdpMessagePool} and refilled in place.
+ * The consumer must call {@link OdpMessage#release()} once it is done.
+ *
+ * In {@link OdpDecodeMode#LAZY} mode only the header is parsed. A retained
+ * slice of the body is attached to the message and decoded on first field
+ * access. The consumer must call {@link OdpMessage#release()} once it is done.
  */
 @Slf4j
 public class OdpMessageDecoder extends ByteToMessageDecoder {
 
+    private final OdpDecodeMode decodeMode;
+
+    // Re-wrapped for every frame, only used in FLYWEIGHT mode
+    private final OdpMessageView flyweight = new OdpMessageView();
+
+    public OdpMessageDecoder() {
+        this(OdpDecodeMode.EAGER);
+    }
+
+    public OdpMessageDecoder(OdpDecodeMode decodeMode) {
+        this.decodeMode = decodeMode;
+    }
+
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+        if (decodeMode == OdpDecodeMode.FLYWEIGHT) {
+            decodeFlyweight(in, out);
+            return;
+        }
+
         // Need at least 2 bytes for length field
         if (in.readableBytes() < OdpDataType.LENGTH_SIZE) {
             log.trace("Not enough bytes for length field, available: {}", in.readableBytes());
@@ -44,6 +75,17 @@ public class OdpMessageDecoder extends ByteToMessageDecoder {
             return;
         }
 
+        // Every frame from here on is complete, a failure skips it whole so the next one stays framed
+        int frameEnd = in.readerIndex() - OdpDataType.LENGTH_SIZE + length;
+        try {
+            decodeFrame(in, length, out);
+        } catch (Exception e) {
+            in.readerIndex(frameEnd);
+            throw e;
+        }
+    }
+
+    private void decodeFrame(ByteBuf in, int length, List<Object> out) throws Exception {
         // Read Message ID (UInt16 Little Endian)
         int messageId = in.readShortLE() & 0xFFFF;
         OdpMessageType messageType = OdpMessageType.fromMessageId(messageId);
@@ -54,31 +96,40 @@ public class OdpMessageDecoder extends ByteToMessageDecoder {
         long msgSeqNum = in.readLongLE();
 
         // Read Comp ID (Char Array 11)
-        String compId = readCharArray(in, OdpDataType.COMP_ID_SIZE);
+        String compId = OdpCharArrays.readInterned(in, OdpDataType.COMP_ID_SIZE);
 
         // Read Message Flags (UInt8)
         byte messageFlags = in.readByte();
 
         // Read Fields Presence Map (Bitmap 12)
-        byte[] presenceMap = new byte[OdpDataType.FIELDS_PRESENCE_MAP_SIZE];
-        in.readBytes(presenceMap);
-
-        log.debug("Decoded header: length={}, msgId={}, seqNum={}, compId={}, flags=0x{}, presenceMap={}", 
-                length, messageId, msgSeqNum, compId, 
-                String.format("%02X", messageFlags), bytesToHex(presenceMap));
-
-        // Create header
-        OdpMessageHeader header = OdpMessageHeader.builder()
-                .length(length)
-                .messageId(messageId)
-                .msgSeqNum(msgSeqNum)
-                .compId(compId)
-                .messageFlags(messageFlags)
-                .fieldsPresenceMap(presenceMap)
-                .build();
-
-        // Create message instance
-        OdpMessage message = OdpMessageFactory.createMessage(messageType);
+        FieldPresenceMap presenceMap;
+        if (decodeMode == OdpDecodeMode.POOLED && OdpMessageSchemas.hasSchema(messageType)) {
+            // Share the map interned by the codec plan instead of allocating one per frame
+            long high = in.readLong();
+            int low = in.readInt();
+            try {
+                presenceMap = OdpCodecPlanCache.getPlan(messageType, high, low).getPresenceMap();
+            } catch (IllegalArgumentException e) {
+                log.error("Invalid presence map for type {}: {}", messageType, e.getMessage());
+                throw e;
+            }
+        } else {
+            presenceMap = FieldPresenceMap.read(in);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Decoded header: length={}, msgId={}, seqNum={}, compId={}, flags=0x{}, presenceMap={}",
+                    length, messageId, msgSeqNum, compId,
+                    String.format("%02X", messageFlags), presenceMap);
+        }
+
+        // Create message instance, pooled where possible
+        OdpMessage message = decodeMode == OdpDecodeMode.POOLED
+                ? OdpMessagePool.acquire(messageType)
+                : null;
+        if (message == null) {
+            message = OdpMessageFactory.createMessage(messageType);
+        }
         if (message == null) {
             log.warn("Unknown message type: {}, skipping {} bytes", messageType, 
                     length - OdpDataType.HEADER_SIZE);
@@ -87,11 +138,32 @@ public class OdpMessageDecoder extends ByteToMessageDecoder {
             return;
         }
 
-        message.setHeader(header);
+        // Create header, or refill the one a pooled message already owns
+        OdpMessageHeader header = message.getHeader();
+        if (header == null) {
+            header = new OdpMessageHeader();
+            message.setHeader(header);
+        }
+        header.setLength(length);
+        header.setMessageId(messageId);
+        header.setMsgSeqNum(msgSeqNum);
+        header.setCompId(compId);
+        header.setMessageFlags(messageFlags);
+        header.setFieldsPresenceMap(presenceMap);
 
         // Decode body
         int bodyStartIndex = in.readerIndex();
         int expectedBodyLength = length - OdpDataType.HEADER_SIZE;
+
+        // Session setup messages are kept by callers beyond release(), so only
+        // the short-lived types that would also be pooled are decoded lazily
+        if (decodeMode == OdpDecodeMode.LAZY && expectedBodyLength > 0
+                && OdpMessagePool.isPoolable(messageType)) {
+            message.attachBody(in.readRetainedSlice(expectedBodyLength), presenceMap);
+            log.debug("Attached {} body bytes for lazy decoding: {}", expectedBodyLength, messageType);
+            out.add(message);
+            return;
+        }
         
         try {
             message.decodeBody(in, presenceMap);
@@ -104,11 +176,7 @@ public class OdpMessageDecoder extends ByteToMessageDecoder {
             }
         } catch (Exception e) {
             log.error("Error decoding message body for type {}: {}", messageType, e.getMessage(), e);
-            // Skip remaining bytes to prevent corruption
-            int bytesToSkip = expectedBodyLength - (in.readerIndex() - bodyStartIndex);
-            if (bytesToSkip > 0) {
-                in.skipBytes(bytesToSkip);
-            }
+            message.release();
             throw e;
         }
 
@@ -116,31 +184,36 @@ public class OdpMessageDecoder extends ByteToMessageDecoder {
         out.add(message);
     }
 
-    private String readCharArray(ByteBuf buffer, int length) {
-        byte[] bytes = new byte[length];
-        buffer.readBytes(bytes);
-        
-        int strLen = 0;
-        for (int i = 0; i < length; i++) {
-            if (bytes[i] == 0) {
-                break;
-            }
-            strLen++;
+    /**
+     * Frame a message without copying any field out of the cumulation buffer
+     */
+    private void decodeFlyweight(ByteBuf in, List<Object> out) {
+        if (in.readableBytes() < OdpDataType.LENGTH_SIZE) {
+            return;
         }
-        
-        if (strLen == 0) {
-            return null;
+
+        int frameStart = in.readerIndex();
+        int length = in.getUnsignedShortLE(frameStart + OdpDataType.LENGTH_OFFSET);
+        if (length < OdpDataType.HEADER_SIZE) {
+            throw new CorruptedFrameException("Frame length " + length
+                    + " is shorter than the header size " + OdpDataType.HEADER_SIZE);
         }
-        
-        return new String(bytes, 0, strLen, StandardCharsets.US_ASCII);
-    }
+        if (in.readableBytes() < length) {
+            return;
+        }
+
+        OdpMessageView view = flyweight;
+        if (view.isWrapped()) {
+            // A downstream handler still holds the previous view, never overwrite it
+            log.debug("Previous OdpMessageView not released yet, using a new view");
+            view = new OdpMessageView();
+        }
+
+        out.add(view.wrap(in.retainedSlice(frameStart, length)));
+        in.skipBytes(length);
 
-    private String bytesToHex(byte[] bytes) {
-        if (bytes == null) return "null";
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02X ", b));
+        if (log.isTraceEnabled()) {
+            log.trace("Framed message: {}", view);
         }
-        return sb.toString().trim();
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+// src/test/java/com/odp/simulator/client/codec/OdpMessageDecoderTest.java
+package com.odp.simulator.client.codec;
+
+import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.protocol.OdpMessageHeader;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.ResendRequestCodec;
+import com.odp.simulator.client.protocol.messages.GenericOdpMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OdpMessageDecoderTest {
+
+    @Test
+    void pooledDecodeSkipsFrameWithInvalidPresenceMap() {
+        ByteBuf invalid = frame(1);
+        // Bits no Resend Request field is defined for
+        invalid.setByte(OdpDataType.BODY_OFFSET - 1, 0xFF);
+        ByteBuf frames = Unpooled.wrappedBuffer(invalid, frame(2));
+
+        EmbeddedChannel channel = new EmbeddedChannel(new OdpMessageDecoder(OdpDecodeMode.POOLED));
+        assertThrows(DecoderException.class, () -> channel.writeInbound(frames));
+        assertNull(channel.readInbound());
+
+        // The next frame is still read from its first byte
+        channel.writeInbound(Unpooled.EMPTY_BUFFER);
+        GenericOdpMessage message = channel.readInbound();
+        assertEquals(2, message.getHeader().getMsgSeqNum());
+        assertEquals(12, message.getLong(ResendRequestCodec.BP_START_SEQUENCE));
+        assertEquals(20, message.getLong(ResendRequestCodec.BP_END_SEQUENCE));
+        message.release();
+        channel.finishAndReleaseAll();
+    }
+
+    private static ByteBuf frame(long msgSeqNum) {
+        GenericOdpMessage request = new GenericOdpMessage(OdpMessageType.RESEND_REQUEST);
+        request.setLong(ResendRequestCodec.BP_START_SEQUENCE, 12);
+        request.setLong(ResendRequestCodec.BP_END_SEQUENCE, 20);
+        request.setHeader(OdpMessageHeader.builder()
+                .messageId(OdpMessageType.RESEND_REQUEST.getMessageId())
+                .msgSeqNum(msgSeqNum)
+                .compId("GW")
+                .build());
+        EmbeddedChannel encoder = new EmbeddedChannel(new OdpMessageEncoder());
+        encoder.writeOutbound(request);
+        ByteBuf frame = encoder.readOutbound();
+        encoder.finishAndReleaseAll();
+        return frame;
+    }
+}
\ No newline at end of file
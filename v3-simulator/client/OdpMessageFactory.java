@@ -6,6 +6,9 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Factory for creating ODP message instances based on message type
+ *
+ * Types without a hand-written message class are created as
+ * {@link GenericOdpMessage} when a schema is registered for them.
  */
 @Slf4j
 public class OdpMessageFactory {
@@ -24,11 +27,19 @@ public class OdpMessageFactory {
             case LOOKUP_RESPONSE -> new LookupResponse();
             case LOGON_REQUEST -> new LogonRequest();
             case LOGON_RESPONSE -> new LogonResponse();
-            // TODO: Add more message types as needed
-            // case NEW_ORDER_SINGLE -> new NewOrderSingle();
-            // case ORDER_ACCEPTED -> new OrderAccepted();
-            // case ORDER_REJECTED -> new OrderRejected();
+            case NEW_ORDER_SINGLE -> new NewOrderSingle();
+            case ORDER_AMEND_REQUEST -> new OrderAmendRequest();
+            case ORDER_CANCEL_REQUEST -> new OrderCancelRequest();
+            case ORDER_REJECTED -> new OrderRejected();
+            case ORDER_AMEND_REJECTED -> new OrderAmendRejected();
+            case ORDER_CANCEL_REJECTED -> new OrderCancelRejected();
+            case ORDER_ACCEPTED -> new OrderAccepted();
+            case SINGLE_QUOTE -> new SingleQuote();
+            case QUOTE_REQUEST -> new QuoteRequest();
             default -> {
+                if (OdpMessageSchemas.hasSchema(messageType)) {
+                    yield new GenericOdpMessage(messageType);
+                }
                 log.warn("Unsupported message type: {}", messageType);
                 yield null;
             }
@@ -3,6 +3,7 @@ package com.odp.simulator.client.handler;
 
 import com.odp.simulator.client.protocol.OdpMessage;
 import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
 
 /**
  * Interface for handling specific ODP message types
@@ -16,6 +17,21 @@ public interface OdpMessageHandler {
 
     /**
      * Handle the message
+     * In POOLED decode mode the message is released after this call returns,
+     * copy any field that is needed later.
      */
     void handle(OdpMessage message);
+
+    /**
+     * Handle a flyweight view of the message
+     * The view is only valid for the duration of this call.
+     * Handlers on the hot path should override this to read fields in place;
+     * by default the view is materialised and passed to {@link #handle}.
+     */
+    default void handleView(OdpMessageView view) {
+        OdpMessage message = view.materialize();
+        if (message != null) {
+            handle(message);
+        }
+    }
 }
\ No newline at end of file
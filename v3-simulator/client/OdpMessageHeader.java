@@ -1,14 +1,19 @@
 // src/main/java/com/odp/simulator/client/protocol/OdpMessageHeader.java
 package com.odp.simulator.client.protocol;
 
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
  * ODP Message Header as defined in Section 9.4
  */
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class OdpMessageHeader {
 
     /**
@@ -47,7 +52,19 @@ public class OdpMessageHeader {
      * Fields Presence Map - indicates which fields are present in the body
      * Data type: Bitmap (12)
      */
-    private byte[] fieldsPresenceMap;
+    private FieldPresenceMap fieldsPresenceMap;
+
+    /**
+     * Clear all fields so the header can be reused
+     */
+    public void clear() {
+        length = 0;
+        messageId = 0;
+        msgSeqNum = 0;
+        compId = null;
+        messageFlags = 0;
+        fieldsPresenceMap = null;
+    }
 
     /**
      * Check if PossDup flag is set
@@ -0,0 +1,438 @@
+// src/main/java/com/odp/simulator/client/session/OdpMessageJournal.java
+package com.odp.simulator.client.session;
+
+import com.odp.simulator.client.protocol.OdpDataType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.buffer.UnpooledDirectByteBuf;
+import io.netty.util.internal.PlatformDependent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Memory-mapped journal of encoded outbound frames in rolling segment files
+ *
+ * Every frame written to the gateway is copied as-is into a mapped segment,
+ * so a resend request is answered by writing slices of the mapping back to
+ * the channel without re-encoding. Frames are indexed by MsgSeqNum in a
+ * primitive array holding (segment parity << 62 | file offset << 16 | frame
+ * length) per sequence number.
+ *
+ * Segments are files named after the journal file with a running number
+ * appended, e.g. {@code C1.journal.7}. Frames are stored back to back exactly
+ * as sent, a zero length marks the end of a segment. When the current segment
+ * is full the journal rolls over to a new one, and the segment before it is
+ * dropped with the index entries of its frames, so the journal always holds
+ * between one and two segments of the most recent frames. A sequence reset
+ * drops both segments and starts a new one, reclaiming their space. Reopening
+ * rebuilds the index by walking the frames of the last two segments.
+ *
+ * Each segment mapping is reference counted: every resend slice retains it,
+ * and it is only unmapped once the segment was dropped or closed and the last
+ * slice written to the channel has been released. A dropped segment's file is
+ * deleted at once; a new segment never reuses its bytes.
+ *
+ * Not thread-safe, append, resend and close all run on the channel's event loop.
+ */
+@Slf4j
+public final class OdpMessageJournal implements Closeable {
+
+    private static final byte POSS_RESEND_FLAG = 0x02;
+    private static final int INITIAL_INDEX_SIZE = 1024;
+    private static final int SEGMENT_SHIFT = 62;
+    private static final long LOCATION_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final Path file;
+    private final int capacityBytes;
+
+    // Segment appended to, and the one before it, null if none
+    private Segment current;
+    private Segment previous;
+
+    // Index entry for sequence number firstSeqNum + i, 0 if not journaled
+    private long[] index = new long[INITIAL_INDEX_SIZE];
+    private long firstSeqNum;
+    private long lastSeqNum;
+    private boolean closed;
+
+    private OdpMessageJournal(Path file, int capacityBytes) {
+        this.file = file;
+        this.capacityBytes = capacityBytes;
+    }
+
+    /**
+     * Open or create a journal
+     * @param file Journal file name, segments are stored next to it with a running number appended
+     * @param capacityBytes Size of each segment file
+     */
+    public static OdpMessageJournal open(Path file, int capacityBytes) throws IOException {
+        if (capacityBytes < OdpDataType.HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment capacity too small: " + capacityBytes);
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        // Existing segment numbers, oldest first
+        String prefix = file.getFileName() + ".";
+        List<Long> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path segment : stream) {
+                String suffix = segment.getFileName().toString().substring(prefix.length());
+                if (!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit)) {
+                    numbers.add(Long.parseLong(suffix));
+                }
+            }
+        }
+        numbers.sort(null);
+        for (int i = 0; i < numbers.size() - 2; i++) {
+            Files.deleteIfExists(segmentPath(file, numbers.get(i)));
+        }
+
+        OdpMessageJournal journal = new OdpMessageJournal(file, capacityBytes);
+        try {
+            if (numbers.size() >= 2) {
+                journal.current = Segment.open(segmentPath(file, numbers.get(numbers.size() - 2)), capacityBytes,
+                        numbers.get(numbers.size() - 2));
+                journal.recover();
+                journal.previous = journal.current;
+                journal.current = null;
+            }
+            long number = numbers.isEmpty() ? 0L : numbers.get(numbers.size() - 1);
+            journal.current = Segment.open(segmentPath(file, number), capacityBytes, number);
+            journal.recover();
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+    }
+
+    private static Path segmentPath(Path file, long number) {
+        return file.resolveSibling(file.getFileName() + "." + number);
+    }
+
+    /**
+     * Rebuild the index from the frames already in the current segment
+     */
+    private void recover() {
+        ByteBuf buf = current.buf;
+        int position = 0;
+        int recovered = 0;
+        while (position + OdpDataType.HEADER_SIZE <= buf.capacity()) {
+            int length = buf.getUnsignedShortLE(position + OdpDataType.LENGTH_OFFSET);
+            if (length < OdpDataType.HEADER_SIZE || position + length > buf.capacity()) {
+                break;
+            }
+            long msgSeqNum = buf.getLongLE(position + OdpDataType.MSG_SEQ_NUM_OFFSET);
+            if (firstSeqNum != 0 && msgSeqNum <= lastSeqNum) {
+                // The sequence was reset, older entries are no longer addressable
+                clearIndex();
+                current.firstSeqNum = 0L;
+            }
+            index(msgSeqNum, position, length);
+            position += length;
+            recovered++;
+        }
+        current.position = position;
+        if (recovered > 0) {
+            log.info("Recovered {} journaled frames from {}, sequence numbers {}-{}",
+                    recovered, current.path, firstSeqNum, lastSeqNum);
+        }
+    }
+
+    /**
+     * Append one encoded frame, its sequence number is read from the header
+     * @return false if the frame was not journaled
+     */
+    public boolean append(ByteBuf frame) {
+        if (closed) {
+            return false;
+        }
+        int length = frame.readableBytes();
+        if (length > capacityBytes) {
+            log.error("Frame of {} bytes exceeds the journal segment size, not journaled", length);
+            return false;
+        }
+        int frameIndex = frame.readerIndex();
+        long msgSeqNum = frame.getLongLE(frameIndex + OdpDataType.MSG_SEQ_NUM_OFFSET);
+        try {
+            if (firstSeqNum != 0 && msgSeqNum <= lastSeqNum) {
+                log.info("Sequence reset to {} in message journal {}, dropping frames {}-{}",
+                        msgSeqNum, file, firstSeqNum, lastSeqNum);
+                startSegment(true);
+            } else if (current.position + length > current.buf.capacity()) {
+                startSegment(false);
+            }
+        } catch (IOException e) {
+            log.error("Failed to start a new segment of message journal {}: {}", file, e.getMessage());
+            return false;
+        }
+        int position = current.position;
+        current.buf.setBytes(position, frame, frameIndex, length);
+        index(msgSeqNum, position, length);
+        current.position = position + length;
+        return true;
+    }
+
+    /**
+     * Roll over to a new segment, dropping the one before the current one or, on a reset, both
+     */
+    private void startSegment(boolean reset) throws IOException {
+        long number = current.number + 1;
+        Segment next = Segment.open(segmentPath(file, number), capacityBytes, number);
+        Segment dropped = previous;
+        if (reset) {
+            clearIndex();
+            current.drop();
+            previous = null;
+        } else {
+            // Entries of the dropped segment are those below the first one of the current segment
+            previous = current;
+            dropBelow(previous.firstSeqNum);
+        }
+        current = next;
+        if (dropped != null) {
+            dropped.drop();
+        }
+        log.debug("Message journal {} continues in segment {}", file, number);
+    }
+
+    private void index(long msgSeqNum, int offset, int length) {
+        if (firstSeqNum == 0) {
+            firstSeqNum = msgSeqNum;
+        }
+        if (current.firstSeqNum == 0) {
+            current.firstSeqNum = msgSeqNum;
+        }
+        long slot = msgSeqNum - firstSeqNum;
+        if (slot >= index.length) {
+            index = Arrays.copyOf(index, (int) Math.max(slot + 1, index.length * 2L));
+        }
+        index[(int) slot] = ((current.number & 1) << SEGMENT_SHIFT) | ((long) offset << 16) | length;
+        lastSeqNum = msgSeqNum;
+    }
+
+    /**
+     * Drop the index entries below a sequence number
+     */
+    private void dropBelow(long msgSeqNum) {
+        if (firstSeqNum == 0 || msgSeqNum <= firstSeqNum) {
+            return;
+        }
+        if (msgSeqNum > lastSeqNum) {
+            clearIndex();
+            return;
+        }
+        int dropped = (int) (msgSeqNum - firstSeqNum);
+        int kept = (int) (lastSeqNum - msgSeqNum + 1);
+        System.arraycopy(index, dropped, index, 0, kept);
+        Arrays.fill(index, kept, kept + dropped, 0L);
+        firstSeqNum = msgSeqNum;
+    }
+
+    private void clearIndex() {
+        Arrays.fill(index, 0L);
+        firstSeqNum = 0L;
+        lastSeqNum = 0L;
+    }
+
+    /**
+     * Check if the frame with this sequence number is journaled
+     */
+    public boolean contains(long msgSeqNum) {
+        return entry(msgSeqNum) != 0L;
+    }
+
+    /**
+     * Lowest sequence number in the index, 0 if empty
+     */
+    public long getFirstSeqNum() {
+        return firstSeqNum;
+    }
+
+    /**
+     * Highest sequence number in the index, 0 if empty
+     */
+    public long getLastSeqNum() {
+        return lastSeqNum;
+    }
+
+    /**
+     * Bytes used by journaled frames in the current segment
+     */
+    public int getPosition() {
+        return current.position;
+    }
+
+    /**
+     * Get the journaled frames for a contiguous run of sequence numbers
+     *
+     * Each frame is marked PossResend in place and the run is returned as one
+     * retained slice of its segment's mapping, ready to write to the channel.
+     * The run ends at toSeqNum, at the first sequence number that is not
+     * journaled, or at the end of the segment.
+     *
+     * @return The frames, or null if fromSeqNum is not journaled or the journal is closed
+     */
+    public ByteBuf retainedResendSlice(long fromSeqNum, long toSeqNum) {
+        long first = closed ? 0L : entry(fromSeqNum);
+        if (first == 0L) {
+            return null;
+        }
+        ByteBuf buf = segmentOf(first).buf;
+        int start = (int) ((first & LOCATION_MASK) >>> 16);
+        int end = start;
+        for (long msgSeqNum = fromSeqNum; msgSeqNum <= toSeqNum; msgSeqNum++) {
+            long entry = entry(msgSeqNum);
+            int offset = (int) ((entry & LOCATION_MASK) >>> 16);
+            if (entry == 0L || offset != end || (entry >>> SEGMENT_SHIFT) != (first >>> SEGMENT_SHIFT)) {
+                break;
+            }
+            int flagsIndex = offset + OdpDataType.MESSAGE_FLAGS_OFFSET;
+            buf.setByte(flagsIndex, buf.getByte(flagsIndex) | POSS_RESEND_FLAG);
+            end = offset + (int) (entry & 0xFFFF);
+        }
+        return buf.retainedSlice(start, end - start);
+    }
+
+    /**
+     * Number of frames in a slice returned by {@link #retainedResendSlice}
+     */
+    public static int countFrames(ByteBuf frames) {
+        int count = 0;
+        int index = frames.readerIndex();
+        while (index < frames.writerIndex()) {
+            index += frames.getUnsignedShortLE(index + OdpDataType.LENGTH_OFFSET);
+            count++;
+        }
+        return count;
+    }
+
+    private long entry(long msgSeqNum) {
+        long slot = msgSeqNum - firstSeqNum;
+        if (firstSeqNum == 0 || slot < 0 || msgSeqNum > lastSeqNum) {
+            return 0L;
+        }
+        return index[(int) slot];
+    }
+
+    private Segment segmentOf(long entry) {
+        return (entry >>> SEGMENT_SHIFT) == (current.number & 1) ? current : previous;
+    }
+
+    /**
+     * Flush journaled frames to disk
+     */
+    public void force() {
+        current.mapped.force();
+    }
+
+    /**
+     * Flush and close the segments, each mapping is freed once no resend slice references it
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (previous != null) {
+                previous.close();
+            }
+        } finally {
+            if (current != null) {
+                current.close();
+            }
+        }
+    }
+
+    /**
+     * One segment file and its reference-counted mapping
+     */
+    private static final class Segment {
+
+        final Path path;
+        final long number;
+        final FileChannel fileChannel;
+        final MappedByteBuffer mapped;
+        final ByteBuf buf;
+        int position;
+        // First sequence number journaled in this segment, 0 if none
+        long firstSeqNum;
+
+        private Segment(Path path, long number, FileChannel fileChannel, MappedByteBuffer mapped) {
+            this.path = path;
+            this.number = number;
+            this.fileChannel = fileChannel;
+            this.mapped = mapped;
+            this.buf = new MappedJournalBuf(mapped);
+        }
+
+        static Segment open(Path path, int capacityBytes, long number) throws IOException {
+            FileChannel fileChannel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                long capacity = Math.max(capacityBytes, fileChannel.size());
+                return new Segment(path, number, fileChannel,
+                        fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+            } catch (IOException | RuntimeException e) {
+                fileChannel.close();
+                throw e;
+            }
+        }
+
+        void close() throws IOException {
+            try {
+                mapped.force();
+                fileChannel.close();
+            } finally {
+                buf.release();
+            }
+        }
+
+        /**
+         * Close and delete the file, slices still being written keep the mapping until released
+         */
+        void drop() {
+            try {
+                fileChannel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Failed to delete message journal segment {}: {}", path, e.getMessage());
+            } finally {
+                buf.release();
+            }
+        }
+    }
+
+    /**
+     * Wrapper of the mapping that unmaps it when its last reference is released
+     */
+    private static final class MappedJournalBuf extends UnpooledDirectByteBuf {
+
+        private final MappedByteBuffer mapped;
+
+        MappedJournalBuf(MappedByteBuffer mapped) {
+            super(UnpooledByteBufAllocator.DEFAULT, mapped, mapped.capacity());
+            this.mapped = mapped;
+        }
+
+        @Override
+        protected void deallocate() {
+            super.deallocate();
+            PlatformDependent.freeDirectBuffer(mapped);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+// src/test/java/com/odp/simulator/client/session/OdpMessageJournalTest.java
+package com.odp.simulator.client.session;
+
+import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OdpMessageJournalTest {
+
+    private static final int FRAME_LENGTH = OdpDataType.HEADER_SIZE + 8;
+    // Three frames per segment
+    private static final int CAPACITY = 3 * FRAME_LENGTH + 1;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void rollsOverAndDropsOldestSegment() throws IOException {
+        try (OdpMessageJournal journal = OdpMessageJournal.open(file(), CAPACITY)) {
+            append(journal, 1, 7);
+
+            // Segment 0 held 1-3 and was dropped when segment 2 started
+            assertFalse(journal.contains(3));
+            for (long msgSeqNum = 4; msgSeqNum <= 7; msgSeqNum++) {
+                assertTrue(journal.contains(msgSeqNum));
+            }
+            assertEquals(4, journal.getFirstSeqNum());
+            assertFalse(Files.exists(segment(0)));
+            assertTrue(Files.exists(segment(1)));
+            assertTrue(Files.exists(segment(2)));
+
+            // A resend run stops at the end of its segment
+            ByteBuf frames = journal.retainedResendSlice(4, 7);
+            assertEquals(3, OdpMessageJournal.countFrames(frames));
+            assertEquals(4, frames.getLongLE(OdpDataType.MSG_SEQ_NUM_OFFSET));
+            assertEquals(0x02, frames.getByte(OdpDataType.MESSAGE_FLAGS_OFFSET) & 0x02);
+            frames.release();
+            frames = journal.retainedResendSlice(7, 7);
+            assertEquals(1, OdpMessageJournal.countFrames(frames));
+            assertEquals(7, frames.getLongLE(OdpDataType.MSG_SEQ_NUM_OFFSET));
+            frames.release();
+        }
+    }
+
+    @Test
+    void resetDropsBothSegments() throws IOException {
+        try (OdpMessageJournal journal = OdpMessageJournal.open(file(), CAPACITY)) {
+            append(journal, 1, 4);
+            append(journal, 1, 1);
+
+            assertTrue(journal.contains(1));
+            assertFalse(journal.contains(2));
+            assertFalse(journal.contains(4));
+            assertEquals(FRAME_LENGTH, journal.getPosition());
+            assertFalse(Files.exists(segment(0)));
+            assertFalse(Files.exists(segment(1)));
+            assertTrue(Files.exists(segment(2)));
+        }
+    }
+
+    @Test
+    void reopenRecoversLastTwoSegments() throws IOException {
+        try (OdpMessageJournal journal = OdpMessageJournal.open(file(), CAPACITY)) {
+            append(journal, 1, 7);
+        }
+        try (OdpMessageJournal journal = OdpMessageJournal.open(file(), CAPACITY)) {
+            assertEquals(4, journal.getFirstSeqNum());
+            assertEquals(7, journal.getLastSeqNum());
+            assertEquals(FRAME_LENGTH, journal.getPosition());
+
+            append(journal, 8, 10);
+            assertFalse(journal.contains(6));
+            assertTrue(journal.contains(7));
+            assertTrue(journal.contains(10));
+            assertTrue(Files.exists(segment(3)));
+            assertFalse(Files.exists(segment(1)));
+        }
+    }
+
+    private static void append(OdpMessageJournal journal, long fromSeqNum, long toSeqNum) {
+        for (long msgSeqNum = fromSeqNum; msgSeqNum <= toSeqNum; msgSeqNum++) {
+            ByteBuf frame = Unpooled.buffer(FRAME_LENGTH);
+            frame.writeShortLE(FRAME_LENGTH);
+            frame.writeShortLE(OdpMessageType.NEW_ORDER_SINGLE.getMessageId());
+            frame.writeLongLE(msgSeqNum);
+            frame.writeZero(FRAME_LENGTH - frame.writerIndex());
+            assertTrue(journal.append(frame));
+            frame.release();
+        }
+    }
+
+    private Path file() {
+        return directory.resolve("C1.journal");
+    }
+
+    private Path segment(int number) {
+        return directory.resolve("C1.journal." + number);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,125 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/OdpMessagePool.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageFactory;
+import com.odp.simulator.client.protocol.OdpMessageHeader;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.util.Recycler;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.ResourceLeakDetectorFactory;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Per-thread pools of decoded messages built on Netty's {@link Recycler}
+ *
+ * A pooled message keeps its header object across uses. It goes back to the
+ * pool of the thread that acquired it when {@link OdpMessage#release()} is called.
+ * Messages that are never released are reported by Netty's
+ * {@link ResourceLeakDetector} (sampled, see -Dio.netty.leakDetection.level).
+ *
+ * Outbound messages taken with {@link #acquireOutbound} are released by the
+ * encoder once their frame is written, so order entry reuses the same few
+ * message and header objects per sending thread.
+ *
+ * Session setup messages are not pooled: they are handed to futures and kept
+ * by their callers well beyond the handler call.
+ */
+public final class OdpMessagePool {
+
+    private static final Set<OdpMessageType> NOT_POOLED = EnumSet.of(
+            OdpMessageType.LOOKUP_REQUEST,
+            OdpMessageType.LOOKUP_RESPONSE,
+            OdpMessageType.LOGON_REQUEST,
+            OdpMessageType.LOGON_RESPONSE,
+            OdpMessageType.UNKNOWN);
+
+    private static final ResourceLeakDetector<OdpMessage> LEAK_DETECTOR =
+            ResourceLeakDetectorFactory.instance().newResourceLeakDetector(OdpMessage.class);
+
+    // Indexed by message type ordinal, null for types that are not pooled
+    private static final MessageRecycler[] RECYCLERS = createRecyclers();
+
+    private OdpMessagePool() {
+        // Utility class
+    }
+
+    /**
+     * Check if messages of a type are pooled
+     */
+    public static boolean isPoolable(OdpMessageType messageType) {
+        return RECYCLERS[messageType.ordinal()] != null;
+    }
+
+    /**
+     * Take a message from the current thread's pool
+     * Returns null if the type is not pooled or has no message class or schema
+     */
+    public static OdpMessage acquire(OdpMessageType messageType) {
+        MessageRecycler recycler = RECYCLERS[messageType.ordinal()];
+        if (recycler == null) {
+            return null;
+        }
+        BaseOdpMessage message = recycler.get();
+        if (message == null) {
+            return null;
+        }
+        message.onAcquire(LEAK_DETECTOR.track(message));
+        return message;
+    }
+
+    /**
+     * Take a message from the current thread's pool to be filled and sent
+     * The message comes with a cleared header carrying its message ID. It must
+     * not be touched after it was handed to the trading client.
+     * Returns null if the type is not pooled or has no message class or schema
+     */
+    public static OdpMessage acquireOutbound(OdpMessageType messageType) {
+        OdpMessage message = acquire(messageType);
+        if (message == null) {
+            return null;
+        }
+        OdpMessageHeader header = message.getHeader();
+        if (header == null) {
+            header = new OdpMessageHeader();
+            message.setHeader(header);
+        }
+        header.setMessageId(messageType.getMessageId());
+        return message;
+    }
+
+    private static MessageRecycler[] createRecyclers() {
+        OdpMessageType[] types = OdpMessageType.values();
+        MessageRecycler[] recyclers = new MessageRecycler[types.length];
+        for (OdpMessageType type : types) {
+            if (!NOT_POOLED.contains(type)) {
+                recyclers[type.ordinal()] = new MessageRecycler(type);
+            }
+        }
+        return recyclers;
+    }
+
+    /**
+     * Recycler of one message type, a concrete class so the recyclers fit a typed array
+     */
+    private static final class MessageRecycler extends Recycler<BaseOdpMessage> {
+
+        private final OdpMessageType type;
+
+        MessageRecycler(OdpMessageType type) {
+            this.type = type;
+        }
+
+        @Override
+        protected BaseOdpMessage newObject(Handle<BaseOdpMessage> handle) {
+            OdpMessage message = OdpMessageFactory.createMessage(type);
+            if (!(message instanceof BaseOdpMessage base)) {
+                return null;
+            }
+            base.attachPool(handle);
+            return base;
+        }
+    }
+}
\ No newline at end of file
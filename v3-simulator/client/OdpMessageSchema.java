@@ -0,0 +1,105 @@
+// src/main/java/com/odp/simulator/client/protocol/OdpMessageSchema.java
+package com.odp.simulator.client.protocol;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import lombok.Getter;
+
+/**
+ * Body layout of one ODP message type
+ *
+ * Fields are indexed by their bit position in the Fields Presence Map.
+ * A present field occupies its full size on the wire, fields are laid out
+ * in ascending bit position order.
+ */
+public final class OdpMessageSchema {
+
+    @Getter
+    private final OdpMessageType messageType;
+
+    // Indexed by bit position, null where no field is defined
+    private final OdpFieldDefinition[] fields;
+
+    @Getter
+    private final FieldPresenceMap definedFields;
+
+    // Indexed by bit position, offset of a char array in a packed char storage
+    private final int[] charArrayOffsets;
+
+    /**
+     * Total length of all char array fields, the size of a packed char storage
+     */
+    @Getter
+    private final int charArrayLength;
+
+    private OdpMessageSchema(OdpMessageType messageType, OdpFieldDefinition[] fields,
+                             FieldPresenceMap definedFields) {
+        this.messageType = messageType;
+        this.fields = fields;
+        this.definedFields = definedFields;
+        this.charArrayOffsets = new int[fields.length];
+
+        int charOffset = 0;
+        for (OdpFieldDefinition field : fields) {
+            if (field != null && field.getType() == OdpFieldType.CHAR_ARRAY) {
+                charArrayOffsets[field.getBitPosition()] = charOffset;
+                charOffset += field.getSize();
+            }
+        }
+        this.charArrayLength = charOffset;
+    }
+
+    /**
+     * Create a schema from its field definitions
+     */
+    public static OdpMessageSchema of(OdpMessageType messageType, OdpFieldDefinition... definitions) {
+        int maxBitPosition = -1;
+        for (OdpFieldDefinition definition : definitions) {
+            maxBitPosition = Math.max(maxBitPosition, definition.getBitPosition());
+        }
+
+        OdpFieldDefinition[] fields = new OdpFieldDefinition[maxBitPosition + 1];
+        FieldPresenceMap definedFields = FieldPresenceMap.EMPTY;
+        for (OdpFieldDefinition definition : definitions) {
+            int bitPosition = definition.getBitPosition();
+            if (fields[bitPosition] != null) {
+                throw new IllegalArgumentException("Duplicate bit position " + bitPosition
+                        + " in schema for " + messageType);
+            }
+            fields[bitPosition] = definition;
+            definedFields = definedFields.with(bitPosition, true);
+        }
+        return new OdpMessageSchema(messageType, fields, definedFields);
+    }
+
+    /**
+     * Get the field defined at a bit position, or null
+     */
+    public OdpFieldDefinition getField(int bitPosition) {
+        if (bitPosition < 0 || bitPosition >= fields.length) {
+            return null;
+        }
+        return fields[bitPosition];
+    }
+
+    /**
+     * Offset of a char array field in a packed storage of {@link #getCharArrayLength()} bytes
+     * where every char array of this schema has its own slot
+     */
+    public int getCharArrayOffset(int bitPosition) {
+        return charArrayOffsets[bitPosition];
+    }
+
+    /**
+     * Highest defined bit position + 1
+     */
+    public int getFieldSlots() {
+        return fields.length;
+    }
+
+    /**
+     * Number of defined fields
+     */
+    public int getFieldCount() {
+        return definedFields.fieldCount();
+    }
+}
\ No newline at end of file
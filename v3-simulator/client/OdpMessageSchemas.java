@@ -0,0 +1,87 @@
+// src/main/java/com/odp/simulator/client/protocol/OdpMessageSchemas.java
+package com.odp.simulator.client.protocol;
+
+import com.odp.simulator.client.protocol.codecs.OdpCodecSchemas;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of message body schemas by message type
+ *
+ * Schemas of all generated codecs are registered on class load, so every
+ * message type in {@link OdpMessageType} gets codec plans. A replacement
+ * schema can still be registered here at runtime.
+ *
+ * The generated codecs take field offsets from the plan but char array
+ * lengths from compile-time constants, so a replacement must keep every
+ * field of the built-in schema at its bit position, type and size. It may
+ * add fields, they only move the offsets of the fields after them.
+ */
+@Slf4j
+public final class OdpMessageSchemas {
+
+    private static final Map<OdpMessageType, OdpMessageSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    private static final Map<OdpMessageType, OdpMessageSchema> BUILT_IN = new EnumMap<>(OdpMessageType.class);
+
+    static {
+        for (OdpMessageSchema schema : OdpCodecSchemas.ALL) {
+            BUILT_IN.put(schema.getMessageType(), schema);
+            register(schema);
+        }
+    }
+
+    private OdpMessageSchemas() {
+        // Utility class
+    }
+
+    /**
+     * Register or replace the schema of a message type
+     * @throws IllegalArgumentException if the schema does not match the generated codec of its type
+     */
+    public static void register(OdpMessageSchema schema) {
+        checkCompatible(schema);
+        OdpMessageSchema previous = SCHEMAS.put(schema.getMessageType(), schema);
+        if (previous != null && previous != schema) {
+            OdpCodecPlanCache.invalidate(schema.getMessageType());
+            log.info("Replaced schema for message type: {}", schema.getMessageType());
+        }
+    }
+
+    /**
+     * Check that a schema keeps every field of the generated codec of its type unchanged
+     * @throws IllegalArgumentException naming the first field that was removed or changed
+     */
+    public static void checkCompatible(OdpMessageSchema schema) {
+        OdpMessageSchema builtIn = BUILT_IN.get(schema.getMessageType());
+        if (builtIn == null || builtIn == schema) {
+            return;
+        }
+        for (int bitPosition = 0; bitPosition < builtIn.getFieldSlots(); bitPosition++) {
+            OdpFieldDefinition expected = builtIn.getField(bitPosition);
+            if (expected == null) {
+                continue;
+            }
+            OdpFieldDefinition actual = schema.getField(bitPosition);
+            if (actual == null || actual.getType() != expected.getType() || actual.getSize() != expected.getSize()) {
+                throw new IllegalArgumentException("Schema for " + schema.getMessageType()
+                        + (actual == null ? " is missing " : " has " + actual + " where the generated codec expects ")
+                        + expected);
+            }
+        }
+    }
+
+    /**
+     * Get the schema of a message type, or null if none is registered
+     */
+    public static OdpMessageSchema getSchema(OdpMessageType messageType) {
+        return SCHEMAS.get(messageType);
+    }
+
+    public static boolean hasSchema(OdpMessageType messageType) {
+        return SCHEMAS.containsKey(messageType);
+    }
+}
\ No newline at end of file
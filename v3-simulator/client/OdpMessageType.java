@@ -57,6 +57,13 @@ public enum OdpMessageType {
         }
     }
 
+    /**
+     * Order and quote messages, the messages counted by the gateway throttle
+     */
+    public boolean isApplication() {
+        return messageId >= NEW_ORDER_SINGLE.messageId;
+    }
+
     public static OdpMessageType fromMessageId(int messageId) {
         return ID_MAP.getOrDefault(messageId, UNKNOWN);
     }
@@ -0,0 +1,250 @@
+// src/main/java/com/odp/simulator/client/protocol/OdpMessageView.java
+package com.odp.simulator.client.protocol;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.codec.OdpCharArrays;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.AsciiString;
+
+/**
+ * Flyweight view over a single encoded ODP frame
+ *
+ * The view wraps a retained slice of the decoder's cumulation buffer and
+ * reads header and body fields on demand at their fixed offsets instead of
+ * copying them into a header and message object.
+ *
+ * A decoder owns one view per channel and re-wraps it for every frame, so a
+ * view is only valid until {@link #release()} is called by the consumer.
+ * Consumers that need the bytes afterwards must take {@link #retainedFrame()}.
+ *
+ * Body offsets passed to the accessors are relative to the first body byte.
+ */
+public final class OdpMessageView {
+
+    private ByteBuf frame;
+    private OdpMessageType messageType = OdpMessageType.UNKNOWN;
+
+    /**
+     * Point this view at a new frame, taking ownership of one reference
+     */
+    public OdpMessageView wrap(ByteBuf frame) {
+        if (this.frame != null) {
+            throw new IllegalStateException("Previous frame was not released");
+        }
+        this.frame = frame;
+        this.messageType = OdpMessageType.fromMessageId(getMessageId());
+        return this;
+    }
+
+    /**
+     * Release the wrapped frame, after which the view may be reused
+     */
+    public void release() {
+        if (frame != null) {
+            ByteBuf current = frame;
+            frame = null;
+            messageType = OdpMessageType.UNKNOWN;
+            current.release();
+        }
+    }
+
+    /**
+     * Check if the view currently wraps a frame
+     */
+    public boolean isWrapped() {
+        return frame != null;
+    }
+
+    /**
+     * Get the wrapped frame (header + body) without changing its reference count
+     */
+    public ByteBuf frame() {
+        return frame;
+    }
+
+    /**
+     * Get an additional reference to the wrapped frame for use beyond this view
+     */
+    public ByteBuf retainedFrame() {
+        return frame.retainedDuplicate();
+    }
+
+    // ---------------------------------------------------------------------
+    // Header accessors
+    // ---------------------------------------------------------------------
+
+    public OdpMessageType getMessageType() {
+        return messageType;
+    }
+
+    public int getLength() {
+        return frame.getUnsignedShortLE(frame.readerIndex() + OdpDataType.LENGTH_OFFSET);
+    }
+
+    public int getMessageId() {
+        return frame.getUnsignedShortLE(frame.readerIndex() + OdpDataType.MESSAGE_ID_OFFSET);
+    }
+
+    public long getMsgSeqNum() {
+        return frame.getLongLE(frame.readerIndex() + OdpDataType.MSG_SEQ_NUM_OFFSET);
+    }
+
+    public byte getMessageFlags() {
+        return frame.getByte(frame.readerIndex() + OdpDataType.MESSAGE_FLAGS_OFFSET);
+    }
+
+    public boolean isPossDup() {
+        return (getMessageFlags() & 0x01) != 0;
+    }
+
+    public boolean isPossResend() {
+        return (getMessageFlags() & 0x02) != 0;
+    }
+
+    /**
+     * Read the Comp ID, known Comp IDs are returned without allocation
+     */
+    public String getCompId() {
+        return OdpCharArrays.getInterned(frame, frame.readerIndex() + OdpDataType.COMP_ID_OFFSET,
+                OdpDataType.COMP_ID_SIZE);
+    }
+
+    /**
+     * Check if a field is present without copying the presence map
+     * Bit positions start from 0 (MSB of first byte)
+     */
+    public boolean isFieldPresent(int bitPosition) {
+        return FieldPresenceMap.isFieldPresent(getPresenceHigh(), getPresenceLow(), bitPosition);
+    }
+
+    /**
+     * Raw presence bits for positions 0-63
+     */
+    public long getPresenceHigh() {
+        return frame.getLong(frame.readerIndex() + OdpDataType.FIELDS_PRESENCE_MAP_OFFSET);
+    }
+
+    /**
+     * Raw presence bits for positions 64-95
+     */
+    public int getPresenceLow() {
+        return frame.getInt(frame.readerIndex() + OdpDataType.FIELDS_PRESENCE_MAP_OFFSET + 8);
+    }
+
+    public FieldPresenceMap getFieldsPresenceMap() {
+        return FieldPresenceMap.ofWords(getPresenceHigh(), getPresenceLow());
+    }
+
+    /**
+     * Get the codec plan for this frame's shape, or null if the type has no schema
+     */
+    public OdpCodecPlan getCodecPlan() {
+        if (!OdpMessageSchemas.hasSchema(messageType)) {
+            return null;
+        }
+        return OdpCodecPlanCache.getPlan(messageType, getPresenceHigh(), getPresenceLow());
+    }
+
+    /**
+     * Body offset of a field, or {@link OdpCodecPlan#ABSENT} if it is not present
+     */
+    public int fieldOffset(int bitPosition) {
+        OdpCodecPlan plan = getCodecPlan();
+        return plan != null ? plan.offsetOf(bitPosition) : OdpCodecPlan.ABSENT;
+    }
+
+    // ---------------------------------------------------------------------
+    // Body accessors
+    // ---------------------------------------------------------------------
+
+    public int getBodyLength() {
+        return getLength() - OdpDataType.HEADER_SIZE;
+    }
+
+    public int getUInt8(int bodyOffset) {
+        return frame.getUnsignedByte(bodyIndex(bodyOffset));
+    }
+
+    public int getUInt16LE(int bodyOffset) {
+        return frame.getUnsignedShortLE(bodyIndex(bodyOffset));
+    }
+
+    public long getUInt32LE(int bodyOffset) {
+        return frame.getUnsignedIntLE(bodyIndex(bodyOffset));
+    }
+
+    public long getUInt64LE(int bodyOffset) {
+        return frame.getLongLE(bodyIndex(bodyOffset));
+    }
+
+    /**
+     * Read a fixed-length char array (allocates a String, use only off the hot path)
+     */
+    public String getCharArray(int bodyOffset, int length) {
+        return OdpCharArrays.get(frame, bodyIndex(bodyOffset), length);
+    }
+
+    /**
+     * Read a fixed-length char array as an ASCII value
+     * Interned values are returned without allocation
+     */
+    public AsciiString getAsciiCharArray(int bodyOffset, int length) {
+        return OdpCharArrays.getAscii(frame, bodyIndex(bodyOffset), length);
+    }
+
+    /**
+     * Absolute buffer index of the first body byte, as taken by the generated codecs
+     */
+    public int bodyIndex() {
+        return frame.readerIndex() + OdpDataType.BODY_OFFSET;
+    }
+
+    /**
+     * Get a slice of the body without copying or changing the reference count
+     */
+    public ByteBuf body() {
+        return frame.slice(frame.readerIndex() + OdpDataType.BODY_OFFSET, getBodyLength());
+    }
+
+    // ---------------------------------------------------------------------
+    // Materialisation
+    // ---------------------------------------------------------------------
+
+    /**
+     * Decode the viewed frame into a regular message object
+     * Returns null for message types without a message class
+     */
+    public OdpMessage materialize() {
+        OdpMessage message = OdpMessageFactory.createMessage(messageType);
+        if (message == null) {
+            return null;
+        }
+
+        FieldPresenceMap presenceMap = getFieldsPresenceMap();
+
+        OdpMessageHeader header = OdpMessageHeader.builder()
+                .length(getLength())
+                .messageId(getMessageId())
+                .msgSeqNum(getMsgSeqNum())
+                .compId(getCompId())
+                .messageFlags(getMessageFlags())
+                .fieldsPresenceMap(presenceMap)
+                .build();
+        message.setHeader(header);
+        message.decodeBody(body(), presenceMap);
+        return message;
+    }
+
+    private int bodyIndex(int bodyOffset) {
+        return bodyIndex() + bodyOffset;
+    }
+
+    @Override
+    public String toString() {
+        if (frame == null) {
+            return "OdpMessageView(released)";
+        }
+        return "OdpMessageView(type=" + messageType + ", seqNum=" + getMsgSeqNum()
+                + ", length=" + getLength() + ")";
+    }
+}
\ No newline at end of file
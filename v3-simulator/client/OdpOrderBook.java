@@ -0,0 +1,634 @@
+// src/main/java/com/odp/simulator/client/service/OdpOrderBook.java
+package com.odp.simulator.client.service;
+
+import com.odp.simulator.client.config.OdpClientProperties;
+import com.odp.simulator.client.protocol.messages.NewOrderSingle;
+import com.odp.simulator.client.protocol.messages.OrderAccepted;
+import io.netty.buffer.ByteBuf;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Client-side order state over an {@link OdpOrderStore}
+ *
+ * Orders are added by {@link OdpOrderService} when a request is sent and
+ * updated by the order response handlers on the event loop. While an amend
+ * or cancel is in flight the order is also found by the ClOrdID of that
+ * request. An order has at most one amend or cancel in flight, another is
+ * refused until the gateway has answered the first.
+ *
+ * Handlers look an order up once, by ClOrdID read in place from the frame,
+ * and apply the response to its slot; none of this allocates. All access
+ * is serialised on the book.
+ *
+ * Filled, cancelled and rejected orders stay in the store for lookup until
+ * retainedTerminalOrders later orders have finished too. The oldest is then
+ * removed, its slot and ClOrdID are free for reuse. Orders that were already
+ * finished are dropped on recovery, so a restart frees their ClOrdIDs.
+ *
+ * With the event log enabled every change is also appended to an
+ * {@link OdpOrderEventLog}. A snapshot is taken every
+ * snapshotIntervalEvents events and when the log is full: the store is
+ * copied under the book's lock and written on a background thread while
+ * events go to the next log segment. The final snapshot on shutdown is
+ * written synchronously. On startup the book maps the last snapshot and
+ * replays the log after it.
+ *
+ * A request that is never sent is rolled back: a new order is marked
+ * rejected with {@link #REJECT_REASON_NOT_SENT}, an amend or cancel is
+ * undone as if the gateway had rejected it.
+ *
+ * Gateway responses and fills are passed to {@link OdpOrderListeners} as
+ * views of the updated order; replayed events are not.
+ */
+@Slf4j
+@Component
+public class OdpOrderBook {
+
+    /**
+     * Reject reason of a request the client could not send, the gateway never saw it
+     */
+    public static final int REJECT_REASON_NOT_SENT = -1;
+
+    private final OdpOrderStore store;
+    private final OdpOrderEventLog eventLog;
+    private final OdpOrderListeners listeners;
+    private final long snapshotIntervalEvents;
+
+    // Slots of finished orders in the order they finished, oldest at terminalHead
+    private final int[] terminalSlots;
+    private int terminalHead;
+    private int terminalCount;
+
+    // Outstanding acknowledgements by slot, of the new order and of an amend or cancel
+    private OdpAckFuture[] newAcks = new OdpAckFuture[16];
+    private OdpAckFuture[] replaceAcks = new OdpAckFuture[16];
+
+    public OdpOrderBook(OdpClientProperties properties, OdpOrderListeners listeners) {
+        this.listeners = listeners;
+        OdpClientProperties.OrderConfig config = properties.getOrder();
+        OdpClientProperties.OrderEventLogConfig logConfig = config.getEventLog();
+        this.snapshotIntervalEvents = logConfig.getSnapshotIntervalEvents();
+        this.terminalSlots = new int[Math.max(config.getRetainedTerminalOrders(), 0)];
+        if (!logConfig.isEnabled()) {
+            this.store = new OdpOrderStore(config.getStoreCapacity());
+            this.eventLog = null;
+            return;
+        }
+        Path directory = Path.of(logConfig.getDirectory());
+        OdpOrderEventLog openedLog = null;
+        try {
+            long start = System.nanoTime();
+            openedLog = OdpOrderEventLog.open(directory, logConfig.getCapacityBytes());
+            this.store = openedLog.loadSnapshot(config.getStoreCapacity());
+            int replayed = openedLog.replay(new Replay());
+            int dropped = dropTerminalOrders(store);
+            if (dropped > 0) {
+                // The snapshot makes the removals durable without logging each one
+                openedLog.snapshot(store);
+            }
+            log.info("Recovered {} orders from {} (log epoch {}, {} events replayed, {} finished orders dropped)"
+                            + " in {} ms", store.size(), directory, openedLog.getEpoch(), replayed, dropped,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(openedLog);
+            throw new IllegalStateException("Failed to recover order state from " + directory, e);
+        }
+        this.eventLog = openedLog;
+    }
+
+    /**
+     * Track a new order
+     * @param ack Completed when the gateway answers the order, may be null
+     * @return The order's slot
+     * @throws IllegalArgumentException if the ClOrdID is empty or already in use
+     */
+    public synchronized int add(NewOrderSingle order, OdpAckFuture ack) {
+        long time = System.currentTimeMillis();
+        int slot = store.add(order.getClOrdId(), order.getSecurityId(), order.getSide(), order.getOrderType(),
+                order.getTimeInForce(), order.getPrice(), order.getOrderQuantity(), time);
+        if (eventLog != null) {
+            logged(eventLog.appendAdd(slot, time, order.getClOrdId(), order.getSecurityId(), order.getSide(),
+                    order.getOrderType(), order.getTimeInForce(), order.getPrice(), order.getOrderQuantity()));
+        }
+        ensureAckCapacity(slot);
+        newAcks[slot] = ack;
+        if (ack != null) {
+            ack.track(this, slot, false);
+        }
+        return slot;
+    }
+
+    /**
+     * Get a copy of an order by its current ClOrdID or the ClOrdID of a request in flight
+     * @return The order's state, or null if the order is not known
+     */
+    public synchronized OrderState get(CharSequence clOrdId) {
+        int slot = store.findByClOrdId(clOrdId);
+        if (slot == OdpOrderStore.NO_ORDER) {
+            return null;
+        }
+        OrderState state = new OrderState();
+        store.copyTo(slot, state);
+        return state;
+    }
+
+    /**
+     * Copies of all tracked orders
+     */
+    public synchronized List<OrderState> getOrders() {
+        List<OrderState> orders = new ArrayList<>(store.size());
+        for (int slot = 0; slot < store.slotLimit(); slot++) {
+            if (store.isUsed(slot)) {
+                OrderState state = new OrderState();
+                store.copyTo(slot, state);
+                orders.add(state);
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * Number of tracked orders
+     */
+    public synchronized int size() {
+        return store.size();
+    }
+
+    // ---------------------------------------------------------------------
+    // Lookups
+    // ---------------------------------------------------------------------
+
+    /**
+     * Find an order by ClOrdID, falling back to the Orig ClOrdID
+     * @return The order's slot or {@link OdpOrderStore#NO_ORDER}
+     */
+    public synchronized int find(CharSequence clOrdId, CharSequence origClOrdId) {
+        int slot = store.findByClOrdId(clOrdId);
+        return slot != OdpOrderStore.NO_ORDER ? slot : store.findByClOrdId(origClOrdId);
+    }
+
+    /**
+     * Find an order by ClOrdID fields read in place from a frame
+     * @param clOrdIdIndex Buffer index of the ClOrdID, negative if absent
+     * @param origClOrdIdIndex Buffer index of the Orig ClOrdID, negative if absent
+     * @return The order's slot or {@link OdpOrderStore#NO_ORDER}
+     */
+    public synchronized int find(ByteBuf buffer, int clOrdIdIndex, int origClOrdIdIndex) {
+        int slot = clOrdIdIndex >= 0 ? store.findByClOrdId(buffer, clOrdIdIndex) : OdpOrderStore.NO_ORDER;
+        if (slot == OdpOrderStore.NO_ORDER && origClOrdIdIndex >= 0) {
+            slot = store.findByClOrdId(buffer, origClOrdIdIndex);
+        }
+        return slot;
+    }
+
+    /**
+     * Find an order by its exchange Order ID
+     * @return The order's slot or {@link OdpOrderStore#NO_ORDER}
+     */
+    public synchronized int findByOrderId(long orderId) {
+        return store.findByOrderId(orderId);
+    }
+
+    // ---------------------------------------------------------------------
+    // Updates
+    // ---------------------------------------------------------------------
+
+    /**
+     * Record an amend or cancel sent under a new ClOrdID
+     * @param ack Completed when the gateway answers the request, may be null
+     * @return Copy of the order as it was before the request, to fill the request from
+     * @throws IllegalArgumentException if the order is not known or the ClOrdID is already in use
+     * @throws IllegalStateException if the order can no longer change or an amend or cancel of it is pending
+     */
+    public synchronized OrderState onReplaceSent(CharSequence origClOrdId, CharSequence clOrdId,
+                                                 OrderStatus pendingStatus, OdpAckFuture ack) {
+        int slot = store.findByClOrdId(origClOrdId);
+        if (slot == OdpOrderStore.NO_ORDER) {
+            throw new IllegalArgumentException("Unknown order: " + origClOrdId);
+        }
+        OrderStatus status = store.getStatus(slot);
+        if (status.isTerminal()) {
+            throw new IllegalStateException("Order " + origClOrdId + " is " + status);
+        }
+        if (store.hasPendingClOrdId(slot)) {
+            // One request in flight per order, its answer is matched to the pending ClOrdID and ack
+            throw new IllegalStateException("Order " + origClOrdId + " is " + status + " with request "
+                    + store.getPendingClOrdId(slot));
+        }
+        OrderState state = new OrderState();
+        store.copyTo(slot, state);
+        long time = System.currentTimeMillis();
+        applyReplaceSent(slot, time, clOrdId, pendingStatus);
+        if (eventLog != null) {
+            logged(eventLog.appendReplaceSent(slot, time, clOrdId, pendingStatus));
+        }
+        ensureAckCapacity(slot);
+        replaceAcks[slot] = ack;
+        if (ack != null) {
+            ack.track(this, slot, true);
+        }
+        return state;
+    }
+
+    /**
+     * Apply an Order Accepted to an order and complete the request's acknowledgement
+     * An accepted amend moves the order to the amend's ClOrdID.
+     */
+    public void onAccepted(int slot, int execType, int orderStatus, long orderId, long price,
+                           long orderQuantity, long leavesQuantity, long cumulativeQuantity) {
+        OdpAckFuture ack;
+        OrderStatus status;
+        OdpOrderListeners.Event event;
+        synchronized (this) {
+            boolean wasTerminal = store.getStatus(slot).isTerminal();
+            long time = System.currentTimeMillis();
+            applyAccepted(slot, time, execType, orderStatus, orderId, price, orderQuantity, leavesQuantity,
+                    cumulativeQuantity);
+            if (eventLog != null) {
+                logged(eventLog.appendAccepted(slot, time, execType, orderStatus, orderId, price, orderQuantity,
+                        leavesQuantity, cumulativeQuantity));
+            }
+            status = store.getStatus(slot);
+            boolean replace = execType == OrderAccepted.EXEC_TYPE_AMENDED
+                    || execType == OrderAccepted.EXEC_TYPE_CANCELLED;
+            ack = takeAck(replace ? replaceAcks : newAcks, slot);
+            event = listeners.capture(store, slot, OdpOrderListeners.ACCEPTED, execType, 0, 0);
+            if (log.isDebugEnabled()) {
+                log.debug("Order accepted: clOrdId={}, orderId={}, status={}",
+                        store.getClOrdId(slot), store.getOrderId(slot), status);
+            }
+            retireIfFinished(slot, wasTerminal);
+        }
+        // Dependent actions run outside the book's lock
+        listeners.dispatch(event);
+        if (ack != null) {
+            ack.complete(status);
+        }
+    }
+
+    /**
+     * Apply an Order Rejected to a new order and complete its acknowledgement
+     */
+    public void onRejected(int slot, int ordRejReason) {
+        OdpAckFuture ack;
+        OdpOrderListeners.Event event;
+        synchronized (this) {
+            boolean wasTerminal = store.getStatus(slot).isTerminal();
+            long time = System.currentTimeMillis();
+            applyRejected(slot, time, ordRejReason);
+            if (eventLog != null) {
+                logged(eventLog.appendRejected(slot, time, ordRejReason));
+            }
+            ack = takeAck(newAcks, slot);
+            event = listeners.capture(store, slot, OdpOrderListeners.REJECTED, 0, 0, 0);
+            retireIfFinished(slot, wasTerminal);
+        }
+        listeners.dispatch(event);
+        if (ack != null) {
+            ack.complete(OrderStatus.REJECTED);
+        }
+    }
+
+    /**
+     * An amend or cancel was rejected, the order keeps working as before
+     * The request's acknowledgement completes with the status the order returned to.
+     */
+    public void onReplaceRejected(int slot, int cxlRejReason) {
+        OdpAckFuture ack;
+        OrderStatus status;
+        OdpOrderListeners.Event event;
+        synchronized (this) {
+            long time = System.currentTimeMillis();
+            applyReplaceRejected(slot, time, cxlRejReason);
+            if (eventLog != null) {
+                logged(eventLog.appendReplaceRejected(slot, time, cxlRejReason));
+            }
+            status = store.getStatus(slot);
+            ack = takeAck(replaceAcks, slot);
+            event = listeners.capture(store, slot, OdpOrderListeners.REPLACE_REJECTED, 0, 0, 0);
+        }
+        listeners.dispatch(event);
+        if (ack != null) {
+            ack.complete(status);
+        }
+    }
+
+    /**
+     * A tracked request was not sent: the write failed, the throttle rejected it
+     * or a newer amend of the same order superseded it
+     * Does nothing if a later request of the order has replaced it in the book.
+     */
+    public void onSendFailed(OdpAckFuture ack, Throwable cause) {
+        OdpOrderListeners.Event event;
+        synchronized (this) {
+            int slot = ack.slot();
+            OdpAckFuture[] acks = ack.isReplace() ? replaceAcks : newAcks;
+            if (slot >= acks.length || acks[slot] != ack) {
+                return;
+            }
+            acks[slot] = null;
+            long time = System.currentTimeMillis();
+            if (ack.isReplace()) {
+                log.warn("Request {} for order {} was not sent, order restored: {}",
+                        store.getPendingClOrdId(slot), store.getClOrdId(slot), cause.toString());
+                applyReplaceRejected(slot, time, REJECT_REASON_NOT_SENT);
+                if (eventLog != null) {
+                    logged(eventLog.appendReplaceRejected(slot, time, REJECT_REASON_NOT_SENT));
+                }
+                event = listeners.capture(store, slot, OdpOrderListeners.REPLACE_REJECTED, 0, 0, 0);
+            } else {
+                log.warn("Order {} was not sent, marked rejected: {}", store.getClOrdId(slot), cause.toString());
+                applyRejected(slot, time, REJECT_REASON_NOT_SENT);
+                if (eventLog != null) {
+                    logged(eventLog.appendRejected(slot, time, REJECT_REASON_NOT_SENT));
+                }
+                event = listeners.capture(store, slot, OdpOrderListeners.REJECTED, 0, 0, 0);
+                retireIfFinished(slot, false);
+            }
+        }
+        listeners.dispatch(event);
+    }
+
+    /**
+     * Undo the book change of a request that could not be handed to the client at all
+     * A new order is removed, freeing its ClOrdID, an amend or cancel is undone.
+     * The caller reports the failure, listeners are not called.
+     */
+    public synchronized void undo(OdpAckFuture ack) {
+        int slot = ack.slot();
+        OdpAckFuture[] acks = ack.isReplace() ? replaceAcks : newAcks;
+        if (slot >= acks.length || acks[slot] != ack) {
+            return;
+        }
+        acks[slot] = null;
+        if (ack.isReplace()) {
+            long time = System.currentTimeMillis();
+            applyReplaceRejected(slot, time, REJECT_REASON_NOT_SENT);
+            if (eventLog != null) {
+                logged(eventLog.appendReplaceRejected(slot, time, REJECT_REASON_NOT_SENT));
+            }
+        } else {
+            remove(slot);
+        }
+    }
+
+    /**
+     * Apply an execution to an order: quantities, average price and status
+     */
+    public void onFill(int slot, long lastQuantity, long lastPrice) {
+        OdpOrderListeners.Event event;
+        synchronized (this) {
+            boolean wasTerminal = store.getStatus(slot).isTerminal();
+            long time = System.currentTimeMillis();
+            applyFill(slot, time, lastQuantity, lastPrice);
+            if (eventLog != null) {
+                logged(eventLog.appendFill(slot, time, lastQuantity, lastPrice));
+            }
+            event = listeners.capture(store, slot, OdpOrderListeners.FILLED, 0, lastQuantity, lastPrice);
+            retireIfFinished(slot, wasTerminal);
+        }
+        listeners.dispatch(event);
+    }
+
+    // ---------------------------------------------------------------------
+    // Snapshots
+    // ---------------------------------------------------------------------
+
+    /**
+     * Snapshot the order store and restart the event log
+     * Blocks order updates while the snapshot is written.
+     */
+    public synchronized void snapshot() {
+        if (eventLog == null) {
+            return;
+        }
+        try {
+            eventLog.snapshot(store);
+        } catch (IOException e) {
+            log.error("Failed to write order snapshot, order events are not durable until the next one", e);
+        }
+    }
+
+    /**
+     * Take a final snapshot, so the next start has nothing to replay, and close the log
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (eventLog == null) {
+            return;
+        }
+        snapshot();
+        closeQuietly(eventLog);
+    }
+
+    private void ensureAckCapacity(int slot) {
+        if (slot >= newAcks.length) {
+            int length = Math.max(slot + 1, newAcks.length * 2);
+            newAcks = Arrays.copyOf(newAcks, length);
+            replaceAcks = Arrays.copyOf(replaceAcks, length);
+        }
+    }
+
+    private static OdpAckFuture takeAck(OdpAckFuture[] acks, int slot) {
+        if (slot >= acks.length) {
+            return null;
+        }
+        OdpAckFuture ack = acks[slot];
+        acks[slot] = null;
+        return ack;
+    }
+
+    /**
+     * Queue an order that just finished for removal, removing the oldest finished order beyond the retained count
+     */
+    private void retireIfFinished(int slot, boolean wasTerminal) {
+        if (wasTerminal || !store.getStatus(slot).isTerminal()) {
+            return;
+        }
+        if (terminalSlots.length == 0) {
+            remove(slot);
+            return;
+        }
+        if (terminalCount == terminalSlots.length) {
+            remove(terminalSlots[terminalHead]);
+            terminalHead = (terminalHead + 1) % terminalSlots.length;
+            terminalCount--;
+        }
+        terminalSlots[(terminalHead + terminalCount) % terminalSlots.length] = slot;
+        terminalCount++;
+    }
+
+    private void remove(int slot) {
+        store.remove(slot);
+        if (slot < newAcks.length) {
+            newAcks[slot] = null;
+            replaceAcks[slot] = null;
+        }
+        if (eventLog != null) {
+            logged(eventLog.appendRemove(slot, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Remove every finished order, e.g. after recovery
+     * @return Number of orders removed
+     */
+    private static int dropTerminalOrders(OdpOrderStore store) {
+        int dropped = 0;
+        for (int slot = 0; slot < store.slotLimit(); slot++) {
+            if (store.isUsed(slot) && store.getStatus(slot).isTerminal()) {
+                store.remove(slot);
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    private void logged(boolean appended) {
+        if (appended && (eventLog.getEventsSinceSnapshot() < snapshotIntervalEvents || eventLog.isSnapshotPending())) {
+            // Past the interval a snapshot waits for the previous one to be written, while the log has room
+            return;
+        }
+        // A full log is covered by the snapshot, the current change is already applied
+        try {
+            eventLog.snapshotInBackground(store);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to write order snapshot, order events are not durable until the next one", e);
+        }
+    }
+
+    private static void closeQuietly(OdpOrderEventLog eventLog) {
+        if (eventLog == null) {
+            return;
+        }
+        try {
+            eventLog.close();
+        } catch (IOException e) {
+            log.warn("Failed to close order event log", e);
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // State changes, shared by live updates and replay
+    // ---------------------------------------------------------------------
+
+    private void applyReplaceSent(int slot, long time, CharSequence clOrdId, OrderStatus pendingStatus) {
+        store.setPendingClOrdId(slot, clOrdId);
+        store.setStatus(slot, pendingStatus);
+        store.setUpdateTime(slot, time);
+    }
+
+    private void applyAccepted(int slot, long time, int execType, int orderStatus, long orderId, long price,
+                               long orderQuantity, long leavesQuantity, long cumulativeQuantity) {
+        if (orderId != 0) {
+            store.setOrderId(slot, orderId);
+        }
+        if (execType == OrderAccepted.EXEC_TYPE_AMENDED) {
+            store.promotePendingClOrdId(slot);
+        } else if (execType == OrderAccepted.EXEC_TYPE_CANCELLED) {
+            store.clearPendingClOrdId(slot);
+        }
+        store.setPrice(slot, price);
+        store.setOrderQuantity(slot, orderQuantity);
+        store.setLeavesQuantity(slot, leavesQuantity);
+        store.setCumulativeQuantity(slot, cumulativeQuantity);
+        store.setStatus(slot, statusOf(slot, execType, orderStatus));
+        store.setUpdateTime(slot, time);
+    }
+
+    private void applyRejected(int slot, long time, int ordRejReason) {
+        store.setStatus(slot, OrderStatus.REJECTED);
+        store.setLeavesQuantity(slot, 0);
+        store.setRejectReason(slot, ordRejReason);
+        store.setUpdateTime(slot, time);
+    }
+
+    private void applyReplaceRejected(int slot, long time, int cxlRejReason) {
+        store.clearPendingClOrdId(slot);
+        if (!store.getStatus(slot).isTerminal()) {
+            store.setStatus(slot, store.workingStatus(slot));
+        }
+        store.setRejectReason(slot, cxlRejReason);
+        store.setUpdateTime(slot, time);
+    }
+
+    private void applyFill(int slot, long time, long lastQuantity, long lastPrice) {
+        store.applyFill(slot, lastQuantity, lastPrice);
+        OrderStatus status = store.getStatus(slot);
+        if (store.getLeavesQuantity(slot) == 0) {
+            store.setStatus(slot, OrderStatus.FILLED);
+        } else if (status == OrderStatus.NEW || status == OrderStatus.PENDING_NEW) {
+            // An amend or cancel in flight keeps its pending status
+            store.setStatus(slot, OrderStatus.PARTIALLY_FILLED);
+        }
+        store.setUpdateTime(slot, time);
+    }
+
+    private OrderStatus statusOf(int slot, int execType, int orderStatus) {
+        return switch (orderStatus) {
+            case OrderAccepted.ORDER_STATUS_NEW -> OrderStatus.NEW;
+            case OrderAccepted.ORDER_STATUS_PARTIALLY_FILLED -> OrderStatus.PARTIALLY_FILLED;
+            case OrderAccepted.ORDER_STATUS_FILLED -> OrderStatus.FILLED;
+            case OrderAccepted.ORDER_STATUS_CANCELLED -> OrderStatus.CANCELLED;
+            default -> execType == OrderAccepted.EXEC_TYPE_CANCELLED
+                    ? OrderStatus.CANCELLED
+                    : store.workingStatus(slot);
+        };
+    }
+
+    /**
+     * Applies logged events to the store restored from the snapshot
+     */
+    private final class Replay implements OdpOrderEventLog.Handler {
+
+        @Override
+        public void onAdd(int slot, long time, CharSequence clOrdId, CharSequence securityId, int side,
+                          int orderType, int timeInForce, long price, long orderQuantity) {
+            int added = store.add(clOrdId, securityId, side, orderType, timeInForce, price, orderQuantity, time);
+            if (added != slot) {
+                throw new IllegalStateException("Order event log does not match the snapshot: order "
+                        + clOrdId + " was logged in slot " + slot + ", replayed into " + added);
+            }
+        }
+
+        @Override
+        public void onAccepted(int slot, long time, int execType, int orderStatus, long orderId, long price,
+                               long orderQuantity, long leavesQuantity, long cumulativeQuantity) {
+            applyAccepted(slot, time, execType, orderStatus, orderId, price, orderQuantity, leavesQuantity,
+                    cumulativeQuantity);
+        }
+
+        @Override
+        public void onRejected(int slot, long time, int ordRejReason) {
+            applyRejected(slot, time, ordRejReason);
+        }
+
+        @Override
+        public void onReplaceSent(int slot, long time, CharSequence clOrdId, OrderStatus pendingStatus) {
+            applyReplaceSent(slot, time, clOrdId, pendingStatus);
+        }
+
+        @Override
+        public void onReplaceRejected(int slot, long time, int cxlRejReason) {
+            applyReplaceRejected(slot, time, cxlRejReason);
+        }
+
+        @Override
+        public void onFill(int slot, long time, long lastQuantity, long lastPrice) {
+            applyFill(slot, time, lastQuantity, lastPrice);
+        }
+
+        @Override
+        public void onRemove(int slot, long time) {
+            store.remove(slot);
+        }
+    }
+}
\ No newline at end of file
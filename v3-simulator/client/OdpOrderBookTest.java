@@ -0,0 +1,68 @@
+// src/test/java/com/odp/simulator/client/service/OdpOrderBookTest.java
+package com.odp.simulator.client.service;
+
+import com.odp.simulator.client.config.OdpClientProperties;
+import com.odp.simulator.client.protocol.messages.NewOrderSingle;
+import com.odp.simulator.client.protocol.messages.OrderAccepted;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OdpOrderBookTest {
+
+    @Test
+    void refusesSecondReplaceWhileOneIsPending() {
+        OdpClientProperties properties = new OdpClientProperties();
+        properties.getOrder().getEventLog().setEnabled(false);
+        OdpOrderBook book = new OdpOrderBook(properties, new OdpOrderListeners(properties));
+        int slot = book.add(order("ORD1"), null);
+        book.onAccepted(slot, OrderAccepted.EXEC_TYPE_NEW, OrderAccepted.ORDER_STATUS_NEW, 999, 100, 10, 10, 0);
+
+        OdpAckFuture amend = ack();
+        book.onReplaceSent("ORD1", "AMD1", OrderStatus.PENDING_AMEND, amend);
+
+        // Neither another amend nor a cancel may take over the pending ClOrdID and acknowledgement
+        assertThrows(IllegalStateException.class,
+                () -> book.onReplaceSent("ORD1", "AMD2", OrderStatus.PENDING_AMEND, ack()));
+        assertThrows(IllegalStateException.class,
+                () -> book.onReplaceSent("AMD1", "CXL1", OrderStatus.PENDING_CANCEL, ack()));
+        assertNull(book.get("AMD2"));
+        assertEquals("AMD1", book.get("ORD1").getPendingClOrdId());
+
+        // The gateway's answer goes to the first request
+        book.onAccepted(slot, OrderAccepted.EXEC_TYPE_AMENDED, OrderAccepted.ORDER_STATUS_NEW, 999, 101, 20, 20, 0);
+        assertSame(OrderStatus.NEW, amend.getNow(null));
+        OrderState state = book.get("AMD1");
+        assertEquals(101, state.getPrice());
+        assertNull(state.getPendingClOrdId());
+
+        // Answered, so the order takes the next request
+        OdpAckFuture cancel = ack();
+        book.onReplaceSent("AMD1", "CXL1", OrderStatus.PENDING_CANCEL, cancel);
+        book.onReplaceRejected(slot, 1);
+        assertSame(OrderStatus.NEW, cancel.getNow(null));
+        assertNull(book.get("AMD1").getPendingClOrdId());
+        book.onReplaceSent("AMD1", "CXL2", OrderStatus.PENDING_CANCEL, ack());
+        assertEquals(OrderStatus.PENDING_CANCEL, book.get("CXL2").getStatus());
+    }
+
+    private static OdpAckFuture ack() {
+        return new OdpAckFuture(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    private static NewOrderSingle order(String clOrdId) {
+        NewOrderSingle order = new NewOrderSingle();
+        order.setClOrdId(clOrdId);
+        order.setSecurityId("700");
+        order.setSide(1);
+        order.setOrderType(NewOrderSingle.ORDER_TYPE_LIMIT);
+        order.setPrice(100);
+        order.setOrderQuantity(10);
+        return order;
+    }
+}
\ No newline at end of file
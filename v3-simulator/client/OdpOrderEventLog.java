@@ -0,0 +1,639 @@
+// src/main/java/com/odp/simulator/client/service/OdpOrderEventLog.java
+package com.odp.simulator.client.service;
+
+import io.netty.util.internal.PlatformDependent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable order lifecycle events in memory-mapped log segments, with snapshots
+ *
+ * Every change {@link OdpOrderBook} makes to its {@link OdpOrderStore} is
+ * appended as a fixed-layout binary record. Like the sequence store the log
+ * is never fsynced on the hot path, the page cache carries a record to disk
+ * once it is written into the mapping.
+ *
+ * A snapshot copies the store's columns and index tables into a separate
+ * file, written aside and atomically renamed into place, and starts a new
+ * log epoch. The log alternates between two segment files, epoch N writing
+ * to segment N % 2, and records carry the epoch they were written in. So
+ * recovery maps the snapshot, replays the records of the snapshot's epoch
+ * and then those of the next epoch, if a later snapshot was started but
+ * never completed; older records left in a segment are ignored without
+ * clearing it.
+ *
+ * {@link #snapshotInBackground} copies the store on the caller's thread,
+ * switches appends to the other segment at once and writes the copy on a
+ * background thread. A segment is only reused once the snapshot covering
+ * its records is on disk; until then, or after a failed write, the next
+ * snapshot is written synchronously.
+ *
+ * Segment file layout (little endian):
+ * - int  magic 0x4F444F4C ("ODOL")
+ * - int  version (2)
+ * - records, back to back
+ *
+ * Record header (24 bytes):
+ * - int  epoch
+ * - u16  record length
+ * - u8   event type
+ * - u8   reserved
+ * - int  checksum, CRC-32C of the rest of the record XOR (length | type << 16)
+ * - int  slot
+ * - long update time (ms since epoch)
+ *
+ * A REMOVE record has no body, it frees the order's slot.
+ *
+ * The first 8 header bytes are written last, with an ordered (release)
+ * store, so a partly written record reads as the end of the log. A record
+ * whose checksum does not match also ends the replay, and the rest of its
+ * segment is cleared so appends cannot be followed by stale records.
+ *
+ * Not thread-safe, {@link OdpOrderBook} appends under its lock.
+ */
+@Slf4j
+public final class OdpOrderEventLog implements Closeable {
+
+    public static final int MAGIC = 0x4F444F4C;
+    public static final int SNAPSHOT_MAGIC = 0x4F444F53;
+    public static final int VERSION = 2;
+
+    // Event types
+    public static final int ADD = 1;
+    public static final int ACCEPTED = 2;
+    public static final int REJECTED = 3;
+    public static final int REPLACE_SENT = 4;
+    public static final int REPLACE_REJECTED = 5;
+    public static final int FILL = 6;
+    public static final int REMOVE = 7;
+
+    private static final int SEGMENTS = 2;
+
+    private static final int FILE_HEADER_SIZE = 8;
+    private static final int RECORD_HEADER_SIZE = 24;
+    private static final int CHECKSUM_OFFSET = 8;
+    private static final int SLOT_OFFSET = 12;
+    private static final int TIME_OFFSET = 16;
+
+    private static final int ADD_LENGTH = RECORD_HEADER_SIZE + 64;
+    private static final int ACCEPTED_LENGTH = RECORD_HEADER_SIZE + 48;
+    private static final int REJECTED_LENGTH = RECORD_HEADER_SIZE + 8;
+    private static final int REPLACE_SENT_LENGTH = RECORD_HEADER_SIZE + 24;
+    private static final int FILL_LENGTH = RECORD_HEADER_SIZE + 16;
+
+    // Snapshot header: magic, version, epoch, reserved
+    private static final int SNAPSHOT_HEADER_SIZE = 16;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private static final VarHandle LONG =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Receives replayed events, in the order they were appended
+     */
+    public interface Handler {
+
+        void onAdd(int slot, long time, CharSequence clOrdId, CharSequence securityId, int side,
+                   int orderType, int timeInForce, long price, long orderQuantity);
+
+        void onAccepted(int slot, long time, int execType, int orderStatus, long orderId, long price,
+                        long orderQuantity, long leavesQuantity, long cumulativeQuantity);
+
+        void onRejected(int slot, long time, int ordRejReason);
+
+        void onReplaceSent(int slot, long time, CharSequence clOrdId, OrderStatus pendingStatus);
+
+        void onReplaceRejected(int slot, long time, int cxlRejReason);
+
+        void onFill(int slot, long time, long lastQuantity, long lastPrice);
+
+        void onRemove(int slot, long time);
+    }
+
+    private final Path snapshotFile;
+    private final FileChannel[] channels;
+    private final MappedByteBuffer[] segments;
+
+    private final AsciiView clOrdIdView = new AsciiView();
+    private final AsciiView securityIdView = new AsciiView();
+    private final CRC32C crc = new CRC32C();
+
+    // Segment of the current epoch and a view of it for checksums
+    private MappedByteBuffer mapped;
+    private ByteBuffer checksumView;
+
+    private int epoch;
+    private int position = FILE_HEADER_SIZE;
+    private long eventsSinceSnapshot;
+
+    // Epoch of the last snapshot known to be on disk, written by the snapshot thread
+    private volatile int durableEpoch;
+    private Thread snapshotWriter;
+    // Copy buffer of the previous background snapshot, reused once it is written
+    private ByteBuffer spareCopy;
+
+    private OdpOrderEventLog(Path directory, FileChannel[] channels, MappedByteBuffer[] segments) {
+        this.snapshotFile = directory.resolve("orders.snapshot");
+        this.channels = channels;
+        this.segments = segments;
+        useSegment(0);
+    }
+
+    /**
+     * Open or create the log segments and snapshot in a directory
+     * @param capacityBytes Size of each of the two segment files
+     */
+    public static OdpOrderEventLog open(Path directory, int capacityBytes) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel[] channels = new FileChannel[SEGMENTS];
+        MappedByteBuffer[] segments = new MappedByteBuffer[SEGMENTS];
+        try {
+            for (int i = 0; i < SEGMENTS; i++) {
+                channels[i] = FileChannel.open(directory.resolve("orders-" + i + ".log"),
+                        StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                long capacity = Math.max(capacityBytes, channels[i].size());
+                MappedByteBuffer segment = channels[i].map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+                if (segment.getInt(0) != MAGIC || segment.getInt(4) != VERSION) {
+                    // Records of another version never match an epoch and checksum, start over
+                    segment.putLong(FILE_HEADER_SIZE, 0L);
+                    segment.putInt(4, VERSION);
+                    segment.putInt(0, MAGIC);
+                }
+                segments[i] = segment;
+            }
+            return new OdpOrderEventLog(directory, channels, segments);
+        } catch (IOException | RuntimeException e) {
+            for (int i = 0; i < SEGMENTS; i++) {
+                if (segments[i] != null) {
+                    PlatformDependent.freeDirectBuffer(segments[i]);
+                }
+                if (channels[i] != null) {
+                    channels[i].close();
+                }
+            }
+            throw e;
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Recovery
+    // ---------------------------------------------------------------------
+
+    /**
+     * Load the last snapshot, or create an empty store if there is none
+     * Must be called before {@link #replay}.
+     */
+    public OdpOrderStore loadSnapshot(int initialCapacity) throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            setEpoch(0);
+            durableEpoch = 0;
+            return new OdpOrderStore(initialCapacity);
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            MappedByteBuffer snapshot = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                snapshot.order(ByteOrder.LITTLE_ENDIAN);
+                if (snapshot.getInt(0) != SNAPSHOT_MAGIC || snapshot.getInt(4) != VERSION) {
+                    throw new IOException("Not an order snapshot of version " + VERSION + ": " + snapshotFile);
+                }
+                setEpoch(snapshot.getInt(8));
+                durableEpoch = epoch;
+                snapshot.position(SNAPSHOT_HEADER_SIZE);
+                return OdpOrderStore.readSnapshot(snapshot);
+            } finally {
+                PlatformDependent.freeDirectBuffer(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Replay the records written since the loaded snapshot
+     * Appends continue after the last replayed record.
+     * @return Number of records replayed
+     */
+    public int replay(Handler handler) {
+        int snapshotEpoch = epoch;
+        int replayed = replaySegment(handler);
+        int snapshotEnd = position;
+        setEpoch(snapshotEpoch + 1);
+        int next = replaySegment(handler);
+        if (next == 0) {
+            // No later snapshot was started, keep appending after the snapshot's epoch
+            setEpoch(snapshotEpoch);
+            position = snapshotEnd;
+        }
+        replayed += next;
+        eventsSinceSnapshot = replayed;
+        return replayed;
+    }
+
+    private int replaySegment(Handler handler) {
+        int replayed = 0;
+        int index = FILE_HEADER_SIZE;
+        while (index + RECORD_HEADER_SIZE <= mapped.capacity()) {
+            long word = (long) LONG.getAcquire(mapped, index);
+            int length = (int) (word >>> 32) & 0xFFFF;
+            if ((int) word != epoch || length < RECORD_HEADER_SIZE || index + length > mapped.capacity()) {
+                break;
+            }
+            if (mapped.getInt(index + CHECKSUM_OFFSET) != checksum(index, word)) {
+                log.warn("Order event log record at {} of epoch {} fails its checksum, replay stops there",
+                        index, epoch);
+                // Later records of the epoch must not be replayed after the ones appended from here
+                clear(index);
+                break;
+            }
+            dispatch(handler, index, (int) (word >>> 48) & 0xFF);
+            index += length;
+            replayed++;
+        }
+        position = index;
+        return replayed;
+    }
+
+    private void clear(int from) {
+        int index = from;
+        for (; index + Long.BYTES <= mapped.capacity(); index += Long.BYTES) {
+            mapped.putLong(index, 0L);
+        }
+        for (; index < mapped.capacity(); index++) {
+            mapped.put(index, (byte) 0);
+        }
+    }
+
+    private void dispatch(Handler handler, int index, int type) {
+        int slot = mapped.getInt(index + SLOT_OFFSET);
+        long time = mapped.getLong(index + TIME_OFFSET);
+        int body = index + RECORD_HEADER_SIZE;
+        switch (type) {
+            case ADD -> handler.onAdd(slot, time,
+                    clOrdIdView.wrap(mapped, body, OdpOrderStore.CL_ORD_ID_LENGTH),
+                    securityIdView.wrap(mapped, body + 21, OdpOrderStore.SECURITY_ID_LENGTH),
+                    mapped.get(body + 42), mapped.get(body + 43), mapped.get(body + 44),
+                    mapped.getLong(body + 48), mapped.getLong(body + 56));
+            case ACCEPTED -> handler.onAccepted(slot, time,
+                    mapped.get(body) & 0xFF, mapped.get(body + 1) & 0xFF, mapped.getLong(body + 8),
+                    mapped.getLong(body + 16), mapped.getLong(body + 24), mapped.getLong(body + 32),
+                    mapped.getLong(body + 40));
+            case REJECTED -> handler.onRejected(slot, time, mapped.getInt(body));
+            case REPLACE_SENT -> handler.onReplaceSent(slot, time,
+                    clOrdIdView.wrap(mapped, body, OdpOrderStore.CL_ORD_ID_LENGTH),
+                    STATUSES[mapped.get(body + 21)]);
+            case REPLACE_REJECTED -> handler.onReplaceRejected(slot, time, mapped.getInt(body));
+            case FILL -> handler.onFill(slot, time, mapped.getLong(body), mapped.getLong(body + 8));
+            case REMOVE -> handler.onRemove(slot, time);
+            default -> log.warn("Skipping unknown order event type {} at {} of epoch {}", type, index, epoch);
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Appending, each returns false if the log is full
+    // ---------------------------------------------------------------------
+
+    public boolean appendAdd(int slot, long time, CharSequence clOrdId, CharSequence securityId, int side,
+                             int orderType, int timeInForce, long price, long orderQuantity) {
+        if (!hasRoom(ADD_LENGTH)) {
+            return false;
+        }
+        int body = position + RECORD_HEADER_SIZE;
+        putChars(body, clOrdId, OdpOrderStore.CL_ORD_ID_LENGTH);
+        putChars(body + 21, securityId, OdpOrderStore.SECURITY_ID_LENGTH);
+        mapped.put(body + 42, (byte) side);
+        mapped.put(body + 43, (byte) orderType);
+        mapped.put(body + 44, (byte) timeInForce);
+        mapped.putLong(body + 48, price);
+        mapped.putLong(body + 56, orderQuantity);
+        commit(ADD, ADD_LENGTH, slot, time);
+        return true;
+    }
+
+    public boolean appendAccepted(int slot, long time, int execType, int orderStatus, long orderId, long price,
+                                  long orderQuantity, long leavesQuantity, long cumulativeQuantity) {
+        if (!hasRoom(ACCEPTED_LENGTH)) {
+            return false;
+        }
+        int body = position + RECORD_HEADER_SIZE;
+        mapped.put(body, (byte) execType);
+        mapped.put(body + 1, (byte) orderStatus);
+        mapped.putLong(body + 8, orderId);
+        mapped.putLong(body + 16, price);
+        mapped.putLong(body + 24, orderQuantity);
+        mapped.putLong(body + 32, leavesQuantity);
+        mapped.putLong(body + 40, cumulativeQuantity);
+        commit(ACCEPTED, ACCEPTED_LENGTH, slot, time);
+        return true;
+    }
+
+    public boolean appendRejected(int slot, long time, int ordRejReason) {
+        return appendReason(REJECTED, slot, time, ordRejReason);
+    }
+
+    public boolean appendReplaceSent(int slot, long time, CharSequence clOrdId, OrderStatus pendingStatus) {
+        if (!hasRoom(REPLACE_SENT_LENGTH)) {
+            return false;
+        }
+        int body = position + RECORD_HEADER_SIZE;
+        putChars(body, clOrdId, OdpOrderStore.CL_ORD_ID_LENGTH);
+        mapped.put(body + 21, (byte) pendingStatus.ordinal());
+        commit(REPLACE_SENT, REPLACE_SENT_LENGTH, slot, time);
+        return true;
+    }
+
+    public boolean appendReplaceRejected(int slot, long time, int cxlRejReason) {
+        return appendReason(REPLACE_REJECTED, slot, time, cxlRejReason);
+    }
+
+    public boolean appendFill(int slot, long time, long lastQuantity, long lastPrice) {
+        if (!hasRoom(FILL_LENGTH)) {
+            return false;
+        }
+        int body = position + RECORD_HEADER_SIZE;
+        mapped.putLong(body, lastQuantity);
+        mapped.putLong(body + 8, lastPrice);
+        commit(FILL, FILL_LENGTH, slot, time);
+        return true;
+    }
+
+    public boolean appendRemove(int slot, long time) {
+        if (!hasRoom(RECORD_HEADER_SIZE)) {
+            return false;
+        }
+        commit(REMOVE, RECORD_HEADER_SIZE, slot, time);
+        return true;
+    }
+
+    private boolean appendReason(int type, int slot, long time, int reason) {
+        if (!hasRoom(REJECTED_LENGTH)) {
+            return false;
+        }
+        mapped.putInt(position + RECORD_HEADER_SIZE, reason);
+        commit(type, REJECTED_LENGTH, slot, time);
+        return true;
+    }
+
+    private boolean hasRoom(int length) {
+        return position + length <= mapped.capacity();
+    }
+
+    private void commit(int type, int length, int slot, long time) {
+        mapped.putInt(position + SLOT_OFFSET, slot);
+        mapped.putLong(position + TIME_OFFSET, time);
+        long word = (epoch & 0xFFFFFFFFL) | ((long) length << 32) | ((long) type << 48);
+        mapped.putInt(position + CHECKSUM_OFFSET, checksum(position, word));
+        LONG.setRelease(mapped, position, word);
+        position += length;
+        eventsSinceSnapshot++;
+    }
+
+    /**
+     * CRC-32C of a record after its checksum, covering the length and type of the header word too
+     */
+    private int checksum(int index, long word) {
+        int length = (int) (word >>> 32) & 0xFFFF;
+        checksumView.limit(index + length).position(index + SLOT_OFFSET);
+        crc.reset();
+        crc.update(checksumView);
+        return (int) crc.getValue() ^ (int) (word >>> 32);
+    }
+
+    private void putChars(int index, CharSequence value, int length) {
+        int copyLength = value != null ? Math.min(value.length(), length) : 0;
+        for (int i = 0; i < copyLength; i++) {
+            mapped.put(index + i, (byte) value.charAt(i));
+        }
+        for (int i = copyLength; i < length; i++) {
+            mapped.put(index + i, (byte) 0);
+        }
+    }
+
+    private void setEpoch(int epoch) {
+        this.epoch = epoch;
+        useSegment(epoch & (SEGMENTS - 1));
+        position = FILE_HEADER_SIZE;
+    }
+
+    private void useSegment(int segment) {
+        mapped = segments[segment];
+        checksumView = mapped.duplicate();
+    }
+
+    // ---------------------------------------------------------------------
+    // Snapshots
+    // ---------------------------------------------------------------------
+
+    /**
+     * Write a snapshot of the store and start a new epoch in the other segment
+     * The snapshot is forced to disk before it replaces the previous one.
+     */
+    public void snapshot(OdpOrderStore store) throws IOException {
+        awaitSnapshot();
+        int nextEpoch = epoch + 1;
+        ByteBuffer copy = copy(store, nextEpoch);
+        write(copy, nextEpoch);
+        spareCopy = copy;
+
+        // Records of the previous epoch are now covered by the snapshot
+        durableEpoch = nextEpoch;
+        setEpoch(nextEpoch);
+        eventsSinceSnapshot = 0;
+    }
+
+    /**
+     * Copy the store, start a new epoch in the other segment and write the copy on a background thread
+     * Falls back to {@link #snapshot} while the records of the other segment are not covered by a
+     * snapshot on disk, i.e. the previous background snapshot failed.
+     */
+    public void snapshotInBackground(OdpOrderStore store) throws IOException {
+        awaitSnapshot();
+        if (durableEpoch != epoch) {
+            snapshot(store);
+            return;
+        }
+        int nextEpoch = epoch + 1;
+        ByteBuffer copy = copy(store, nextEpoch);
+        setEpoch(nextEpoch);
+        eventsSinceSnapshot = 0;
+
+        snapshotWriter = new Thread(() -> {
+            try {
+                write(copy, nextEpoch);
+                durableEpoch = nextEpoch;
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to write order snapshot of epoch {}, the next one is written synchronously",
+                        nextEpoch, e);
+            }
+        }, "odp-order-snapshot");
+        snapshotWriter.setDaemon(true);
+        snapshotWriter.start();
+    }
+
+    /**
+     * Whether a background snapshot is still being written
+     */
+    public boolean isSnapshotPending() {
+        return snapshotWriter != null && snapshotWriter.isAlive();
+    }
+
+    private void awaitSnapshot() {
+        Thread writer = snapshotWriter;
+        if (writer == null) {
+            return;
+        }
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        snapshotWriter = null;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Copy the store into a snapshot image, reusing the buffer of the previous snapshot if it is large enough
+     */
+    private ByteBuffer copy(OdpOrderStore store, int snapshotEpoch) {
+        long size = SNAPSHOT_HEADER_SIZE + store.snapshotLength();
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Order store too large to snapshot: " + size + " bytes");
+        }
+        ByteBuffer copy = spareCopy;
+        spareCopy = null;
+        if (copy == null || copy.capacity() < size) {
+            copy = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        copy.clear();
+        copy.putInt(SNAPSHOT_MAGIC);
+        copy.putInt(VERSION);
+        copy.putInt(snapshotEpoch);
+        copy.putInt(0);
+        store.writeSnapshot(copy);
+        copy.flip();
+        return copy;
+    }
+
+    private void write(ByteBuffer copy, int snapshotEpoch) throws IOException {
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        int size = copy.remaining();
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (copy.hasRemaining()) {
+                channel.write(copy);
+            }
+            channel.force(true);
+        }
+        Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Wrote order snapshot {} ({} bytes), log epoch {}", snapshotFile, size, snapshotEpoch);
+    }
+
+    /**
+     * Records appended or replayed since the last snapshot
+     */
+    public long getEventsSinceSnapshot() {
+        return eventsSinceSnapshot;
+    }
+
+    /**
+     * Bytes used by records of the current epoch, including the file header
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    public int getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Flush appended records to disk
+     */
+    public void force() {
+        mapped.force();
+    }
+
+    /**
+     * Wait for a background snapshot and close both segments
+     */
+    @Override
+    public void close() throws IOException {
+        awaitSnapshot();
+        IOException failure = null;
+        for (int i = 0; i < SEGMENTS; i++) {
+            try {
+                segments[i].force();
+                channels[i].close();
+            } catch (IOException e) {
+                failure = e;
+            } finally {
+                PlatformDependent.freeDirectBuffer(segments[i]);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Reusable CharSequence over a NUL-padded ASCII field of the mapping
+     */
+    private static final class AsciiView implements CharSequence {
+
+        private ByteBuffer buffer;
+        private int offset;
+        private int length;
+
+        AsciiView wrap(ByteBuffer buffer, int offset, int maxLength) {
+            this.buffer = buffer;
+            this.offset = offset;
+            int strLen = 0;
+            while (strLen < maxLength && buffer.get(offset + strLen) != 0) {
+                strLen++;
+            }
+            this.length = strLen;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder value = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                value.append(charAt(i));
+            }
+            return value.toString();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+// src/test/java/com/odp/simulator/client/service/OdpOrderEventLogTest.java
+package com.odp.simulator.client.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class OdpOrderEventLogTest {
+
+    private static final int CAPACITY = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayStopsAtCorruptedRecord() throws IOException {
+        int corrupted;
+        try (OdpOrderEventLog log = OdpOrderEventLog.open(directory, CAPACITY)) {
+            log.loadSnapshot(16);
+            log.appendFill(0, 1, 10, 100);
+            corrupted = log.getPosition();
+            log.appendFill(0, 2, 20, 200);
+            log.appendFill(0, 3, 30, 300);
+        }
+        // Flip one bit of the second record's last price, epoch and length still look valid
+        try (FileChannel channel = FileChannel.open(segment(0), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1);
+            channel.read(b, corrupted + 32);
+            b.put(0, (byte) (b.get(0) ^ 1)).rewind();
+            channel.write(b, corrupted + 32);
+        }
+
+        List<String> events = new ArrayList<>();
+        try (OdpOrderEventLog log = OdpOrderEventLog.open(directory, CAPACITY)) {
+            log.loadSnapshot(16);
+            assertEquals(1, log.replay(new Recorder(events)));
+            assertEquals(List.of("fill 0 10@100"), events);
+            // Appends continue over the corrupted record
+            assertEquals(corrupted, log.getPosition());
+            log.appendFill(0, 4, 40, 400);
+        }
+
+        events.clear();
+        try (OdpOrderEventLog log = OdpOrderEventLog.open(directory, CAPACITY)) {
+            log.loadSnapshot(16);
+            assertEquals(2, log.replay(new Recorder(events)));
+            assertEquals(List.of("fill 0 10@100", "fill 0 40@400"), events);
+        }
+    }
+
+    @Test
+    void replayStopsAtTruncatedRecord() throws IOException {
+        int truncated;
+        try (OdpOrderEventLog log = OdpOrderEventLog.open(directory, CAPACITY)) {
+            log.loadSnapshot(16);
+            log.appendAdd(0, 1, "ORD1", "700", 1, 2, 0, 100, 10);
+            log.appendAccepted(0, 2, '0', '0', 999, 100, 10, 10, 0);
+            truncated = log.getPosition();
+            log.appendFill(0, 3, 4, 100);
+        }
+        // Cut the last record short, the file is zero-extended to its capacity again on open
+        try (FileChannel channel = FileChannel.open(segment(0), StandardOpenOption.WRITE)) {
+            channel.truncate(truncated + 30);
+        }
+
+        List<String> events = new ArrayList<>();
+        try (OdpOrderEventLog log = OdpOrderEventLog.open(directory, CAPACITY)) {
+            log.loadSnapshot(16);
+            assertEquals(2, log.replay(new Recorder(events)));
+            assertEquals(List.of("add 0 ORD1 700 10@100", "accepted 0 999"), events);
+            assertEquals(truncated, log.getPosition());
+        }
+    }
+
+    @Test
+    void replayCoversSnapshotNeverWritten() throws IOException {
+        try (OdpOrderEventLog log = OdpOrderEventLog.open(directory, CAPACITY)) {
+            OdpOrderStore store = log.loadSnapshot(16);
+            int slot = store.add("ORD1", "700", 1, 2, 0, 100, 10, 1);
+            log.appendAdd(slot, 1, "ORD1", "700", 1, 2, 0, 100, 10);
+            log.snapshotInBackground(store);
+            assertEquals(1, log.getEpoch());
+            log.appendFill(slot, 2, 4, 100);
+        }
+
+        // The snapshot is on disk, only the records of the new segment are replayed
+        List<String> events = new ArrayList<>();
+        try (OdpOrderEventLog log = OdpOrderEventLog.open(directory, CAPACITY)) {
+            OdpOrderStore store = log.loadSnapshot(16);
+            assertEquals(1, store.size());
+            assertEquals(1, log.replay(new Recorder(events)));
+            assertEquals(List.of("fill 0 4@100"), events);
+        }
+
+        // Without it both segments are replayed in order
+        Files.delete(directory.resolve("orders.snapshot"));
+        events.clear();
+        try (OdpOrderEventLog log = OdpOrderEventLog.open(directory, CAPACITY)) {
+            OdpOrderStore store = log.loadSnapshot(16);
+            assertEquals(0, store.size());
+            assertEquals(2, log.replay(new Recorder(events)));
+            assertEquals(List.of("add 0 ORD1 700 10@100", "fill 0 4@100"), events);
+            assertEquals(1, log.getEpoch());
+            assertFalse(log.isSnapshotPending());
+        }
+    }
+
+    private Path segment(int index) {
+        return directory.resolve("orders-" + index + ".log");
+    }
+
+    private record Recorder(List<String> events) implements OdpOrderEventLog.Handler {
+
+        @Override
+        public void onAdd(int slot, long time, CharSequence clOrdId, CharSequence securityId, int side,
+                          int orderType, int timeInForce, long price, long orderQuantity) {
+            events.add("add " + slot + " " + clOrdId + " " + securityId + " " + orderQuantity + "@" + price);
+        }
+
+        @Override
+        public void onAccepted(int slot, long time, int execType, int orderStatus, long orderId, long price,
+                               long orderQuantity, long leavesQuantity, long cumulativeQuantity) {
+            events.add("accepted " + slot + " " + orderId);
+        }
+
+        @Override
+        public void onRejected(int slot, long time, int ordRejReason) {
+            events.add("rejected " + slot + " " + ordRejReason);
+        }
+
+        @Override
+        public void onReplaceSent(int slot, long time, CharSequence clOrdId, OrderStatus pendingStatus) {
+            events.add("replace " + slot + " " + clOrdId + " " + pendingStatus);
+        }
+
+        @Override
+        public void onReplaceRejected(int slot, long time, int cxlRejReason) {
+            events.add("replace rejected " + slot + " " + cxlRejReason);
+        }
+
+        @Override
+        public void onFill(int slot, long time, long lastQuantity, long lastPrice) {
+            events.add("fill " + slot + " " + lastQuantity + "@" + lastPrice);
+        }
+
+        @Override
+        public void onRemove(int slot, long time) {
+            events.add("remove " + slot);
+        }
+    }
+}
\ No newline at end of file
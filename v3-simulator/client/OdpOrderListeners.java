@@ -0,0 +1,200 @@
+// src/main/java/com/odp/simulator/client/service/OdpOrderListeners.java
+package com.odp.simulator.client.service;
+
+import com.odp.simulator.client.config.OdpClientProperties;
+import io.netty.util.internal.PlatformDependent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Registry of {@link OrderListener}s and dispatch of order events to them
+ *
+ * {@link OdpOrderBook} captures an event by copying the order into a pooled
+ * {@link OrderView} while it holds its lock, and dispatches it once the lock
+ * is released: on the same thread, or through a lock-free queue to the
+ * listener thread, depending on {@link OrderListenerDispatch}. Events go back
+ * to the pool after the last listener returned, so steady-state dispatch
+ * allocates nothing. With no listener registered nothing is captured.
+ *
+ * Listeners are kept in a copy-on-write array; registering is rare,
+ * dispatching reads one volatile field.
+ */
+@Slf4j
+@Component
+public class OdpOrderListeners {
+
+    static final int ACCEPTED = 0;
+    static final int REJECTED = 1;
+    static final int REPLACE_REJECTED = 2;
+    static final int FILLED = 3;
+
+    private static final OrderListener[] NO_LISTENERS = new OrderListener[0];
+    private static final int POOL_SIZE = 1024;
+
+    private final OrderListenerDispatch dispatch;
+    private final Queue<Event> pool = PlatformDependent.newFixedMpmcQueue(POOL_SIZE);
+    private final Queue<Event> pending;
+    private final Thread worker;
+
+    private volatile OrderListener[] listeners = NO_LISTENERS;
+    private volatile boolean running = true;
+    private volatile boolean workerParked;
+
+    public OdpOrderListeners(OdpClientProperties properties) {
+        this.dispatch = properties.getOrder().getListenerDispatch();
+        if (dispatch == OrderListenerDispatch.EXECUTOR) {
+            this.pending = PlatformDependent.newMpscQueue();
+            this.worker = new Thread(this::run, "odp-order-listener");
+            this.worker.setDaemon(true);
+            this.worker.start();
+        } else {
+            this.pending = null;
+            this.worker = null;
+        }
+    }
+
+    public synchronized void add(OrderListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must not be null");
+        }
+        OrderListener[] current = listeners;
+        OrderListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * @return Whether the listener was registered
+     */
+    public synchronized boolean remove(OrderListener listener) {
+        OrderListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                OrderListener[] updated = new OrderListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    public OrderListenerDispatch getDispatch() {
+        return dispatch;
+    }
+
+    /**
+     * Copy an order into a pooled event, called under the book's lock right after the change
+     * @return The event to {@link #dispatch}, or null if no listener is registered
+     */
+    Event capture(OdpOrderStore store, int slot, int type, int execType, long lastQuantity, long lastPrice) {
+        if (listeners.length == 0) {
+            return null;
+        }
+        Event event = pool.poll();
+        if (event == null) {
+            event = new Event();
+        }
+        event.type = type;
+        store.copyTo(slot, event.view);
+        event.view.setEvent(execType, lastQuantity, lastPrice);
+        return event;
+    }
+
+    /**
+     * Deliver a captured event, called after the book's lock is released
+     */
+    void dispatch(Event event) {
+        if (event == null) {
+            return;
+        }
+        if (worker == null) {
+            deliver(event);
+            return;
+        }
+        if (!running) {
+            release(event);
+            return;
+        }
+        pending.offer(event);
+        if (workerParked) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            Event event = pending.poll();
+            if (event != null) {
+                deliver(event);
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            workerParked = true;
+            // Recheck after publishing the flag, an offer may have missed it
+            if (pending.isEmpty() && running) {
+                LockSupport.park(this);
+            }
+            workerParked = false;
+        }
+    }
+
+    private void deliver(Event event) {
+        OrderView view = event.view;
+        for (OrderListener listener : listeners) {
+            try {
+                switch (event.type) {
+                    case ACCEPTED -> listener.onOrderAccepted(view);
+                    case REJECTED -> listener.onOrderRejected(view);
+                    case REPLACE_REJECTED -> listener.onReplaceRejected(view);
+                    case FILLED -> listener.onOrderFilled(view);
+                    default -> throw new IllegalStateException("Unknown order event " + event.type);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Order listener {} failed on {}", listener, view, e);
+            }
+        }
+        release(event);
+    }
+
+    private void release(Event event) {
+        // A full pool lets the event go, it was allocated in a burst
+        pool.offer(event);
+    }
+
+    /**
+     * Pooled order event
+     */
+    static final class Event {
+
+        private final OrderView view = new OrderView();
+        private int type;
+    }
+}
\ No newline at end of file
@@ -1,60 +1,57 @@
 // src/main/java/com/odp/simulator/client/service/OdpOrderService.java
 package com.odp.simulator.client.service;
 
+import com.odp.simulator.client.client.OdpTimeoutWheel;
 import com.odp.simulator.client.client.OdpTradingClient;
+import com.odp.simulator.client.config.OdpClientProperties;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.messages.NewOrderSingle;
+import com.odp.simulator.client.protocol.messages.OdpMessagePool;
+import com.odp.simulator.client.protocol.messages.OrderAmendRequest;
+import com.odp.simulator.client.protocol.messages.OrderCancelRequest;
 import com.odp.simulator.client.session.OdpSessionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Service for order operations
- * 
- * TODO: Implement order submission and management
- * 
+ *
  * Order Processing Design:
  * -------------------------
  * 1. Order Submission:
- *    - Create NewOrderSingle message
- *    - Assign Client Order ID (unique per order)
- *    - Track order state internally
- *    - Send via OdpTradingClient
- * 
+ *    - NewOrderSingle, OrderAmendRequest and OrderCancelRequest are taken
+ *      from {@link OdpMessagePool}, filled in place and sent via OdpTradingClient
+ *    - The encoder returns them to the pool once their frame is written,
+ *      so steady-state order entry allocates no message objects
+ *    - Callers on the hot path use {@link #newOrder()} / {@link #send(NewOrderSingle)}
+ *      with reused CharSequence values; the String-based methods are conveniences
+ *
  * 2. Order Tracking:
- *    - Maintain Map<ClientOrderId, OrderState>
- *    - OrderState includes: status, fills, timestamps, etc.
- * 
- * 3. Response Handling:
- *    - OrderAccepted: Update state to ACCEPTED, store Exchange Order ID
- *    - OrderRejected: Update state to REJECTED, record reason
- *    - ExecutionReport: Update fills, status, quantities
- * 
- * 4. Multiple Execution Reports:
- *    - One order may receive multiple ExecutionReports
- *    - Partial fills, trade busts, etc.
- *    - All reports are identified by Order ID
- *    - Handler updates order state accordingly
- * 
- * 5. Async Notification:
- *    - Use CompletableFuture for synchronous callers
- *    - Or callback interface for async notification
- *    - Example: OrderListener.onOrderAccepted(order)
- * 
- * Message Type Handling (Strategy Pattern):
- * -----------------------------------------
- * Different message types have different structures:
- * - Order messages (NewOrderSingle, OrderAmend, OrderCancel)
- * - Quote messages (MassQuote, SingleQuote, QuoteRequest)
- * - Response messages (OrderAccepted, OrderRejected, ExecutionReport)
- * 
- * Use OdpMessageFactory to create message instances.
- * Each message type implements OdpMessage interface.
- * The encoder/decoder handles serialization based on message type.
- * 
- * This follows the Strategy Pattern where:
- * - OdpMessage is the strategy interface
- * - Concrete messages (NewOrderSingle, etc.) are strategies
- * - Encoder/Decoder/Handler use the message type to process appropriately
+ *    - {@link OdpOrderBook} keeps orders in a primitive {@link OdpOrderStore},
+ *      indexed by Client Order ID and exchange Order ID
+ *    - Amends and cancels are tracked under their own ClOrdID until answered
+ *    - {@link #getOrderState(String)} returns a copy as an {@link OrderState}
+ *
+ * 3. Acknowledgements:
+ *    - Every request returns an {@link OdpAckFuture}, completed with the
+ *      order's status when the gateway accepts or rejects the request
+ *    - The futures are scheduled on the shared {@link OdpTimeoutWheel} and
+ *      complete with a TimeoutException when no answer arrives within
+ *      order.ack-timeout-ms; no thread waits and no timer is created per request
+ *
+ * 4. Response Handling (order response handlers registered in OdpClientHandler):
+ *    - OrderAccepted: status, Exchange Order ID, price and quantities
+ *    - OrderRejected: status REJECTED, record reason
+ *    - OrderAmendRejected / OrderCancelRejected: order keeps working, record reason
+ *
+ * 5. Listeners:
+ *    - {@link #addOrderListener(OrderListener)} registers an {@link OrderListener}
+ *      called with a reused {@link OrderView} after each response is applied,
+ *      on the decode thread or a listener thread (order.listener-dispatch)
  */
 @Slf4j
 @Service
@@ -63,61 +60,199 @@ public class OdpOrderService {
 
     private final OdpTradingClient tradingClient;
     private final OdpSessionManager sessionManager;
+    private final OdpOrderBook orderBook;
+    private final OdpOrderListeners orderListeners;
+    private final OdpTimeoutWheel timeoutWheel;
+    private final OdpClientProperties properties;
 
-    // TODO: Add order tracking map
-    // private final ConcurrentHashMap<String, OrderState> orders = new ConcurrentHashMap<>();
+    /**
+     * Take a pooled New Order Single with the broker fields and transact time filled in
+     * The order must be passed to {@link #send(NewOrderSingle)} and not touched afterwards.
+     */
+    public NewOrderSingle newOrder() {
+        NewOrderSingle order = (NewOrderSingle) OdpMessagePool.acquireOutbound(OdpMessageType.NEW_ORDER_SINGLE);
+        order.getHeader().setCompId(sessionManager.getPrimarySession().getCompId());
+        OdpClientProperties.OrderConfig config = properties.getOrder();
+        order.setSubmittingBrokerId(config.getSubmittingBrokerId());
+        order.setBrokerLocationId(config.getBrokerLocationId());
+        order.setSecurityExchange(config.getSecurityExchange());
+        order.setTransactTime(transactTime());
+        return order;
+    }
+
+    /**
+     * Track and send a new order
+     * @return Acknowledgement of the order, its write handle carries the MsgSeqNum
+     */
+    public OdpAckFuture send(NewOrderSingle order) {
+        OdpAckFuture ack = newAck();
+        try {
+            orderBook.add(order, ack);
+        } catch (IllegalArgumentException e) {
+            order.release();
+            throw e;
+        }
+        return sendTracked(order, ack);
+    }
 
     /**
      * Submit a new order
-     * 
-     * TODO: Implement this method
-     * 
+     *
      * @param clientOrderId Unique client order ID
      * @param securityId Security identifier
      * @param side Buy or Sell
      * @param quantity Order quantity
-     * @param price Order price (for limit orders)
-     * @return CompletableFuture that completes when order is accepted/rejected
+     * @param price Order price, 0 for a market order
+     * @return Acknowledgement completing with the order's status once the
+     *         gateway answers, details are in {@link #getOrderState(String)}
      */
-    public void submitOrder(String clientOrderId, String securityId, 
-                           String side, long quantity, double price) {
-        log.info("Order submission not yet implemented: clientOrderId={}", clientOrderId);
-        // TODO: 
-        // 1. Create NewOrderSingle message
-        // 2. Track order internally
-        // 3. Send message
-        // 4. Return future for response
+    public OdpAckFuture submitOrder(String clientOrderId, String securityId,
+                                    String side, long quantity, double price) {
+        // Validated before a message is taken from the pool, so a bad argument leaks nothing
+        if (clientOrderId == null || clientOrderId.isEmpty()) {
+            throw new IllegalArgumentException("Client order ID is required");
+        }
+        int sideValue = parseSide(side);
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive: " + quantity);
+        }
+
+        NewOrderSingle order = newOrder();
+        order.setClOrdId(clientOrderId);
+        order.setSecurityId(securityId);
+        order.setSide(sideValue);
+        order.setOrderQuantity(quantity);
+        if (price > 0) {
+            order.setOrderType(NewOrderSingle.ORDER_TYPE_LIMIT);
+            order.setPrice(toPrice(price));
+        } else {
+            order.setOrderType(NewOrderSingle.ORDER_TYPE_MARKET);
+        }
+        log.info("Submitting order: clOrdId={}, securityId={}, side={}, quantity={}, price={}",
+                clientOrderId, securityId, side, quantity, price);
+        return send(order);
     }
 
     /**
      * Amend an existing order
-     * 
-     * TODO: Implement this method
+     * @throws IllegalArgumentException if the original order is not known
+     * @throws IllegalStateException if the original order can no longer change or has an amend or cancel pending
      */
-    public void amendOrder(String origClientOrderId, String newClientOrderId,
-                          long newQuantity, double newPrice) {
-        log.info("Order amendment not yet implemented: origClientOrderId={}", origClientOrderId);
-        // TODO: Implement
+    public OdpAckFuture amendOrder(String origClientOrderId, String newClientOrderId,
+                                   long newQuantity, double newPrice) {
+        OdpAckFuture ack = newAck();
+        OrderState state = orderBook.onReplaceSent(origClientOrderId, newClientOrderId,
+                OrderStatus.PENDING_AMEND, ack);
+
+        OrderAmendRequest amend = (OrderAmendRequest) OdpMessagePool.acquireOutbound(
+                OdpMessageType.ORDER_AMEND_REQUEST);
+        amend.getHeader().setCompId(sessionManager.getPrimarySession().getCompId());
+        OdpClientProperties.OrderConfig config = properties.getOrder();
+        amend.setClOrdId(newClientOrderId);
+        amend.setSubmittingBrokerId(config.getSubmittingBrokerId());
+        amend.setBrokerLocationId(config.getBrokerLocationId());
+        amend.setSecurityExchange(config.getSecurityExchange());
+        amend.setTransactTime(transactTime());
+        amend.setSecurityId(state.getSecurityId());
+        amend.setSide(state.getSide());
+        amend.setOrigClOrdId(state.getClOrdId());
+        amend.setOrderId(state.getOrderId());
+        amend.setOrderType(state.getOrderType());
+        amend.setTimeInForce(state.getTimeInForce());
+        amend.setOrderQuantity(newQuantity);
+        amend.setPrice(toPrice(newPrice));
+
+        log.info("Amending order: origClOrdId={}, clOrdId={}, quantity={}, price={}",
+                origClientOrderId, newClientOrderId, newQuantity, newPrice);
+        return sendTracked(amend, ack);
     }
 
     /**
      * Cancel an existing order
-     * 
-     * TODO: Implement this method
+     * @throws IllegalArgumentException if the original order is not known
+     * @throws IllegalStateException if the original order can no longer change or has an amend or cancel pending
      */
-    public void cancelOrder(String origClientOrderId, String cancelClientOrderId) {
-        log.info("Order cancellation not yet implemented: origClientOrderId={}", origClientOrderId);
-        // TODO: Implement
+    public OdpAckFuture cancelOrder(String origClientOrderId, String cancelClientOrderId) {
+        OdpAckFuture ack = newAck();
+        OrderState state = orderBook.onReplaceSent(origClientOrderId, cancelClientOrderId,
+                OrderStatus.PENDING_CANCEL, ack);
+
+        OrderCancelRequest cancel = (OrderCancelRequest) OdpMessagePool.acquireOutbound(
+                OdpMessageType.ORDER_CANCEL_REQUEST);
+        cancel.getHeader().setCompId(sessionManager.getPrimarySession().getCompId());
+        OdpClientProperties.OrderConfig config = properties.getOrder();
+        cancel.setClOrdId(cancelClientOrderId);
+        cancel.setSubmittingBrokerId(config.getSubmittingBrokerId());
+        cancel.setBrokerLocationId(config.getBrokerLocationId());
+        cancel.setSecurityExchange(config.getSecurityExchange());
+        cancel.setTransactTime(transactTime());
+        cancel.setSecurityId(state.getSecurityId());
+        cancel.setSide(state.getSide());
+        cancel.setOrigClOrdId(state.getClOrdId());
+        cancel.setOrderId(state.getOrderId());
+
+        log.info("Cancelling order: origClOrdId={}, clOrdId={}", origClientOrderId, cancelClientOrderId);
+        return sendTracked(cancel, ack);
+    }
+
+    /**
+     * Get a copy of an order's state by its current ClOrdID, or null if the order is not known
+     */
+    public OrderState getOrderState(String clientOrderId) {
+        return orderBook.get(clientOrderId);
+    }
+
+    /**
+     * Register a listener for order events
+     */
+    public void addOrderListener(OrderListener listener) {
+        orderListeners.add(listener);
+    }
+
+    /**
+     * @return Whether the listener was registered
+     */
+    public boolean removeOrderListener(OrderListener listener) {
+        return orderListeners.remove(listener);
+    }
+
+    private OdpAckFuture newAck() {
+        return new OdpAckFuture(TimeUnit.MILLISECONDS.toNanos(properties.getOrder().getAckTimeoutMs()));
+    }
+
+    /**
+     * Send a tracked request and start its acknowledgement timeout
+     * If the request cannot be sent, its change to the order book is undone
+     * and the exception rethrown; the request is released by the client.
+     */
+    private OdpAckFuture sendTracked(OdpMessage request, OdpAckFuture ack) {
+        try {
+            ack.attach(tradingClient.sendMessage(request));
+        } catch (RuntimeException e) {
+            orderBook.undo(ack);
+            ack.completeExceptionally(e);
+            throw e;
+        }
+        timeoutWheel.schedule(ack);
+        return ack;
+    }
+
+    private static int parseSide(String side) {
+        return switch (side.toUpperCase()) {
+            case "BUY", "B", "1" -> NewOrderSingle.SIDE_BUY;
+            case "SELL", "S", "2" -> NewOrderSingle.SIDE_SELL;
+            default -> throw new IllegalArgumentException("Unknown side: " + side);
+        };
+    }
+
+    private static long toPrice(double price) {
+        return Math.round(price * NewOrderSingle.PRICE_MULTIPLIER);
     }
 
     /**
-     * Get order state
-     * 
-     * TODO: Implement this method
+     * Transact Time in nanoseconds since epoch (UTC), at millisecond precision
      */
-    public Object getOrderState(String clientOrderId) {
-        log.info("Get order state not yet implemented: clientOrderId={}", clientOrderId);
-        // TODO: Return OrderState from tracking map
-        return null;
+    private static long transactTime() {
+        return System.currentTimeMillis() * 1_000_000L;
     }
 }
\ No newline at end of file
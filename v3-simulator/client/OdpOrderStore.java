@@ -0,0 +1,810 @@
+// src/main/java/com/odp/simulator/client/service/OdpOrderStore.java
+package com.odp.simulator.client.service;
+
+import io.netty.buffer.ByteBuf;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Primitive order table with a struct-of-arrays layout
+ *
+ * Every order occupies a slot, an int that indexes one primitive array per
+ * column (status, quantities, prices, ...). ClOrdIDs and Security IDs are
+ * kept as raw NUL-padded ASCII bytes. Two open-addressing tables with
+ * {@code long} keys map to slots:
+ * - ClOrdID index: a 64-bit hash of the ClOrdID bytes, verified against the
+ *   stored bytes on lookup. It holds the current ClOrdID of each order and
+ *   the ClOrdID of an amend or cancel in flight.
+ * - Order ID index: the exchange Order ID once it is known.
+ *
+ * ClOrdIDs are hashed straight from a CharSequence or from the receive
+ * buffer, so lookups and updates are O(1) and allocate nothing. Columns and
+ * index tables only allocate when they grow, by doubling.
+ *
+ * Not thread-safe, see {@link OdpOrderBook}.
+ */
+public final class OdpOrderStore {
+
+    /**
+     * Returned by lookups when no order matches
+     */
+    public static final int NO_ORDER = -1;
+
+    /**
+     * Maximum ClOrdID length (Char Array 21)
+     */
+    public static final int CL_ORD_ID_LENGTH = 21;
+
+    /**
+     * Maximum Security ID length (Char Array 21)
+     */
+    public static final int SECURITY_ID_LENGTH = 21;
+
+    // Status of a slot that holds no order
+    private static final byte FREE = -1;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private static final long FNV_OFFSET = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    // Columns, indexed by slot
+    private byte[] clOrdIds;
+    private byte[] pendingClOrdIds;
+    private byte[] securityIds;
+    private long[] orderIds;
+    private byte[] statuses;
+    private byte[] sides;
+    private byte[] orderTypes;
+    private byte[] timeInForces;
+    private long[] prices;
+    private long[] orderQuantities;
+    private long[] leavesQuantities;
+    private long[] cumulativeQuantities;
+    private long[] averagePrices;
+    private int[] rejectReasons;
+    private long[] updateTimes;
+
+    // Slots below highWater have been used, freed ones are reused first
+    private int capacity;
+    private int highWater;
+    private int[] freeSlots;
+    private int freeCount;
+    private int size;
+
+    private final LongIntTable clOrdIdIndex;
+    private final LongIntTable orderIdIndex;
+
+    /**
+     * @param initialCapacity Number of orders before the first resize
+     */
+    public OdpOrderStore(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + initialCapacity);
+        }
+        allocateColumns(initialCapacity);
+        this.freeSlots = new int[16];
+        this.clOrdIdIndex = new LongIntTable(initialCapacity * 2);
+        this.orderIdIndex = new LongIntTable(initialCapacity);
+    }
+
+    /**
+     * Restore a store written by {@link #writeSnapshot}
+     */
+    private OdpOrderStore(ByteBuffer snapshot) {
+        int savedCapacity = snapshot.getInt();
+        highWater = snapshot.getInt();
+        size = snapshot.getInt();
+        freeCount = snapshot.getInt();
+        int clOrdIdIndexLength = snapshot.getInt();
+        int clOrdIdIndexSize = snapshot.getInt();
+        int orderIdIndexLength = snapshot.getInt();
+        int orderIdIndexSize = snapshot.getInt();
+
+        allocateColumns(savedCapacity);
+        getLongs(snapshot, orderIds, highWater);
+        getLongs(snapshot, prices, highWater);
+        getLongs(snapshot, orderQuantities, highWater);
+        getLongs(snapshot, leavesQuantities, highWater);
+        getLongs(snapshot, cumulativeQuantities, highWater);
+        getLongs(snapshot, averagePrices, highWater);
+        getLongs(snapshot, updateTimes, highWater);
+        long[] clOrdIdKeys = new long[clOrdIdIndexLength];
+        long[] orderIdKeys = new long[orderIdIndexLength];
+        getLongs(snapshot, clOrdIdKeys, clOrdIdIndexLength);
+        getLongs(snapshot, orderIdKeys, orderIdIndexLength);
+
+        int[] clOrdIdValues = new int[clOrdIdIndexLength];
+        int[] orderIdValues = new int[orderIdIndexLength];
+        freeSlots = new int[Math.max(16, freeCount)];
+        getInts(snapshot, clOrdIdValues, clOrdIdIndexLength);
+        getInts(snapshot, orderIdValues, orderIdIndexLength);
+        getInts(snapshot, rejectReasons, highWater);
+        getInts(snapshot, freeSlots, freeCount);
+
+        snapshot.get(clOrdIds, 0, highWater * CL_ORD_ID_LENGTH);
+        snapshot.get(pendingClOrdIds, 0, highWater * CL_ORD_ID_LENGTH);
+        snapshot.get(securityIds, 0, highWater * SECURITY_ID_LENGTH);
+        snapshot.get(statuses, 0, highWater);
+        snapshot.get(sides, 0, highWater);
+        snapshot.get(orderTypes, 0, highWater);
+        snapshot.get(timeInForces, 0, highWater);
+
+        clOrdIdIndex = new LongIntTable(clOrdIdKeys, clOrdIdValues, clOrdIdIndexSize);
+        orderIdIndex = new LongIntTable(orderIdKeys, orderIdValues, orderIdIndexSize);
+    }
+
+    /**
+     * Number of orders in the store
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Exclusive upper bound of slots in use, for iteration with {@link #isUsed(int)}
+     */
+    public int slotLimit() {
+        return highWater;
+    }
+
+    public boolean isUsed(int slot) {
+        return slot >= 0 && slot < highWater && statuses[slot] != FREE;
+    }
+
+    // ---------------------------------------------------------------------
+    // Adding and removing orders
+    // ---------------------------------------------------------------------
+
+    /**
+     * Add a new order in {@link OrderStatus#PENDING_NEW}
+     * @return The order's slot
+     * @throws IllegalArgumentException if the ClOrdID is empty or already in use
+     */
+    public int add(CharSequence clOrdId, CharSequence securityId, int side, int orderType,
+                   int timeInForce, long price, long orderQuantity, long updateTime) {
+        long hash = hash(clOrdId);
+        if (findByClOrdId(clOrdId, hash) != NO_ORDER) {
+            throw new IllegalArgumentException("Duplicate ClOrdID: " + clOrdId);
+        }
+        int slot = allocateSlot();
+        setChars(clOrdIds, slot, CL_ORD_ID_LENGTH, clOrdId);
+        setChars(pendingClOrdIds, slot, CL_ORD_ID_LENGTH, null);
+        setChars(securityIds, slot, SECURITY_ID_LENGTH, securityId);
+        orderIds[slot] = 0;
+        statuses[slot] = (byte) OrderStatus.PENDING_NEW.ordinal();
+        sides[slot] = (byte) side;
+        orderTypes[slot] = (byte) orderType;
+        timeInForces[slot] = (byte) timeInForce;
+        prices[slot] = price;
+        orderQuantities[slot] = orderQuantity;
+        leavesQuantities[slot] = orderQuantity;
+        cumulativeQuantities[slot] = 0;
+        averagePrices[slot] = 0;
+        rejectReasons[slot] = 0;
+        updateTimes[slot] = updateTime;
+        clOrdIdIndex.put(hash, slot);
+        size++;
+        return slot;
+    }
+
+    /**
+     * Remove an order and all its index entries, the slot is reused
+     */
+    public void remove(int slot) {
+        checkSlot(slot);
+        clOrdIdIndex.remove(hash(clOrdIds, slot), slot);
+        if (pendingClOrdIds[slot * CL_ORD_ID_LENGTH] != 0) {
+            clOrdIdIndex.remove(hash(pendingClOrdIds, slot), slot);
+        }
+        if (orderIds[slot] != 0) {
+            orderIdIndex.remove(orderIds[slot], slot);
+        }
+        statuses[slot] = FREE;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        size--;
+    }
+
+    // ---------------------------------------------------------------------
+    // Lookups
+    // ---------------------------------------------------------------------
+
+    /**
+     * Find an order by its current ClOrdID or the ClOrdID of a request in flight
+     */
+    public int findByClOrdId(CharSequence clOrdId) {
+        if (clOrdId == null || clOrdId.length() == 0) {
+            return NO_ORDER;
+        }
+        return findByClOrdId(clOrdId, hash(clOrdId));
+    }
+
+    /**
+     * Find an order by a ClOrdID read in place from a buffer (Char Array 21 at index)
+     */
+    public int findByClOrdId(ByteBuf buffer, int index) {
+        long hash = hash(buffer, index);
+        int mask = clOrdIdIndex.mask;
+        for (int i = LongIntTable.home(hash, mask); clOrdIdIndex.keys[i] != 0; i = (i + 1) & mask) {
+            if (clOrdIdIndex.keys[i] == hash) {
+                int slot = clOrdIdIndex.values[i];
+                if (matches(clOrdIds, slot, buffer, index) || matches(pendingClOrdIds, slot, buffer, index)) {
+                    return slot;
+                }
+            }
+        }
+        return NO_ORDER;
+    }
+
+    /**
+     * Find an order by its exchange Order ID
+     */
+    public int findByOrderId(long orderId) {
+        return orderId != 0 ? orderIdIndex.get(orderId) : NO_ORDER;
+    }
+
+    private int findByClOrdId(CharSequence clOrdId, long hash) {
+        int mask = clOrdIdIndex.mask;
+        for (int i = LongIntTable.home(hash, mask); clOrdIdIndex.keys[i] != 0; i = (i + 1) & mask) {
+            if (clOrdIdIndex.keys[i] == hash) {
+                int slot = clOrdIdIndex.values[i];
+                if (matches(clOrdIds, slot, clOrdId) || matches(pendingClOrdIds, slot, clOrdId)) {
+                    return slot;
+                }
+            }
+        }
+        return NO_ORDER;
+    }
+
+    // ---------------------------------------------------------------------
+    // ClOrdID and Order ID changes
+    // ---------------------------------------------------------------------
+
+    /**
+     * Index the ClOrdID of an amend or cancel sent for the order
+     * A previous request still in flight is no longer tracked.
+     * @throws IllegalArgumentException if the ClOrdID is empty or already in use
+     */
+    public void setPendingClOrdId(int slot, CharSequence clOrdId) {
+        checkSlot(slot);
+        long hash = hash(clOrdId);
+        if (findByClOrdId(clOrdId, hash) != NO_ORDER) {
+            throw new IllegalArgumentException("Duplicate ClOrdID: " + clOrdId);
+        }
+        clearPendingClOrdId(slot);
+        setChars(pendingClOrdIds, slot, CL_ORD_ID_LENGTH, clOrdId);
+        clOrdIdIndex.put(hash, slot);
+    }
+
+    public boolean hasPendingClOrdId(int slot) {
+        return pendingClOrdIds[slot * CL_ORD_ID_LENGTH] != 0;
+    }
+
+    /**
+     * Stop tracking the ClOrdID of an amend or cancel, if any
+     */
+    public void clearPendingClOrdId(int slot) {
+        if (!hasPendingClOrdId(slot)) {
+            return;
+        }
+        clOrdIdIndex.remove(hash(pendingClOrdIds, slot), slot);
+        setChars(pendingClOrdIds, slot, CL_ORD_ID_LENGTH, null);
+    }
+
+    /**
+     * The amend in flight was accepted, the order now works under its ClOrdID
+     */
+    public void promotePendingClOrdId(int slot) {
+        if (!hasPendingClOrdId(slot)) {
+            return;
+        }
+        clOrdIdIndex.remove(hash(clOrdIds, slot), slot);
+        System.arraycopy(pendingClOrdIds, slot * CL_ORD_ID_LENGTH, clOrdIds, slot * CL_ORD_ID_LENGTH,
+                CL_ORD_ID_LENGTH);
+        // The index entry of the pending ClOrdID now refers to the current one
+        setChars(pendingClOrdIds, slot, CL_ORD_ID_LENGTH, null);
+    }
+
+    public void setOrderId(int slot, long orderId) {
+        long previous = orderIds[slot];
+        if (previous == orderId) {
+            return;
+        }
+        if (previous != 0) {
+            orderIdIndex.remove(previous, slot);
+        }
+        orderIds[slot] = orderId;
+        if (orderId != 0) {
+            orderIdIndex.put(orderId, slot);
+        }
+    }
+
+    // ---------------------------------------------------------------------
+    // Columns
+    // ---------------------------------------------------------------------
+
+    public long getOrderId(int slot) {
+        return orderIds[slot];
+    }
+
+    public OrderStatus getStatus(int slot) {
+        return STATUSES[statuses[slot]];
+    }
+
+    public void setStatus(int slot, OrderStatus status) {
+        statuses[slot] = (byte) status.ordinal();
+    }
+
+    public int getSide(int slot) {
+        return sides[slot];
+    }
+
+    public int getOrderType(int slot) {
+        return orderTypes[slot];
+    }
+
+    public int getTimeInForce(int slot) {
+        return timeInForces[slot];
+    }
+
+    public long getPrice(int slot) {
+        return prices[slot];
+    }
+
+    public void setPrice(int slot, long price) {
+        prices[slot] = price;
+    }
+
+    public long getOrderQuantity(int slot) {
+        return orderQuantities[slot];
+    }
+
+    public void setOrderQuantity(int slot, long orderQuantity) {
+        orderQuantities[slot] = orderQuantity;
+    }
+
+    public long getLeavesQuantity(int slot) {
+        return leavesQuantities[slot];
+    }
+
+    public void setLeavesQuantity(int slot, long leavesQuantity) {
+        leavesQuantities[slot] = leavesQuantity;
+    }
+
+    public long getCumulativeQuantity(int slot) {
+        return cumulativeQuantities[slot];
+    }
+
+    public void setCumulativeQuantity(int slot, long cumulativeQuantity) {
+        cumulativeQuantities[slot] = cumulativeQuantity;
+    }
+
+    public long getAveragePrice(int slot) {
+        return averagePrices[slot];
+    }
+
+    public int getRejectReason(int slot) {
+        return rejectReasons[slot];
+    }
+
+    public void setRejectReason(int slot, int rejectReason) {
+        rejectReasons[slot] = rejectReason;
+    }
+
+    public long getUpdateTime(int slot) {
+        return updateTimes[slot];
+    }
+
+    public void setUpdateTime(int slot, long updateTime) {
+        updateTimes[slot] = updateTime;
+    }
+
+    /**
+     * Apply an execution: cumulative and leaves quantity and the average price
+     */
+    public void applyFill(int slot, long quantity, long price) {
+        long previousCumulative = cumulativeQuantities[slot];
+        long cumulative = previousCumulative + quantity;
+        // Double arithmetic keeps price * quantity from overflowing
+        averagePrices[slot] = Math.round(((double) averagePrices[slot] * previousCumulative
+                + (double) price * quantity) / cumulative);
+        cumulativeQuantities[slot] = cumulative;
+        leavesQuantities[slot] = Math.max(0, leavesQuantities[slot] - quantity);
+    }
+
+    /**
+     * Status an order returns to when an amend or cancel is rejected or not sent
+     * An order the gateway has not accepted yet, without an Order ID, is still pending.
+     */
+    public OrderStatus workingStatus(int slot) {
+        if (cumulativeQuantities[slot] > 0) {
+            return OrderStatus.PARTIALLY_FILLED;
+        }
+        return orderIds[slot] != 0 ? OrderStatus.NEW : OrderStatus.PENDING_NEW;
+    }
+
+    /**
+     * Current ClOrdID (allocates, use off the hot path)
+     */
+    public String getClOrdId(int slot) {
+        return getChars(clOrdIds, slot, CL_ORD_ID_LENGTH);
+    }
+
+    /**
+     * ClOrdID of an amend or cancel in flight, or null (allocates)
+     */
+    public String getPendingClOrdId(int slot) {
+        return getChars(pendingClOrdIds, slot, CL_ORD_ID_LENGTH);
+    }
+
+    /**
+     * Security ID (allocates, use off the hot path)
+     */
+    public String getSecurityId(int slot) {
+        return getChars(securityIds, slot, SECURITY_ID_LENGTH);
+    }
+
+    /**
+     * Copy an order into a state object
+     */
+    public void copyTo(int slot, OrderState state) {
+        checkSlot(slot);
+        state.setClOrdId(getClOrdId(slot));
+        state.setPendingClOrdId(getPendingClOrdId(slot));
+        state.setOrderId(orderIds[slot]);
+        state.setSecurityId(getSecurityId(slot));
+        state.setSide(sides[slot]);
+        state.setOrderType(orderTypes[slot]);
+        state.setTimeInForce(timeInForces[slot]);
+        state.setPrice(prices[slot]);
+        state.setOrderQuantity(orderQuantities[slot]);
+        state.setLeavesQuantity(leavesQuantities[slot]);
+        state.setCumulativeQuantity(cumulativeQuantities[slot]);
+        state.setAveragePrice(averagePrices[slot]);
+        state.setStatus(getStatus(slot));
+        state.setRejectReason(rejectReasons[slot]);
+        state.setLastUpdateTime(updateTimes[slot]);
+    }
+
+    /**
+     * Copy an order into a reusable view, without allocating
+     * The view's event details are left as they are.
+     */
+    public void copyTo(int slot, OrderView view) {
+        checkSlot(slot);
+        System.arraycopy(clOrdIds, slot * CL_ORD_ID_LENGTH, view.clOrdId, 0, CL_ORD_ID_LENGTH);
+        System.arraycopy(pendingClOrdIds, slot * CL_ORD_ID_LENGTH, view.pendingClOrdId, 0, CL_ORD_ID_LENGTH);
+        System.arraycopy(securityIds, slot * SECURITY_ID_LENGTH, view.securityId, 0, SECURITY_ID_LENGTH);
+        view.slot = slot;
+        view.orderId = orderIds[slot];
+        view.side = sides[slot];
+        view.orderType = orderTypes[slot];
+        view.timeInForce = timeInForces[slot];
+        view.price = prices[slot];
+        view.orderQuantity = orderQuantities[slot];
+        view.leavesQuantity = leavesQuantities[slot];
+        view.cumulativeQuantity = cumulativeQuantities[slot];
+        view.averagePrice = averagePrices[slot];
+        view.status = getStatus(slot);
+        view.rejectReason = rejectReasons[slot];
+        view.updateTime = updateTimes[slot];
+    }
+
+    // ---------------------------------------------------------------------
+    // Snapshots
+    // ---------------------------------------------------------------------
+
+    /**
+     * Bytes written by {@link #writeSnapshot}
+     */
+    public long snapshotLength() {
+        return 8L * Integer.BYTES
+                + 7L * highWater * Long.BYTES
+                + (long) (clOrdIdIndex.keys.length + orderIdIndex.keys.length) * (Long.BYTES + Integer.BYTES)
+                + (long) (highWater + freeCount) * Integer.BYTES
+                + (long) highWater * (2 * CL_ORD_ID_LENGTH + SECURITY_ID_LENGTH + 4);
+    }
+
+    /**
+     * Copy columns, free slots and index tables to a buffer with bulk puts
+     * Ints and longs use the buffer's byte order; longs come first so they
+     * stay 8-byte aligned relative to the start position.
+     */
+    public void writeSnapshot(ByteBuffer snapshot) {
+        snapshot.putInt(capacity);
+        snapshot.putInt(highWater);
+        snapshot.putInt(size);
+        snapshot.putInt(freeCount);
+        snapshot.putInt(clOrdIdIndex.keys.length);
+        snapshot.putInt(clOrdIdIndex.size);
+        snapshot.putInt(orderIdIndex.keys.length);
+        snapshot.putInt(orderIdIndex.size);
+
+        putLongs(snapshot, orderIds, highWater);
+        putLongs(snapshot, prices, highWater);
+        putLongs(snapshot, orderQuantities, highWater);
+        putLongs(snapshot, leavesQuantities, highWater);
+        putLongs(snapshot, cumulativeQuantities, highWater);
+        putLongs(snapshot, averagePrices, highWater);
+        putLongs(snapshot, updateTimes, highWater);
+        putLongs(snapshot, clOrdIdIndex.keys, clOrdIdIndex.keys.length);
+        putLongs(snapshot, orderIdIndex.keys, orderIdIndex.keys.length);
+
+        putInts(snapshot, clOrdIdIndex.values, clOrdIdIndex.values.length);
+        putInts(snapshot, orderIdIndex.values, orderIdIndex.values.length);
+        putInts(snapshot, rejectReasons, highWater);
+        putInts(snapshot, freeSlots, freeCount);
+
+        snapshot.put(clOrdIds, 0, highWater * CL_ORD_ID_LENGTH);
+        snapshot.put(pendingClOrdIds, 0, highWater * CL_ORD_ID_LENGTH);
+        snapshot.put(securityIds, 0, highWater * SECURITY_ID_LENGTH);
+        snapshot.put(statuses, 0, highWater);
+        snapshot.put(sides, 0, highWater);
+        snapshot.put(orderTypes, 0, highWater);
+        snapshot.put(timeInForces, 0, highWater);
+    }
+
+    /**
+     * Restore a store from a buffer positioned at a snapshot
+     * Slots and index tables are restored as they were, so events logged
+     * after the snapshot replay onto the same slots.
+     */
+    public static OdpOrderStore readSnapshot(ByteBuffer snapshot) {
+        return new OdpOrderStore(snapshot);
+    }
+
+    private static void putLongs(ByteBuffer buffer, long[] values, int length) {
+        buffer.asLongBuffer().put(values, 0, length);
+        buffer.position(buffer.position() + length * Long.BYTES);
+    }
+
+    private static void getLongs(ByteBuffer buffer, long[] values, int length) {
+        buffer.asLongBuffer().get(values, 0, length);
+        buffer.position(buffer.position() + length * Long.BYTES);
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] values, int length) {
+        buffer.asIntBuffer().put(values, 0, length);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+    }
+
+    private static void getInts(ByteBuffer buffer, int[] values, int length) {
+        buffer.asIntBuffer().get(values, 0, length);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+    }
+
+    // ---------------------------------------------------------------------
+    // Storage
+    // ---------------------------------------------------------------------
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (highWater == capacity) {
+            allocateColumns(capacity * 2);
+        }
+        return highWater++;
+    }
+
+    private void allocateColumns(int newCapacity) {
+        clOrdIds = grow(clOrdIds, newCapacity * CL_ORD_ID_LENGTH);
+        pendingClOrdIds = grow(pendingClOrdIds, newCapacity * CL_ORD_ID_LENGTH);
+        securityIds = grow(securityIds, newCapacity * SECURITY_ID_LENGTH);
+        orderIds = grow(orderIds, newCapacity);
+        statuses = grow(statuses, newCapacity);
+        sides = grow(sides, newCapacity);
+        orderTypes = grow(orderTypes, newCapacity);
+        timeInForces = grow(timeInForces, newCapacity);
+        prices = grow(prices, newCapacity);
+        orderQuantities = grow(orderQuantities, newCapacity);
+        leavesQuantities = grow(leavesQuantities, newCapacity);
+        cumulativeQuantities = grow(cumulativeQuantities, newCapacity);
+        averagePrices = grow(averagePrices, newCapacity);
+        rejectReasons = rejectReasons == null ? new int[newCapacity] : Arrays.copyOf(rejectReasons, newCapacity);
+        updateTimes = grow(updateTimes, newCapacity);
+        capacity = newCapacity;
+    }
+
+    private static byte[] grow(byte[] column, int length) {
+        return column == null ? new byte[length] : Arrays.copyOf(column, length);
+    }
+
+    private static long[] grow(long[] column, int length) {
+        return column == null ? new long[length] : Arrays.copyOf(column, length);
+    }
+
+    private void checkSlot(int slot) {
+        if (!isUsed(slot)) {
+            throw new IllegalArgumentException("No order in slot " + slot);
+        }
+    }
+
+    private static void setChars(byte[] column, int slot, int length, CharSequence value) {
+        int offset = slot * length;
+        int copyLength = value != null ? Math.min(value.length(), length) : 0;
+        for (int i = 0; i < copyLength; i++) {
+            column[offset + i] = (byte) value.charAt(i);
+        }
+        Arrays.fill(column, offset + copyLength, offset + length, (byte) 0);
+    }
+
+    private static String getChars(byte[] column, int slot, int length) {
+        int offset = slot * length;
+        int strLen = 0;
+        while (strLen < length && column[offset + strLen] != 0) {
+            strLen++;
+        }
+        return strLen == 0 ? null : new String(column, offset, strLen, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean matches(byte[] column, int slot, CharSequence value) {
+        int offset = slot * CL_ORD_ID_LENGTH;
+        int length = Math.min(value.length(), CL_ORD_ID_LENGTH);
+        for (int i = 0; i < length; i++) {
+            if (column[offset + i] != (byte) value.charAt(i)) {
+                return false;
+            }
+        }
+        return length == CL_ORD_ID_LENGTH || column[offset + length] == 0;
+    }
+
+    private static boolean matches(byte[] column, int slot, ByteBuf buffer, int index) {
+        int offset = slot * CL_ORD_ID_LENGTH;
+        for (int i = 0; i < CL_ORD_ID_LENGTH; i++) {
+            byte b = buffer.getByte(index + i);
+            if (column[offset + i] != b) {
+                return false;
+            }
+            if (b == 0) {
+                return true;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a over the ASCII bytes up to the first NUL, never 0 (the empty key)
+
+    private static long hash(CharSequence value) {
+        long hash = FNV_OFFSET;
+        int length = Math.min(value.length(), CL_ORD_ID_LENGTH);
+        for (int i = 0; i < length; i++) {
+            byte b = (byte) value.charAt(i);
+            if (b == 0) {
+                break;
+            }
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        return hash != 0 ? hash : 1;
+    }
+
+    private static long hash(ByteBuf buffer, int index) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < CL_ORD_ID_LENGTH; i++) {
+            byte b = buffer.getByte(index + i);
+            if (b == 0) {
+                break;
+            }
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        return hash != 0 ? hash : 1;
+    }
+
+    private static long hash(byte[] column, int slot) {
+        long hash = FNV_OFFSET;
+        int offset = slot * CL_ORD_ID_LENGTH;
+        for (int i = 0; i < CL_ORD_ID_LENGTH; i++) {
+            byte b = column[offset + i];
+            if (b == 0) {
+                break;
+            }
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        return hash != 0 ? hash : 1;
+    }
+
+    /**
+     * Open-addressing multimap from non-zero long keys to slots
+     * Linear probing, backward-shift deletion, resized at half load.
+     */
+    private static final class LongIntTable {
+
+        private long[] keys;
+        private int[] values;
+        private int mask;
+        private int size;
+
+        LongIntTable(int expected) {
+            int capacity = Integer.highestOneBit(Math.max(expected, 8) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.values = new int[capacity];
+            this.mask = capacity - 1;
+        }
+
+        LongIntTable(long[] keys, int[] values, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.mask = keys.length - 1;
+            this.size = size;
+        }
+
+        static int home(long key, int mask) {
+            // Spread the key (MurmurHash3 finalizer), Order IDs are often sequential
+            key ^= key >>> 33;
+            key *= 0xFF51AFD7ED558CCDL;
+            key ^= key >>> 33;
+            return (int) key & mask;
+        }
+
+        int get(long key) {
+            for (int i = home(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return NO_ORDER;
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            int i = home(key, mask);
+            while (keys[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+        }
+
+        void remove(long key, int value) {
+            for (int i = home(key, mask); keys[i] != 0; i = (i + 1) & mask) {
+                if (keys[i] == key && values[i] == value) {
+                    removeAt(i);
+                    return;
+                }
+            }
+        }
+
+        private void removeAt(int hole) {
+            int i = hole;
+            while (true) {
+                i = (i + 1) & mask;
+                long key = keys[i];
+                if (key == 0) {
+                    break;
+                }
+                // Move the entry into the hole unless its home lies cyclically in (hole, i]
+                int home = home(key, mask);
+                boolean stays = hole <= i ? hole < home && home <= i : hole < home || home <= i;
+                if (!stays) {
+                    keys[hole] = key;
+                    values[hole] = values[i];
+                    hole = i;
+                }
+            }
+            keys[hole] = 0;
+            size--;
+        }
+
+        private void rehash(int newCapacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[newCapacity];
+            values = new int[newCapacity];
+            mask = newCapacity - 1;
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
\ No newline at end of file
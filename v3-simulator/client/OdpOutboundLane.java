@@ -0,0 +1,32 @@
+// src/main/java/com/odp/simulator/client/session/OdpOutboundLane.java
+package com.odp.simulator.client.session;
+
+import com.odp.simulator.client.protocol.OdpMessageType;
+
+/**
+ * Priority lanes of the outbound path, highest first
+ *
+ * Session and admin messages are not throttled and go straight to the
+ * sequencer's ring, ahead of everything the throttle holds back. Throttled
+ * messages wait in the lane of their type and the pacer always releases the
+ * head of the highest lane that holds one, so a cancel never waits behind a
+ * backlog of new orders.
+ */
+public enum OdpOutboundLane {
+
+    ADMIN,
+    CANCEL,
+    AMEND,
+    ORDER;
+
+    public static OdpOutboundLane of(OdpMessageType messageType) {
+        if (!messageType.isApplication()) {
+            return ADMIN;
+        }
+        return switch (messageType) {
+            case ORDER_CANCEL_REQUEST -> CANCEL;
+            case ORDER_AMEND_REQUEST -> AMEND;
+            default -> ORDER;
+        };
+    }
+}
\ No newline at end of file
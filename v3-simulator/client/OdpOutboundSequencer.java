@@ -0,0 +1,443 @@
+// src/main/java/com/odp/simulator/client/session/OdpOutboundSequencer.java
+package com.odp.simulator.client.session;
+
+import com.odp.simulator.client.codec.OdpEncodedFrame;
+import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.internal.PlatformDependent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.channels.ClosedChannelException;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-writer outbound sequencer for one session channel
+ *
+ * Producer threads publish messages into a bounded lock-free MPSC ring.
+ * A single drain task on the channel's event loop takes them in ring order,
+ * assigns MsgSeqNum and writes them, so sequence numbers reach the wire in
+ * ascending order however many threads send. A drain writes every queued
+ * message and flushes once.
+ *
+ * Messages held back by the session's {@link OdpThrottle} wait in a
+ * separate queue until a pacer on the event loop releases them into the
+ * ring, one token at a time. The queue has a FIFO per {@link OdpOutboundLane}
+ * and the pacer always takes the head of the highest lane that holds a
+ * message, so a cancel is the next message out however many new orders
+ * wait. Sequence numbers are assigned in the ring, so they stay in wire
+ * order whatever the lanes do. A newer amend of an order replaces its amend
+ * still waiting, see {@link OdpConflatingQueue}.
+ *
+ * A batch takes a single ring slot, so its messages get contiguous sequence
+ * numbers and are written back to back before the drain's flush.
+ *
+ * Accepted messages are {@link OdpMessage} objects (encoded by the pipeline),
+ * {@link OdpEncodedFrame}s encoded on the caller's thread, and plain frame
+ * buffers that already carry their sequence number.
+ */
+@Slf4j
+public final class OdpOutboundSequencer {
+
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final OdpSession session;
+    private final Channel channel;
+    private final int mask;
+
+    // Ring slots, a slot is writable at position p when sequences[i] == p
+    // and readable when sequences[i] == p + 1 (Vyukov bounded queue)
+    private final Object[] messages;
+    private final OdpSendFuture[] futures;
+    private final long[] sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // drain thread only
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Runnable drainTask = this::drain;
+
+    // Messages held back by the session's throttle, released by the pacer
+    private final Queue<Throttled> throttled = PlatformDependent.newMpscQueue();
+    private final OdpConflatingQueue[] lanes; // pacer only, by lane ordinal
+    private final AtomicBoolean pacerScheduled = new AtomicBoolean();
+    private final Runnable pacerTask = this::pace;
+    private final AtomicBoolean takeScheduled = new AtomicBoolean();
+    private final Runnable takeTask = this::take;
+
+    public OdpOutboundSequencer(OdpSession session, Channel channel, int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.session = session;
+        this.channel = channel;
+        this.mask = capacity - 1;
+        this.messages = new Object[capacity];
+        this.futures = new OdpSendFuture[capacity];
+        this.sequences = new long[capacity];
+        for (int i = 0; i < capacity; i++) {
+            sequences[i] = i;
+        }
+        this.lanes = new OdpConflatingQueue[OdpOutboundLane.values().length];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = new OdpConflatingQueue(64);
+        }
+        channel.closeFuture().addListener(future -> failPending());
+    }
+
+    /**
+     * Queue a message for sequencing and writing
+     *
+     * Blocks by spinning only while the ring is full. Called on the event loop
+     * itself, a full ring is drained inline instead.
+     */
+    public OdpSendFuture send(Object message) {
+        OdpSendFuture future = new OdpSendFuture(channel);
+        enqueue(message, future);
+        return future;
+    }
+
+    /**
+     * Queue messages to be numbered and written together
+     *
+     * The batch takes one ring slot: no other sender's message comes
+     * between its messages, which get contiguous sequence numbers unless
+     * they carry their own, and the drain writes them all before it flushes.
+     *
+     * @return One future per message, in order
+     */
+    public OdpSendFuture[] sendBatch(Object[] messages, int count) {
+        OdpSendFuture[] batchFutures = new OdpSendFuture[count];
+        for (int i = 0; i < count; i++) {
+            batchFutures[i] = new OdpSendFuture(channel);
+        }
+        if (count > 0) {
+            enqueue(new Batch(Arrays.copyOf(messages, count), batchFutures), null);
+        }
+        return batchFutures;
+    }
+
+    /**
+     * Queue a message admitted with {@link OdpThrottle#QUEUE} by the session's throttle
+     *
+     * Throttled messages wait in a FIFO per lane. A pacer on the event loop
+     * moves them into the ring one token at a time, highest lane first, so
+     * they are only numbered once the rate allows them. Messages of a lane
+     * never overtake each other, and an amend or cancel never overtakes its
+     * own order still waiting in a lower lane: it queues behind it instead.
+     * An amend replacing a waiting amend of the same order fails the older
+     * amend's future with {@link OdpConflatingQueue.SupersededException}.
+     */
+    public OdpSendFuture sendThrottled(Object message) {
+        OdpSendFuture future = new OdpSendFuture(channel);
+        throttled.offer(new Throttled(message, future));
+        if (!channel.isActive()) {
+            // The close listener may have run already, fail what it missed
+            channel.eventLoop().execute(this::failPending);
+            return future;
+        }
+        if (!schedulePacer()) {
+            // The pacer is waiting for a token, take the message now so a waiting amend is replaced at once
+            scheduleTake();
+        }
+        return future;
+    }
+
+    /**
+     * Drop a message without sending it
+     * @return A future already failed with the cause
+     */
+    public OdpSendFuture reject(Object message, Throwable cause) {
+        OdpSendFuture future = new OdpSendFuture(channel);
+        discard(message);
+        future.setFailure(cause);
+        return future;
+    }
+
+    private void enqueue(Object message, OdpSendFuture future) {
+        if (!channel.isActive()) {
+            fail(message, future, new ClosedChannelException());
+            return;
+        }
+        while (!offer(message, future)) {
+            if (channel.eventLoop().inEventLoop()) {
+                drain();
+            } else if (!channel.isActive()) {
+                fail(message, future, new ClosedChannelException());
+                return;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        scheduleDrain();
+    }
+
+    private boolean offer(Object message, OdpSendFuture future) {
+        long position = tail.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            long difference = sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    messages[index] = message;
+                    futures[index] = future;
+                    // Volatile so the drain flag read that follows cannot move before it
+                    SEQUENCE.setVolatile(sequences, index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!drainScheduled.get() && drainScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(drainTask);
+        }
+    }
+
+    private boolean schedulePacer() {
+        if (!pacerScheduled.get() && pacerScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(pacerTask);
+            return true;
+        }
+        return false;
+    }
+
+    private void scheduleTake() {
+        if (!takeScheduled.get() && takeScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(takeTask);
+        }
+    }
+
+    private void take() {
+        takeScheduled.set(false);
+        takeThrottled(session.getThrottle());
+    }
+
+    /**
+     * Move throttled messages into the ring while tokens are available,
+     * then wait on the event loop for the next token
+     */
+    private void pace() {
+        OdpThrottle throttle = session.getThrottle();
+        for (;;) {
+            takeThrottled(throttle);
+            OdpConflatingQueue lane = highestLane();
+            if (lane == null) {
+                pacerScheduled.set(false);
+                if (throttled.isEmpty() || !pacerScheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            long nowNanos = System.nanoTime();
+            if (throttle != null && !throttle.tryAcquire(nowNanos)) {
+                channel.eventLoop().schedule(pacerTask, throttle.delayNanos(nowNanos), TimeUnit.NANOSECONDS);
+                return;
+            }
+            Object message = lane.headMessage();
+            OdpSendFuture future = lane.headFuture();
+            OdpOutboundLane admitted = laneOf(message);
+            lane.removeHead();
+            enqueue(message, future);
+            // Only once the message is in the ring, so a message sent unthrottled cannot overtake it
+            if (throttle != null) {
+                throttle.dequeued(admitted);
+            }
+        }
+    }
+
+    private OdpConflatingQueue highestLane() {
+        for (OdpConflatingQueue lane : lanes) {
+            if (!lane.isEmpty()) {
+                return lane;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Move newly throttled messages into their lanes, conflating amends
+     */
+    private void takeThrottled(OdpThrottle throttle) {
+        Throttled held;
+        while ((held = throttled.poll()) != null) {
+            int lane = laneOf(held.message).ordinal();
+            // Behind the order's own New Order Single if it is still waiting in a lower lane
+            for (int i = lanes.length - 1; i > lane; i--) {
+                if (lanes[i].holdsOrder(held.message)) {
+                    lane = i;
+                    break;
+                }
+            }
+            if (lanes[lane].add(held.message, held.future) && throttle != null) {
+                throttle.conflated();
+            }
+        }
+    }
+
+    private static OdpOutboundLane laneOf(Object message) {
+        OdpMessageType messageType = OdpConflatingQueue.messageType(message);
+        return messageType != null ? OdpOutboundLane.of(messageType) : OdpOutboundLane.ORDER;
+    }
+
+    private boolean hasQueued() {
+        return (long) SEQUENCE.getVolatile(sequences, (int) head & mask) == head + 1;
+    }
+
+    private void freeSlot(int index) {
+        messages[index] = null;
+        futures[index] = null;
+        SEQUENCE.setRelease(sequences, index, head + mask + 1);
+        head++;
+    }
+
+    private void drain() {
+        int written = 0;
+        while (hasQueued()) {
+            int index = (int) head & mask;
+            Object message = messages[index];
+            OdpSendFuture future = futures[index];
+            freeSlot(index);
+            write(message, future);
+            written++;
+        }
+        if (written > 0) {
+            channel.flush();
+        }
+        drainScheduled.set(false);
+        if (hasQueued()) {
+            scheduleDrain();
+        }
+    }
+
+    private void write(Object message, OdpSendFuture future) {
+        if (message instanceof Batch batch) {
+            for (int i = 0; i < batch.messages.length; i++) {
+                write(batch.messages[i], batch.futures[i]);
+            }
+            return;
+        }
+        try {
+            if (message instanceof OdpEncodedFrame frame) {
+                long msgSeqNum = session.getNextOutgoingSeqNum();
+                frame.stampMsgSeqNum(msgSeqNum);
+                future.setMsgSeqNum(msgSeqNum);
+                channel.write(frame.content(), future);
+            } else if (message instanceof OdpMessage odpMessage) {
+                if (odpMessage.getHeader().getMsgSeqNum() == 0) {
+                    odpMessage.getHeader().setMsgSeqNum(session.getNextOutgoingSeqNum());
+                }
+                future.setMsgSeqNum(odpMessage.getHeader().getMsgSeqNum());
+                channel.write(odpMessage, future);
+            } else if (message instanceof ByteBuf frame) {
+                future.setMsgSeqNum(frame.getLongLE(frame.readerIndex() + OdpDataType.MSG_SEQ_NUM_OFFSET));
+                channel.write(frame, future);
+            } else {
+                ReferenceCountUtil.release(message);
+                future.setFailure(new IllegalArgumentException("Unsupported outbound message: " + message));
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to write sequenced message", e);
+            future.tryFailure(e);
+        }
+    }
+
+    /**
+     * Fail everything still in the ring or the throttle queue once the channel has closed
+     */
+    private void failPending() {
+        if (!channel.eventLoop().inEventLoop()) {
+            channel.eventLoop().execute(this::failPending);
+            return;
+        }
+        while (hasQueued()) {
+            int index = (int) head & mask;
+            Object message = messages[index];
+            OdpSendFuture future = futures[index];
+            freeSlot(index);
+            fail(message, future, new ClosedChannelException());
+        }
+        OdpThrottle throttle = session.getThrottle();
+        takeThrottled(throttle);
+        for (OdpConflatingQueue lane : lanes) {
+            while (!lane.isEmpty()) {
+                Object message = lane.headMessage();
+                OdpOutboundLane admitted = laneOf(message);
+                discard(message);
+                lane.headFuture().tryFailure(new ClosedChannelException());
+                lane.removeHead();
+                if (throttle != null) {
+                    throttle.dequeued(admitted);
+                }
+            }
+        }
+    }
+
+    private static void fail(Object message, OdpSendFuture future, Throwable cause) {
+        if (message instanceof Batch batch) {
+            for (int i = 0; i < batch.messages.length; i++) {
+                discard(batch.messages[i]);
+                batch.futures[i].tryFailure(cause);
+            }
+            return;
+        }
+        discard(message);
+        future.tryFailure(cause);
+    }
+
+    /**
+     * Drop a message that will not be written: frames are released and
+     * pooled messages go back to their pool
+     */
+    public static void discard(Object message) {
+        if (message instanceof OdpMessage odpMessage) {
+            odpMessage.release();
+        } else {
+            ReferenceCountUtil.release(message);
+        }
+    }
+
+    /**
+     * Messages sharing one ring slot
+     */
+    private static final class Batch {
+
+        final Object[] messages;
+        final OdpSendFuture[] futures;
+
+        Batch(Object[] messages, OdpSendFuture[] futures) {
+            this.messages = messages;
+            this.futures = futures;
+        }
+    }
+
+    /**
+     * A message waiting for a throttle token
+     */
+    private static final class Throttled {
+
+        final Object message;
+        final OdpSendFuture future;
+
+        Throttled(Object message, OdpSendFuture future) {
+            this.message = message;
+            this.future = future;
+        }
+    }
+}
\ No newline at end of file
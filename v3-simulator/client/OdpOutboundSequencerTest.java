@@ -0,0 +1,169 @@
+// src/test/java/com/odp/simulator/client/session/OdpOutboundSequencerTest.java
+package com.odp.simulator.client.session;
+
+import com.odp.simulator.client.codec.OdpDecodeMode;
+import com.odp.simulator.client.codec.OdpEncodedFrame;
+import com.odp.simulator.client.codec.OdpFrameEncoder;
+import com.odp.simulator.client.codec.OdpMessageDecoder;
+import com.odp.simulator.client.codec.OdpMessageEncoder;
+import com.odp.simulator.client.protocol.OdpMessageHeader;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
+import com.odp.simulator.client.protocol.codecs.NewOrderSingleCodec;
+import com.odp.simulator.client.protocol.messages.NewOrderSingle;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OdpOutboundSequencerTest {
+
+    private static final int PRODUCERS = 4;
+    private static final int MESSAGES_PER_PRODUCER = 2000;
+    private static final int BATCH_SIZE = 3;
+
+    private final DefaultEventLoopGroup group = new DefaultEventLoopGroup(2);
+
+    @AfterEach
+    void shutdown() {
+        group.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void producersNeitherLoseNorReorderMessages() throws Exception {
+        int total = PRODUCERS * MESSAGES_PER_PRODUCER;
+        // Written by the server's decode thread only
+        List<Long> seqNums = new ArrayList<>(total);
+        List<String> clOrdIds = new ArrayList<>(total);
+        CountDownLatch received = new CountDownLatch(total);
+
+        LocalAddress address = new LocalAddress("sequencer-ring-test");
+        new ServerBootstrap().group(group).channel(LocalServerChannel.class)
+                .childHandler(new ChannelInitializer<LocalChannel>() {
+                    @Override
+                    protected void initChannel(LocalChannel ch) {
+                        ch.pipeline().addLast(new OdpMessageDecoder(OdpDecodeMode.FLYWEIGHT),
+                                new ChannelInboundHandlerAdapter() {
+                                    @Override
+                                    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+                                        OdpMessageView view = (OdpMessageView) msg;
+                                        seqNums.add(view.getMsgSeqNum());
+                                        clOrdIds.add(NewOrderSingleCodec.getClOrdId(view.frame(),
+                                                view.bodyIndex(), view.getCodecPlan()));
+                                        view.release();
+                                        received.countDown();
+                                    }
+                                });
+                    }
+                }).bind(address).sync();
+        Channel channel = new Bootstrap().group(group).channel(LocalChannel.class)
+                .handler(new OdpMessageEncoder()).connect(address).sync().channel();
+
+        // A small ring so producers keep wrapping it and waiting for free slots
+        OdpOutboundSequencer sequencer = new OdpOutboundSequencer(new OdpSession("C1"), channel, 64);
+        Queue<OdpSendFuture> futures = new ConcurrentLinkedQueue<>();
+        Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            producers[p] = new Thread(() -> produce(producer, sequencer, channel, futures), "producer-" + p);
+            producers[p].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(received.await(20, TimeUnit.SECONDS), "received " + (total - received.getCount()));
+
+        // Every message arrived once, numbered in wire order
+        assertEquals(total, seqNums.size());
+        for (int i = 0; i < total; i++) {
+            assertEquals(i + 1, seqNums.get(i));
+        }
+        assertEquals(total, new HashSet<>(clOrdIds).size());
+
+        // Each producer's messages arrived in the order it sent them, batches back to back
+        int[] next = new int[PRODUCERS];
+        for (int i = 0; i < total; i++) {
+            String[] id = clOrdIds.get(i).split("-");
+            int producer = Integer.parseInt(id[0]);
+            int index = Integer.parseInt(id[1]);
+            assertEquals(next[producer], index, "producer " + producer + " at " + i);
+            next[producer]++;
+            if (index % 10 == 0) {
+                for (int b = 1; b < BATCH_SIZE; b++) {
+                    assertEquals(producer + "-" + (index + b), clOrdIds.get(i + b), "batch at " + i);
+                }
+            }
+        }
+
+        // Every future succeeded with the number its message was sent with
+        Set<Long> futureSeqNums = new HashSet<>();
+        for (OdpSendFuture future : futures) {
+            assertTrue(future.await(5, TimeUnit.SECONDS));
+            assertTrue(future.isSuccess(), String.valueOf(future.cause()));
+            assertTrue(futureSeqNums.add(future.getMsgSeqNum()));
+        }
+        assertEquals(total, futureSeqNums.size());
+
+        channel.close().sync();
+        assertFalse(sequencer.send(order(0, 0)).await().isSuccess());
+    }
+
+    private static void produce(int producer, OdpOutboundSequencer sequencer, Channel channel,
+                                Queue<OdpSendFuture> futures) {
+        OdpFrameEncoder encoder = new OdpFrameEncoder();
+        int i = 0;
+        while (i < MESSAGES_PER_PRODUCER) {
+            if (i % 10 == 0 && i + BATCH_SIZE <= MESSAGES_PER_PRODUCER) {
+                Object[] batch = new Object[BATCH_SIZE];
+                for (int b = 0; b < BATCH_SIZE; b++) {
+                    batch[b] = order(producer, i + b);
+                }
+                futures.addAll(Arrays.asList(sequencer.sendBatch(batch, BATCH_SIZE)));
+                i += BATCH_SIZE;
+            } else if (i % 2 == 0) {
+                // Encoded on the producer's thread, numbered by the sequencer
+                NewOrderSingle order = order(producer, i);
+                futures.add(sequencer.send(new OdpEncodedFrame(encoder.encode(channel.alloc(), order),
+                        order.getMessageType())));
+                i++;
+            } else {
+                futures.add(sequencer.send(order(producer, i)));
+                i++;
+            }
+        }
+    }
+
+    private static NewOrderSingle order(int producer, int index) {
+        NewOrderSingle order = new NewOrderSingle();
+        order.setHeader(OdpMessageHeader.builder()
+                .messageId(OdpMessageType.NEW_ORDER_SINGLE.getMessageId()).compId("C1").build());
+        order.setClOrdId(producer + "-" + index);
+        order.setSecurityId("700");
+        order.setSide(1);
+        order.setOrderQuantity(1);
+        order.setPrice(1);
+        return order;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+// src/main/java/com/odp/simulator/client/protocol/OdpSchemaLoader.java
+package com.odp.simulator.client.protocol;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loader for the binary message schema exported by the PDF field table reader
+ *
+ * Loaded schemas are registered with {@link OdpMessageSchemas} and replace the
+ * built-in schemas of the generated codecs, so fields added by a new spec
+ * release are picked up without a client release. Fields the generated codecs
+ * know must keep their type and size, a file that changes one is refused as a
+ * whole. Message types without a message class are then decoded and encoded
+ * through {@link com.odp.simulator.client.protocol.messages.GenericOdpMessage}.
+ *
+ * File format (big endian):
+ * - int   magic 0x4F445053 ("ODPS")
+ * - short version (1)
+ * - short message count
+ * - per message: short message ID, byte field count
+ * - per field:   byte bit position, byte type code ({@link OdpFieldType} ordinal),
+ *                short size, UTF field name
+ */
+@Slf4j
+@Component
+public class OdpSchemaLoader {
+
+    public static final int MAGIC = 0x4F445053;
+    public static final int VERSION = 1;
+
+    private final ResourceLoader resourceLoader;
+    private volatile boolean loaded;
+
+    public OdpSchemaLoader(ResourceLoader resourceLoader) {
+        this.resourceLoader = resourceLoader;
+    }
+
+    /**
+     * Load the schema file and register its schemas
+     * @return Number of registered schemas
+     */
+    public int loadSchemas(String schemaPath) throws IOException {
+        log.info("Loading message schema from: {}", schemaPath);
+
+        Resource resource = resourceLoader.getResource(schemaPath);
+        if (!resource.exists()) {
+            throw new IllegalStateException("Schema file not found: " + schemaPath);
+        }
+
+        List<OdpMessageSchema> schemas;
+        try (InputStream in = resource.getInputStream()) {
+            schemas = read(in);
+        }
+        // Refuse the whole file if any schema disagrees with the generated codecs
+        for (OdpMessageSchema schema : schemas) {
+            try {
+                OdpMessageSchemas.checkCompatible(schema);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("Schema file " + schemaPath + " does not match the generated codecs: "
+                        + e.getMessage(), e);
+            }
+        }
+        for (OdpMessageSchema schema : schemas) {
+            OdpMessageSchemas.register(schema);
+        }
+        loaded = true;
+
+        log.info("Registered {} message schemas from {}", schemas.size(), schemaPath);
+        return schemas.size();
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Parse a binary schema stream
+     * Messages with an ID unknown to {@link OdpMessageType} are skipped
+     */
+    public static List<OdpMessageSchema> read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+
+        int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException(String.format("Invalid schema file magic: 0x%08X", magic));
+        }
+        int version = in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported schema file version: " + version);
+        }
+
+        OdpFieldType[] types = OdpFieldType.values();
+        int messageCount = in.readUnsignedShort();
+        List<OdpMessageSchema> schemas = new ArrayList<>(messageCount);
+
+        for (int i = 0; i < messageCount; i++) {
+            int messageId = in.readUnsignedShort();
+            int fieldCount = in.readUnsignedByte();
+
+            OdpFieldDefinition[] definitions = new OdpFieldDefinition[fieldCount];
+            for (int f = 0; f < fieldCount; f++) {
+                int bitPosition = in.readUnsignedByte();
+                int typeCode = in.readUnsignedByte();
+                int size = in.readUnsignedShort();
+                String name = in.readUTF();
+
+                if (typeCode >= types.length) {
+                    throw new IOException("Unknown type code " + typeCode + " for field " + name
+                            + " of message " + messageId);
+                }
+                OdpFieldType type = types[typeCode];
+                definitions[f] = type == OdpFieldType.CHAR_ARRAY
+                        ? OdpFieldDefinition.charArray(bitPosition, name, size)
+                        : OdpFieldDefinition.field(bitPosition, name, type);
+            }
+
+            OdpMessageType messageType = OdpMessageType.fromMessageId(messageId);
+            if (messageType == OdpMessageType.UNKNOWN) {
+                log.warn("Skipping schema of unknown message ID: {}", messageId);
+                continue;
+            }
+            schemas.add(OdpMessageSchema.of(messageType, definitions));
+        }
+        return schemas;
+    }
+}
\ No newline at end of file
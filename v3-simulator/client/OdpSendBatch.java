@@ -0,0 +1,46 @@
+// src/main/java/com/odp/simulator/client/client/OdpSendBatch.java
+package com.odp.simulator.client.client;
+
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.session.OdpSendFuture;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Messages collected to go out together, see {@link OdpTradingClient#beginBatch()}
+ *
+ * Nothing is sent until {@link #flush()}, which hands the messages to
+ * {@link OdpTradingClient#sendBatch} and empties the batch for reuse.
+ * Not thread-safe, a batch is filled and flushed by one thread.
+ */
+public final class OdpSendBatch {
+
+    private final OdpTradingClient client;
+    private final List<OdpMessage> messages = new ArrayList<>();
+
+    OdpSendBatch(OdpTradingClient client) {
+        this.client = client;
+    }
+
+    public OdpSendBatch add(OdpMessage message) {
+        messages.add(message);
+        return this;
+    }
+
+    public int size() {
+        return messages.size();
+    }
+
+    /**
+     * Send the collected messages with a single flush
+     * @return One future per message, in the order they were added
+     */
+    public List<OdpSendFuture> flush() {
+        try {
+            return client.sendBatch(messages);
+        } finally {
+            messages.clear();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+// src/main/java/com/odp/simulator/client/session/OdpSendFuture.java
+package com.odp.simulator.client.session;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultChannelPromise;
+
+/**
+ * Completion handle for a message queued on an {@link OdpOutboundSequencer}
+ *
+ * Completes when the frame has been written to the socket (or failed).
+ * The assigned sequence number is available once the sequencer has taken
+ * the message, at the latest when the future is done.
+ */
+public final class OdpSendFuture extends DefaultChannelPromise {
+
+    private volatile long msgSeqNum;
+
+    OdpSendFuture(Channel channel) {
+        super(channel);
+    }
+
+    /**
+     * Sequence number assigned to the message, 0 while still queued
+     */
+    public long getMsgSeqNum() {
+        return msgSeqNum;
+    }
+
+    void setMsgSeqNum(long msgSeqNum) {
+        this.msgSeqNum = msgSeqNum;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+// src/main/java/com/odp/simulator/client/session/OdpSeqNumWindow.java
+package com.odp.simulator.client.session;
+
+import java.util.Arrays;
+
+/**
+ * Sliding bitset of recently seen sequence numbers
+ *
+ * Covers at least the last {@code size - 63} sequence numbers up to the
+ * highest one seen, one bit each in a {@code long[]} ring of 64-bit words. Marking and testing are O(1) without
+ * boxing. Sequence numbers that have slid out of the window count as seen.
+ *
+ * Not thread-safe.
+ */
+public final class OdpSeqNumWindow {
+
+    private final long[] words;
+    private final int mask;
+
+    // Highest sequence number marked, 0 if none
+    private long highest;
+
+    /**
+     * @param size Number of sequence numbers covered, a power of two of at least 64
+     */
+    public OdpSeqNumWindow(int size) {
+        if (size < 64 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Window size must be a power of two of at least 64: " + size);
+        }
+        this.words = new long[size >>> 6];
+        this.mask = words.length - 1;
+    }
+
+    /**
+     * Check if a sequence number was seen, or is too old to tell
+     */
+    public boolean isSeen(long msgSeqNum) {
+        if (msgSeqNum > highest || highest == 0) {
+            return false;
+        }
+        if ((highest >>> 6) - (msgSeqNum >>> 6) >= words.length) {
+            return true;
+        }
+        return (words[(int) (msgSeqNum >>> 6) & mask] & (1L << msgSeqNum)) != 0;
+    }
+
+    /**
+     * Mark a sequence number as seen
+     * @return false if it was already seen
+     */
+    public boolean markSeen(long msgSeqNum) {
+        if (isSeen(msgSeqNum)) {
+            return false;
+        }
+        if (msgSeqNum > highest) {
+            slideTo(msgSeqNum);
+        }
+        words[(int) (msgSeqNum >>> 6) & mask] |= 1L << msgSeqNum;
+        return true;
+    }
+
+    /**
+     * Highest sequence number marked, 0 if none
+     */
+    public long getHighest() {
+        return highest;
+    }
+
+    /**
+     * Forget everything, e.g. when the counterparty restarts its sequence numbers
+     */
+    public void clear() {
+        Arrays.fill(words, 0L);
+        highest = 0;
+    }
+
+    /**
+     * Advance the window so it ends at msgSeqNum, clearing the words that wrap around
+     */
+    private void slideTo(long msgSeqNum) {
+        if (highest == 0 || (msgSeqNum >>> 6) - (highest >>> 6) >= words.length) {
+            Arrays.fill(words, 0L);
+        } else {
+            long fromWord = (highest >>> 6) + 1;
+            long toWord = msgSeqNum >>> 6;
+            for (long word = fromWord; word <= toWord; word++) {
+                words[(int) word & mask] = 0L;
+            }
+        }
+        highest = msgSeqNum;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+// src/main/java/com/odp/simulator/client/session/OdpSequenceStore.java
+package com.odp.simulator.client.session;
+
+import io.netty.util.internal.PlatformDependent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Persistent sequence numbers of one Comp ID in a small memory-mapped file
+ *
+ * Every change to the next outgoing and next expected incoming sequence
+ * number is stored with an ordered (release) write into the mapping. The
+ * page cache carries it to disk, so a process crash loses nothing and the
+ * hot path never calls fsync. {@link #force()} is only used on close.
+ *
+ * The next outgoing number is stored with a compare-and-set that only moves
+ * it forward, so threads taking sequence numbers concurrently can store them
+ * in any order and the file still holds the highest one. Only
+ * {@link #resetNextOutgoingSeqNum} can move it back.
+ *
+ * File layout (little endian):
+ * - int  magic 0x4F445351 ("ODSQ")
+ * - int  version (1)
+ * - long next outgoing MsgSeqNum
+ * - long next expected incoming MsgSeqNum
+ */
+@Slf4j
+public final class OdpSequenceStore implements Closeable {
+
+    public static final int MAGIC = 0x4F445351;
+    public static final int VERSION = 1;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int OUTGOING_OFFSET = 8;
+    private static final int INCOMING_OFFSET = 16;
+    private static final int FILE_SIZE = 24;
+
+    private static final VarHandle LONG =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final Path file;
+    private final FileChannel fileChannel;
+    private final MappedByteBuffer mapped;
+
+    private OdpSequenceStore(Path file, FileChannel fileChannel, MappedByteBuffer mapped) {
+        this.file = file;
+        this.fileChannel = fileChannel;
+        this.mapped = mapped;
+    }
+
+    /**
+     * Open the store, creating it with both sequence numbers at 1 if it does not exist
+     */
+    public static OdpSequenceStore open(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel fileChannel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer mapped = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            OdpSequenceStore store = new OdpSequenceStore(file, fileChannel, mapped);
+            if (mapped.getInt(MAGIC_OFFSET) != MAGIC || mapped.getInt(VERSION_OFFSET) != VERSION) {
+                store.initialize();
+            } else {
+                log.info("Loaded sequence numbers from {}: next outgoing {}, next expected incoming {}",
+                        file, store.getNextOutgoingSeqNum(), store.getExpectedIncomingSeqNum());
+            }
+            return store;
+        } catch (IOException | RuntimeException e) {
+            fileChannel.close();
+            throw e;
+        }
+    }
+
+    private void initialize() {
+        resetNextOutgoingSeqNum(1);
+        storeExpectedIncomingSeqNum(1);
+        mapped.putInt(VERSION_OFFSET, VERSION);
+        mapped.putInt(MAGIC_OFFSET, MAGIC);
+        mapped.force();
+        log.info("Created sequence store {}", file);
+    }
+
+    public long getNextOutgoingSeqNum() {
+        return (long) LONG.getAcquire(mapped, OUTGOING_OFFSET);
+    }
+
+    public long getExpectedIncomingSeqNum() {
+        return (long) LONG.getAcquire(mapped, INCOMING_OFFSET);
+    }
+
+    /**
+     * Store the next outgoing sequence number unless a higher one is already stored
+     */
+    public void storeNextOutgoingSeqNum(long msgSeqNum) {
+        long stored = (long) LONG.getAcquire(mapped, OUTGOING_OFFSET);
+        while (stored < msgSeqNum) {
+            long witness = (long) LONG.compareAndExchangeRelease(mapped, OUTGOING_OFFSET, stored, msgSeqNum);
+            if (witness == stored) {
+                return;
+            }
+            stored = witness;
+        }
+    }
+
+    /**
+     * Store the next outgoing sequence number even if it is lower, for a sequence reset
+     */
+    public void resetNextOutgoingSeqNum(long msgSeqNum) {
+        LONG.setRelease(mapped, OUTGOING_OFFSET, msgSeqNum);
+    }
+
+    public void storeExpectedIncomingSeqNum(long msgSeqNum) {
+        LONG.setRelease(mapped, INCOMING_OFFSET, msgSeqNum);
+    }
+
+    /**
+     * Flush the stored sequence numbers to disk
+     */
+    public void force() {
+        mapped.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        mapped.force();
+        fileChannel.close();
+        PlatformDependent.freeDirectBuffer(mapped);
+    }
+}
\ No newline at end of file
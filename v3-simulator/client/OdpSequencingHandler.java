@@ -0,0 +1,39 @@
+// src/main/java/com/odp/simulator/client/handler/OdpSequencingHandler.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.codec.OdpEncodedFrame;
+import com.odp.simulator.client.session.OdpSession;
+import com.odp.simulator.client.session.OdpSessionManager;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbound handler that assigns sequence numbers to pre-encoded frames
+ *
+ * Runs on the event loop, so frames are numbered in the order they are
+ * written to the channel. Other messages pass through unchanged.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OdpSequencingHandler extends ChannelOutboundHandlerAdapter {
+
+    private final OdpSessionManager sessionManager;
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof OdpEncodedFrame frame) {
+            OdpSession session = sessionManager.getPrimarySession();
+            long msgSeqNum = session.getNextOutgoingSeqNum();
+            frame.stampMsgSeqNum(msgSeqNum);
+            if (log.isTraceEnabled()) {
+                log.trace("Sequenced {} as {}", frame, msgSeqNum);
+            }
+            ctx.write(frame.content(), promise);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+}
\ No newline at end of file
@@ -2,10 +2,16 @@
 package com.odp.simulator.client.session;
 
 import io.netty.channel.Channel;
+import io.netty.channel.EventLoop;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.time.Instant;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -18,6 +24,11 @@ public class OdpSession {
     private final String compId;
     private volatile OdpSessionState state = OdpSessionState.DISCONNECTED;
     private volatile Channel channel;
+
+    // Event loop of the last channel, storage is closed there so it never races an update
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile EventLoop eventLoop;
     
     // Gateway connection info from Lookup
     private String gatewayIpPrimary;
@@ -33,6 +44,16 @@ public class OdpSession {
     private final AtomicLong outgoingSeqNum = new AtomicLong(1);
     private final AtomicLong expectedIncomingSeqNum = new AtomicLong(1);
     
+    // Journal of sent frames for resend, null if journaling is disabled
+    private volatile OdpMessageJournal journal;
+
+    // Rate limit of application messages, null if throttling is disabled
+    private volatile OdpThrottle throttle;
+
+    // Persistent copy of the sequence numbers, null if not persisted
+    @Setter(AccessLevel.NONE)
+    private volatile OdpSequenceStore sequenceStore;
+
     // Timestamps
     private Instant lastSentTime;
     private Instant lastReceivedTime;
@@ -42,11 +63,24 @@ public class OdpSession {
         this.compId = compId;
     }
 
+    public void setChannel(Channel channel) {
+        this.channel = channel;
+        if (channel != null) {
+            eventLoop = channel.eventLoop();
+        }
+    }
+
     /**
      * Get and increment the outgoing sequence number
      */
     public long getNextOutgoingSeqNum() {
-        return outgoingSeqNum.getAndIncrement();
+        long msgSeqNum = outgoingSeqNum.getAndIncrement();
+        OdpSequenceStore store = sequenceStore;
+        if (store != null) {
+            // Stored before the frame is sent, so a crash can skip a number but never reuse one
+            store.storeNextOutgoingSeqNum(msgSeqNum + 1);
+        }
+        return msgSeqNum;
     }
 
     /**
@@ -61,6 +95,10 @@ public class OdpSession {
      */
     public void resetOutgoingSeqNum(long value) {
         outgoingSeqNum.set(value);
+        OdpSequenceStore store = sequenceStore;
+        if (store != null) {
+            store.resetNextOutgoingSeqNum(value);
+        }
     }
 
     /**
@@ -75,13 +113,30 @@ public class OdpSession {
      */
     public void setExpectedIncomingSeqNum(long value) {
         expectedIncomingSeqNum.set(value);
+        OdpSequenceStore store = sequenceStore;
+        if (store != null) {
+            store.storeExpectedIncomingSeqNum(value);
+        }
     }
 
     /**
      * Increment the expected incoming sequence number
      */
     public void incrementExpectedIncomingSeqNum() {
-        expectedIncomingSeqNum.incrementAndGet();
+        long value = expectedIncomingSeqNum.incrementAndGet();
+        OdpSequenceStore store = sequenceStore;
+        if (store != null) {
+            store.storeExpectedIncomingSeqNum(value);
+        }
+    }
+
+    /**
+     * Resume from the stored sequence numbers and persist every later change
+     */
+    public void attachSequenceStore(OdpSequenceStore store) {
+        outgoingSeqNum.set(store.getNextOutgoingSeqNum());
+        expectedIncomingSeqNum.set(store.getExpectedIncomingSeqNum());
+        this.sequenceStore = store;
     }
 
     /**
@@ -112,6 +167,51 @@ public class OdpSession {
         this.lastReceivedTime = Instant.now();
     }
 
+    /**
+     * Close the outbound journal and the sequence store, if any
+     *
+     * Both are closed on the channel's event loop once the channel is closed,
+     * so no append, resend or sequence number update can still be running
+     * against their mappings.
+     */
+    public void closeStorage() {
+        Channel currentChannel = channel;
+        EventLoop loop = eventLoop;
+        if (currentChannel != null) {
+            currentChannel.closeFuture().addListener(future -> closeMappedStorage());
+        } else if (loop != null && !loop.inEventLoop()) {
+            try {
+                loop.execute(this::closeMappedStorage);
+            } catch (RejectedExecutionException e) {
+                // The event loop has terminated, nothing can race the close any more
+                closeMappedStorage();
+            }
+        } else {
+            closeMappedStorage();
+        }
+    }
+
+    private void closeMappedStorage() {
+        OdpMessageJournal currentJournal = journal;
+        journal = null;
+        if (currentJournal != null) {
+            try {
+                currentJournal.close();
+            } catch (IOException e) {
+                log.warn("Failed to close message journal for {}: {}", compId, e.getMessage());
+            }
+        }
+        OdpSequenceStore currentStore = sequenceStore;
+        sequenceStore = null;
+        if (currentStore != null) {
+            try {
+                currentStore.close();
+            } catch (IOException e) {
+                log.warn("Failed to close sequence store for {}: {}", compId, e.getMessage());
+            }
+        }
+    }
+
     /**
      * Transition to a new state
      */
@@ -1,11 +1,15 @@
 // src/main/java/com/odp/simulator/client/session/OdpSessionManager.java
 package com.odp.simulator.client.session;
 
+import com.odp.simulator.client.codec.OdpCharArrays;
 import com.odp.simulator.client.config.OdpClientProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Manages ODP sessions
@@ -41,15 +45,56 @@ public class OdpSessionManager {
 
     /**
      * Create a new session for a Comp ID
+     * The Comp ID is interned so decoded headers share the session's instance
      */
     public OdpSession createSession(String compId) {
+        if (compId != null) {
+            compId = OdpCharArrays.intern(compId).toString();
+        }
         OdpSession session = new OdpSession(compId);
         session.setHeartbeatIntervalSeconds(properties.getHeartbeatIntervalSeconds());
+        OdpClientProperties.ThrottleConfig throttleConfig = properties.getThrottle();
+        if (throttleConfig.isEnabled()) {
+            OdpThrottle throttle = new OdpThrottle(throttleConfig.getMode(),
+                    TimeUnit.MILLISECONDS.toNanos(throttleConfig.getMaxQueueDelayMs()), throttleConfig.getBurst());
+            if (throttleConfig.getInitialMessages() > 0) {
+                throttle.setEntitlement(throttleConfig.getInitialMessages(),
+                        TimeUnit.MILLISECONDS.toNanos(throttleConfig.getInitialIntervalMs()));
+            }
+            session.setThrottle(throttle);
+        }
+        if (properties.getSequenceStore().isEnabled()) {
+            session.attachSequenceStore(openSequenceStore(compId));
+        }
+        if (properties.getJournal().isEnabled()) {
+            session.setJournal(openJournal(compId));
+        }
         sessions.put(compId, session);
         log.info("Created session for Comp ID: {}", compId);
         return session;
     }
 
+    private OdpSequenceStore openSequenceStore(String compId) {
+        Path file = Path.of(properties.getSequenceStore().getDirectory(), compId + ".seq");
+        try {
+            return OdpSequenceStore.open(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open sequence store: " + file, e);
+        }
+    }
+
+    private OdpMessageJournal openJournal(String compId) {
+        OdpClientProperties.JournalConfig config = properties.getJournal();
+        Path file = Path.of(config.getDirectory(), compId + ".journal");
+        try {
+            OdpMessageJournal journal = OdpMessageJournal.open(file, config.getCapacityBytes());
+            log.info("Opened message journal {} ({} bytes)", file, config.getCapacityBytes());
+            return journal;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open message journal: " + file, e);
+        }
+    }
+
     /**
      * Get session by Comp ID
      */
@@ -63,6 +108,7 @@ public class OdpSessionManager {
     public void removeSession(String compId) {
         OdpSession session = sessions.remove(compId);
         if (session != null) {
+            session.closeStorage();
             log.info("Removed session for Comp ID: {}", compId);
         }
     }
@@ -76,6 +122,7 @@ public class OdpSessionManager {
                 session.getChannel().close();
             }
             session.transitionTo(OdpSessionState.LOGGED_OUT);
+            session.closeStorage();
         });
         sessions.clear();
         primarySession = null;
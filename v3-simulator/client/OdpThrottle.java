@@ -0,0 +1,373 @@
+// src/main/java/com/odp/simulator/client/session/OdpThrottle.java
+package com.odp.simulator.client.session;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outbound rate limit of one session, set from the gateway's throttle entitlement
+ *
+ * A lock-free token bucket in virtual-scheduling (GCRA) form. A single
+ * atomic theoretical arrival time advances by the emission interval, the
+ * entitled interval divided by the entitled message count, for every
+ * message let through; a message conforms while that time is no more than
+ * burst - 1 intervals ahead of now. Taking a token is one CAS and allocates
+ * nothing.
+ *
+ * With a burst of 1 messages are paced evenly and no window of one
+ * entitlement interval holds more than the entitled count. A larger burst
+ * sends faster after an idle period, but a window can then hold up to
+ * burst - 1 messages more than entitled.
+ *
+ * A message over the rate is either rejected or queued, see
+ * {@link OdpThrottleMode}. Queued messages take their token only when the
+ * session's {@link OdpOutboundSequencer} releases them, so an event loop that
+ * runs late delays them rather than sending them in a burst. While messages
+ * are queued later messages queue too, in the {@link OdpOutboundLane} of their
+ * type: a lane keeps its order and higher lanes are released first.
+ *
+ * Until an entitlement is set every message conforms. An entitlement of 0
+ * messages, or one the gateway does not grant, blocks the throttle: messages
+ * are queued until a rate is granted, or rejected in REJECT mode. Removing
+ * the limit is a separate state that only configuration sets, never a
+ * gateway response.
+ */
+public final class OdpThrottle {
+
+    // Throttle Type
+    public static final int THROTTLE_TYPE_RATE = 0;
+    public static final int THROTTLE_TYPE_OUTSTANDING_REQUESTS = 1;
+
+    // Throttle Time Unit
+    public static final int TIME_UNIT_SECONDS = 0;
+    public static final int TIME_UNIT_TENTHS = 1;
+    public static final int TIME_UNIT_HUNDREDTHS = 2;
+    public static final int TIME_UNIT_MILLISECONDS = 3;
+    public static final int TIME_UNIT_MICROSECONDS = 4;
+    public static final int TIME_UNIT_NANOSECONDS = 5;
+    public static final int TIME_UNIT_MINUTES = 10;
+    public static final int TIME_UNIT_HOURS = 11;
+
+    // Throttle Status
+    public static final int THROTTLE_STATUS_GRANTED = 0;
+
+    // Results of admit
+    public static final int PASS = 0;
+    public static final int QUEUE = 1;
+    public static final int REJECT = -1;
+
+    // Rate of a blocked throttle, no message conforms
+    private static final Rate BLOCKED = new Rate(0, 0, 0, 0);
+
+    // How often the sequencer checks a blocked throttle for a new entitlement
+    private static final long BLOCKED_RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final OdpThrottleMode mode;
+    private final long maxDelayNanos;
+    private final int burst;
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+    private final AtomicIntegerArray queueDepths = new AtomicIntegerArray(OdpOutboundLane.values().length);
+    // Null while unlimited
+    private volatile Rate rate;
+
+    private final LongAdder passed = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+
+    public OdpThrottle(OdpThrottleMode mode, long maxDelayNanos, int burst) {
+        if (burst < 1) {
+            throw new IllegalArgumentException("Burst must be at least 1: " + burst);
+        }
+        this.mode = mode;
+        this.maxDelayNanos = mode == OdpThrottleMode.REJECT ? 0 : maxDelayNanos;
+        this.burst = burst;
+    }
+
+    /**
+     * Apply an entitled rate
+     * @param messages Messages allowed per interval, 0 blocks sending
+     * @param intervalNanos Length of the interval, 0 blocks sending
+     */
+    public void setEntitlement(int messages, long intervalNanos) {
+        if (messages <= 0 || intervalNanos <= 0) {
+            block();
+            return;
+        }
+        // Rounded up, rounding down would let one message too many into a window
+        long emissionInterval = (intervalNanos + messages - 1) / messages;
+        rate = new Rate(messages, intervalNanos, emissionInterval,
+                (long) (Math.min(burst, messages) - 1) * emissionInterval);
+    }
+
+    /**
+     * Let no message through until a rate is entitled
+     */
+    public void block() {
+        rate = BLOCKED;
+    }
+
+    /**
+     * Remove the limit, every message conforms
+     */
+    public void removeLimit() {
+        rate = null;
+    }
+
+    /**
+     * Admit one message of the lowest lane
+     */
+    public int admit(long nowNanos) {
+        return admit(nowNanos, OdpOutboundLane.ORDER);
+    }
+
+    /**
+     * Admit one message
+     * A message that conforms while others are still queued is queued too;
+     * its wait counts only the messages queued in its own and higher lanes.
+     * @return {@link #PASS} if the message took a token and may be sent now,
+     * {@link #QUEUE} if it must wait in the sequencer's throttle queue, or
+     * {@link #REJECT} if it would wait longer than allowed
+     */
+    public int admit(long nowNanos, OdpOutboundLane lane) {
+        Rate current = rate;
+        if (getQueueDepth() == 0 && tryAcquire(current, nowNanos)) {
+            passed.increment();
+            return PASS;
+        }
+        long waitNanos = 0;
+        if (current == BLOCKED) {
+            // Held until a rate is entitled, or rejected at once in REJECT mode
+            waitNanos = maxDelayNanos > 0 ? 0 : 1;
+        } else if (current != null) {
+            int ahead = 0;
+            for (int i = 0; i <= lane.ordinal(); i++) {
+                ahead += queueDepths.get(i);
+            }
+            waitNanos = delayNanos(current, nowNanos) + ahead * current.emissionIntervalNanos;
+        }
+        if (waitNanos > maxDelayNanos) {
+            rejected.increment();
+            return REJECT;
+        }
+        queueDepths.incrementAndGet(lane.ordinal());
+        queued.increment();
+        return QUEUE;
+    }
+
+    /**
+     * Take a token for a queued message if one is available now
+     */
+    public boolean tryAcquire(long nowNanos) {
+        return tryAcquire(rate, nowNanos);
+    }
+
+    /**
+     * Time until the next token is available, at least 1
+     */
+    public long delayNanos(long nowNanos) {
+        Rate current = rate;
+        if (current == BLOCKED) {
+            return BLOCKED_RECHECK_NANOS;
+        }
+        return current != null ? Math.max(delayNanos(current, nowNanos), 1) : 1;
+    }
+
+    /**
+     * A queued message left the throttle queue, for the ring or because it was dropped
+     * @param lane Lane the message was admitted to
+     */
+    public void dequeued(OdpOutboundLane lane) {
+        queueDepths.decrementAndGet(lane.ordinal());
+    }
+
+    /**
+     * A queued amend was replaced by a newer amend of the same order
+     */
+    public void conflated() {
+        queueDepths.decrementAndGet(OdpOutboundLane.AMEND.ordinal());
+        conflated.increment();
+    }
+
+    private boolean tryAcquire(Rate current, long nowNanos) {
+        if (current == null) {
+            return true;
+        }
+        if (current == BLOCKED) {
+            return false;
+        }
+        for (;;) {
+            long arrival = theoreticalArrival.get();
+            if (arrival - current.toleranceNanos - nowNanos > 0) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, Math.max(arrival, nowNanos) + current.emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    private long delayNanos(Rate current, long nowNanos) {
+        return Math.max(theoreticalArrival.get() - current.toleranceNanos - nowNanos, 0);
+    }
+
+    /**
+     * Failure for a message over the rate, without a stack trace
+     */
+    public ThrottledException newRejection() {
+        Rate current = rate;
+        if (current == BLOCKED) {
+            return new ThrottledException("Throttle entitlement does not allow sending");
+        }
+        return new ThrottledException(current != null
+                ? "Throttle limit of " + current.messages + " messages per "
+                        + TimeUnit.NANOSECONDS.toMillis(current.intervalNanos) + " ms exceeded"
+                : "Throttle limit exceeded");
+    }
+
+    /**
+     * Convert an entitlement interval to nanoseconds
+     * @return The interval, or -1 for an unknown Throttle Time Unit
+     */
+    public static long toNanos(long interval, int throttleTimeUnit) {
+        return switch (throttleTimeUnit) {
+            case TIME_UNIT_SECONDS -> TimeUnit.SECONDS.toNanos(interval);
+            case TIME_UNIT_TENTHS -> interval * 100_000_000L;
+            case TIME_UNIT_HUNDREDTHS -> interval * 10_000_000L;
+            case TIME_UNIT_MILLISECONDS -> TimeUnit.MILLISECONDS.toNanos(interval);
+            case TIME_UNIT_MICROSECONDS -> TimeUnit.MICROSECONDS.toNanos(interval);
+            case TIME_UNIT_NANOSECONDS -> interval;
+            case TIME_UNIT_MINUTES -> TimeUnit.MINUTES.toNanos(interval);
+            case TIME_UNIT_HOURS -> TimeUnit.HOURS.toNanos(interval);
+            default -> -1;
+        };
+    }
+
+    public OdpThrottleMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Whether an entitlement limits the rate, also true while blocked
+     */
+    public boolean isLimited() {
+        return rate != null;
+    }
+
+    /**
+     * Whether the entitlement blocks sending
+     */
+    public boolean isBlocked() {
+        return rate == BLOCKED;
+    }
+
+    /**
+     * Entitled messages per interval, 0 if not limited
+     */
+    public int getEntitledMessages() {
+        Rate current = rate;
+        return current != null ? current.messages : 0;
+    }
+
+    /**
+     * Entitled interval in nanoseconds, 0 if not limited
+     */
+    public long getEntitledIntervalNanos() {
+        Rate current = rate;
+        return current != null ? current.intervalNanos : 0;
+    }
+
+    /**
+     * Messages sent without delay
+     */
+    public long getPassed() {
+        return passed.sum();
+    }
+
+    /**
+     * Messages queued to stay within the rate
+     */
+    public long getQueued() {
+        return queued.sum();
+    }
+
+    /**
+     * Messages rejected for exceeding the rate
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Queued amends dropped for a newer amend of the same order
+     */
+    public long getConflated() {
+        return conflated.sum();
+    }
+
+    /**
+     * Messages in the throttle queue
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        for (int i = 0; i < queueDepths.length(); i++) {
+            depth += queueDepths.get(i);
+        }
+        return depth;
+    }
+
+    /**
+     * Messages admitted to a lane of the throttle queue
+     */
+    public int getQueueDepth(OdpOutboundLane lane) {
+        return queueDepths.get(lane.ordinal());
+    }
+
+    @Override
+    public String toString() {
+        return "OdpThrottle(mode=" + mode + ", blocked=" + isBlocked() + ", messages=" + getEntitledMessages()
+                + ", intervalMs=" + TimeUnit.NANOSECONDS.toMillis(getEntitledIntervalNanos())
+                + ", passed=" + getPassed() + ", queued=" + getQueued() + ", rejected=" + getRejected()
+                + ", conflated=" + getConflated()
+                + ", queueDepth=" + getQueueDepth() + ")";
+    }
+
+    /**
+     * Entitled rate, replaced as a whole so a reader never sees half an update
+     */
+    private static final class Rate {
+
+        final int messages;
+        final long intervalNanos;
+        final long emissionIntervalNanos;
+        final long toleranceNanos;
+
+        Rate(int messages, long intervalNanos, long emissionIntervalNanos, long toleranceNanos) {
+            this.messages = messages;
+            this.intervalNanos = intervalNanos;
+            this.emissionIntervalNanos = emissionIntervalNanos;
+            this.toleranceNanos = toleranceNanos;
+        }
+    }
+
+    /**
+     * A message was not sent because it exceeds the entitled rate
+     */
+    public static final class ThrottledException extends RejectedExecutionException {
+
+        private static final long serialVersionUID = 1L;
+
+        ThrottledException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
\ No newline at end of file
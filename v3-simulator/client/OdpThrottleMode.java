@@ -0,0 +1,19 @@
+// src/main/java/com/odp/simulator/client/session/OdpThrottleMode.java
+package com.odp.simulator.client.session;
+
+/**
+ * What happens to an application message sent above the entitled rate
+ */
+public enum OdpThrottleMode {
+
+    /**
+     * Hold the message until the rate allows it, up to the configured
+     * maximum delay; messages that would wait longer are rejected.
+     */
+    QUEUE,
+
+    /**
+     * Fail the message's send future straight away
+     */
+    REJECT
+}
\ No newline at end of file
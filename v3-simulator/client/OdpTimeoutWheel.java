@@ -0,0 +1,229 @@
+// src/main/java/com/odp/simulator/client/client/OdpTimeoutWheel.java
+package com.odp.simulator.client.client;
+
+import com.odp.simulator.client.config.OdpClientProperties;
+import io.netty.util.internal.PlatformDependent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hashed timing wheel for every request waiting on a gateway response
+ *
+ * One worker thread advances the wheel by one bucket per tick. Tasks are
+ * handed over from any thread through a lock-free MPSC queue and placed in
+ * the bucket of their deadline tick, so scheduling is O(1) and creates no
+ * timer object. Buckets are plain arrays reused for the lifetime of the
+ * wheel; a task in a bucket whose deadline is more than one revolution away
+ * simply stays for another round.
+ *
+ * Answered requests are not removed from the wheel. A task that is done by
+ * the time its bucket comes up is dropped without firing, which keeps the
+ * response path free of any wheel bookkeeping.
+ *
+ * Deadlines fire between 0 and one tick late.
+ */
+@Slf4j
+@Component
+public class OdpTimeoutWheel {
+
+    /**
+     * Something that expires at a deadline unless it is done before
+     */
+    public interface Task {
+
+        /**
+         * Deadline in {@link System#nanoTime()} terms
+         */
+        long deadlineNanos();
+
+        boolean isDone();
+
+        /**
+         * Called on the wheel thread once the deadline passed and the task is not done
+         */
+        void expire();
+    }
+
+    private final Queue<Task> handoff = PlatformDependent.newMpscQueue();
+    private final long tickNanos;
+    private final int mask;
+    private final Task[][] buckets;
+    private final int[] bucketSizes;
+    private final long startNanos;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private long tick;
+
+    public OdpTimeoutWheel(OdpClientProperties properties) {
+        OdpClientProperties.TimeoutWheelConfig config = properties.getTimeoutWheel();
+        int wheelSize = config.getWheelSize();
+        if (wheelSize <= 0 || (wheelSize & (wheelSize - 1)) != 0) {
+            throw new IllegalArgumentException("Wheel size must be a power of two: " + wheelSize);
+        }
+        if (config.getTickMs() <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + config.getTickMs());
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(config.getTickMs());
+        this.mask = wheelSize - 1;
+        this.buckets = new Task[wheelSize][16];
+        this.bucketSizes = new int[wheelSize];
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, "odp-timeout-wheel");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Expire a task at its deadline unless it is done first
+     */
+    public void schedule(Task task) {
+        if (!running) {
+            throw new IllegalStateException("Timeout wheel is stopped");
+        }
+        handoff.offer(task);
+    }
+
+    /**
+     * Complete a future with a {@link TimeoutException} unless it is completed within the timeout
+     * @return The same future
+     */
+    public <T> CompletableFuture<T> timeout(CompletableFuture<T> future, long timeout, TimeUnit unit) {
+        schedule(new FutureTimeout(future, System.nanoTime() + unit.toNanos(timeout), timeout, unit));
+        return future;
+    }
+
+    /**
+     * Block until a future is done, timing it out on the wheel
+     * The wait itself is bounded a little past the wheel's deadline, so a
+     * wheel stopped meanwhile cannot leave the caller blocked.
+     * @throws TimeoutException if no result arrived within the timeout
+     */
+    public <T> T await(CompletableFuture<T> future, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        timeout(future, timeout, unit);
+        try {
+            return future.get(unit.toNanos(timeout) + 2 * tickNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Tasks handed over but not yet placed in a bucket
+     */
+    public int getPendingHandoffs() {
+        return handoff.size();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long nextTickNanos = startNanos + tickNanos;
+        while (running) {
+            long sleepNanos = nextTickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                LockSupport.parkNanos(this, sleepNanos);
+                continue;
+            }
+            transferHandoffs();
+            expireBucket((int) (tick & mask), System.nanoTime());
+            tick++;
+            nextTickNanos += tickNanos;
+        }
+    }
+
+    private void transferHandoffs() {
+        Task task;
+        while ((task = handoff.poll()) != null) {
+            if (task.isDone()) {
+                continue;
+            }
+            long deadlineTick = (task.deadlineNanos() - startNanos) / tickNanos;
+            // Past deadlines go into the bucket being expired now
+            int bucket = (int) (Math.max(deadlineTick, tick) & mask);
+            int size = bucketSizes[bucket];
+            if (size == buckets[bucket].length) {
+                buckets[bucket] = Arrays.copyOf(buckets[bucket], size * 2);
+            }
+            buckets[bucket][size] = task;
+            bucketSizes[bucket] = size + 1;
+        }
+    }
+
+    private void expireBucket(int bucket, long nowNanos) {
+        Task[] tasks = buckets[bucket];
+        int size = bucketSizes[bucket];
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Task task = tasks[i];
+            tasks[i] = null;
+            if (task.isDone()) {
+                continue;
+            }
+            if (task.deadlineNanos() - nowNanos > 0) {
+                // Due in a later revolution
+                tasks[kept++] = task;
+                continue;
+            }
+            try {
+                task.expire();
+            } catch (Throwable t) {
+                log.warn("Timeout task {} failed", task, t);
+            }
+        }
+        bucketSizes[bucket] = kept;
+    }
+
+    /**
+     * Timeout of an arbitrary future, for requests without their own task type
+     */
+    private static final class FutureTimeout implements Task {
+
+        private final CompletableFuture<?> future;
+        private final long deadlineNanos;
+        private final long timeout;
+        private final TimeUnit unit;
+
+        FutureTimeout(CompletableFuture<?> future, long deadlineNanos, long timeout, TimeUnit unit) {
+            this.future = future;
+            this.deadlineNanos = deadlineNanos;
+            this.timeout = timeout;
+            this.unit = unit;
+        }
+
+        @Override
+        public long deadlineNanos() {
+            return deadlineNanos;
+        }
+
+        @Override
+        public boolean isDone() {
+            return future.isDone();
+        }
+
+        @Override
+        public void expire() {
+            future.completeExceptionally(new TimeoutException("No response within " + timeout + " " + unit));
+        }
+    }
+}
\ No newline at end of file
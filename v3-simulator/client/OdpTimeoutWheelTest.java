@@ -0,0 +1,55 @@
+// src/test/java/com/odp/simulator/client/client/OdpTimeoutWheelTest.java
+package com.odp.simulator.client.client;
+
+import com.odp.simulator.client.config.OdpClientProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OdpTimeoutWheelTest {
+
+    @Test
+    void awaitTimesOutOnWheel() throws Exception {
+        OdpTimeoutWheel wheel = new OdpTimeoutWheel(new OdpClientProperties());
+        try {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> wheel.await(future, 50, TimeUnit.MILLISECONDS));
+            assertInstanceOf(TimeoutException.class, e.getCause());
+
+            CompletableFuture<String> answered = new CompletableFuture<>();
+            answered.complete("done");
+            assertEquals("done", wheel.await(answered, 50, TimeUnit.MILLISECONDS));
+        } finally {
+            wheel.stop();
+        }
+    }
+
+    @Test
+    void awaitReturnsWhenWheelStopsMeanwhile() throws Exception {
+        OdpTimeoutWheel wheel = new OdpTimeoutWheel(new OdpClientProperties());
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<Throwable> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                wheel.await(future, 200, TimeUnit.MILLISECONDS);
+                return null;
+            } catch (Exception e) {
+                return e;
+            }
+        });
+        // Stopped after the timeout was handed over, the wheel never expires it
+        Thread.sleep(50);
+        wheel.stop();
+
+        assertInstanceOf(TimeoutException.class, waiter.get(5, TimeUnit.SECONDS));
+        assertTrue(future.isCompletedExceptionally());
+    }
+}
\ No newline at end of file
@@ -1,6 +1,9 @@
 // src/main/java/com/odp/simulator/client/client/OdpTradingClient.java
 package com.odp.simulator.client.client;
 
+import com.odp.simulator.client.codec.OdpEncodeMode;
+import com.odp.simulator.client.codec.OdpEncodedFrame;
+import com.odp.simulator.client.codec.OdpFrameEncoder;
 import com.odp.simulator.client.codec.OdpMessageDecoder;
 import com.odp.simulator.client.codec.OdpMessageEncoder;
 import com.odp.simulator.client.config.OdpClientProperties;
@@ -8,15 +11,33 @@ import com.odp.simulator.client.crypto.OdpPasswordEncryptor;
 import com.odp.simulator.client.handler.HeartbeatHandler;
 import com.odp.simulator.client.handler.LogonResponseHandler;
 import com.odp.simulator.client.handler.OdpClientHandler;
+import com.odp.simulator.client.handler.OdpInboundSequencingHandler;
+import com.odp.simulator.client.handler.OdpJournalHandler;
+import com.odp.simulator.client.handler.OdpSequencingHandler;
+import com.odp.simulator.client.handler.OrderAcceptedHandler;
+import com.odp.simulator.client.handler.OrderAmendRejectedHandler;
+import com.odp.simulator.client.handler.OrderCancelRejectedHandler;
+import com.odp.simulator.client.handler.OrderRejectedHandler;
+import com.odp.simulator.client.handler.ResendRequestHandler;
+import com.odp.simulator.client.handler.ThrottleEntitlementResponseHandler;
 import com.odp.simulator.client.protocol.OdpMessage;
 import com.odp.simulator.client.protocol.OdpMessageHeader;
 import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpSchemaLoader;
+import com.odp.simulator.client.protocol.codecs.ThrottleEntitlementRequestCodec;
+import com.odp.simulator.client.protocol.messages.GenericOdpMessage;
 import com.odp.simulator.client.protocol.messages.LogonRequest;
 import com.odp.simulator.client.protocol.messages.LogonResponse;
+import com.odp.simulator.client.session.OdpOutboundLane;
+import com.odp.simulator.client.session.OdpOutboundSequencer;
+import com.odp.simulator.client.session.OdpSendFuture;
 import com.odp.simulator.client.session.OdpSession;
 import com.odp.simulator.client.session.OdpSessionManager;
 import com.odp.simulator.client.session.OdpSessionState;
+import com.odp.simulator.client.session.OdpThrottle;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.*;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -28,6 +49,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -38,6 +62,7 @@ import java.util.concurrent.TimeUnit;
  * - Connection to trading gateway
  * - Logon/Logout
  * - Heartbeat maintenance
+ * - Throttle entitlement and the outbound rate limit
  * - Order operations (to be implemented)
  */
 @Slf4j
@@ -45,15 +70,30 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class OdpTradingClient {
 
+    // User Request Type of a Throttle Entitlement Request
+    private static final int USER_REQUEST_TYPE_THROTTLE_ENTITLEMENT = 5;
+
     private final EventLoopGroup eventLoopGroup;
     private final OdpClientProperties properties;
     private final OdpSessionManager sessionManager;
     private final OdpPasswordEncryptor passwordEncryptor;
+    private final OdpSchemaLoader schemaLoader;
     private final LogonResponseHandler logonResponseHandler;
+    private final ResendRequestHandler resendRequestHandler;
+    private final OrderAcceptedHandler orderAcceptedHandler;
+    private final OrderRejectedHandler orderRejectedHandler;
+    private final OrderAmendRejectedHandler orderAmendRejectedHandler;
+    private final OrderCancelRejectedHandler orderCancelRejectedHandler;
+    private final ThrottleEntitlementResponseHandler throttleEntitlementResponseHandler;
+    private final OdpTimeoutWheel timeoutWheel;
 
     private volatile Channel tradingChannel;
+    private volatile OdpOutboundSequencer outboundSequencer;
     private OdpClientHandler clientHandler;
 
+    // Frame encoders for CALLER_THREAD mode, one per sending thread
+    private final ThreadLocal<OdpFrameEncoder> callerEncoder = ThreadLocal.withInitial(OdpFrameEncoder::new);
+
     /**
      * Connect to trading gateway and perform logon
      */
@@ -63,6 +103,12 @@ public class OdpTradingClient {
             passwordEncryptor.loadPublicKey(properties.getPublicKeyPath());
         }
 
+        // Load the exported message schema, if configured, before any frame is decoded
+        String schemaFile = properties.getCodec().getSchemaFile();
+        if (schemaFile != null && !schemaFile.isBlank() && !schemaLoader.isLoaded()) {
+            schemaLoader.loadSchemas(schemaFile);
+        }
+
         OdpSession session = sessionManager.getPrimarySession();
         session.transitionTo(OdpSessionState.CONNECTING);
 
@@ -77,13 +123,14 @@ public class OdpTradingClient {
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getTrading().getConnectTimeoutMs())
                 .option(ChannelOption.SO_KEEPALIVE, true)
                 .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .handler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) {
                         ChannelPipeline pipeline = ch.pipeline();
                         
-                        // Logging handler for debugging
-                        pipeline.addLast("logging", new LoggingHandler(LogLevel.DEBUG));
+                        // Logging handler for debugging, hex dumps every frame so TRACE only
+                        pipeline.addLast("logging", new LoggingHandler(LogLevel.TRACE));
                         
                         // Read timeout - longer than heartbeat interval
                         pipeline.addLast("readTimeout", 
@@ -93,10 +140,20 @@ public class OdpTradingClient {
                         // Writer idle triggers heartbeat, reader idle triggers warning
                         pipeline.addLast("idleState", 
                                 new IdleStateHandler(heartbeatSeconds * 3, heartbeatSeconds, 0));
+
+                        // Outbound journal, sees every encoded frame with its final sequence number
+                        if (session.getJournal() != null) {
+                            pipeline.addLast("journal", new OdpJournalHandler(session.getJournal()));
+                        }
                         
                         // Codec
-                        pipeline.addLast("decoder", new OdpMessageDecoder());
+                        pipeline.addLast("decoder", 
+                                new OdpMessageDecoder(properties.getCodec().getDecodeMode()));
+                        pipeline.addLast("inboundSequencer", new OdpInboundSequencingHandler(sessionManager,
+                                properties.getTrading().getInboundReorderCapacity(),
+                                properties.getTrading().getInboundResendTimeoutMs()));
                         pipeline.addLast("encoder", new OdpMessageEncoder());
+                        pipeline.addLast("sequencer", new OdpSequencingHandler(sessionManager));
                         
                         // Heartbeat handler
                         pipeline.addLast("heartbeat", new HeartbeatHandler(sessionManager));
@@ -104,10 +161,12 @@ public class OdpTradingClient {
                         // Main client handler
                         clientHandler = new OdpClientHandler(sessionManager);
                         clientHandler.registerHandler(logonResponseHandler);
-                        // TODO: Register more handlers for order messages
-                        // clientHandler.registerHandler(orderAcceptedHandler);
-                        // clientHandler.registerHandler(orderRejectedHandler);
-                        // clientHandler.registerHandler(executionReportHandler);
+                        clientHandler.registerHandler(resendRequestHandler);
+                        clientHandler.registerHandler(orderAcceptedHandler);
+                        clientHandler.registerHandler(orderRejectedHandler);
+                        clientHandler.registerHandler(orderAmendRejectedHandler);
+                        clientHandler.registerHandler(orderCancelRejectedHandler);
+                        clientHandler.registerHandler(throttleEntitlementResponseHandler);
                         pipeline.addLast("handler", clientHandler);
                     }
                 });
@@ -118,6 +177,8 @@ public class OdpTradingClient {
         connectFuture.sync();
         tradingChannel = connectFuture.channel();
         session.setChannel(tradingChannel);
+        outboundSequencer = new OdpOutboundSequencer(session, tradingChannel,
+                properties.getTrading().getOutboundRingSize());
 
         log.info("Connected to trading gateway: {}", tradingChannel.remoteAddress());
 
@@ -125,13 +186,37 @@ public class OdpTradingClient {
         session.transitionTo(OdpSessionState.LOGON_PENDING);
         sendLogonRequest();
 
-        // Wait for logon response
-        LogonResponse response = logonFuture.get(
+        // Wait for logon response, the timeout wheel fails the future if none arrives in time
+        LogonResponse response = timeoutWheel.await(logonFuture,
                 properties.getTrading().getConnectTimeoutMs(), TimeUnit.MILLISECONDS);
 
+        if (response.isSessionActive() && session.getThrottle() != null
+                && properties.getThrottle().isRequestOnLogon()) {
+            requestThrottleEntitlement();
+        }
+
         return response;
     }
 
+    /**
+     * Ask the gateway for the session's throttle entitlement
+     * The answer sets the session's rate limit, see {@link ThrottleEntitlementResponseHandler}.
+     */
+    public OdpSendFuture requestThrottleEntitlement() {
+        GenericOdpMessage request = new GenericOdpMessage(OdpMessageType.THROTTLE_ENTITLEMENT_REQUEST);
+        request.setString(ThrottleEntitlementRequestCodec.BP_USER_REQUEST_ID,
+                "THR" + System.currentTimeMillis());
+        request.setLong(ThrottleEntitlementRequestCodec.BP_USER_REQUEST_TYPE, USER_REQUEST_TYPE_THROTTLE_ENTITLEMENT);
+        request.setHeader(OdpMessageHeader.builder()
+                .messageId(OdpMessageType.THROTTLE_ENTITLEMENT_REQUEST.getMessageId())
+                .compId(properties.getCompId())
+                .messageFlags((byte) 0)
+                .fieldsPresenceMap(request.getFieldsPresenceMap())
+                .build());
+        log.debug("Requesting throttle entitlement");
+        return sendMessage(request);
+    }
+
     private void sendLogonRequest() throws Exception {
         OdpSession session = sessionManager.getPrimarySession();
 
@@ -161,8 +246,200 @@ public class OdpTradingClient {
 
     /**
      * Send a message to the trading gateway
+     *
+     * Messages from all threads pass through the session's outbound sequencer,
+     * which assigns MsgSeqNum on the event loop in wire order. Messages with a
+     * sequence number already set keep it.
+     *
+     * Order and quote messages are checked against the session's throttle
+     * first. Above the entitled rate they are queued until they conform,
+     * cancels ahead of amends ahead of new orders and quotes, or,
+     * depending on the throttle mode, rejected: the returned future then fails
+     * with an {@link OdpThrottle.ThrottledException} and the message is released.
+     * A queued amend is replaced by a later amend of the same order, its future
+     * failing with an {@link com.odp.simulator.client.session.OdpConflatingQueue.SupersededException}.
+     *
+     * The message is handed over in every case: if this throws, it was not
+     * sent and is already released.
+     *
+     * @return Handle completing once the frame is written, with the assigned sequence number
+     * @throws IllegalStateException if the session is not active
+     */
+    public OdpSendFuture sendMessage(OdpMessage message) {
+        OdpSession session;
+        try {
+            session = activeSession();
+        } catch (IllegalStateException e) {
+            message.release();
+            throw e;
+        }
+
+        // Checked before encoding, a rejected message is never encoded
+        OdpMessageType messageType = message.getMessageType();
+        int admission = admit(session, messageType);
+        if (admission == OdpThrottle.REJECT) {
+            return outboundSequencer.reject(message, session.getThrottle().newRejection());
+        }
+
+        Object outbound;
+        try {
+            outbound = toOutbound(message);
+        } catch (RuntimeException e) {
+            revokeAdmission(session, messageType, admission);
+            throw e;
+        }
+        OdpSendFuture future = admission == OdpThrottle.PASS
+                ? outboundSequencer.send(outbound)
+                : outboundSequencer.sendThrottled(outbound);
+        session.updateLastSentTime();
+        return future;
+    }
+
+    /**
+     * Send several messages with a single flush
+     *
+     * Messages the throttle lets through at once are sequenced as one batch:
+     * no other sender's message comes between them, they get contiguous
+     * sequence numbers and are written with one flush, typically in one TCP
+     * segment. Once the throttle starts queueing, the rest of the batch
+     * queues behind in order, as {@link #sendMessage} would queue it.
+     *
+     * @return One future per message, in order
+     */
+    public List<OdpSendFuture> sendBatch(Collection<? extends OdpMessage> messages) {
+        int count = messages.size();
+        OdpSendFuture[] futures = new OdpSendFuture[count];
+        int[] admissions = new int[count];
+        Object[] outbound = new Object[count];
+        OdpMessageType[] messageTypes = new OdpMessageType[count];
+        OdpSession session = null;
+        // Messages before this index belong to the sequencer or to outbound
+        int handedOver = 0;
+        try {
+            session = activeSession();
+            for (OdpMessage message : messages) {
+                int i = handedOver++;
+                messageTypes[i] = message.getMessageType();
+                admissions[i] = admit(session, messageTypes[i]);
+                if (admissions[i] == OdpThrottle.REJECT) {
+                    futures[i] = outboundSequencer.reject(message, session.getThrottle().newRejection());
+                } else {
+                    outbound[i] = toOutbound(message);
+                }
+            }
+            sendAdmitted(session, outbound, admissions, futures, count);
+        } catch (RuntimeException e) {
+            discardUnsent(session, outbound, messageTypes, admissions, futures, handedOver);
+            int i = 0;
+            for (OdpMessage message : messages) {
+                if (i++ >= handedOver) {
+                    message.release();
+                }
+            }
+            throw e;
+        }
+        return Arrays.asList(futures);
+    }
+
+    /**
+     * Send frames encoded on the caller's thread as one batch, see {@link #sendBatch}
+     * The sequencer stamps their sequence numbers.
+     * @return One future per frame, in order
+     */
+    public OdpSendFuture[] sendFrames(OdpEncodedFrame[] frames, int count) {
+        OdpSendFuture[] futures = new OdpSendFuture[count];
+        int[] admissions = new int[count];
+        Object[] outbound = new Object[count];
+        OdpMessageType[] messageTypes = new OdpMessageType[count];
+        OdpSession session = null;
+        int handedOver = 0;
+        try {
+            session = activeSession();
+            for (; handedOver < count; handedOver++) {
+                int i = handedOver;
+                messageTypes[i] = frames[i].getMessageType();
+                admissions[i] = admit(session, messageTypes[i]);
+                if (admissions[i] == OdpThrottle.REJECT) {
+                    futures[i] = outboundSequencer.reject(frames[i], session.getThrottle().newRejection());
+                } else {
+                    outbound[i] = frames[i];
+                }
+            }
+            sendAdmitted(session, outbound, admissions, futures, count);
+        } catch (RuntimeException e) {
+            discardUnsent(session, outbound, messageTypes, admissions, futures, handedOver);
+            for (int i = handedOver; i < count; i++) {
+                frames[i].release();
+            }
+            throw e;
+        }
+        return futures;
+    }
+
+    /**
+     * Start a Mass Quote builder for the calling thread, see {@link OdpMassQuoteBuilder}
+     */
+    public OdpMassQuoteBuilder newMassQuoteBuilder() {
+        OdpClientProperties.OrderConfig config = properties.getOrder();
+        return new OdpMassQuoteBuilder(this, PooledByteBufAllocator.DEFAULT, properties.getCompId(),
+                config.getSubmittingBrokerId(), config.getBrokerLocationId(),
+                OdpMassQuoteBuilder.MAX_ENTRIES_PER_FRAME);
+    }
+
+    /**
+     * Send the messages that passed the throttle as one sequencer batch, then queue the rest
+     */
+    private void sendAdmitted(OdpSession session, Object[] outbound, int[] admissions,
+                              OdpSendFuture[] futures, int count) {
+        Object[] passed = new Object[count];
+        int passedCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (admissions[i] == OdpThrottle.PASS) {
+                passed[passedCount++] = outbound[i];
+            }
+        }
+
+        // A message only passes while nothing is queued, so none queued here precedes one that passed
+        OdpSendFuture[] passedFutures = outboundSequencer.sendBatch(passed, passedCount);
+        passedCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (admissions[i] == OdpThrottle.PASS) {
+                futures[i] = passedFutures[passedCount++];
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            if (admissions[i] == OdpThrottle.QUEUE) {
+                futures[i] = outboundSequencer.sendThrottled(outbound[i]);
+            }
+        }
+        session.updateLastSentTime();
+    }
+
+    /**
+     * Release the admitted messages of a batch that failed before the sequencer took them
+     * and give back their places in the throttle queue
+     * @param admitted Number of messages that went through admission
      */
-    public void sendMessage(OdpMessage message) {
+    private void discardUnsent(OdpSession session, Object[] outbound, OdpMessageType[] messageTypes,
+                               int[] admissions, OdpSendFuture[] futures, int admitted) {
+        for (int i = 0; i < admitted; i++) {
+            if (futures[i] == null) {
+                revokeAdmission(session, messageTypes[i], admissions[i]);
+                if (outbound[i] != null) {
+                    OdpOutboundSequencer.discard(outbound[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Start collecting messages for {@link #sendBatch}, sent on {@link OdpSendBatch#flush()}
+     */
+    public OdpSendBatch beginBatch() {
+        return new OdpSendBatch(this);
+    }
+
+    private OdpSession activeSession() {
         if (tradingChannel == null || !tradingChannel.isActive()) {
             throw new IllegalStateException("Trading channel is not active");
         }
@@ -171,14 +448,63 @@ public class OdpTradingClient {
         if (!session.isActive()) {
             throw new IllegalStateException("Session is not active");
         }
+        return session;
+    }
 
-        // Set sequence number if not already set
-        if (message.getHeader().getMsgSeqNum() == 0) {
-            message.getHeader().setMsgSeqNum(session.getNextOutgoingSeqNum());
+    /**
+     * Throttle admission of an order or quote message, {@link OdpThrottle#PASS} for anything else
+     */
+    private int admit(OdpSession session, OdpMessageType messageType) {
+        OdpThrottle throttle = messageType.isApplication() ? session.getThrottle() : null;
+        return throttle != null
+                ? throttle.admit(System.nanoTime(), OdpOutboundLane.of(messageType))
+                : OdpThrottle.PASS;
+    }
+
+    /**
+     * Undo the admission of a message that will not reach the sequencer
+     * A queued message gives back its place, so later messages are not
+     * queued behind it. A token taken on a pass is spent.
+     */
+    private void revokeAdmission(OdpSession session, OdpMessageType messageType, int admission) {
+        if (admission == OdpThrottle.QUEUE) {
+            session.getThrottle().dequeued(OdpOutboundLane.of(messageType));
         }
+    }
 
-        tradingChannel.writeAndFlush(message);
-        session.updateLastSentTime();
+    private Object toOutbound(OdpMessage message) {
+        if (properties.getCodec().getEncodeMode() == OdpEncodeMode.CALLER_THREAD) {
+            return encodeOnCallerThread(message);
+        }
+        return message;
+    }
+
+    /**
+     * Rate limit of order and quote messages, null if throttling is disabled
+     */
+    public OdpThrottle getThrottle() {
+        return sessionManager.getPrimarySession().getThrottle();
+    }
+
+    /**
+     * Encode on the calling thread into a finished frame for the sequencer
+     * Without an explicit sequence number the frame is stamped by the sequencer
+     * The message object may be reused as soon as this returns, a pooled
+     * message is already back in its pool
+     */
+    private Object encodeOnCallerThread(OdpMessage message) {
+        OdpMessageType messageType = message.getMessageType();
+        boolean sequenced = message.getHeader().getMsgSeqNum() != 0;
+        ByteBuf frame;
+        try {
+            frame = callerEncoder.get().encode(tradingChannel.alloc(), message);
+        } finally {
+            message.release();
+        }
+        if (!sequenced) {
+            return new OdpEncodedFrame(frame, messageType);
+        }
+        return frame;
     }
 
     /**
@@ -0,0 +1,125 @@
+// src/test/java/com/odp/simulator/client/client/OdpTradingClientTest.java
+package com.odp.simulator.client.client;
+
+import com.odp.simulator.client.codec.OdpEncodeMode;
+import com.odp.simulator.client.codec.OdpEncodedFrame;
+import com.odp.simulator.client.config.OdpClientProperties;
+import com.odp.simulator.client.protocol.OdpMessageHeader;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.messages.GenericOdpMessage;
+import com.odp.simulator.client.session.OdpOutboundSequencer;
+import com.odp.simulator.client.session.OdpSession;
+import com.odp.simulator.client.session.OdpSessionManager;
+import com.odp.simulator.client.session.OdpSessionState;
+import com.odp.simulator.client.session.OdpThrottle;
+import com.odp.simulator.client.session.OdpThrottleMode;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OdpTradingClientTest {
+
+    @Test
+    void batchOnInactiveSessionReleasesItsMessages() {
+        OdpTradingClient client = disconnectedClient();
+        int[] released = new int[1];
+        OdpSendBatch batch = client.beginBatch();
+        for (int i = 0; i < 3; i++) {
+            batch.add(new GenericOdpMessage(OdpMessageType.NEW_ORDER_SINGLE) {
+                @Override
+                public void release() {
+                    released[0]++;
+                }
+            });
+        }
+
+        assertThrows(IllegalStateException.class, batch::flush);
+        assertEquals(3, released[0]);
+        assertEquals(0, batch.size());
+    }
+
+    @Test
+    void framesOnInactiveSessionAreReleased() {
+        OdpTradingClient client = disconnectedClient();
+        OdpEncodedFrame[] frames = new OdpEncodedFrame[2];
+        for (int i = 0; i < frames.length; i++) {
+            frames[i] = new OdpEncodedFrame(Unpooled.buffer(16), OdpMessageType.MASS_QUOTE);
+        }
+
+        assertThrows(IllegalStateException.class, () -> client.sendFrames(frames, frames.length));
+        assertEquals(0, frames[0].refCnt());
+        assertEquals(0, frames[1].refCnt());
+    }
+
+    @Test
+    void failedEncodeGivesBackThrottlePlace() {
+        OdpClientProperties properties = new OdpClientProperties();
+        properties.setCompId("C1");
+        // Journal and sequence numbers are not persisted between tests
+        properties.getJournal().setEnabled(false);
+        properties.getSequenceStore().setEnabled(false);
+        properties.getCodec().setEncodeMode(OdpEncodeMode.CALLER_THREAD);
+        OdpSessionManager sessionManager = new OdpSessionManager(properties);
+        OdpSession session = sessionManager.getPrimarySession();
+        EmbeddedChannel channel = new EmbeddedChannel();
+        session.setChannel(channel);
+        session.transitionTo(OdpSessionState.ACTIVE);
+        OdpThrottle throttle = new OdpThrottle(OdpThrottleMode.QUEUE, TimeUnit.SECONDS.toNanos(1), 1);
+        session.setThrottle(throttle);
+        OdpTradingClient client = new OdpTradingClient(null, properties, sessionManager, null, null,
+                null, null, null, null, null, null, null, null);
+        ReflectionTestUtils.setField(client, "tradingChannel", channel);
+        ReflectionTestUtils.setField(client, "outboundSequencer", new OdpOutboundSequencer(session, channel, 8));
+
+        // Queued while blocked, then the encode fails
+        throttle.block();
+        assertThrows(IllegalStateException.class, () -> client.sendMessage(unencodable()));
+        assertEquals(0, throttle.getQueueDepth());
+        OdpSendBatch batch = client.beginBatch().add(order()).add(unencodable());
+        assertThrows(IllegalStateException.class, batch::flush);
+        assertEquals(0, throttle.getQueueDepth());
+
+        // Nothing is left ahead, so the next message passes
+        throttle.removeLimit();
+        client.sendMessage(order());
+        assertEquals(0, throttle.getQueueDepth());
+        assertEquals(1, throttle.getPassed());
+        channel.finishAndReleaseAll();
+    }
+
+    private static GenericOdpMessage order() {
+        GenericOdpMessage order = new GenericOdpMessage(OdpMessageType.NEW_ORDER_SINGLE);
+        order.setHeader(OdpMessageHeader.builder()
+                .messageId(OdpMessageType.NEW_ORDER_SINGLE.getMessageId())
+                .compId("C1")
+                .build());
+        return order;
+    }
+
+    private static GenericOdpMessage unencodable() {
+        GenericOdpMessage order = new GenericOdpMessage(OdpMessageType.NEW_ORDER_SINGLE) {
+            @Override
+            public int calculateBodyLength() {
+                throw new IllegalStateException("Not encodable");
+            }
+        };
+        order.setHeader(order().getHeader());
+        return order;
+    }
+
+    private static OdpTradingClient disconnectedClient() {
+        OdpClientProperties properties = new OdpClientProperties();
+        properties.setCompId("C1");
+        // Journal and sequence numbers are not persisted between tests
+        properties.getJournal().setEnabled(false);
+        properties.getSequenceStore().setEnabled(false);
+        return new OdpTradingClient(null, properties, new OdpSessionManager(properties), null, null,
+                null, null, null, null, null, null, null, null);
+    }
+}
\ No newline at end of file
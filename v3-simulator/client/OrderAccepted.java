@@ -0,0 +1,264 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/OrderAccepted.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.codec.OdpCharField;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.OrderAcceptedCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Order Accepted (27)
+ *
+ * The gateway sends this message when a new order, amend or cancel was
+ * accepted. Exec Type tells which request it acknowledges.
+ *
+ * Field Bit Positions:
+ * - BP 0: ClOrdID
+ * - BP 1: Submitting Broker ID
+ * - BP 2: Security ID
+ * - BP 3: Security ID Source
+ * - BP 4: Security Exchange
+ * - BP 5: Broker Location ID
+ * - BP 6: Transact Time
+ * - BP 7: Side
+ * - BP 8: Order ID
+ * - BP 9: Orig ClOrdID - Present for amend and cancel acknowledgements
+ * - BP 10: Exec Type
+ * - BP 11: Order Status
+ * - BP 12: Price
+ * - BP 13: Order Quantity
+ * - BP 14: Leaves Quantity
+ * - BP 15: Cumulative Quantity
+ *
+ * Supports lazy decoding, every accessor decodes a pending body first.
+ */
+@Slf4j
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OrderAccepted extends BaseOdpMessage {
+
+    public static final OdpMessageSchema SCHEMA = OrderAcceptedCodec.SCHEMA;
+
+    // Exec Type values
+    public static final int EXEC_TYPE_NEW = '0';
+    public static final int EXEC_TYPE_CANCELLED = '4';
+    public static final int EXEC_TYPE_AMENDED = '5';
+
+    // Order Status values
+    public static final int ORDER_STATUS_NEW = '0';
+    public static final int ORDER_STATUS_PARTIALLY_FILLED = '1';
+    public static final int ORDER_STATUS_FILLED = '2';
+    public static final int ORDER_STATUS_CANCELLED = '4';
+
+    private final OdpCharField clOrdId = new OdpCharField(OrderAcceptedCodec.CL_ORD_ID_LENGTH);
+    private String submittingBrokerId;
+    private final OdpCharField securityId = new OdpCharField(OrderAcceptedCodec.SECURITY_ID_LENGTH);
+    private int securityIdSource;
+    private String securityExchange;
+    private String brokerLocationId;
+    private long transactTime;
+    private int side;
+    private long orderId;
+    private final OdpCharField origClOrdId = new OdpCharField(OrderAcceptedCodec.ORIG_CL_ORD_ID_LENGTH);
+    private int execType;
+    private int orderStatus;
+    private long price;
+    private long orderQuantity;
+    private long leavesQuantity;
+    private long cumulativeQuantity;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.ORDER_ACCEPTED;
+    }
+
+    @Override
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Order Accepted is an outbound message from gateway
+        log.warn("OrderAccepted.encodeBody() called - this is typically a gateway message");
+    }
+
+    @Override
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Fields are read in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.readerIndex();
+
+        if (OrderAcceptedCodec.hasClOrdId(plan)) {
+            clOrdId.read(buffer, OrderAcceptedCodec.getClOrdIdIndex(bodyIndex, plan));
+        }
+        if (OrderAcceptedCodec.hasSubmittingBrokerId(plan)) {
+            submittingBrokerId = OdpCharArrays.getInterned(buffer,
+                    OrderAcceptedCodec.getSubmittingBrokerIdIndex(bodyIndex, plan),
+                    OrderAcceptedCodec.SUBMITTING_BROKER_ID_LENGTH);
+        }
+        if (OrderAcceptedCodec.hasSecurityId(plan)) {
+            securityId.read(buffer, OrderAcceptedCodec.getSecurityIdIndex(bodyIndex, plan));
+        }
+        if (OrderAcceptedCodec.hasSecurityIdSource(plan)) {
+            securityIdSource = OrderAcceptedCodec.getSecurityIdSource(buffer, bodyIndex, plan);
+        }
+        if (OrderAcceptedCodec.hasSecurityExchange(plan)) {
+            securityExchange = OdpCharArrays.getInterned(buffer,
+                    OrderAcceptedCodec.getSecurityExchangeIndex(bodyIndex, plan),
+                    OrderAcceptedCodec.SECURITY_EXCHANGE_LENGTH);
+        }
+        if (OrderAcceptedCodec.hasBrokerLocationId(plan)) {
+            brokerLocationId = OdpCharArrays.getInterned(buffer,
+                    OrderAcceptedCodec.getBrokerLocationIdIndex(bodyIndex, plan),
+                    OrderAcceptedCodec.BROKER_LOCATION_ID_LENGTH);
+        }
+        if (OrderAcceptedCodec.hasTransactTime(plan)) {
+            transactTime = OrderAcceptedCodec.getTransactTime(buffer, bodyIndex, plan);
+        }
+        if (OrderAcceptedCodec.hasSide(plan)) {
+            side = OrderAcceptedCodec.getSide(buffer, bodyIndex, plan);
+        }
+        if (OrderAcceptedCodec.hasOrderId(plan)) {
+            orderId = OrderAcceptedCodec.getOrderId(buffer, bodyIndex, plan);
+        }
+        if (OrderAcceptedCodec.hasOrigClOrdId(plan)) {
+            origClOrdId.read(buffer, OrderAcceptedCodec.getOrigClOrdIdIndex(bodyIndex, plan));
+        }
+        if (OrderAcceptedCodec.hasExecType(plan)) {
+            execType = OrderAcceptedCodec.getExecType(buffer, bodyIndex, plan);
+        }
+        if (OrderAcceptedCodec.hasOrderStatus(plan)) {
+            orderStatus = OrderAcceptedCodec.getOrderStatus(buffer, bodyIndex, plan);
+        }
+        if (OrderAcceptedCodec.hasPrice(plan)) {
+            price = OrderAcceptedCodec.getPrice(buffer, bodyIndex, plan);
+        }
+        if (OrderAcceptedCodec.hasOrderQuantity(plan)) {
+            orderQuantity = OrderAcceptedCodec.getOrderQuantity(buffer, bodyIndex, plan);
+        }
+        if (OrderAcceptedCodec.hasLeavesQuantity(plan)) {
+            leavesQuantity = OrderAcceptedCodec.getLeavesQuantity(buffer, bodyIndex, plan);
+        }
+        if (OrderAcceptedCodec.hasCumulativeQuantity(plan)) {
+            cumulativeQuantity = OrderAcceptedCodec.getCumulativeQuantity(buffer, bodyIndex, plan);
+        }
+
+        buffer.skipBytes(plan.getBodyLength());
+    }
+
+    @Override
+    public FieldPresenceMap getFieldsPresenceMap() {
+        if (isBodyPending()) {
+            return pendingPresenceMap();
+        }
+        return getHeader() != null && getHeader().getFieldsPresenceMap() != null
+                ? getHeader().getFieldsPresenceMap()
+                : FieldPresenceMap.EMPTY;
+    }
+
+    @Override
+    protected void resetForReuse() {
+        clOrdId.clear();
+        submittingBrokerId = null;
+        securityId.clear();
+        securityIdSource = 0;
+        securityExchange = null;
+        brokerLocationId = null;
+        transactTime = 0;
+        side = 0;
+        orderId = 0;
+        origClOrdId.clear();
+        execType = 0;
+        orderStatus = 0;
+        price = 0;
+        orderQuantity = 0;
+        leavesQuantity = 0;
+        cumulativeQuantity = 0;
+    }
+
+    // Accessors decode a lazily attached body first
+
+    public CharSequence getClOrdId() {
+        ensureDecoded();
+        return clOrdId.isEmpty() ? null : clOrdId;
+    }
+
+    public String getSubmittingBrokerId() {
+        ensureDecoded();
+        return submittingBrokerId;
+    }
+
+    public CharSequence getSecurityId() {
+        ensureDecoded();
+        return securityId.isEmpty() ? null : securityId;
+    }
+
+    public int getSecurityIdSource() {
+        ensureDecoded();
+        return securityIdSource;
+    }
+
+    public String getSecurityExchange() {
+        ensureDecoded();
+        return securityExchange;
+    }
+
+    public String getBrokerLocationId() {
+        ensureDecoded();
+        return brokerLocationId;
+    }
+
+    public long getTransactTime() {
+        ensureDecoded();
+        return transactTime;
+    }
+
+    public int getSide() {
+        ensureDecoded();
+        return side;
+    }
+
+    public long getOrderId() {
+        ensureDecoded();
+        return orderId;
+    }
+
+    public CharSequence getOrigClOrdId() {
+        ensureDecoded();
+        return origClOrdId.isEmpty() ? null : origClOrdId;
+    }
+
+    public int getExecType() {
+        ensureDecoded();
+        return execType;
+    }
+
+    public int getOrderStatus() {
+        ensureDecoded();
+        return orderStatus;
+    }
+
+    public long getPrice() {
+        ensureDecoded();
+        return price;
+    }
+
+    public long getOrderQuantity() {
+        ensureDecoded();
+        return orderQuantity;
+    }
+
+    public long getLeavesQuantity() {
+        ensureDecoded();
+        return leavesQuantity;
+    }
+
+    public long getCumulativeQuantity() {
+        ensureDecoded();
+        return cumulativeQuantity;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+// src/main/java/com/odp/simulator/client/handler/OrderAcceptedHandler.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
+import com.odp.simulator.client.protocol.codecs.OrderAcceptedCodec;
+import com.odp.simulator.client.protocol.messages.OrderAccepted;
+import com.odp.simulator.client.service.OdpOrderBook;
+import com.odp.simulator.client.service.OdpOrderStore;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for Order Accepted messages
+ * On the view path the order is found and updated from the frame in place.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderAcceptedHandler implements OdpMessageHandler {
+
+    private final OdpOrderBook orderBook;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.ORDER_ACCEPTED;
+    }
+
+    @Override
+    public void handle(OdpMessage message) {
+        if (!(message instanceof OrderAccepted accepted)) {
+            log.error("Expected OrderAccepted but got: {}", message.getClass().getSimpleName());
+            return;
+        }
+        int slot = orderBook.find(accepted.getClOrdId(), accepted.getOrigClOrdId());
+        if (slot == OdpOrderStore.NO_ORDER) {
+            log.warn("Order Accepted for unknown ClOrdID: {}", accepted.getClOrdId());
+            return;
+        }
+        orderBook.onAccepted(slot, accepted.getExecType(), accepted.getOrderStatus(), accepted.getOrderId(),
+                accepted.getPrice(), accepted.getOrderQuantity(), accepted.getLeavesQuantity(),
+                accepted.getCumulativeQuantity());
+    }
+
+    @Override
+    public void handleView(OdpMessageView view) {
+        OdpCodecPlan plan = view.getCodecPlan();
+        ByteBuf frame = view.frame();
+        int bodyIndex = view.bodyIndex();
+        int clOrdIdIndex = OrderAcceptedCodec.hasClOrdId(plan)
+                ? OrderAcceptedCodec.getClOrdIdIndex(bodyIndex, plan) : -1;
+        int origClOrdIdIndex = OrderAcceptedCodec.hasOrigClOrdId(plan)
+                ? OrderAcceptedCodec.getOrigClOrdIdIndex(bodyIndex, plan) : -1;
+        int slot = orderBook.find(frame, clOrdIdIndex, origClOrdIdIndex);
+        if (slot == OdpOrderStore.NO_ORDER) {
+            log.warn("Order Accepted for unknown ClOrdID: {}", clOrdIdIndex >= 0
+                    ? OdpCharArrays.get(frame, clOrdIdIndex, OrderAcceptedCodec.CL_ORD_ID_LENGTH) : null);
+            return;
+        }
+        int execType = OrderAcceptedCodec.hasExecType(plan)
+                ? OrderAcceptedCodec.getExecType(frame, bodyIndex, plan) : 0;
+        int orderStatus = OrderAcceptedCodec.hasOrderStatus(plan)
+                ? OrderAcceptedCodec.getOrderStatus(frame, bodyIndex, plan) : 0;
+        long orderId = OrderAcceptedCodec.hasOrderId(plan)
+                ? OrderAcceptedCodec.getOrderId(frame, bodyIndex, plan) : 0L;
+        long price = OrderAcceptedCodec.hasPrice(plan)
+                ? OrderAcceptedCodec.getPrice(frame, bodyIndex, plan) : 0L;
+        long orderQuantity = OrderAcceptedCodec.hasOrderQuantity(plan)
+                ? OrderAcceptedCodec.getOrderQuantity(frame, bodyIndex, plan) : 0L;
+        long leavesQuantity = OrderAcceptedCodec.hasLeavesQuantity(plan)
+                ? OrderAcceptedCodec.getLeavesQuantity(frame, bodyIndex, plan) : 0L;
+        long cumulativeQuantity = OrderAcceptedCodec.hasCumulativeQuantity(plan)
+                ? OrderAcceptedCodec.getCumulativeQuantity(frame, bodyIndex, plan) : 0L;
+        orderBook.onAccepted(slot, execType, orderStatus, orderId, price, orderQuantity, leavesQuantity,
+                cumulativeQuantity);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+// src/test/java/com/odp/simulator/client/protocol/messages/OrderAcceptedTest.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.codec.OdpDecodeMode;
+import com.odp.simulator.client.codec.OdpMessageDecoder;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpDataType;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.OrderAcceptedCodec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class OrderAcceptedTest {
+
+    @Test
+    void pooledDecodeReusesCharFields() {
+        EmbeddedChannel channel = new EmbeddedChannel(new OdpMessageDecoder(OdpDecodeMode.POOLED));
+
+        channel.writeInbound(frame("AMD1", "ORD1", 100));
+        OrderAccepted first = channel.readInbound();
+        assertEquals("AMD1", first.getClOrdId().toString());
+        assertEquals("ORD1", first.getOrigClOrdId().toString());
+        String brokerId = first.getSubmittingBrokerId();
+        assertEquals("B1", brokerId);
+        first.release();
+
+        // A reused message keeps no field of the previous one
+        channel.writeInbound(frame("ORD2", null, 101));
+        OrderAccepted second = channel.readInbound();
+        assertEquals("ORD2", second.getClOrdId().toString());
+        assertNull(second.getOrigClOrdId());
+        assertSame(brokerId, second.getSubmittingBrokerId());
+        assertEquals(101, second.getPrice());
+        second.release();
+        channel.finishAndReleaseAll();
+    }
+
+    private static ByteBuf frame(String clOrdId, String origClOrdId, long price) {
+        FieldPresenceMap presenceMap = origClOrdId != null
+                ? FieldPresenceMap.of(OrderAcceptedCodec.BP_CL_ORD_ID, OrderAcceptedCodec.BP_SUBMITTING_BROKER_ID,
+                        OrderAcceptedCodec.BP_ORIG_CL_ORD_ID, OrderAcceptedCodec.BP_PRICE)
+                : FieldPresenceMap.of(OrderAcceptedCodec.BP_CL_ORD_ID, OrderAcceptedCodec.BP_SUBMITTING_BROKER_ID,
+                        OrderAcceptedCodec.BP_PRICE);
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(OdpMessageType.ORDER_ACCEPTED, presenceMap);
+        int length = OdpDataType.HEADER_SIZE + plan.getBodyLength();
+        ByteBuf frame = Unpooled.buffer(length);
+        frame.setShortLE(OdpDataType.LENGTH_OFFSET, length);
+        frame.setShortLE(OdpDataType.MESSAGE_ID_OFFSET, OdpMessageType.ORDER_ACCEPTED.getMessageId());
+        frame.setLongLE(OdpDataType.MSG_SEQ_NUM_OFFSET, 1);
+        OdpCharArrays.set(frame, OdpDataType.COMP_ID_OFFSET, "GW", OdpDataType.COMP_ID_SIZE);
+        plan.getPresenceMap().set(frame, OdpDataType.FIELDS_PRESENCE_MAP_OFFSET);
+        int bodyIndex = OdpDataType.BODY_OFFSET;
+        OrderAcceptedCodec.setClOrdId(frame, bodyIndex, plan, clOrdId);
+        OrderAcceptedCodec.setSubmittingBrokerId(frame, bodyIndex, plan, "B1");
+        if (origClOrdId != null) {
+            OrderAcceptedCodec.setOrigClOrdId(frame, bodyIndex, plan, origClOrdId);
+        }
+        OrderAcceptedCodec.setPrice(frame, bodyIndex, plan, price);
+        frame.writerIndex(length);
+        return frame;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,209 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/OrderAmendRejected.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.codec.OdpCharField;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.OrderAmendRejectedCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Order Amend Rejected (25)
+ *
+ * The gateway sends this message when an amend was rejected, the original
+ * order keeps working unchanged.
+ *
+ * Field Bit Positions:
+ * - BP 0: ClOrdID - Of the rejected amend request
+ * - BP 1: Submitting Broker ID
+ * - BP 2: Security ID
+ * - BP 3: Security ID Source
+ * - BP 4: Security Exchange
+ * - BP 5: Broker Location ID
+ * - BP 6: Transact Time
+ * - BP 7: Side
+ * - BP 8: Orig ClOrdID
+ * - BP 9: Order ID
+ * - BP 10: Cxl Rej Reason
+ * - BP 11: Text (Optional)
+ *
+ * Supports lazy decoding, every accessor decodes a pending body first.
+ */
+@Slf4j
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OrderAmendRejected extends BaseOdpMessage {
+
+    public static final OdpMessageSchema SCHEMA = OrderAmendRejectedCodec.SCHEMA;
+
+    private final OdpCharField clOrdId = new OdpCharField(OrderAmendRejectedCodec.CL_ORD_ID_LENGTH);
+    private String submittingBrokerId;
+    private final OdpCharField securityId = new OdpCharField(OrderAmendRejectedCodec.SECURITY_ID_LENGTH);
+    private int securityIdSource;
+    private String securityExchange;
+    private String brokerLocationId;
+    private long transactTime;
+    private int side;
+    private final OdpCharField origClOrdId = new OdpCharField(OrderAmendRejectedCodec.ORIG_CL_ORD_ID_LENGTH);
+    private long orderId;
+    private int cxlRejReason;
+    private final OdpCharField text = new OdpCharField(OrderAmendRejectedCodec.TEXT_LENGTH);
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.ORDER_AMEND_REJECTED;
+    }
+
+    @Override
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Order Amend Rejected is an outbound message from gateway
+        log.warn("OrderAmendRejected.encodeBody() called - this is typically a gateway message");
+    }
+
+    @Override
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Fields are read in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.readerIndex();
+
+        if (OrderAmendRejectedCodec.hasClOrdId(plan)) {
+            clOrdId.read(buffer, OrderAmendRejectedCodec.getClOrdIdIndex(bodyIndex, plan));
+        }
+        if (OrderAmendRejectedCodec.hasSubmittingBrokerId(plan)) {
+            submittingBrokerId = OdpCharArrays.getInterned(buffer,
+                    OrderAmendRejectedCodec.getSubmittingBrokerIdIndex(bodyIndex, plan),
+                    OrderAmendRejectedCodec.SUBMITTING_BROKER_ID_LENGTH);
+        }
+        if (OrderAmendRejectedCodec.hasSecurityId(plan)) {
+            securityId.read(buffer, OrderAmendRejectedCodec.getSecurityIdIndex(bodyIndex, plan));
+        }
+        if (OrderAmendRejectedCodec.hasSecurityIdSource(plan)) {
+            securityIdSource = OrderAmendRejectedCodec.getSecurityIdSource(buffer, bodyIndex, plan);
+        }
+        if (OrderAmendRejectedCodec.hasSecurityExchange(plan)) {
+            securityExchange = OdpCharArrays.getInterned(buffer,
+                    OrderAmendRejectedCodec.getSecurityExchangeIndex(bodyIndex, plan),
+                    OrderAmendRejectedCodec.SECURITY_EXCHANGE_LENGTH);
+        }
+        if (OrderAmendRejectedCodec.hasBrokerLocationId(plan)) {
+            brokerLocationId = OdpCharArrays.getInterned(buffer,
+                    OrderAmendRejectedCodec.getBrokerLocationIdIndex(bodyIndex, plan),
+                    OrderAmendRejectedCodec.BROKER_LOCATION_ID_LENGTH);
+        }
+        if (OrderAmendRejectedCodec.hasTransactTime(plan)) {
+            transactTime = OrderAmendRejectedCodec.getTransactTime(buffer, bodyIndex, plan);
+        }
+        if (OrderAmendRejectedCodec.hasSide(plan)) {
+            side = OrderAmendRejectedCodec.getSide(buffer, bodyIndex, plan);
+        }
+        if (OrderAmendRejectedCodec.hasOrigClOrdId(plan)) {
+            origClOrdId.read(buffer, OrderAmendRejectedCodec.getOrigClOrdIdIndex(bodyIndex, plan));
+        }
+        if (OrderAmendRejectedCodec.hasOrderId(plan)) {
+            orderId = OrderAmendRejectedCodec.getOrderId(buffer, bodyIndex, plan);
+        }
+        if (OrderAmendRejectedCodec.hasCxlRejReason(plan)) {
+            cxlRejReason = OrderAmendRejectedCodec.getCxlRejReason(buffer, bodyIndex, plan);
+        }
+        if (OrderAmendRejectedCodec.hasText(plan)) {
+            text.read(buffer, OrderAmendRejectedCodec.getTextIndex(bodyIndex, plan));
+        }
+
+        buffer.skipBytes(plan.getBodyLength());
+    }
+
+    @Override
+    public FieldPresenceMap getFieldsPresenceMap() {
+        if (isBodyPending()) {
+            return pendingPresenceMap();
+        }
+        return getHeader() != null && getHeader().getFieldsPresenceMap() != null
+                ? getHeader().getFieldsPresenceMap()
+                : FieldPresenceMap.EMPTY;
+    }
+
+    @Override
+    protected void resetForReuse() {
+        clOrdId.clear();
+        submittingBrokerId = null;
+        securityId.clear();
+        securityIdSource = 0;
+        securityExchange = null;
+        brokerLocationId = null;
+        transactTime = 0;
+        side = 0;
+        origClOrdId.clear();
+        orderId = 0;
+        cxlRejReason = 0;
+        text.clear();
+    }
+
+    // Accessors decode a lazily attached body first
+
+    public CharSequence getClOrdId() {
+        ensureDecoded();
+        return clOrdId.isEmpty() ? null : clOrdId;
+    }
+
+    public String getSubmittingBrokerId() {
+        ensureDecoded();
+        return submittingBrokerId;
+    }
+
+    public CharSequence getSecurityId() {
+        ensureDecoded();
+        return securityId.isEmpty() ? null : securityId;
+    }
+
+    public int getSecurityIdSource() {
+        ensureDecoded();
+        return securityIdSource;
+    }
+
+    public String getSecurityExchange() {
+        ensureDecoded();
+        return securityExchange;
+    }
+
+    public String getBrokerLocationId() {
+        ensureDecoded();
+        return brokerLocationId;
+    }
+
+    public long getTransactTime() {
+        ensureDecoded();
+        return transactTime;
+    }
+
+    public int getSide() {
+        ensureDecoded();
+        return side;
+    }
+
+    public CharSequence getOrigClOrdId() {
+        ensureDecoded();
+        return origClOrdId.isEmpty() ? null : origClOrdId;
+    }
+
+    public long getOrderId() {
+        ensureDecoded();
+        return orderId;
+    }
+
+    public int getCxlRejReason() {
+        ensureDecoded();
+        return cxlRejReason;
+    }
+
+    public CharSequence getText() {
+        ensureDecoded();
+        return text.isEmpty() ? null : text;
+    }
+}
\ No newline at end of file
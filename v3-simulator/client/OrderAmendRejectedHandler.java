@@ -0,0 +1,77 @@
+// src/main/java/com/odp/simulator/client/handler/OrderAmendRejectedHandler.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
+import com.odp.simulator.client.protocol.codecs.OrderAmendRejectedCodec;
+import com.odp.simulator.client.protocol.messages.OrderAmendRejected;
+import com.odp.simulator.client.service.OdpOrderBook;
+import com.odp.simulator.client.service.OdpOrderStore;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for Order Amend Rejected messages
+ * On the view path the order is found and updated from the frame in place.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderAmendRejectedHandler implements OdpMessageHandler {
+
+    private final OdpOrderBook orderBook;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.ORDER_AMEND_REJECTED;
+    }
+
+    @Override
+    public void handle(OdpMessage message) {
+        if (!(message instanceof OrderAmendRejected rejected)) {
+            log.error("Expected OrderAmendRejected but got: {}", message.getClass().getSimpleName());
+            return;
+        }
+        int slot = orderBook.find(rejected.getClOrdId(), rejected.getOrigClOrdId());
+        onRejected(slot, rejected.getClOrdId(), rejected.getOrigClOrdId(), rejected.getCxlRejReason(),
+                rejected.getText());
+    }
+
+    @Override
+    public void handleView(OdpMessageView view) {
+        OdpCodecPlan plan = view.getCodecPlan();
+        ByteBuf frame = view.frame();
+        int bodyIndex = view.bodyIndex();
+        int clOrdIdIndex = OrderAmendRejectedCodec.hasClOrdId(plan)
+                ? OrderAmendRejectedCodec.getClOrdIdIndex(bodyIndex, plan) : -1;
+        int origClOrdIdIndex = OrderAmendRejectedCodec.hasOrigClOrdId(plan)
+                ? OrderAmendRejectedCodec.getOrigClOrdIdIndex(bodyIndex, plan) : -1;
+        int slot = orderBook.find(frame, clOrdIdIndex, origClOrdIdIndex);
+        int reason = OrderAmendRejectedCodec.hasCxlRejReason(plan)
+                ? OrderAmendRejectedCodec.getCxlRejReason(frame, bodyIndex, plan) : 0;
+        // Rejects are rare, the strings are only read for the log
+        String text = OrderAmendRejectedCodec.hasText(plan)
+                ? OrderAmendRejectedCodec.getText(frame, bodyIndex, plan) : null;
+        onRejected(slot, charArray(frame, clOrdIdIndex), charArray(frame, origClOrdIdIndex), reason, text);
+    }
+
+    private void onRejected(int slot, CharSequence clOrdId, CharSequence origClOrdId, int reason,
+                            CharSequence text) {
+        if (slot == OdpOrderStore.NO_ORDER) {
+            log.warn("Order Amend Rejected for unknown ClOrdID: {}", clOrdId);
+            return;
+        }
+        orderBook.onReplaceRejected(slot, reason);
+        log.info("Amend rejected: clOrdId={}, origClOrdId={}, reason={}, text={}",
+                clOrdId, origClOrdId, reason, text);
+    }
+
+    private static String charArray(ByteBuf frame, int index) {
+        return index >= 0 ? OdpCharArrays.get(frame, index, OdpOrderStore.CL_ORD_ID_LENGTH) : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,237 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/OrderAmendRequest.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.OrderAmendRequestCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Order Amend Request (22)
+ *
+ * The client sends this message to change the price or quantity of a
+ * working order. The order is identified by its original ClOrdID and,
+ * once it was accepted, by the exchange Order ID.
+ *
+ * Field Bit Positions:
+ * - BP 0: ClOrdID (Required) - New client order ID for this request
+ * - BP 1: Submitting Broker ID (Required)
+ * - BP 2: Security ID (Required)
+ * - BP 3: Security ID Source (Required)
+ * - BP 4: Security Exchange (Optional)
+ * - BP 5: Broker Location ID (Required)
+ * - BP 6: Transact Time (Required)
+ * - BP 7: Side (Required)
+ * - BP 8: Orig ClOrdID (Required)
+ * - BP 9: Order ID (Optional) - Sent once known
+ * - BP 10: Order Type (Required)
+ * - BP 11: Price (Optional) - Not sent for market orders
+ * - BP 12: Order Quantity (Required)
+ * - BP 13: Time In Force (Required)
+ * - BP 14: Text (Optional)
+ */
+@Slf4j
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OrderAmendRequest extends BaseOdpMessage {
+
+    public static final OdpMessageSchema SCHEMA = OrderAmendRequestCodec.SCHEMA;
+
+    // Fields present on every amend
+    private static final long REQUIRED_FIELDS = presenceBit(OrderAmendRequestCodec.BP_CL_ORD_ID)
+            | presenceBit(OrderAmendRequestCodec.BP_SUBMITTING_BROKER_ID)
+            | presenceBit(OrderAmendRequestCodec.BP_SECURITY_ID)
+            | presenceBit(OrderAmendRequestCodec.BP_SECURITY_ID_SOURCE)
+            | presenceBit(OrderAmendRequestCodec.BP_BROKER_LOCATION_ID)
+            | presenceBit(OrderAmendRequestCodec.BP_TRANSACT_TIME)
+            | presenceBit(OrderAmendRequestCodec.BP_SIDE)
+            | presenceBit(OrderAmendRequestCodec.BP_ORIG_CL_ORD_ID)
+            | presenceBit(OrderAmendRequestCodec.BP_ORDER_TYPE)
+            | presenceBit(OrderAmendRequestCodec.BP_ORDER_QUANTITY)
+            | presenceBit(OrderAmendRequestCodec.BP_TIME_IN_FORCE);
+
+    /**
+     * Client order ID of this request (Char Array 21)
+     */
+    private CharSequence clOrdId;
+
+    /**
+     * Submitting Broker ID (Char Array 12)
+     */
+    private CharSequence submittingBrokerId;
+
+    /**
+     * Security ID (Char Array 21)
+     */
+    private CharSequence securityId;
+
+    /**
+     * Security ID Source (UInt8)
+     */
+    private int securityIdSource = NewOrderSingle.SECURITY_ID_SOURCE_EXCHANGE_SYMBOL;
+
+    /**
+     * Security Exchange (Char Array 5) - Optional
+     */
+    private CharSequence securityExchange;
+
+    /**
+     * Broker Location ID (Char Array 11)
+     */
+    private CharSequence brokerLocationId;
+
+    /**
+     * Transact Time (UInt64), nanoseconds since epoch in UTC
+     */
+    private long transactTime;
+
+    /**
+     * Side (UInt8), must match the original order
+     */
+    private int side;
+
+    /**
+     * ClOrdID of the order being amended (Char Array 21)
+     */
+    private CharSequence origClOrdId;
+
+    /**
+     * Exchange Order ID (UInt64), 0 if not known yet
+     */
+    private long orderId;
+
+    /**
+     * Order Type (UInt8)
+     */
+    private int orderType = NewOrderSingle.ORDER_TYPE_LIMIT;
+
+    /**
+     * New price (Int64) scaled by {@link NewOrderSingle#PRICE_MULTIPLIER}
+     */
+    private long price;
+
+    /**
+     * New order quantity (UInt64)
+     */
+    private long orderQuantity;
+
+    /**
+     * Time In Force (UInt8)
+     */
+    private int timeInForce = NewOrderSingle.TIME_IN_FORCE_DAY;
+
+    /**
+     * Free text (Char Array 40) - Optional
+     */
+    private CharSequence text;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.ORDER_AMEND_REQUEST;
+    }
+
+    @Override
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Fields are written in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.writerIndex();
+        buffer.ensureWritable(plan.getBodyLength());
+
+        if (OrderAmendRequestCodec.hasClOrdId(plan)) {
+            OrderAmendRequestCodec.setClOrdId(buffer, bodyIndex, plan, clOrdId);
+        }
+        if (OrderAmendRequestCodec.hasSubmittingBrokerId(plan)) {
+            OrderAmendRequestCodec.setSubmittingBrokerId(buffer, bodyIndex, plan, submittingBrokerId);
+        }
+        if (OrderAmendRequestCodec.hasSecurityId(plan)) {
+            OrderAmendRequestCodec.setSecurityId(buffer, bodyIndex, plan, securityId);
+        }
+        if (OrderAmendRequestCodec.hasSecurityIdSource(plan)) {
+            OrderAmendRequestCodec.setSecurityIdSource(buffer, bodyIndex, plan, securityIdSource);
+        }
+        if (OrderAmendRequestCodec.hasSecurityExchange(plan)) {
+            OrderAmendRequestCodec.setSecurityExchange(buffer, bodyIndex, plan, securityExchange);
+        }
+        if (OrderAmendRequestCodec.hasBrokerLocationId(plan)) {
+            OrderAmendRequestCodec.setBrokerLocationId(buffer, bodyIndex, plan, brokerLocationId);
+        }
+        if (OrderAmendRequestCodec.hasTransactTime(plan)) {
+            OrderAmendRequestCodec.setTransactTime(buffer, bodyIndex, plan, transactTime);
+        }
+        if (OrderAmendRequestCodec.hasSide(plan)) {
+            OrderAmendRequestCodec.setSide(buffer, bodyIndex, plan, side);
+        }
+        if (OrderAmendRequestCodec.hasOrigClOrdId(plan)) {
+            OrderAmendRequestCodec.setOrigClOrdId(buffer, bodyIndex, plan, origClOrdId);
+        }
+        if (OrderAmendRequestCodec.hasOrderId(plan)) {
+            OrderAmendRequestCodec.setOrderId(buffer, bodyIndex, plan, orderId);
+        }
+        if (OrderAmendRequestCodec.hasOrderType(plan)) {
+            OrderAmendRequestCodec.setOrderType(buffer, bodyIndex, plan, orderType);
+        }
+        if (OrderAmendRequestCodec.hasPrice(plan)) {
+            OrderAmendRequestCodec.setPrice(buffer, bodyIndex, plan, price);
+        }
+        if (OrderAmendRequestCodec.hasOrderQuantity(plan)) {
+            OrderAmendRequestCodec.setOrderQuantity(buffer, bodyIndex, plan, orderQuantity);
+        }
+        if (OrderAmendRequestCodec.hasTimeInForce(plan)) {
+            OrderAmendRequestCodec.setTimeInForce(buffer, bodyIndex, plan, timeInForce);
+        }
+        if (OrderAmendRequestCodec.hasText(plan)) {
+            OrderAmendRequestCodec.setText(buffer, bodyIndex, plan, text);
+        }
+
+        buffer.writerIndex(bodyIndex + plan.getBodyLength());
+    }
+
+    @Override
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Order Amend Request is an inbound message from client
+        log.warn("OrderAmendRequest.decodeBody() called - this is typically a client message");
+    }
+
+    @Override
+    public FieldPresenceMap getFieldsPresenceMap() {
+        long high = REQUIRED_FIELDS;
+        if (hasValue(securityExchange)) {
+            high |= presenceBit(OrderAmendRequestCodec.BP_SECURITY_EXCHANGE);
+        }
+        if (orderId != 0) {
+            high |= presenceBit(OrderAmendRequestCodec.BP_ORDER_ID);
+        }
+        if (orderType != NewOrderSingle.ORDER_TYPE_MARKET) {
+            high |= presenceBit(OrderAmendRequestCodec.BP_PRICE);
+        }
+        if (hasValue(text)) {
+            high |= presenceBit(OrderAmendRequestCodec.BP_TEXT);
+        }
+        return presenceMap(high);
+    }
+
+    @Override
+    protected void resetForReuse() {
+        clOrdId = null;
+        submittingBrokerId = null;
+        securityId = null;
+        securityIdSource = NewOrderSingle.SECURITY_ID_SOURCE_EXCHANGE_SYMBOL;
+        securityExchange = null;
+        brokerLocationId = null;
+        transactTime = 0;
+        side = 0;
+        origClOrdId = null;
+        orderId = 0;
+        orderType = NewOrderSingle.ORDER_TYPE_LIMIT;
+        price = 0;
+        orderQuantity = 0;
+        timeInForce = NewOrderSingle.TIME_IN_FORCE_DAY;
+        text = null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,177 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/OrderCancelRequest.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.OrderCancelRequestCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Order Cancel Request (23)
+ *
+ * The client sends this message to cancel the remaining quantity of a
+ * working order.
+ *
+ * Field Bit Positions:
+ * - BP 0: ClOrdID (Required) - New client order ID for this request
+ * - BP 1: Submitting Broker ID (Required)
+ * - BP 2: Security ID (Required)
+ * - BP 3: Security ID Source (Required)
+ * - BP 4: Security Exchange (Optional)
+ * - BP 5: Broker Location ID (Required)
+ * - BP 6: Transact Time (Required)
+ * - BP 7: Side (Required)
+ * - BP 8: Orig ClOrdID (Required)
+ * - BP 9: Order ID (Optional) - Sent once known
+ */
+@Slf4j
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OrderCancelRequest extends BaseOdpMessage {
+
+    public static final OdpMessageSchema SCHEMA = OrderCancelRequestCodec.SCHEMA;
+
+    // Fields present on every cancel
+    private static final long REQUIRED_FIELDS = presenceBit(OrderCancelRequestCodec.BP_CL_ORD_ID)
+            | presenceBit(OrderCancelRequestCodec.BP_SUBMITTING_BROKER_ID)
+            | presenceBit(OrderCancelRequestCodec.BP_SECURITY_ID)
+            | presenceBit(OrderCancelRequestCodec.BP_SECURITY_ID_SOURCE)
+            | presenceBit(OrderCancelRequestCodec.BP_BROKER_LOCATION_ID)
+            | presenceBit(OrderCancelRequestCodec.BP_TRANSACT_TIME)
+            | presenceBit(OrderCancelRequestCodec.BP_SIDE)
+            | presenceBit(OrderCancelRequestCodec.BP_ORIG_CL_ORD_ID);
+
+    /**
+     * Client order ID of this request (Char Array 21)
+     */
+    private CharSequence clOrdId;
+
+    /**
+     * Submitting Broker ID (Char Array 12)
+     */
+    private CharSequence submittingBrokerId;
+
+    /**
+     * Security ID (Char Array 21)
+     */
+    private CharSequence securityId;
+
+    /**
+     * Security ID Source (UInt8)
+     */
+    private int securityIdSource = NewOrderSingle.SECURITY_ID_SOURCE_EXCHANGE_SYMBOL;
+
+    /**
+     * Security Exchange (Char Array 5) - Optional
+     */
+    private CharSequence securityExchange;
+
+    /**
+     * Broker Location ID (Char Array 11)
+     */
+    private CharSequence brokerLocationId;
+
+    /**
+     * Transact Time (UInt64), nanoseconds since epoch in UTC
+     */
+    private long transactTime;
+
+    /**
+     * Side (UInt8), must match the original order
+     */
+    private int side;
+
+    /**
+     * ClOrdID of the order being cancelled (Char Array 21)
+     */
+    private CharSequence origClOrdId;
+
+    /**
+     * Exchange Order ID (UInt64), 0 if not known yet
+     */
+    private long orderId;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.ORDER_CANCEL_REQUEST;
+    }
+
+    @Override
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Fields are written in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.writerIndex();
+        buffer.ensureWritable(plan.getBodyLength());
+
+        if (OrderCancelRequestCodec.hasClOrdId(plan)) {
+            OrderCancelRequestCodec.setClOrdId(buffer, bodyIndex, plan, clOrdId);
+        }
+        if (OrderCancelRequestCodec.hasSubmittingBrokerId(plan)) {
+            OrderCancelRequestCodec.setSubmittingBrokerId(buffer, bodyIndex, plan, submittingBrokerId);
+        }
+        if (OrderCancelRequestCodec.hasSecurityId(plan)) {
+            OrderCancelRequestCodec.setSecurityId(buffer, bodyIndex, plan, securityId);
+        }
+        if (OrderCancelRequestCodec.hasSecurityIdSource(plan)) {
+            OrderCancelRequestCodec.setSecurityIdSource(buffer, bodyIndex, plan, securityIdSource);
+        }
+        if (OrderCancelRequestCodec.hasSecurityExchange(plan)) {
+            OrderCancelRequestCodec.setSecurityExchange(buffer, bodyIndex, plan, securityExchange);
+        }
+        if (OrderCancelRequestCodec.hasBrokerLocationId(plan)) {
+            OrderCancelRequestCodec.setBrokerLocationId(buffer, bodyIndex, plan, brokerLocationId);
+        }
+        if (OrderCancelRequestCodec.hasTransactTime(plan)) {
+            OrderCancelRequestCodec.setTransactTime(buffer, bodyIndex, plan, transactTime);
+        }
+        if (OrderCancelRequestCodec.hasSide(plan)) {
+            OrderCancelRequestCodec.setSide(buffer, bodyIndex, plan, side);
+        }
+        if (OrderCancelRequestCodec.hasOrigClOrdId(plan)) {
+            OrderCancelRequestCodec.setOrigClOrdId(buffer, bodyIndex, plan, origClOrdId);
+        }
+        if (OrderCancelRequestCodec.hasOrderId(plan)) {
+            OrderCancelRequestCodec.setOrderId(buffer, bodyIndex, plan, orderId);
+        }
+
+        buffer.writerIndex(bodyIndex + plan.getBodyLength());
+    }
+
+    @Override
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Order Cancel Request is an inbound message from client
+        log.warn("OrderCancelRequest.decodeBody() called - this is typically a client message");
+    }
+
+    @Override
+    public FieldPresenceMap getFieldsPresenceMap() {
+        long high = REQUIRED_FIELDS;
+        if (hasValue(securityExchange)) {
+            high |= presenceBit(OrderCancelRequestCodec.BP_SECURITY_EXCHANGE);
+        }
+        if (orderId != 0) {
+            high |= presenceBit(OrderCancelRequestCodec.BP_ORDER_ID);
+        }
+        return presenceMap(high);
+    }
+
+    @Override
+    protected void resetForReuse() {
+        clOrdId = null;
+        submittingBrokerId = null;
+        securityId = null;
+        securityIdSource = NewOrderSingle.SECURITY_ID_SOURCE_EXCHANGE_SYMBOL;
+        securityExchange = null;
+        brokerLocationId = null;
+        transactTime = 0;
+        side = 0;
+        origClOrdId = null;
+        orderId = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+// src/main/java/com/odp/simulator/client/service/OrderListener.java
+package com.odp.simulator.client.service;
+
+/**
+ * Callback for order events, registered with {@link OdpOrderListeners}
+ *
+ * The {@link OrderView} passed in is reused for the next event once the
+ * callback returns, copy any value that is needed later. Callbacks run on
+ * the decode thread or the listener thread, see {@link OrderListenerDispatch},
+ * and should not block.
+ */
+public interface OrderListener {
+
+    /**
+     * The gateway accepted a new order, amend or cancel, see {@link OrderView#getExecType()}
+     */
+    default void onOrderAccepted(OrderView order) {
+    }
+
+    /**
+     * The gateway rejected a new order
+     */
+    default void onOrderRejected(OrderView order) {
+    }
+
+    /**
+     * The gateway rejected an amend or cancel, the order keeps working
+     */
+    default void onReplaceRejected(OrderView order) {
+    }
+
+    /**
+     * An execution was applied, see {@link OrderView#getLastQuantity()} and {@link OrderView#getLastPrice()}
+     */
+    default void onOrderFilled(OrderView order) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+// src/main/java/com/odp/simulator/client/service/OrderListenerDispatch.java
+package com.odp.simulator.client.service;
+
+/**
+ * Thread on which {@link OrderListener} callbacks run
+ */
+public enum OrderListenerDispatch {
+
+    /**
+     * Call listeners on the thread that applied the event, the event loop for
+     * gateway responses, right after the order state is updated.
+     */
+    DECODE_THREAD,
+
+    /**
+     * Hand events to a dedicated listener thread, in order. The decode thread
+     * only copies the order into a pooled view.
+     */
+    EXECUTOR
+}
\ No newline at end of file
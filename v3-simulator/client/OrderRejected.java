@@ -0,0 +1,186 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/OrderRejected.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.codec.OdpCharField;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.OrderRejectedCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Order Rejected (24)
+ *
+ * The gateway sends this message when a new order was rejected.
+ *
+ * Field Bit Positions:
+ * - BP 0: ClOrdID
+ * - BP 1: Submitting Broker ID
+ * - BP 2: Security ID
+ * - BP 3: Security ID Source
+ * - BP 4: Security Exchange
+ * - BP 5: Broker Location ID
+ * - BP 6: Transact Time
+ * - BP 7: Side
+ * - BP 8: Ord Rej Reason
+ * - BP 9: Text (Optional)
+ *
+ * Supports lazy decoding, every accessor decodes a pending body first.
+ */
+@Slf4j
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OrderRejected extends BaseOdpMessage {
+
+    public static final OdpMessageSchema SCHEMA = OrderRejectedCodec.SCHEMA;
+
+    private final OdpCharField clOrdId = new OdpCharField(OrderRejectedCodec.CL_ORD_ID_LENGTH);
+    private String submittingBrokerId;
+    private final OdpCharField securityId = new OdpCharField(OrderRejectedCodec.SECURITY_ID_LENGTH);
+    private int securityIdSource;
+    private String securityExchange;
+    private String brokerLocationId;
+    private long transactTime;
+    private int side;
+    private int ordRejReason;
+    private final OdpCharField text = new OdpCharField(OrderRejectedCodec.TEXT_LENGTH);
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.ORDER_REJECTED;
+    }
+
+    @Override
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Order Rejected is an outbound message from gateway
+        log.warn("OrderRejected.encodeBody() called - this is typically a gateway message");
+    }
+
+    @Override
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Fields are read in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.readerIndex();
+
+        if (OrderRejectedCodec.hasClOrdId(plan)) {
+            clOrdId.read(buffer, OrderRejectedCodec.getClOrdIdIndex(bodyIndex, plan));
+        }
+        if (OrderRejectedCodec.hasSubmittingBrokerId(plan)) {
+            submittingBrokerId = OdpCharArrays.getInterned(buffer,
+                    OrderRejectedCodec.getSubmittingBrokerIdIndex(bodyIndex, plan),
+                    OrderRejectedCodec.SUBMITTING_BROKER_ID_LENGTH);
+        }
+        if (OrderRejectedCodec.hasSecurityId(plan)) {
+            securityId.read(buffer, OrderRejectedCodec.getSecurityIdIndex(bodyIndex, plan));
+        }
+        if (OrderRejectedCodec.hasSecurityIdSource(plan)) {
+            securityIdSource = OrderRejectedCodec.getSecurityIdSource(buffer, bodyIndex, plan);
+        }
+        if (OrderRejectedCodec.hasSecurityExchange(plan)) {
+            securityExchange = OdpCharArrays.getInterned(buffer,
+                    OrderRejectedCodec.getSecurityExchangeIndex(bodyIndex, plan),
+                    OrderRejectedCodec.SECURITY_EXCHANGE_LENGTH);
+        }
+        if (OrderRejectedCodec.hasBrokerLocationId(plan)) {
+            brokerLocationId = OdpCharArrays.getInterned(buffer,
+                    OrderRejectedCodec.getBrokerLocationIdIndex(bodyIndex, plan),
+                    OrderRejectedCodec.BROKER_LOCATION_ID_LENGTH);
+        }
+        if (OrderRejectedCodec.hasTransactTime(plan)) {
+            transactTime = OrderRejectedCodec.getTransactTime(buffer, bodyIndex, plan);
+        }
+        if (OrderRejectedCodec.hasSide(plan)) {
+            side = OrderRejectedCodec.getSide(buffer, bodyIndex, plan);
+        }
+        if (OrderRejectedCodec.hasOrdRejReason(plan)) {
+            ordRejReason = OrderRejectedCodec.getOrdRejReason(buffer, bodyIndex, plan);
+        }
+        if (OrderRejectedCodec.hasText(plan)) {
+            text.read(buffer, OrderRejectedCodec.getTextIndex(bodyIndex, plan));
+        }
+
+        buffer.skipBytes(plan.getBodyLength());
+    }
+
+    @Override
+    public FieldPresenceMap getFieldsPresenceMap() {
+        if (isBodyPending()) {
+            return pendingPresenceMap();
+        }
+        return getHeader() != null && getHeader().getFieldsPresenceMap() != null
+                ? getHeader().getFieldsPresenceMap()
+                : FieldPresenceMap.EMPTY;
+    }
+
+    @Override
+    protected void resetForReuse() {
+        clOrdId.clear();
+        submittingBrokerId = null;
+        securityId.clear();
+        securityIdSource = 0;
+        securityExchange = null;
+        brokerLocationId = null;
+        transactTime = 0;
+        side = 0;
+        ordRejReason = 0;
+        text.clear();
+    }
+
+    // Accessors decode a lazily attached body first
+
+    public CharSequence getClOrdId() {
+        ensureDecoded();
+        return clOrdId.isEmpty() ? null : clOrdId;
+    }
+
+    public String getSubmittingBrokerId() {
+        ensureDecoded();
+        return submittingBrokerId;
+    }
+
+    public CharSequence getSecurityId() {
+        ensureDecoded();
+        return securityId.isEmpty() ? null : securityId;
+    }
+
+    public int getSecurityIdSource() {
+        ensureDecoded();
+        return securityIdSource;
+    }
+
+    public String getSecurityExchange() {
+        ensureDecoded();
+        return securityExchange;
+    }
+
+    public String getBrokerLocationId() {
+        ensureDecoded();
+        return brokerLocationId;
+    }
+
+    public long getTransactTime() {
+        ensureDecoded();
+        return transactTime;
+    }
+
+    public int getSide() {
+        ensureDecoded();
+        return side;
+    }
+
+    public int getOrdRejReason() {
+        ensureDecoded();
+        return ordRejReason;
+    }
+
+    public CharSequence getText() {
+        ensureDecoded();
+        return text.isEmpty() ? null : text;
+    }
+}
\ No newline at end of file
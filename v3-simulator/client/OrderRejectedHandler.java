@@ -0,0 +1,69 @@
+// src/main/java/com/odp/simulator/client/handler/OrderRejectedHandler.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
+import com.odp.simulator.client.protocol.codecs.OrderRejectedCodec;
+import com.odp.simulator.client.protocol.messages.OrderRejected;
+import com.odp.simulator.client.service.OdpOrderBook;
+import com.odp.simulator.client.service.OdpOrderStore;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for Order Rejected messages
+ * On the view path the order is found and updated from the frame in place.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderRejectedHandler implements OdpMessageHandler {
+
+    private final OdpOrderBook orderBook;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.ORDER_REJECTED;
+    }
+
+    @Override
+    public void handle(OdpMessage message) {
+        if (!(message instanceof OrderRejected rejected)) {
+            log.error("Expected OrderRejected but got: {}", message.getClass().getSimpleName());
+            return;
+        }
+        onRejected(orderBook.find(rejected.getClOrdId(), null), rejected.getClOrdId(),
+                rejected.getOrdRejReason(), rejected.getText());
+    }
+
+    @Override
+    public void handleView(OdpMessageView view) {
+        OdpCodecPlan plan = view.getCodecPlan();
+        ByteBuf frame = view.frame();
+        int bodyIndex = view.bodyIndex();
+        int clOrdIdIndex = OrderRejectedCodec.hasClOrdId(plan)
+                ? OrderRejectedCodec.getClOrdIdIndex(bodyIndex, plan) : -1;
+        int slot = orderBook.find(frame, clOrdIdIndex, -1);
+        int reason = OrderRejectedCodec.hasOrdRejReason(plan)
+                ? OrderRejectedCodec.getOrdRejReason(frame, bodyIndex, plan) : 0;
+        // Rejects are rare, the strings are only read for the log
+        String clOrdId = clOrdIdIndex >= 0
+                ? OdpCharArrays.get(frame, clOrdIdIndex, OrderRejectedCodec.CL_ORD_ID_LENGTH) : null;
+        String text = OrderRejectedCodec.hasText(plan) ? OrderRejectedCodec.getText(frame, bodyIndex, plan) : null;
+        onRejected(slot, clOrdId, reason, text);
+    }
+
+    private void onRejected(int slot, CharSequence clOrdId, int reason, CharSequence text) {
+        if (slot == OdpOrderStore.NO_ORDER) {
+            log.warn("Order Rejected for unknown ClOrdID: {}", clOrdId);
+            return;
+        }
+        orderBook.onRejected(slot, reason);
+        log.info("Order rejected: clOrdId={}, reason={}, text={}", clOrdId, reason, text);
+    }
+}
\ No newline at end of file
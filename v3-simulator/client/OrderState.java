@@ -0,0 +1,56 @@
+// src/main/java/com/odp/simulator/client/service/OrderState.java
+package com.odp.simulator.client.service;
+
+import lombok.Data;
+
+/**
+ * Client-side state of one order
+ *
+ * A copy of one {@link OdpOrderStore} entry, taken by {@link OdpOrderBook};
+ * later updates to the order are not reflected.
+ * Prices are scaled by {@link com.odp.simulator.client.protocol.messages.NewOrderSingle#PRICE_MULTIPLIER}.
+ */
+@Data
+public class OrderState {
+
+    /**
+     * ClOrdID the order currently works under, changes with every accepted amend
+     */
+    private String clOrdId;
+
+    /**
+     * ClOrdID of an amend or cancel in flight, null otherwise
+     */
+    private String pendingClOrdId;
+
+    /**
+     * Exchange Order ID, 0 until the order is accepted
+     */
+    private long orderId;
+
+    private String securityId;
+    private int side;
+    private int orderType;
+    private int timeInForce;
+    private long price;
+    private long orderQuantity;
+    private long leavesQuantity;
+    private long cumulativeQuantity;
+
+    /**
+     * Average fill price, 0 until the first execution
+     */
+    private long averagePrice;
+
+    private OrderStatus status = OrderStatus.PENDING_NEW;
+
+    /**
+     * Reject reason of the last rejected request, 0 if none
+     */
+    private int rejectReason;
+
+    /**
+     * Time of the last update in milliseconds since epoch
+     */
+    private long lastUpdateTime;
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+// src/main/java/com/odp/simulator/client/service/OrderStatus.java
+package com.odp.simulator.client.service;
+
+/**
+ * Lifecycle status of an order tracked by {@link OdpOrderBook}
+ */
+public enum OrderStatus {
+
+    /**
+     * New Order Single sent, waiting for the gateway
+     */
+    PENDING_NEW,
+
+    /**
+     * Accepted and working, nothing filled
+     */
+    NEW,
+
+    /**
+     * Accepted and working, partially filled
+     */
+    PARTIALLY_FILLED,
+
+    /**
+     * Fully filled
+     */
+    FILLED,
+
+    /**
+     * Amend sent, waiting for the gateway
+     */
+    PENDING_AMEND,
+
+    /**
+     * Cancel sent, waiting for the gateway
+     */
+    PENDING_CANCEL,
+
+    /**
+     * Cancelled, nothing left working
+     */
+    CANCELLED,
+
+    /**
+     * Rejected by the gateway, or never sent, see {@link OdpOrderBook#REJECT_REASON_NOT_SENT}
+     */
+    REJECTED;
+
+    /**
+     * Check if the order can no longer change
+     */
+    public boolean isTerminal() {
+        return this == FILLED || this == CANCELLED || this == REJECTED;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+// src/main/java/com/odp/simulator/client/service/OrderView.java
+package com.odp.simulator.client.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only, reusable view of one order at the time of an event
+ *
+ * Filled from {@link OdpOrderStore} by copying primitive columns and the
+ * raw ClOrdID and Security ID bytes, so passing a view to listeners does not
+ * allocate. The CharSequence accessors return views over those bytes that
+ * change with the next event; call toString() to keep a value.
+ * Prices are scaled by {@link com.odp.simulator.client.protocol.messages.NewOrderSingle#PRICE_MULTIPLIER}.
+ */
+public final class OrderView {
+
+    // Filled by OdpOrderStore.copyTo
+    final byte[] clOrdId = new byte[OdpOrderStore.CL_ORD_ID_LENGTH];
+    final byte[] pendingClOrdId = new byte[OdpOrderStore.CL_ORD_ID_LENGTH];
+    final byte[] securityId = new byte[OdpOrderStore.SECURITY_ID_LENGTH];
+    int slot;
+    long orderId;
+    OrderStatus status;
+    int side;
+    int orderType;
+    int timeInForce;
+    long price;
+    long orderQuantity;
+    long leavesQuantity;
+    long cumulativeQuantity;
+    long averagePrice;
+    int rejectReason;
+    long updateTime;
+
+    // Event details
+    int execType;
+    long lastQuantity;
+    long lastPrice;
+
+    private final Chars clOrdIdChars = new Chars(clOrdId);
+    private final Chars pendingClOrdIdChars = new Chars(pendingClOrdId);
+    private final Chars securityIdChars = new Chars(securityId);
+
+    /**
+     * Slot of the order in the order store, stable for the order's lifetime
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * ClOrdID the order works under
+     */
+    public CharSequence getClOrdId() {
+        return clOrdIdChars;
+    }
+
+    /**
+     * ClOrdID of an amend or cancel in flight, empty if none
+     */
+    public CharSequence getPendingClOrdId() {
+        return pendingClOrdIdChars;
+    }
+
+    public CharSequence getSecurityId() {
+        return securityIdChars;
+    }
+
+    /**
+     * Exchange Order ID, 0 until the order is accepted
+     */
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public int getSide() {
+        return side;
+    }
+
+    public int getOrderType() {
+        return orderType;
+    }
+
+    public int getTimeInForce() {
+        return timeInForce;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public long getOrderQuantity() {
+        return orderQuantity;
+    }
+
+    public long getLeavesQuantity() {
+        return leavesQuantity;
+    }
+
+    public long getCumulativeQuantity() {
+        return cumulativeQuantity;
+    }
+
+    public long getAveragePrice() {
+        return averagePrice;
+    }
+
+    /**
+     * Reject reason of the last rejected request, 0 if none
+     */
+    public int getRejectReason() {
+        return rejectReason;
+    }
+
+    /**
+     * Time of the last update in milliseconds since epoch
+     */
+    public long getUpdateTime() {
+        return updateTime;
+    }
+
+    /**
+     * Exec Type of an accepted event, 0 for other events
+     */
+    public int getExecType() {
+        return execType;
+    }
+
+    /**
+     * Quantity of a fill event, 0 for other events
+     */
+    public long getLastQuantity() {
+        return lastQuantity;
+    }
+
+    /**
+     * Price of a fill event, 0 for other events
+     */
+    public long getLastPrice() {
+        return lastPrice;
+    }
+
+    void setEvent(int execType, long lastQuantity, long lastPrice) {
+        this.execType = execType;
+        this.lastQuantity = lastQuantity;
+        this.lastPrice = lastPrice;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderView(clOrdId=" + clOrdIdChars + ", orderId=" + orderId + ", status=" + status
+                + ", leavesQuantity=" + leavesQuantity + ", cumulativeQuantity=" + cumulativeQuantity + ")";
+    }
+
+    /**
+     * CharSequence over a NUL-padded ASCII field
+     */
+    private static final class Chars implements CharSequence {
+
+        private final byte[] bytes;
+
+        Chars(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            int length = 0;
+            while (length < bytes.length && bytes[length] != 0) {
+                length++;
+            }
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, 0, length(), StandardCharsets.US_ASCII);
+        }
+    }
+}
\ No newline at end of file
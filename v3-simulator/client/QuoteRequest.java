@@ -0,0 +1,125 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/QuoteRequest.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.codec.OdpCharField;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.QuoteRequestCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Quote Request (71)
+ *
+ * The gateway sends this message to market makers when a quote is
+ * requested for a security.
+ *
+ * Field Bit Positions:
+ * - BP 0: Quote Req ID
+ * - BP 1: Security ID
+ * - BP 2: Side (Optional)
+ * - BP 3: Order Quantity (Optional)
+ * - BP 4: Transact Time
+ *
+ * Supports lazy decoding, every accessor decodes a pending body first.
+ */
+@Slf4j
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class QuoteRequest extends BaseOdpMessage {
+
+    public static final OdpMessageSchema SCHEMA = QuoteRequestCodec.SCHEMA;
+
+    private final OdpCharField quoteReqId = new OdpCharField(QuoteRequestCodec.QUOTE_REQ_ID_LENGTH);
+    private final OdpCharField securityId = new OdpCharField(QuoteRequestCodec.SECURITY_ID_LENGTH);
+    private int side;
+    private long orderQuantity;
+    private long transactTime;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.QUOTE_REQUEST;
+    }
+
+    @Override
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Quote Request is an outbound message from gateway
+        log.warn("QuoteRequest.encodeBody() called - this is typically a gateway message");
+    }
+
+    @Override
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Fields are read in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.readerIndex();
+
+        if (QuoteRequestCodec.hasQuoteReqId(plan)) {
+            quoteReqId.read(buffer, QuoteRequestCodec.getQuoteReqIdIndex(bodyIndex, plan));
+        }
+        if (QuoteRequestCodec.hasSecurityId(plan)) {
+            securityId.read(buffer, QuoteRequestCodec.getSecurityIdIndex(bodyIndex, plan));
+        }
+        if (QuoteRequestCodec.hasSide(plan)) {
+            side = QuoteRequestCodec.getSide(buffer, bodyIndex, plan);
+        }
+        if (QuoteRequestCodec.hasOrderQuantity(plan)) {
+            orderQuantity = QuoteRequestCodec.getOrderQuantity(buffer, bodyIndex, plan);
+        }
+        if (QuoteRequestCodec.hasTransactTime(plan)) {
+            transactTime = QuoteRequestCodec.getTransactTime(buffer, bodyIndex, plan);
+        }
+
+        buffer.skipBytes(plan.getBodyLength());
+    }
+
+    @Override
+    public FieldPresenceMap getFieldsPresenceMap() {
+        if (isBodyPending()) {
+            return pendingPresenceMap();
+        }
+        return getHeader() != null && getHeader().getFieldsPresenceMap() != null
+                ? getHeader().getFieldsPresenceMap()
+                : FieldPresenceMap.EMPTY;
+    }
+
+    @Override
+    protected void resetForReuse() {
+        quoteReqId.clear();
+        securityId.clear();
+        side = 0;
+        orderQuantity = 0;
+        transactTime = 0;
+    }
+
+    // Accessors decode a lazily attached body first
+
+    public CharSequence getQuoteReqId() {
+        ensureDecoded();
+        return quoteReqId.isEmpty() ? null : quoteReqId;
+    }
+
+    public CharSequence getSecurityId() {
+        ensureDecoded();
+        return securityId.isEmpty() ? null : securityId;
+    }
+
+    public int getSide() {
+        ensureDecoded();
+        return side;
+    }
+
+    public long getOrderQuantity() {
+        ensureDecoded();
+        return orderQuantity;
+    }
+
+    public long getTransactTime() {
+        ensureDecoded();
+        return transactTime;
+    }
+}
\ No newline at end of file
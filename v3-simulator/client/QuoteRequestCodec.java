@@ -0,0 +1,126 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/QuoteRequestCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Quote Request (71) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class QuoteRequestCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.QUOTE_REQUEST;
+
+    // Bit positions in presence map
+    public static final int BP_QUOTE_REQ_ID = 0;
+    public static final int BP_SECURITY_ID = 1;
+    public static final int BP_SIDE = 2;
+    public static final int BP_ORDER_QUANTITY = 3;
+    public static final int BP_TRANSACT_TIME = 4;
+
+    // Char Array lengths
+    public static final int QUOTE_REQ_ID_LENGTH = 21;
+    public static final int SECURITY_ID_LENGTH = 21;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            charArray(BP_QUOTE_REQ_ID, "Quote Req ID", QUOTE_REQ_ID_LENGTH),
+            charArray(BP_SECURITY_ID, "Security ID", SECURITY_ID_LENGTH),
+            field(BP_SIDE, "Side", OdpFieldType.UINT8),
+            field(BP_ORDER_QUANTITY, "Order Quantity", OdpFieldType.UINT64),
+            field(BP_TRANSACT_TIME, "Transact Time", OdpFieldType.UINT64));
+
+    private QuoteRequestCodec() {
+        // Generated codec
+    }
+
+    // Quote Req ID (Char Array (21))
+
+    public static boolean hasQuoteReqId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_QUOTE_REQ_ID);
+    }
+
+    public static int getQuoteReqIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_QUOTE_REQ_ID);
+    }
+
+    public static String getQuoteReqId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_QUOTE_REQ_ID), QUOTE_REQ_ID_LENGTH);
+    }
+
+    public static void setQuoteReqId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_QUOTE_REQ_ID), value, QUOTE_REQ_ID_LENGTH);
+    }
+
+    // Security ID (Char Array (21))
+
+    public static boolean hasSecurityId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SECURITY_ID);
+    }
+
+    public static int getSecurityIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_SECURITY_ID);
+    }
+
+    public static String getSecurityId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_SECURITY_ID), SECURITY_ID_LENGTH);
+    }
+
+    public static void setSecurityId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_SECURITY_ID), value, SECURITY_ID_LENGTH);
+    }
+
+    // Side (UInt8)
+
+    public static boolean hasSide(OdpCodecPlan plan) {
+        return plan.isPresent(BP_SIDE);
+    }
+
+    public static int getSide(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_SIDE));
+    }
+
+    public static void setSide(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_SIDE), value);
+    }
+
+    // Order Quantity (Quantity)
+
+    public static boolean hasOrderQuantity(OdpCodecPlan plan) {
+        return plan.isPresent(BP_ORDER_QUANTITY);
+    }
+
+    public static long getOrderQuantity(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_ORDER_QUANTITY));
+    }
+
+    public static void setOrderQuantity(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_ORDER_QUANTITY), value);
+    }
+
+    // Transact Time (UInt64)
+
+    public static boolean hasTransactTime(OdpCodecPlan plan) {
+        return plan.isPresent(BP_TRANSACT_TIME);
+    }
+
+    public static long getTransactTime(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_TRANSACT_TIME));
+    }
+
+    public static void setTransactTime(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_TRANSACT_TIME), value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/RejectCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Reject (3) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class RejectCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.REJECT;
+
+    // Bit positions in presence map
+    public static final int BP_MESSAGE_REJECT_CODE = 0;
+    public static final int BP_REASON = 1;
+    public static final int BP_REF_MESSAGE_TYPE = 2;
+    public static final int BP_REF_FIELD_IDENTIFIER = 3;
+    public static final int BP_REF_SEQ_NUM = 4;
+
+    // Char Array lengths
+    public static final int REASON_LENGTH = 50;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            field(BP_MESSAGE_REJECT_CODE, "Message Reject Code", OdpFieldType.UINT16),
+            charArray(BP_REASON, "Reason", REASON_LENGTH),
+            field(BP_REF_MESSAGE_TYPE, "Ref Message Type", OdpFieldType.UINT16),
+            field(BP_REF_FIELD_IDENTIFIER, "Ref Field Identifier", OdpFieldType.UINT16),
+            field(BP_REF_SEQ_NUM, "Ref Seq Num", OdpFieldType.UINT64));
+
+    private RejectCodec() {
+        // Generated codec
+    }
+
+    // Message Reject Code (UInt16)
+
+    public static boolean hasMessageRejectCode(OdpCodecPlan plan) {
+        return plan.isPresent(BP_MESSAGE_REJECT_CODE);
+    }
+
+    public static int getMessageRejectCode(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedShortLE(bodyIndex + plan.offsetOf(BP_MESSAGE_REJECT_CODE));
+    }
+
+    public static void setMessageRejectCode(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setShortLE(bodyIndex + plan.offsetOf(BP_MESSAGE_REJECT_CODE), value);
+    }
+
+    // Reason (Char Array (50))
+
+    public static boolean hasReason(OdpCodecPlan plan) {
+        return plan.isPresent(BP_REASON);
+    }
+
+    public static int getReasonIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_REASON);
+    }
+
+    public static String getReason(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_REASON), REASON_LENGTH);
+    }
+
+    public static void setReason(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_REASON), value, REASON_LENGTH);
+    }
+
+    // Ref Message Type (UInt16)
+
+    public static boolean hasRefMessageType(OdpCodecPlan plan) {
+        return plan.isPresent(BP_REF_MESSAGE_TYPE);
+    }
+
+    public static int getRefMessageType(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedShortLE(bodyIndex + plan.offsetOf(BP_REF_MESSAGE_TYPE));
+    }
+
+    public static void setRefMessageType(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setShortLE(bodyIndex + plan.offsetOf(BP_REF_MESSAGE_TYPE), value);
+    }
+
+    // Ref Field Identifier (UInt16)
+
+    public static boolean hasRefFieldIdentifier(OdpCodecPlan plan) {
+        return plan.isPresent(BP_REF_FIELD_IDENTIFIER);
+    }
+
+    public static int getRefFieldIdentifier(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedShortLE(bodyIndex + plan.offsetOf(BP_REF_FIELD_IDENTIFIER));
+    }
+
+    public static void setRefFieldIdentifier(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setShortLE(bodyIndex + plan.offsetOf(BP_REF_FIELD_IDENTIFIER), value);
+    }
+
+    // Ref Seq Num (UInt64)
+
+    public static boolean hasRefSeqNum(OdpCodecPlan plan) {
+        return plan.isPresent(BP_REF_SEQ_NUM);
+    }
+
+    public static long getRefSeqNum(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_REF_SEQ_NUM));
+    }
+
+    public static void setRefSeqNum(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_REF_SEQ_NUM), value);
+    }
+}
\ No newline at end of file
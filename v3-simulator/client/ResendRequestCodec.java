@@ -0,0 +1,64 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/ResendRequestCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Resend Request (2) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class ResendRequestCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.RESEND_REQUEST;
+
+    // Bit positions in presence map
+    public static final int BP_START_SEQUENCE = 0;
+    public static final int BP_END_SEQUENCE = 1;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            field(BP_START_SEQUENCE, "Start Sequence", OdpFieldType.UINT64),
+            field(BP_END_SEQUENCE, "End Sequence", OdpFieldType.UINT64));
+
+    private ResendRequestCodec() {
+        // Generated codec
+    }
+
+    // Start Sequence (UInt64)
+
+    public static boolean hasStartSequence(OdpCodecPlan plan) {
+        return plan.isPresent(BP_START_SEQUENCE);
+    }
+
+    public static long getStartSequence(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_START_SEQUENCE));
+    }
+
+    public static void setStartSequence(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_START_SEQUENCE), value);
+    }
+
+    // End Sequence (UInt64)
+
+    public static boolean hasEndSequence(OdpCodecPlan plan) {
+        return plan.isPresent(BP_END_SEQUENCE);
+    }
+
+    public static long getEndSequence(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_END_SEQUENCE));
+    }
+
+    public static void setEndSequence(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_END_SEQUENCE), value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,118 @@
+// src/main/java/com/odp/simulator/client/handler/ResendRequestHandler.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageHeader;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
+import com.odp.simulator.client.protocol.codecs.ResendRequestCodec;
+import com.odp.simulator.client.protocol.codecs.SequenceResetCodec;
+import com.odp.simulator.client.protocol.messages.GenericOdpMessage;
+import com.odp.simulator.client.session.OdpMessageJournal;
+import com.odp.simulator.client.session.OdpSession;
+import com.odp.simulator.client.session.OdpSessionManager;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for Resend Request messages from the gateway
+ *
+ * Requested order and quote frames are written straight from the outbound
+ * journal with the PossResend flag set, nothing is re-encoded. Session and
+ * administrative messages are never journaled, so their sequence numbers,
+ * like any others no longer in the journal, are gap-filled with a Sequence
+ * Reset to the next journaled one. An End Sequence of 0 requests everything
+ * sent so far.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResendRequestHandler implements OdpMessageHandler {
+
+    private final OdpSessionManager sessionManager;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.RESEND_REQUEST;
+    }
+
+    @Override
+    public void handle(OdpMessage message) {
+        if (!(message instanceof GenericOdpMessage request)) {
+            log.error("Expected a generic Resend Request but got: {}", message.getClass().getSimpleName());
+            return;
+        }
+        resend(request.getLong(ResendRequestCodec.BP_START_SEQUENCE),
+                request.getLong(ResendRequestCodec.BP_END_SEQUENCE));
+    }
+
+    @Override
+    public void handleView(OdpMessageView view) {
+        OdpCodecPlan plan = view.getCodecPlan();
+        int bodyIndex = view.bodyIndex();
+        long startSeqNum = ResendRequestCodec.hasStartSequence(plan)
+                ? ResendRequestCodec.getStartSequence(view.frame(), bodyIndex, plan) : 0L;
+        long endSeqNum = ResendRequestCodec.hasEndSequence(plan)
+                ? ResendRequestCodec.getEndSequence(view.frame(), bodyIndex, plan) : 0L;
+        resend(startSeqNum, endSeqNum);
+    }
+
+    private void resend(long startSeqNum, long endSeqNum) {
+        OdpSession session = sessionManager.getPrimarySession();
+        OdpMessageJournal journal = session.getJournal();
+        Channel channel = session.getChannel();
+        if (channel == null) {
+            log.warn("Resend request {}-{} received without an active channel", startSeqNum, endSeqNum);
+            return;
+        }
+
+        long lastSent = session.getCurrentOutgoingSeqNum() - 1;
+        if (endSeqNum == 0 || endSeqNum > lastSent) {
+            endSeqNum = lastSent;
+        }
+        log.info("Resend requested for sequence numbers {}-{}", startSeqNum, endSeqNum);
+
+        long msgSeqNum = Math.max(startSeqNum, 1);
+        int resent = 0;
+        while (msgSeqNum <= endSeqNum) {
+            ByteBuf frames = journal != null ? journal.retainedResendSlice(msgSeqNum, endSeqNum) : null;
+            if (frames != null) {
+                int count = OdpMessageJournal.countFrames(frames);
+                channel.write(frames);
+                msgSeqNum += count;
+                resent += count;
+            } else {
+                long nextSeqNum = msgSeqNum + 1;
+                while (nextSeqNum <= endSeqNum && (journal == null || !journal.contains(nextSeqNum))) {
+                    nextSeqNum++;
+                }
+                channel.write(sequenceReset(session, msgSeqNum, nextSeqNum));
+                msgSeqNum = nextSeqNum;
+            }
+        }
+        channel.flush();
+        log.info("Resent {} journaled messages", resent);
+    }
+
+    /**
+     * Gap fill for sequence numbers that are not in the journal
+     */
+    private GenericOdpMessage sequenceReset(OdpSession session, long msgSeqNum, long newSeqNum) {
+        GenericOdpMessage reset = new GenericOdpMessage(OdpMessageType.SEQUENCE_RESET);
+        reset.setLong(SequenceResetCodec.BP_NEW_SEQ_NO, newSeqNum);
+
+        OdpMessageHeader header = OdpMessageHeader.builder()
+                .messageId(OdpMessageType.SEQUENCE_RESET.getMessageId())
+                .msgSeqNum(msgSeqNum)
+                .compId(session.getCompId())
+                .build();
+        header.setPossResend(true);
+        reset.setHeader(header);
+        log.debug("Gap fill {} -> {}", msgSeqNum, newSeqNum);
+        return reset;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+// src/test/java/com/odp/simulator/client/handler/ResendRequestHandlerTest.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.codec.OdpDecodeMode;
+import com.odp.simulator.client.codec.OdpMessageDecoder;
+import com.odp.simulator.client.codec.OdpMessageEncoder;
+import com.odp.simulator.client.config.OdpClientProperties;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageHeader;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
+import com.odp.simulator.client.protocol.codecs.NewOrderSingleCodec;
+import com.odp.simulator.client.protocol.codecs.ResendRequestCodec;
+import com.odp.simulator.client.protocol.codecs.SequenceResetCodec;
+import com.odp.simulator.client.protocol.messages.GenericOdpMessage;
+import com.odp.simulator.client.protocol.messages.NewOrderSingle;
+import com.odp.simulator.client.session.OdpMessageJournal;
+import com.odp.simulator.client.session.OdpSession;
+import com.odp.simulator.client.session.OdpSessionManager;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResendRequestHandlerTest {
+
+    @TempDir
+    Path directory;
+
+    private OdpMessageJournal journal;
+
+    @AfterEach
+    void close() throws IOException {
+        journal.close();
+    }
+
+    @Test
+    void replaysJournaledOrdersAndGapFillsSessionMessages() throws IOException {
+        OdpClientProperties properties = new OdpClientProperties();
+        properties.setCompId("C1");
+        // Journal and sequence numbers are not persisted between tests
+        properties.getJournal().setEnabled(false);
+        properties.getSequenceStore().setEnabled(false);
+        OdpSessionManager sessionManager = new OdpSessionManager(properties);
+        OdpSession session = sessionManager.getPrimarySession();
+        journal = OdpMessageJournal.open(directory.resolve("C1.journal"), 64 * 1024);
+        session.setJournal(journal);
+        EmbeddedChannel channel = new EmbeddedChannel(new OdpJournalHandler(journal), new OdpMessageEncoder());
+        session.setChannel(channel);
+
+        // Logon, heartbeat and test request are sent but never journaled
+        send(channel, message(OdpMessageType.LOGON_REQUEST, 1));
+        send(channel, message(OdpMessageType.HEARTBEAT, 2));
+        send(channel, order(3));
+        send(channel, order(4));
+        send(channel, message(OdpMessageType.TEST_REQUEST, 5));
+        send(channel, order(6));
+        session.resetOutgoingSeqNum(7);
+        assertFalse(journal.contains(1));
+        assertFalse(journal.contains(2));
+        assertTrue(journal.contains(3));
+        assertFalse(journal.contains(5));
+
+        GenericOdpMessage request = message(OdpMessageType.RESEND_REQUEST, 1);
+        request.setLong(ResendRequestCodec.BP_START_SEQUENCE, 1);
+        request.setLong(ResendRequestCodec.BP_END_SEQUENCE, 0);
+        new ResendRequestHandler(sessionManager).handle(request);
+
+        // Decoded in place, so the journaled orders are checked byte for byte as sent
+        EmbeddedChannel decoder = new EmbeddedChannel(new OdpMessageDecoder(OdpDecodeMode.FLYWEIGHT));
+        ByteBuf frames;
+        while ((frames = channel.readOutbound()) != null) {
+            decoder.writeInbound(frames);
+        }
+        assertGapFill(decoder.readInbound(), 1, 3);
+        assertOrder(decoder.readInbound(), 3);
+        assertOrder(decoder.readInbound(), 4);
+        assertGapFill(decoder.readInbound(), 5, 6);
+        assertOrder(decoder.readInbound(), 6);
+        assertFalse(decoder.finishAndReleaseAll());
+        channel.finishAndReleaseAll();
+    }
+
+    private static void send(EmbeddedChannel channel, OdpMessage message) {
+        channel.writeOutbound(message);
+        ByteBuf frame;
+        while ((frame = channel.readOutbound()) != null) {
+            frame.release();
+        }
+    }
+
+    private static void assertGapFill(OdpMessageView view, long msgSeqNum, long newSeqNum) {
+        assertEquals(OdpMessageType.SEQUENCE_RESET, view.getMessageType());
+        assertEquals(msgSeqNum, view.getMsgSeqNum());
+        assertTrue(view.isPossResend());
+        assertEquals(newSeqNum, SequenceResetCodec.getNewSeqNo(view.frame(), view.bodyIndex(), view.getCodecPlan()));
+        view.release();
+    }
+
+    private static void assertOrder(OdpMessageView view, long msgSeqNum) {
+        assertEquals(OdpMessageType.NEW_ORDER_SINGLE, view.getMessageType());
+        assertEquals(msgSeqNum, view.getMsgSeqNum());
+        assertTrue(view.isPossResend());
+        assertEquals("ORD" + msgSeqNum,
+                NewOrderSingleCodec.getClOrdId(view.frame(), view.bodyIndex(), view.getCodecPlan()));
+        view.release();
+    }
+
+    private static GenericOdpMessage message(OdpMessageType messageType, long msgSeqNum) {
+        GenericOdpMessage message = new GenericOdpMessage(messageType);
+        message.setHeader(header(messageType, msgSeqNum));
+        return message;
+    }
+
+    private static NewOrderSingle order(long msgSeqNum) {
+        NewOrderSingle order = new NewOrderSingle();
+        order.setHeader(header(OdpMessageType.NEW_ORDER_SINGLE, msgSeqNum));
+        order.setClOrdId("ORD" + msgSeqNum);
+        order.setSecurityId("700");
+        order.setSide(1);
+        order.setOrderQuantity(100);
+        order.setPrice(1);
+        return order;
+    }
+
+    private static OdpMessageHeader header(OdpMessageType messageType, long msgSeqNum) {
+        return OdpMessageHeader.builder()
+                .messageId(messageType.getMessageId())
+                .msgSeqNum(msgSeqNum)
+                .compId("C1")
+                .build();
+    }
+}
\ No newline at end of file
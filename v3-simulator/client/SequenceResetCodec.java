@@ -0,0 +1,48 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/SequenceResetCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Sequence Reset (4) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class SequenceResetCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.SEQUENCE_RESET;
+
+    // Bit positions in presence map
+    public static final int BP_NEW_SEQ_NO = 0;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            field(BP_NEW_SEQ_NO, "New Seq No", OdpFieldType.UINT64));
+
+    private SequenceResetCodec() {
+        // Generated codec
+    }
+
+    // New Seq No (UInt64)
+
+    public static boolean hasNewSeqNo(OdpCodecPlan plan) {
+        return plan.isPresent(BP_NEW_SEQ_NO);
+    }
+
+    public static long getNewSeqNo(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getLongLE(bodyIndex + plan.offsetOf(BP_NEW_SEQ_NO));
+    }
+
+    public static void setNewSeqNo(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, long value) {
+        buffer.setLongLE(bodyIndex + plan.offsetOf(BP_NEW_SEQ_NO), value);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+// src/main/java/com/odp/simulator/client/protocol/messages/SingleQuote.java
+package com.odp.simulator.client.protocol.messages;
+
+import com.odp.simulator.client.codec.FieldPresenceMap;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpCodecPlanCache;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.codecs.SingleQuoteCodec;
+import io.netty.buffer.ByteBuf;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single Quote (53)
+ *
+ * The client sends this message to quote both sides of one security. It
+ * replaces the previous quote of the security.
+ *
+ * Field Bit Positions:
+ * - BP 0: Quote ID (Required)
+ * - BP 1: Submitting Broker ID (Required)
+ * - BP 2: Broker Location ID (Required)
+ * - BP 3: Transact Time (Required)
+ * - BP 4: Security ID (Required)
+ * - BP 5: Bid Price (Required)
+ * - BP 6: Offer Price (Required)
+ * - BP 7: Bid Size (Required)
+ * - BP 8: Offer Size (Required)
+ *
+ * Quotes of many securities are built in place by
+ * {@link com.odp.simulator.client.client.OdpMassQuoteBuilder} instead.
+ */
+@Slf4j
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class SingleQuote extends BaseOdpMessage {
+
+    public static final OdpMessageSchema SCHEMA = SingleQuoteCodec.SCHEMA;
+
+    // Every field is present on a single quote
+    private static final long REQUIRED_FIELDS = presenceBit(SingleQuoteCodec.BP_QUOTE_ID)
+            | presenceBit(SingleQuoteCodec.BP_SUBMITTING_BROKER_ID)
+            | presenceBit(SingleQuoteCodec.BP_BROKER_LOCATION_ID)
+            | presenceBit(SingleQuoteCodec.BP_TRANSACT_TIME)
+            | presenceBit(SingleQuoteCodec.BP_SECURITY_ID)
+            | presenceBit(SingleQuoteCodec.BP_BID_PRICE)
+            | presenceBit(SingleQuoteCodec.BP_OFFER_PRICE)
+            | presenceBit(SingleQuoteCodec.BP_BID_SIZE)
+            | presenceBit(SingleQuoteCodec.BP_OFFER_SIZE);
+
+    /**
+     * Quote ID (UInt64), unique per quote
+     */
+    private long quoteId;
+
+    /**
+     * Submitting Broker ID (Char Array 12)
+     */
+    private CharSequence submittingBrokerId;
+
+    /**
+     * Broker Location ID (Char Array 11)
+     */
+    private CharSequence brokerLocationId;
+
+    /**
+     * Transact Time (UInt64), nanoseconds since epoch in UTC
+     */
+    private long transactTime;
+
+    /**
+     * Security ID (Char Array 21)
+     */
+    private CharSequence securityId;
+
+    /**
+     * Bid Price (Int64)
+     */
+    private long bidPrice;
+
+    /**
+     * Offer Price (Int64)
+     */
+    private long offerPrice;
+
+    /**
+     * Bid Size (UInt64)
+     */
+    private long bidSize;
+
+    /**
+     * Offer Size (UInt64)
+     */
+    private long offerSize;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.SINGLE_QUOTE;
+    }
+
+    @Override
+    public void encodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Fields are written in place at the offsets of the precompiled plan
+        OdpCodecPlan plan = OdpCodecPlanCache.getPlan(getMessageType(), presenceMap);
+        int bodyIndex = buffer.writerIndex();
+        buffer.ensureWritable(plan.getBodyLength());
+
+        if (SingleQuoteCodec.hasQuoteId(plan)) {
+            SingleQuoteCodec.setQuoteId(buffer, bodyIndex, plan, quoteId);
+        }
+        if (SingleQuoteCodec.hasSubmittingBrokerId(plan)) {
+            SingleQuoteCodec.setSubmittingBrokerId(buffer, bodyIndex, plan, submittingBrokerId);
+        }
+        if (SingleQuoteCodec.hasBrokerLocationId(plan)) {
+            SingleQuoteCodec.setBrokerLocationId(buffer, bodyIndex, plan, brokerLocationId);
+        }
+        if (SingleQuoteCodec.hasTransactTime(plan)) {
+            SingleQuoteCodec.setTransactTime(buffer, bodyIndex, plan, transactTime);
+        }
+        if (SingleQuoteCodec.hasSecurityId(plan)) {
+            SingleQuoteCodec.setSecurityId(buffer, bodyIndex, plan, securityId);
+        }
+        if (SingleQuoteCodec.hasBidPrice(plan)) {
+            SingleQuoteCodec.setBidPrice(buffer, bodyIndex, plan, bidPrice);
+        }
+        if (SingleQuoteCodec.hasOfferPrice(plan)) {
+            SingleQuoteCodec.setOfferPrice(buffer, bodyIndex, plan, offerPrice);
+        }
+        if (SingleQuoteCodec.hasBidSize(plan)) {
+            SingleQuoteCodec.setBidSize(buffer, bodyIndex, plan, bidSize);
+        }
+        if (SingleQuoteCodec.hasOfferSize(plan)) {
+            SingleQuoteCodec.setOfferSize(buffer, bodyIndex, plan, offerSize);
+        }
+
+        buffer.writerIndex(bodyIndex + plan.getBodyLength());
+    }
+
+    @Override
+    public void decodeBody(ByteBuf buffer, FieldPresenceMap presenceMap) {
+        // Single Quote is an inbound message from client
+        log.warn("SingleQuote.decodeBody() called - this is typically a client message");
+    }
+
+    @Override
+    public FieldPresenceMap getFieldsPresenceMap() {
+        return presenceMap(REQUIRED_FIELDS);
+    }
+
+    @Override
+    protected void resetForReuse() {
+        quoteId = 0;
+        submittingBrokerId = null;
+        brokerLocationId = null;
+        transactTime = 0;
+        securityId = null;
+        bidPrice = 0;
+        offerPrice = 0;
+        bidSize = 0;
+        offerSize = 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/ThrottleEntitlementRequestCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Throttle Entitlement Request (11) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class ThrottleEntitlementRequestCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.THROTTLE_ENTITLEMENT_REQUEST;
+
+    // Bit positions in presence map
+    public static final int BP_USER_REQUEST_ID = 0;
+    public static final int BP_USER_REQUEST_TYPE = 1;
+
+    // Char Array lengths
+    public static final int USER_REQUEST_ID_LENGTH = 21;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            charArray(BP_USER_REQUEST_ID, "User Request ID", USER_REQUEST_ID_LENGTH),
+            field(BP_USER_REQUEST_TYPE, "User Request Type", OdpFieldType.UINT8));
+
+    private ThrottleEntitlementRequestCodec() {
+        // Generated codec
+    }
+
+    // User Request ID (Char Array (21))
+
+    public static boolean hasUserRequestId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_USER_REQUEST_ID);
+    }
+
+    public static int getUserRequestIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_USER_REQUEST_ID);
+    }
+
+    public static String getUserRequestId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_USER_REQUEST_ID), USER_REQUEST_ID_LENGTH);
+    }
+
+    public static void setUserRequestId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_USER_REQUEST_ID), value, USER_REQUEST_ID_LENGTH);
+    }
+
+    // User Request Type (UInt8)
+
+    public static boolean hasUserRequestType(OdpCodecPlan plan) {
+        return plan.isPresent(BP_USER_REQUEST_TYPE);
+    }
+
+    public static int getUserRequestType(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_USER_REQUEST_TYPE));
+    }
+
+    public static void setUserRequestType(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_USER_REQUEST_TYPE), value);
+    }
+}
\ No newline at end of file
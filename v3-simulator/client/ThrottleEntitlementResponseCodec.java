@@ -0,0 +1,137 @@
+// src/main/java/com/odp/simulator/client/protocol/codecs/ThrottleEntitlementResponseCodec.java
+// Generated by OdpCodecGenerator from the ODP_BODY_FIELDS tables, do not edit
+package com.odp.simulator.client.protocol.codecs;
+
+import com.odp.simulator.client.codec.OdpCharArrays;
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpFieldType;
+import com.odp.simulator.client.protocol.OdpMessageSchema;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import io.netty.buffer.ByteBuf;
+
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.charArray;
+import static com.odp.simulator.client.protocol.OdpFieldDefinition.field;
+
+/**
+ * Throttle Entitlement Response (12) codec
+ *
+ * Static accessors read and write body fields in place at the offsets of a
+ * precompiled {@link OdpCodecPlan}. bodyIndex is the absolute buffer index
+ * of the first body byte. Accessors do not check presence, use hasXxx first
+ * for optional fields.
+ */
+public final class ThrottleEntitlementResponseCodec {
+
+    public static final OdpMessageType MESSAGE_TYPE = OdpMessageType.THROTTLE_ENTITLEMENT_RESPONSE;
+
+    // Bit positions in presence map
+    public static final int BP_USER_REQUEST_ID = 0;
+    public static final int BP_THROTTLE_STATUS = 1;
+    public static final int BP_THROTTLE_TYPE = 2;
+    public static final int BP_THROTTLE_NO_MSGS = 3;
+    public static final int BP_THROTTLE_TIME_INTERVAL = 4;
+    public static final int BP_THROTTLE_TIME_UNIT = 5;
+
+    // Char Array lengths
+    public static final int USER_REQUEST_ID_LENGTH = 21;
+
+    public static final OdpMessageSchema SCHEMA = OdpMessageSchema.of(MESSAGE_TYPE,
+            charArray(BP_USER_REQUEST_ID, "User Request ID", USER_REQUEST_ID_LENGTH),
+            field(BP_THROTTLE_STATUS, "Throttle Status", OdpFieldType.UINT8),
+            field(BP_THROTTLE_TYPE, "Throttle Type", OdpFieldType.UINT8),
+            field(BP_THROTTLE_NO_MSGS, "Throttle No Msgs", OdpFieldType.UINT16),
+            field(BP_THROTTLE_TIME_INTERVAL, "Throttle Time Interval", OdpFieldType.UINT16),
+            field(BP_THROTTLE_TIME_UNIT, "Throttle Time Unit", OdpFieldType.UINT8));
+
+    private ThrottleEntitlementResponseCodec() {
+        // Generated codec
+    }
+
+    // User Request ID (Char Array (21))
+
+    public static boolean hasUserRequestId(OdpCodecPlan plan) {
+        return plan.isPresent(BP_USER_REQUEST_ID);
+    }
+
+    public static int getUserRequestIdIndex(int bodyIndex, OdpCodecPlan plan) {
+        return bodyIndex + plan.offsetOf(BP_USER_REQUEST_ID);
+    }
+
+    public static String getUserRequestId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return OdpCharArrays.get(buffer, bodyIndex + plan.offsetOf(BP_USER_REQUEST_ID), USER_REQUEST_ID_LENGTH);
+    }
+
+    public static void setUserRequestId(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, CharSequence value) {
+        OdpCharArrays.set(buffer, bodyIndex + plan.offsetOf(BP_USER_REQUEST_ID), value, USER_REQUEST_ID_LENGTH);
+    }
+
+    // Throttle Status (UInt8)
+
+    public static boolean hasThrottleStatus(OdpCodecPlan plan) {
+        return plan.isPresent(BP_THROTTLE_STATUS);
+    }
+
+    public static int getThrottleStatus(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_THROTTLE_STATUS));
+    }
+
+    public static void setThrottleStatus(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_THROTTLE_STATUS), value);
+    }
+
+    // Throttle Type (UInt8)
+
+    public static boolean hasThrottleType(OdpCodecPlan plan) {
+        return plan.isPresent(BP_THROTTLE_TYPE);
+    }
+
+    public static int getThrottleType(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_THROTTLE_TYPE));
+    }
+
+    public static void setThrottleType(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_THROTTLE_TYPE), value);
+    }
+
+    // Throttle No Msgs (UInt16)
+
+    public static boolean hasThrottleNoMsgs(OdpCodecPlan plan) {
+        return plan.isPresent(BP_THROTTLE_NO_MSGS);
+    }
+
+    public static int getThrottleNoMsgs(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedShortLE(bodyIndex + plan.offsetOf(BP_THROTTLE_NO_MSGS));
+    }
+
+    public static void setThrottleNoMsgs(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setShortLE(bodyIndex + plan.offsetOf(BP_THROTTLE_NO_MSGS), value);
+    }
+
+    // Throttle Time Interval (UInt16)
+
+    public static boolean hasThrottleTimeInterval(OdpCodecPlan plan) {
+        return plan.isPresent(BP_THROTTLE_TIME_INTERVAL);
+    }
+
+    public static int getThrottleTimeInterval(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedShortLE(bodyIndex + plan.offsetOf(BP_THROTTLE_TIME_INTERVAL));
+    }
+
+    public static void setThrottleTimeInterval(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setShortLE(bodyIndex + plan.offsetOf(BP_THROTTLE_TIME_INTERVAL), value);
+    }
+
+    // Throttle Time Unit (UInt8)
+
+    public static boolean hasThrottleTimeUnit(OdpCodecPlan plan) {
+        return plan.isPresent(BP_THROTTLE_TIME_UNIT);
+    }
+
+    public static int getThrottleTimeUnit(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan) {
+        return buffer.getUnsignedByte(bodyIndex + plan.offsetOf(BP_THROTTLE_TIME_UNIT));
+    }
+
+    public static void setThrottleTimeUnit(ByteBuf buffer, int bodyIndex, OdpCodecPlan plan, int value) {
+        buffer.setByte(bodyIndex + plan.offsetOf(BP_THROTTLE_TIME_UNIT), value);
+    }
+}
\ No newline at end of file
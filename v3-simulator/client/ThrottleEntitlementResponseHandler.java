@@ -0,0 +1,105 @@
+// src/main/java/com/odp/simulator/client/handler/ThrottleEntitlementResponseHandler.java
+package com.odp.simulator.client.handler;
+
+import com.odp.simulator.client.protocol.OdpCodecPlan;
+import com.odp.simulator.client.protocol.OdpMessage;
+import com.odp.simulator.client.protocol.OdpMessageType;
+import com.odp.simulator.client.protocol.OdpMessageView;
+import com.odp.simulator.client.protocol.codecs.ThrottleEntitlementResponseCodec;
+import com.odp.simulator.client.protocol.messages.GenericOdpMessage;
+import com.odp.simulator.client.session.OdpSessionManager;
+import com.odp.simulator.client.session.OdpThrottle;
+import io.netty.buffer.ByteBuf;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler for Throttle Entitlement Response messages
+ * A rate entitlement replaces the rate of the primary session's throttle.
+ * An entitlement of 0 messages or one with a status other than granted
+ * blocks application messages until a later entitlement grants a rate.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThrottleEntitlementResponseHandler implements OdpMessageHandler {
+
+    private final OdpSessionManager sessionManager;
+
+    @Override
+    public OdpMessageType getMessageType() {
+        return OdpMessageType.THROTTLE_ENTITLEMENT_RESPONSE;
+    }
+
+    @Override
+    public void handle(OdpMessage message) {
+        if (!(message instanceof GenericOdpMessage response)) {
+            log.error("Expected GenericOdpMessage but got: {}", message.getClass().getSimpleName());
+            return;
+        }
+        onEntitlement(
+                value(response, ThrottleEntitlementResponseCodec.BP_THROTTLE_TYPE),
+                value(response, ThrottleEntitlementResponseCodec.BP_THROTTLE_NO_MSGS),
+                value(response, ThrottleEntitlementResponseCodec.BP_THROTTLE_TIME_INTERVAL),
+                value(response, ThrottleEntitlementResponseCodec.BP_THROTTLE_TIME_UNIT),
+                value(response, ThrottleEntitlementResponseCodec.BP_THROTTLE_STATUS));
+    }
+
+    @Override
+    public void handleView(OdpMessageView view) {
+        OdpCodecPlan plan = view.getCodecPlan();
+        ByteBuf frame = view.frame();
+        int bodyIndex = view.bodyIndex();
+        onEntitlement(
+                ThrottleEntitlementResponseCodec.hasThrottleType(plan)
+                        ? ThrottleEntitlementResponseCodec.getThrottleType(frame, bodyIndex, plan) : -1,
+                ThrottleEntitlementResponseCodec.hasThrottleNoMsgs(plan)
+                        ? ThrottleEntitlementResponseCodec.getThrottleNoMsgs(frame, bodyIndex, plan) : -1,
+                ThrottleEntitlementResponseCodec.hasThrottleTimeInterval(plan)
+                        ? ThrottleEntitlementResponseCodec.getThrottleTimeInterval(frame, bodyIndex, plan) : -1,
+                ThrottleEntitlementResponseCodec.hasThrottleTimeUnit(plan)
+                        ? ThrottleEntitlementResponseCodec.getThrottleTimeUnit(frame, bodyIndex, plan) : -1,
+                ThrottleEntitlementResponseCodec.hasThrottleStatus(plan)
+                        ? ThrottleEntitlementResponseCodec.getThrottleStatus(frame, bodyIndex, plan) : -1);
+    }
+
+    /**
+     * Absent fields are passed as -1
+     */
+    private void onEntitlement(int throttleType, int messages, int interval, int timeUnit, int status) {
+        OdpThrottle throttle = sessionManager.getPrimarySession().getThrottle();
+        if (throttle == null) {
+            log.info("Throttle entitlement received, throttling is disabled: type={}, messages={}, interval={}",
+                    throttleType, messages, interval);
+            return;
+        }
+        if (throttleType != OdpThrottle.THROTTLE_TYPE_RATE) {
+            log.info("Ignoring throttle entitlement of type {}", throttleType);
+            return;
+        }
+        if (status >= 0 && status != OdpThrottle.THROTTLE_STATUS_GRANTED) {
+            throttle.block();
+            log.warn("Throttle entitlement not granted, application messages are blocked: status={}", status);
+            return;
+        }
+        long intervalNanos = interval >= 0 ? OdpThrottle.toNanos(interval, timeUnit) : -1;
+        if (messages < 0 || intervalNanos < 0) {
+            log.warn("Incomplete throttle entitlement: messages={}, interval={}, timeUnit={}",
+                    messages, interval, timeUnit);
+            return;
+        }
+        if (messages == 0 || intervalNanos == 0) {
+            throttle.block();
+            log.warn("Throttle entitlement of {} messages per {} ns, application messages are blocked",
+                    messages, intervalNanos);
+            return;
+        }
+        throttle.setEntitlement(messages, intervalNanos);
+        log.info("Throttle entitlement: {} messages per {} ns, status={}", messages, intervalNanos, status);
+    }
+
+    private static int value(GenericOdpMessage message, int bitPosition) {
+        return message.isFieldSet(bitPosition) ? message.getInt(bitPosition) : -1;
+    }
+}
\ No newline at end of file